@@ -64,6 +64,9 @@ public class BeanBindingBenchmark {
     private JdbiRule db;
     private Dao dao;
     private List<SampleBean> sampleList;
+    private String[] field1Column;
+    private String[] field2Column;
+    private int[][] intColumns;
 
     public static void main(String[] args) throws RunnerException {
         Options options = new OptionsBuilder()
@@ -84,6 +87,15 @@ public class BeanBindingBenchmark {
         sampleList = Stream.generate(SampleBean::new)
                 .limit(50000)
                 .collect(Collectors.toList());
+        field1Column = sampleList.stream().map(SampleBean::getField1).toArray(String[]::new);
+        field2Column = sampleList.stream().map(SampleBean::getField2).toArray(String[]::new);
+        intColumns = new int[][] {
+            sampleList.stream().mapToInt(SampleBean::getField3).toArray(),
+            sampleList.stream().mapToInt(SampleBean::getField4).toArray(),
+            sampleList.stream().mapToInt(SampleBean::getField5).toArray(),
+            sampleList.stream().mapToInt(SampleBean::getField6).toArray(),
+            sampleList.stream().mapToInt(SampleBean::getField7).toArray()
+        };
     }
 
     @TearDown(Level.Iteration)
@@ -137,6 +149,20 @@ public class BeanBindingBenchmark {
         dao.batchBindBean(sampleList);
     }
 
+    @Benchmark
+    public void batchJdbiPrefixedBean() {
+        dao.batchBindPrefixedBean(sampleList);
+    }
+
+    @Benchmark
+    public void batchJdbiCoreBean() {
+        dao.useHandle(h -> {
+            PreparedBatch b = h.prepareBatch(Dao.INSERT_NAMED);
+            sampleList.forEach(sampleBean -> b.bindBean(sampleBean).add());
+            b.execute();
+        });
+    }
+
     @Benchmark
     public void oneJdbi() {
         for (int i = 0; i < INNER_LOOPS; i++) {
@@ -180,6 +206,19 @@ public class BeanBindingBenchmark {
         });
     }
 
+    @Benchmark
+    public void batchJdbiColumns() {
+        dao.useHandle(h -> h.prepareBatch(Dao.INSERT_NAMED)
+                .bindColumn("field1", field1Column)
+                .bindColumn("field2", field2Column)
+                .bindColumn("field3", intColumns[0])
+                .bindColumn("field4", intColumns[1])
+                .bindColumn("field5", intColumns[2])
+                .bindColumn("field6", intColumns[3])
+                .bindColumn("field7", intColumns[4])
+                .executeColumns(sampleList.size()));
+    }
+
     @Benchmark
     public void batchJdbiMap() {
         dao.batchBindMap(sampleList.stream()
@@ -250,6 +289,7 @@ public class BeanBindingBenchmark {
 
     public interface Dao extends SqlObject {
         String INSERT_NAMED = "insert into sample_table values (:field1, :field2, :field3, :field4, :field5, :field6, :field7)";
+        String INSERT_PREFIXED = "insert into sample_table values (:s.field1, :s.field2, :s.field3, :s.field4, :s.field5, :s.field6, :s.field7)";
         String INSERT_POS = "insert into sample_table values (?, ?, ?, ?, ?, ?, ?)";
 
         @SqlUpdate("create table sample_table(field1 varchar, field2 varchar, field3 int, field4 int, field5 int, field6 int, field7 int)")
@@ -261,6 +301,9 @@ public class BeanBindingBenchmark {
         @SqlBatch(INSERT_NAMED)
         void batchBindBean(@BindBean List<SampleBean> sampleBeanList);
 
+        @SqlBatch(INSERT_PREFIXED)
+        void batchBindPrefixedBean(@BindBean("s") List<SampleBean> sampleBeanList);
+
         @SqlBatch(INSERT_NAMED)
         void batchBindMap(@BindMap Iterator<Map<String, Object>> sampleBeanMapList);
 
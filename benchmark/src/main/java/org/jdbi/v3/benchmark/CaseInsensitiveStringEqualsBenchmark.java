@@ -13,20 +13,37 @@
  */
 package org.jdbi.v3.benchmark;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
 import java.text.Collator;
+import java.util.List;
 import java.util.Locale;
+import java.util.stream.Collectors;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
+import org.h2.jdbcx.JdbcDataSource;
+import org.h2.tools.SimpleResultSet;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.mapper.Nested;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.reflect.ColumnNameMatcher;
+import org.jdbi.v3.core.mapper.reflect.FieldMapper;
+import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
+import org.jdbi.v3.core.statement.StatementContext;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
@@ -124,6 +141,16 @@ public class CaseInsensitiveStringEqualsBenchmark {
         return collator.equals(original, other);
     }
 
+    /**
+     * Specializes a field mapper with two levels of nesting for a result set with 200 columns, using the default
+     * column name matchers. Without the index, the matchers are wrapped so that every column is tested.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public RowMapper<Root> specializeMapper(MapperState state) throws SQLException {
+        return state.mapper.specialize(state.resultSet, state.ctx);
+    }
+
     private String randomAlphabetic(int length) {
         StringBuilder b = new StringBuilder(length);
 
@@ -148,4 +175,117 @@ public class CaseInsensitiveStringEqualsBenchmark {
 
         return b.toString();
     }
+
+    @State(Scope.Benchmark)
+    public static class MapperState {
+        private static final int COLUMNS = 200;
+
+        @Param({"true", "false"})
+        public boolean indexed;
+
+        private Handle handle;
+        private StatementContext ctx;
+        private ResultSet resultSet;
+        private RowMapper<Root> mapper;
+
+        @Setup
+        public void setup() {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL("jdbc:h2:mem:" + CaseInsensitiveStringEqualsBenchmark.class.getSimpleName());
+            handle = Jdbi.create(dataSource).open();
+
+            if (!indexed) {
+                ReflectionMappers config = handle.getConfig(ReflectionMappers.class);
+                List<ColumnNameMatcher> unindexed = config.getColumnNameMatchers().stream()
+                    .map(UnindexedMatcher::new)
+                    .collect(Collectors.toList());
+                config.setColumnNameMatchers(unindexed);
+            }
+            ctx = handle.createQuery("select 1").getContext();
+
+            SimpleResultSet rs = new SimpleResultSet();
+            for (int i = 0; i < 10; i++) {
+                rs.addColumn("c" + i, Types.INTEGER, 10, 0);
+                rs.addColumn("middle_b" + i, Types.INTEGER, 10, 0);
+                rs.addColumn("middle_leaf_a" + i, Types.INTEGER, 10, 0);
+                rs.addColumn("other_a" + i, Types.INTEGER, 10, 0);
+            }
+            for (int i = 40; i < COLUMNS; i++) {
+                rs.addColumn("unrelated_column_" + i, Types.INTEGER, 10, 0);
+            }
+            resultSet = rs;
+            mapper = FieldMapper.of(Root.class);
+        }
+
+        @TearDown
+        public void tearDown() {
+            handle.close();
+        }
+    }
+
+    static class UnindexedMatcher implements ColumnNameMatcher {
+        private final ColumnNameMatcher delegate;
+
+        UnindexedMatcher(ColumnNameMatcher delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean columnNameMatches(String columnName, String javaName) {
+            return delegate.columnNameMatches(columnName, javaName);
+        }
+
+        @Override
+        public boolean columnNameStartsWith(String columnName, String prefix) {
+            return delegate.columnNameStartsWith(columnName, prefix);
+        }
+    }
+
+    public static class Leaf {
+        public int a0;
+        public int a1;
+        public int a2;
+        public int a3;
+        public int a4;
+        public int a5;
+        public int a6;
+        public int a7;
+        public int a8;
+        public int a9;
+    }
+
+    public static class Middle {
+        public int b0;
+        public int b1;
+        public int b2;
+        public int b3;
+        public int b4;
+        public int b5;
+        public int b6;
+        public int b7;
+        public int b8;
+        public int b9;
+
+        @Nested("leaf")
+        public Leaf leaf;
+    }
+
+    public static class Root {
+        public int c0;
+        public int c1;
+        public int c2;
+        public int c3;
+        public int c4;
+        public int c5;
+        public int c6;
+        public int c7;
+        public int c8;
+        public int c9;
+
+        @Nested("middle")
+        public Middle middle;
+
+        @Nested("other")
+        public Leaf other;
+    }
 }
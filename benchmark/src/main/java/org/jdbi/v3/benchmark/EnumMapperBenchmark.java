@@ -13,14 +13,21 @@
  */
 package org.jdbi.v3.benchmark;
 
+import java.sql.SQLException;
+import java.sql.Types;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
+import org.h2.tools.SimpleResultSet;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.enums.EnumByName;
 import org.jdbi.v3.core.enums.EnumByOrdinal;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.EnumMapper;
 import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.testing.JdbiRule;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -33,6 +40,7 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
 
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.AverageTime)
@@ -45,6 +53,11 @@ public class EnumMapperBenchmark {
     private ThreadLocalRandom random = ThreadLocalRandom.current();
     private JdbiRule db;
     private Jdbi jdbi;
+    private Handle handle;
+    private StatementContext ctx;
+    private SimpleResultSet exactNames;
+    private SimpleResultSet randomCaseNames;
+    private final ColumnMapper<Tribble> byName = EnumMapper.byName(Tribble.class);
 
     @Setup
     public void setup() throws Throwable {
@@ -52,6 +65,9 @@ public class EnumMapperBenchmark {
         db.before();
         jdbi = db.getJdbi();
 
+        exactNames = nameResultSet();
+        randomCaseNames = nameResultSet();
+
         jdbi.useHandle(handle -> {
             handle.execute("create table exact_name (name varchar)");
             handle.execute("create table random_case (name varchar)");
@@ -65,15 +81,50 @@ public class EnumMapperBenchmark {
                 handle.execute("insert into exact_name (name) values (?)", tribble == null ? null : tribble.name());
                 handle.execute("insert into random_case (name) values (?)", tribble == null ? null : randomizeCase(tribble.name()));
                 handle.execute("insert into ordinals (ordinal) values (?)", ordinal < 0 ? null : ordinal);
+                exactNames.addRow(tribble == null ? null : tribble.name());
+                randomCaseNames.addRow(tribble == null ? null : randomizeCase(tribble.name()));
             }
         });
+
+        handle = jdbi.open();
+        ctx = handle.createQuery("select 1").getContext();
+    }
+
+    private static SimpleResultSet nameResultSet() {
+        SimpleResultSet rs = new SimpleResultSet();
+        rs.addColumn("name", Types.VARCHAR, 20, 0);
+        rs.setAutoClose(false);
+        return rs;
     }
 
     @TearDown
     public void close() {
+        handle.close();
         db.after();
     }
 
+    @Benchmark
+    public void mapColumnByExactName(Blackhole blackhole) throws SQLException {
+        exactNames.beforeFirst();
+        while (exactNames.next()) {
+            blackhole.consume(byName.map(exactNames, 1, ctx));
+        }
+    }
+
+    @Benchmark
+    public void mapColumnByRandomCaseName(Blackhole blackhole) throws SQLException {
+        randomCaseNames.beforeFirst();
+        while (randomCaseNames.next()) {
+            blackhole.consume(byName.map(randomCaseNames, 1, ctx));
+        }
+    }
+
+    @Benchmark
+    public ColumnMapper<Tribble> findByNameMapper() {
+        // mapper factories call this for every statement that misses the mapper cache
+        return EnumMapper.byName(Tribble.class);
+    }
+
     @Benchmark
     public List<Tribble> mapByExactName() {
         return jdbi.withHandle(h ->
@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the overhead of opening a handle per request ({@code jdbi.withHandle(h -> h.select(...).one())}) against
+ * plain JDBC on an in-memory H2 database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+public class HandleOpenBenchmark {
+
+    private static final String SELECT = "select name from handle_open where id = ?";
+
+    private JdbcDataSource dataSource;
+    private Jdbi jdbi;
+    // keeps the in-memory database alive
+    private Handle keepAlive;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(HandleOpenBenchmark.class.getSimpleName())
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + getClass().getSimpleName());
+        jdbi = Jdbi.create(dataSource);
+
+        keepAlive = jdbi.open();
+        keepAlive.execute("create table if not exists handle_open (id int primary key, name varchar(50))");
+        keepAlive.execute("merge into handle_open (id, name) values (1, 'alice')");
+    }
+
+    @TearDown
+    public void close() {
+        keepAlive.close();
+    }
+
+    @Benchmark
+    public String jdbc() throws SQLException {
+        try (Connection c = dataSource.getConnection();
+            PreparedStatement ps = c.prepareStatement(SELECT)) {
+            ps.setInt(1, 1);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getString(1);
+            }
+        }
+    }
+
+    @Benchmark
+    public Handle openHandle() {
+        try (Handle h = jdbi.open()) {
+            return h;
+        }
+    }
+
+    @Benchmark
+    public String withHandle() {
+        return jdbi.withHandle(h -> h.select(SELECT, 1)
+            .mapTo(String.class)
+            .one());
+    }
+}
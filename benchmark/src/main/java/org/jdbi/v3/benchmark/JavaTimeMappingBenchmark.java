@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.core.time.JavaTimeStrategy;
+import org.jdbi.v3.core.time.JavaTimes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares mapping and binding {@code java.time} values through {@link java.sql.Timestamp} with JDBC 4.2 types.
+ * Run with {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+public class JavaTimeMappingBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"TIMESTAMP", "JDBC42"})
+    public JavaTimeStrategy strategy;
+
+    private Handle handle;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(JavaTimeMappingBenchmark.class.getSimpleName())
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + getClass().getSimpleName());
+        Jdbi jdbi = Jdbi.create(dataSource);
+        jdbi.getConfig(JavaTimes.class).setStrategy(strategy);
+        handle = jdbi.open();
+        handle.execute("create table times (id int, ts timestamp)");
+
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        PreparedBatch batch = handle.prepareBatch("insert into times (id, ts) values (:id, :ts)");
+        for (int i = 0; i < ROWS; i++) {
+            batch.bind("id", i).bind("ts", start.plusMinutes(i)).add();
+        }
+        batch.execute();
+    }
+
+    @TearDown
+    public void close() {
+        handle.execute("drop table times");
+        handle.close();
+    }
+
+    @Benchmark
+    public List<LocalDateTime> mapLocalDateTime() {
+        return handle.createQuery("select ts from times").mapTo(LocalDateTime.class).list();
+    }
+
+    @Benchmark
+    public List<Instant> mapInstant() {
+        return handle.createQuery("select ts from times").mapTo(Instant.class).list();
+    }
+
+    @Benchmark
+    public List<OffsetDateTime> mapOffsetDateTime() {
+        return handle.createQuery("select ts from times").mapTo(OffsetDateTime.class).list();
+    }
+
+    @Benchmark
+    public int bindInstant() {
+        return handle.createUpdate("update times set ts = :ts where id = 1")
+            .bind("ts", Instant.EPOCH)
+            .execute();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.core.statement.PreparedBatches;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares executing a {@link PreparedBatch} of inserts row by row with multi-row insert rewriting.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+public class PreparedBatchInsertBenchmark {
+
+    @Param({"false", "true"})
+    public boolean multiRowInserts;
+
+    @Param({"10", "1000"})
+    public int rows;
+
+    private Handle handle;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(PreparedBatchInsertBenchmark.class.getSimpleName())
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + getClass().getSimpleName());
+        handle = Jdbi.create(dataSource).open();
+        handle.getConfig(PreparedBatches.class).setMultiRowInserts(multiRowInserts);
+        handle.execute("create table batch_insert (id int, name varchar(50), amount bigint)");
+    }
+
+    @TearDown
+    public void close() {
+        handle.close();
+    }
+
+    @Benchmark
+    public int[] insert() {
+        handle.execute("truncate table batch_insert");
+        PreparedBatch batch = handle.prepareBatch("insert into batch_insert (id, name, amount) values (:id, :name, :amount)");
+        for (int i = 0; i < rows; i++) {
+            batch.bind("id", i).bind("name", "name").bind("amount", i * 10L).add();
+        }
+        return batch.execute();
+    }
+}
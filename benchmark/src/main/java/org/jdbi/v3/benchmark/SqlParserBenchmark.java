@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheBuilder;
+import org.jdbi.v3.core.cache.JdbiCacheLoader;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.statement.ColonPrefixSqlParser;
+import org.jdbi.v3.core.statement.DefinedAttributeTemplateEngine;
+import org.jdbi.v3.core.statement.HashPrefixSqlParser;
+import org.jdbi.v3.core.statement.ParsedSql;
+import org.jdbi.v3.core.statement.SqlParser;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Parses statements without the parsed SQL cache, as for every statement with a dynamic <code>IN</code> list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class SqlParserBenchmark {
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(SqlParserBenchmark.class.getSimpleName())
+            .forks(1)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Param({"5", "100"})
+    private int listSize;
+
+    private SqlParser colonParser;
+    private SqlParser hashParser;
+    private DefinedAttributeTemplateEngine templateEngine;
+    private ConfigRegistry config;
+
+    private String colonSql;
+    private String hashSql;
+    private String template;
+
+    @Setup
+    public void setup() {
+        colonParser = new ColonPrefixSqlParser(new UncachedBuilder());
+        hashParser = new HashPrefixSqlParser(new UncachedBuilder());
+        templateEngine = new DefinedAttributeTemplateEngine();
+        config = new ConfigRegistry();
+
+        colonSql = statement(":");
+        hashSql = statement("#");
+        template = "select /* lookup */ id, name, <columns> from <table> where name <> 'it''s' and id in (<ids>) -- <comment>";
+    }
+
+    private String statement(String prefix) {
+        StringBuilder sql = new StringBuilder("select /* lookup */ id, name::text from something where name <> 'it''s :x' and id in (");
+        for (int i = 0; i < listSize; i++) {
+            sql.append(i == 0 ? "" : ", ").append(prefix).append("__ids_").append(i);
+        }
+        return sql.append(") and kind = ").append(prefix).append("kind -- trailing").toString();
+    }
+
+    @Benchmark
+    public ParsedSql colonParameters() {
+        return colonParser.parse(colonSql, null);
+    }
+
+    @Benchmark
+    public ParsedSql hashParameters() {
+        return hashParser.parse(hashSql, null);
+    }
+
+    @Benchmark
+    public Optional<Function<StatementContext, String>> definedAttributes() {
+        return templateEngine.parse(template, config);
+    }
+
+    private static final class UncachedBuilder implements JdbiCacheBuilder {
+        @Override
+        public <K, V> JdbiCache<K, V> build() {
+            return buildWithLoader(null);
+        }
+
+        @Override
+        public <K, V> JdbiCache<K, V> buildWithLoader(JdbiCacheLoader<K, V> cacheLoader) {
+            return new JdbiCache<>() {
+                @Override
+                public V get(K key) {
+                    return cacheLoader.create(key);
+                }
+
+                @Override
+                public V getWithLoader(K key, JdbiCacheLoader<K, V> loader) {
+                    return loader.create(key);
+                }
+
+                @Override
+                public <T> T getStats() {
+                    return null;
+                }
+            };
+        }
+
+        @Override
+        public JdbiCacheBuilder maxSize(int maxSize) {
+            return this;
+        }
+    }
+}
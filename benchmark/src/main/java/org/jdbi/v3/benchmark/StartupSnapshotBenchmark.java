@@ -0,0 +1,149 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StartupSnapshot;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the time from creating a {@link Jdbi} instance to the first call of each SQL object method, with and without
+ * a {@link StartupSnapshot} that was written by an earlier run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@Measurement(iterations = 200)
+@Warmup(iterations = 50)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+public class StartupSnapshotBenchmark {
+
+    @Param({"false", "true"})
+    private boolean snapshot;
+
+    private JdbcDataSource dataSource;
+    // keeps the in-memory database alive
+    private Handle keepAlive;
+    private Path snapshotFile;
+    private Jdbi jdbi;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(StartupSnapshotBenchmark.class.getSimpleName())
+            .forks(1)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws IOException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + getClass().getSimpleName());
+
+        keepAlive = Jdbi.create(dataSource).open();
+        keepAlive.execute("create table if not exists startup (id int primary key, name varchar(50), amount int)");
+
+        snapshotFile = Files.createTempFile("jdbi", ".snapshot");
+        StartupSnapshot recorded = new StartupSnapshot();
+        Jdbi recording = createJdbi();
+        recording.getConfig(SqlStatements.class).setStartupSnapshot(recorded);
+        recording.useExtension(StartupDao.class, StartupSnapshotBenchmark::callAll);
+        recorded.write(snapshotFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        keepAlive.close();
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        keepAlive.execute("delete from startup");
+        jdbi = createJdbi();
+    }
+
+    @Benchmark
+    public int firstCalls() {
+        if (snapshot) {
+            jdbi.getConfig(SqlStatements.class).setStartupSnapshot(StartupSnapshot.load(snapshotFile));
+        }
+        return jdbi.withExtension(StartupDao.class, StartupSnapshotBenchmark::callAll);
+    }
+
+    private Jdbi createJdbi() {
+        return Jdbi.create(dataSource).installPlugin(new SqlObjectPlugin());
+    }
+
+    private static int callAll(StartupDao dao) {
+        dao.insert(1, "alice", 10);
+        dao.insert(2, "bob", 20);
+        dao.rename(2, "brian");
+        dao.addAmount(1, 5);
+        return dao.count() + dao.total() + dao.findName(1).length() + dao.findAmount(2) + dao.countAbove(5);
+    }
+
+    public interface StartupDao {
+        @SqlUpdate("insert into startup (id, name, amount) values (:id, :name, :amount)")
+        void insert(int id, String name, int amount);
+
+        @SqlUpdate("update startup set name = :name where id = :id")
+        void rename(int id, String name);
+
+        @SqlUpdate("update startup set amount = amount + :delta where id = :id")
+        void addAmount(int id, int delta);
+
+        @SqlQuery("select count(*) from startup")
+        int count();
+
+        @SqlQuery("select sum(amount) from startup")
+        int total();
+
+        @SqlQuery("select name from startup where id = :id")
+        String findName(int id);
+
+        @SqlQuery("select amount from startup where id = :id")
+        int findAmount(int id);
+
+        @SqlQuery("select count(*) from startup where amount > :amount")
+        int countAbove(int amount);
+    }
+}
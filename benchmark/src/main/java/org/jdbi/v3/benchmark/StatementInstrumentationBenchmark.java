@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import jdk.jfr.Recording;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.JdbiStatementEvent;
+import org.jdbi.v3.opentelemetry.JdbiOpenTelemetryPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the per-statement overhead of the statement instrumentation with all listeners off, with a JFR recording that
+ * has the {@link JdbiStatementEvent} enabled and with the OpenTelemetry plugin installed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+public class StatementInstrumentationBenchmark {
+
+    @Param({"off", "jfr", "opentelemetry"})
+    public String instrumentation;
+
+    private Handle handle;
+    private Recording recording;
+    private SdkTracerProvider tracerProvider;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(StatementInstrumentationBenchmark.class.getSimpleName())
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        Jdbi jdbi = Jdbi.create("jdbc:h2:mem:" + getClass().getSimpleName() + ";DB_CLOSE_DELAY=-1");
+
+        switch (instrumentation) {
+            case "jfr":
+                recording = new Recording();
+                recording.enable(JdbiStatementEvent.NAME);
+                recording.setToDisk(false);
+                recording.start();
+                break;
+            case "opentelemetry":
+                tracerProvider = SdkTracerProvider.builder()
+                    .setSampler(Sampler.alwaysOn())
+                    .build();
+                jdbi.installPlugin(new JdbiOpenTelemetryPlugin(OpenTelemetrySdk.builder()
+                    .setTracerProvider(tracerProvider)
+                    .build()));
+                break;
+            default:
+                break;
+        }
+
+        handle = jdbi.open();
+        handle.execute("create table if not exists instrumentation (id int primary key, name varchar(50))");
+        handle.execute("merge into instrumentation (id, name) values (1, 'alice')");
+    }
+
+    @TearDown
+    public void close() {
+        handle.close();
+        if (recording != null) {
+            recording.close();
+        }
+        if (tracerProvider != null) {
+            tracerProvider.close();
+        }
+    }
+
+    @Benchmark
+    public String select() {
+        return handle.createQuery("select name from instrumentation where id = :id")
+            .bind("id", 1)
+            .mapTo(String.class)
+            .one();
+    }
+
+    @Benchmark
+    public int update() {
+        return handle.createUpdate("update instrumentation set name = :name where id = :id")
+            .bind("id", 1)
+            .bind("name", "bob")
+            .execute();
+    }
+}
@@ -15,6 +15,7 @@ package org.jdbi.v3.cache.caffeine;
 
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.spi.JdbiPlugin;
+import org.jdbi.v3.core.statement.CachedResults;
 import org.jdbi.v3.core.statement.ColonPrefixSqlParser;
 import org.jdbi.v3.core.statement.SqlStatements;
 
@@ -32,5 +33,7 @@ public final class CaffeineCachePlugin implements JdbiPlugin {
 
         config.setTemplateCache(CaffeineCacheBuilder.instance().maxSize(SQL_TEMPLATE_CACHE_SIZE));
         config.setSqlParser(new ColonPrefixSqlParser(CaffeineCacheBuilder.instance().maxSize(PARSED_SQL_CACHE_SIZE)));
+
+        jdbi.getConfig(CachedResults.class).setCache(CaffeineCacheBuilder.instance().maxSize(CachedResults.DEFAULT_MAX_SIZE));
     }
 }
@@ -15,6 +15,7 @@ package org.jdbi.v3.cache.noop;
 
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.spi.JdbiPlugin;
+import org.jdbi.v3.core.statement.CachedResults;
 import org.jdbi.v3.core.statement.ColonPrefixSqlParser;
 import org.jdbi.v3.core.statement.SqlStatements;
 
@@ -29,5 +30,6 @@ public final class NoopCachePlugin implements JdbiPlugin {
 
         config.setTemplateCache(NoopCache.builder());
         config.setSqlParser(new ColonPrefixSqlParser(NoopCache.builder()));
+        jdbi.getConfig(CachedResults.class).setCache(NoopCache.builder());
     }
 }
@@ -16,10 +16,19 @@ package org.jdbi.v3.core;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicReference;
 
 import javax.sql.DataSource;
@@ -33,7 +42,9 @@ import org.jdbi.v3.core.extension.Extensions;
 import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.core.extension.NoSuchExtensionException;
 import org.jdbi.v3.core.internal.OnDemandExtensions;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
+import org.jdbi.v3.core.metrics.JdbiMetrics;
 import org.jdbi.v3.core.spi.JdbiPlugin;
 import org.jdbi.v3.core.statement.DefaultStatementBuilder;
 import org.jdbi.v3.core.statement.SqlStatements;
@@ -383,6 +394,12 @@ public class Jdbi implements Configurable<Jdbi> {
                 for (JdbiPlugin p : plugins) {
                     h = p.customizeHandle(h);
                 }
+
+                final JdbiMetrics metrics = getConfig(JdbiMetrics.class);
+                if (metrics.isEnabled()) {
+                    metrics.handleOpened(stop - start, System.nanoTime() - start);
+                }
+
                 LOG.trace("Jdbi [{}] obtain handle [{}] in {}ms", this, h, MILLISECONDS.convert(stop - start, NANOSECONDS));
                 return h;
             } catch (Throwable t) {
@@ -595,4 +612,72 @@ public class Jdbi implements Configurable<Jdbi> {
 
         return getConfig(OnDemandExtensions.class).create(this, extensionType);
     }
+
+    /**
+     * Prepares extension types before they are used for the first time.
+     *
+     * @param extensionTypes the extension types to prepare
+     * @return the time spent preparing each extension type
+     * @see #warmUp(Collection)
+     */
+    @Alpha
+    public Map<Class<?>, Duration> warmUp(Class<?>... extensionTypes) {
+        return warmUp(Arrays.asList(extensionTypes));
+    }
+
+    /**
+     * Prepares extension types before they are used for the first time, so that the first requests after startup run
+     * at full speed. For each type, the extension metadata is built and cached and every extension handler is prepared.
+     * SQL object handlers locate, render and parse their SQL and look up the mappers and arguments that they use. The
+     * types are prepared in parallel on the common fork join pool.
+     *
+     * @param extensionTypes the extension types to prepare
+     * @return the time spent preparing each extension type, in the order of the given types
+     * @throws NoSuchExtensionException if no registered extension factory handles one of the types
+     * @see #warmUp(Collection, Executor)
+     */
+    @Alpha
+    public Map<Class<?>, Duration> warmUp(Collection<Class<?>> extensionTypes) {
+        return warmUp(extensionTypes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Prepares extension types before they are used for the first time, like {@link #warmUp(Collection)}. The types are
+     * prepared in parallel on the given executor, e.g. to keep the preparation off the common fork join pool or to run it
+     * on the calling thread.
+     *
+     * @param extensionTypes the extension types to prepare
+     * @param executor the executor that prepares the types
+     * @return the time spent preparing each extension type, in the order of the given types
+     * @throws NoSuchExtensionException if no registered extension factory handles one of the types
+     */
+    @Alpha
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    public Map<Class<?>, Duration> warmUp(Collection<Class<?>> extensionTypes, Executor executor) {
+        Objects.requireNonNull(executor, "executor is null");
+        final Extensions extensions = getConfig(Extensions.class);
+
+        final Map<Class<?>, CompletableFuture<Duration>> preparations = new LinkedHashMap<>();
+        for (Class<?> extensionType : extensionTypes) {
+            preparations.put(extensionType, CompletableFuture.supplyAsync(() -> {
+                final long start = System.nanoTime();
+                extensions.warmUp(extensionType);
+                return Duration.ofNanos(System.nanoTime() - start);
+            }, executor));
+        }
+
+        final Map<Class<?>, Duration> durations = new LinkedHashMap<>();
+        preparations.forEach((extensionType, preparation) -> {
+            try {
+                final Duration duration = preparation.join();
+                LOG.debug("Prepared extension type {} in {} ms", extensionType.getName(), duration.toMillis());
+                durations.put(extensionType, duration);
+            } catch (CompletionException e) {
+                // rethrow the exception from preparing the extension type
+                throw Sneaky.throwAnyway(e.getCause());
+            }
+        });
+
+        return durations;
+    }
 }
@@ -17,6 +17,7 @@ import org.jdbi.v3.core.argument.internal.PojoPropertyArguments;
 import org.jdbi.v3.core.argument.internal.TypedValue;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.mapper.reflect.internal.BeanPropertiesFactory;
+import org.jdbi.v3.core.mapper.reflect.internal.PojoTypes;
 
 /**
  * Inspect a {@link java.beans} style object and bind parameters
@@ -35,7 +36,8 @@ public class BeanPropertyArguments extends PojoPropertyArguments {
     }
 
     public BeanPropertyArguments(String prefix, Object bean, ConfigRegistry config) {
-        super(prefix, bean, BeanPropertiesFactory.propertiesFor(bean.getClass(), config), config);
+        super(prefix, bean, config.get(PojoTypes.class).findBeanFor(bean.getClass())
+            .orElseGet(() -> BeanPropertiesFactory.propertiesFor(bean.getClass(), config)), config);
     }
 
     @Override
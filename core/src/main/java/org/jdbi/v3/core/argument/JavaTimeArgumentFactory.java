@@ -13,6 +13,9 @@
  */
 package org.jdbi.v3.core.argument;
 
+import java.lang.reflect.Type;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
@@ -21,9 +24,29 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 
+import org.jdbi.v3.core.argument.internal.StatementBinder;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.time.JavaTimeStrategy;
+import org.jdbi.v3.core.time.JavaTimes;
+
+import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
+
+/**
+ * Binds {@code java.time} values. Unless the {@link JavaTimes} strategy is {@link JavaTimeStrategy#TIMESTAMP}, values are
+ * passed to {@link PreparedStatement#setObject(int, Object)} without allocating intermediate {@link Timestamp} objects.
+ * {@link Instant} is always bound as a {@link Timestamp}, which is the cheapest conversion for it.
+ */
 class JavaTimeArgumentFactory extends DelegatingArgumentFactory {
+    private final IdentityHashMap<Class<?>, Function<Object, Argument>> jdbc42Builders = new IdentityHashMap<>();
+
     JavaTimeArgumentFactory() {
         register(Instant.class, Types.TIMESTAMP, (p, i, v) -> p.setTimestamp(i, Timestamp.from(v)));
         register(LocalDate.class, Types.DATE, (p, i, v) -> p.setDate(i, java.sql.Date.valueOf(v)));
@@ -31,5 +54,85 @@ class JavaTimeArgumentFactory extends DelegatingArgumentFactory {
         register(LocalDateTime.class, Types.TIMESTAMP, (p, i, v) -> p.setTimestamp(i, Timestamp.valueOf(v)));
         register(OffsetDateTime.class, Types.TIMESTAMP, (p, i, v) -> p.setTimestamp(i, Timestamp.from(v.toInstant())));
         register(ZonedDateTime.class, Types.TIMESTAMP, (p, i, v) -> p.setTimestamp(i, Timestamp.from(v.toInstant())));
+
+        registerJdbc42(Instant.class, Types.TIMESTAMP, (p, i, v) -> p.setTimestamp(i, Timestamp.from(v)),
+            (p, i, v, z) -> p.setTimestamp(i, Timestamp.from(v)));
+        registerJdbc42(LocalDate.class, Types.DATE, (p, i, v) -> p.setDate(i, java.sql.Date.valueOf(v)),
+            (p, i, v, z) -> p.setObject(i, v));
+        registerJdbc42(LocalTime.class, Types.TIME, (p, i, v) -> p.setTime(i, Time.valueOf(v)),
+            (p, i, v, z) -> p.setObject(i, v));
+        registerJdbc42(LocalDateTime.class, Types.TIMESTAMP, (p, i, v) -> p.setTimestamp(i, Timestamp.valueOf(v)),
+            (p, i, v, z) -> p.setObject(i, v));
+        registerJdbc42(OffsetDateTime.class, Types.TIMESTAMP, (p, i, v) -> p.setTimestamp(i, Timestamp.from(v.toInstant())),
+            (p, i, v, z) -> p.setObject(i, LocalDateTime.ofInstant(v.toInstant(), z)));
+        registerJdbc42(ZonedDateTime.class, Types.TIMESTAMP, (p, i, v) -> p.setTimestamp(i, Timestamp.from(v.toInstant())),
+            (p, i, v, z) -> p.setObject(i, LocalDateTime.ofInstant(v.toInstant(), z)));
+    }
+
+    @Override
+    public Optional<Function<Object, Argument>> prepare(Type type, ConfigRegistry config) {
+        if (isTimestampStrategy(config)) {
+            return super.prepare(type, config);
+        }
+        return Optional.ofNullable(jdbc42Builders.get(getErasedType(type)));
+    }
+
+    @Override
+    public Optional<Argument> build(Type expectedType, Object value, ConfigRegistry config) {
+        if (isTimestampStrategy(config)) {
+            return super.build(expectedType, value, config);
+        }
+
+        Class<?> expectedClass = getErasedType(expectedType);
+
+        if (value != null && expectedClass == Object.class) {
+            expectedClass = value.getClass();
+        }
+
+        return Optional.ofNullable(jdbc42Builders.get(expectedClass)).map(r -> r.apply(value));
+    }
+
+    private static boolean isTimestampStrategy(ConfigRegistry config) {
+        return config == null || config.get(JavaTimes.class).getStrategy() == JavaTimeStrategy.TIMESTAMP;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void registerJdbc42(Class<T> klass, int sqlType, StatementBinder<T> timestampBinder, ZonedStatementBinder<T> jdbc42Binder) {
+        jdbc42Builders.put(klass,
+            value -> value == null
+                ? new NullArgument(sqlType)
+                : new Jdbc42Argument<>((T) value, timestampBinder, jdbc42Binder));
+    }
+
+    @FunctionalInterface
+    private interface ZonedStatementBinder<T> {
+        void bind(PreparedStatement p, int index, T value, ZoneId zone) throws SQLException;
+    }
+
+    private static final class Jdbc42Argument<T> implements Argument {
+        private final T value;
+        private final StatementBinder<T> timestampBinder;
+        private final ZonedStatementBinder<T> jdbc42Binder;
+
+        Jdbc42Argument(T value, StatementBinder<T> timestampBinder, ZonedStatementBinder<T> jdbc42Binder) {
+            this.value = value;
+            this.timestampBinder = timestampBinder;
+            this.jdbc42Binder = jdbc42Binder;
+        }
+
+        @Override
+        public void apply(int position, PreparedStatement statement, StatementContext ctx) throws SQLException {
+            JavaTimes javaTimes = ctx.getConfig(JavaTimes.class);
+            if (javaTimes.isJdbc42(ctx)) {
+                jdbc42Binder.bind(statement, position, value, javaTimes.getZone());
+            } else {
+                timestampBinder.bind(statement, position, value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toString(value);
+        }
     }
 }
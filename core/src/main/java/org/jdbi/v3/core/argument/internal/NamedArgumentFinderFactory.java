@@ -65,13 +65,18 @@ public interface NamedArgumentFinderFactory {
         Function<String, Optional<Function<Object, Argument>>> forPojoProps(
                 Function<QualifiedType<?>, Function<Object, Argument>> argumentFactoryLookup,
                 PojoPropertyArguments ppa) {
-            return name -> Optional.ofNullable(ppa.properties.getProperties().get(name))
-                    .map(PojoProperty.class::cast)
-                    .filter(JdbiAnnotations::isBound)
-                    .map(property -> {
-                        Function<Object, Argument> arg = argumentFactoryLookup.apply(property.getQualifiedType());
-                        return pojo -> arg.apply(property.get(pojo));
-                    });
+            return name -> {
+                if (!name.startsWith(ppa.prefix)) {
+                    return Optional.empty();
+                }
+                final PojoProperty<Object> property = (PojoProperty<Object>) ppa.properties.getProperties().get(name.substring(ppa.prefix.length()));
+                if (property == null || !JdbiAnnotations.isBound(property)) {
+                    // nested or unknown properties go through the backup argument finders
+                    return Optional.empty();
+                }
+                final Function<Object, Argument> arg = argumentFactoryLookup.apply(property.getQualifiedType());
+                return Optional.of(pojo -> arg.apply(property.get(pojo)));
+            };
         }
     }
 
@@ -122,16 +127,19 @@ public interface NamedArgumentFinderFactory {
         final Class<?> factoryClass;
         final Type type;
         final String prefix;
+        // looked up for every parameter of every batch row
+        private final int hashCode;
 
         PrepareKey(Class<?> factoryClass, Type type, String prefix) {
             this.factoryClass = factoryClass;
             this.type = type;
             this.prefix = prefix;
+            this.hashCode = Objects.hash(factoryClass, prefix, type);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(factoryClass, prefix, type);
+            return hashCode;
         }
 
         @Override
@@ -36,7 +36,7 @@ import org.jdbi.v3.core.statement.UnableToCreateStatementException;
 public class PojoPropertyArguments extends ObjectPropertyNamedArgumentFinder {
     protected final PojoProperties<?> properties;
     protected final ConfigRegistry config;
-    private final Set<String> names;
+    private Set<String> names;
 
     public PojoPropertyArguments(String prefix, Object obj, Type type, ConfigRegistry config) {
         this(prefix,
@@ -50,25 +50,29 @@ public class PojoPropertyArguments extends ObjectPropertyNamedArgumentFinder {
         super(prefix, obj);
         this.properties = properties;
         this.config = config;
-        names = properties.getProperties()
-                .entrySet()
-                .stream()
-                .filter(e -> JdbiAnnotations.isBound(e.getValue()))
-                .map(Entry::getKey)
-                .collect(Collectors.toSet());
     }
 
     @Override
     @SuppressWarnings("unchecked")
     protected Optional<TypedValue> getValue(String name, StatementContext ctx) {
-        return Optional.ofNullable(properties.getProperties().get(name))
-                .map(PojoProperty.class::cast)
-                .filter(JdbiAnnotations::isBound)
-                .map(p -> new TypedValue(p.getQualifiedType(), p.get(obj)));
+        final PojoProperty<Object> property = (PojoProperty<Object>) properties.getProperties().get(name);
+        if (property == null || !JdbiAnnotations.isBound(property)) {
+            return Optional.empty();
+        }
+        return Optional.of(new TypedValue(property.getQualifiedType(), property.get(obj)));
     }
 
     @Override
     public Collection<String> getNames() {
+        // only needed for named binding definitions and error messages, so compute on demand
+        if (names == null) {
+            names = properties.getProperties()
+                    .entrySet()
+                    .stream()
+                    .filter(e -> JdbiAnnotations.isBound(e.getValue()))
+                    .map(Entry::getKey)
+                    .collect(Collectors.toSet());
+        }
         return names;
     }
 
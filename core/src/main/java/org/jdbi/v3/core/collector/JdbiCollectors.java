@@ -21,7 +21,9 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collector;
 
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.mapper.ColumnMappers;
 
 /**
  * Registry of collector factories.
@@ -30,6 +32,7 @@ import org.jdbi.v3.core.config.JdbiConfig;
 public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
     private final List<CollectorFactory> factories;
     private ConcurrentMap<Type, Optional<CollectorFactory>> factoryCache;
+    private ConfigRegistry registry;
 
     public JdbiCollectors() {
         factories = new CopyOnWriteArrayList<>();
@@ -48,6 +51,11 @@ public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
         factories = new CopyOnWriteArrayList<>(that.factories);
     }
 
+    @Override
+    public void setRegistry(ConfigRegistry registry) {
+        this.registry = registry;
+    }
+
     /**
      * Register a new {@link CollectorFactory}.
      * @param factory A collector factory
@@ -56,6 +64,10 @@ public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
     public JdbiCollectors register(CollectorFactory factory) {
         factories.add(0, factory);
         factoryCache = new ConcurrentHashMap<>();
+        if (registry != null) {
+            // sql array column mappers are built for the collectors
+            registry.get(ColumnMappers.class).clearCache();
+        }
         return this;
     }
 
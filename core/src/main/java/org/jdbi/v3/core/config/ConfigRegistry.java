@@ -18,13 +18,17 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
+import org.jdbi.v3.core.Handles;
 import org.jdbi.v3.core.argument.Arguments;
+import org.jdbi.v3.core.array.SqlArrayTypes;
 import org.jdbi.v3.core.collector.JdbiCollectors;
 import org.jdbi.v3.core.config.internal.ConfigCaches;
 import org.jdbi.v3.core.internal.JdbiClassUtils;
 import org.jdbi.v3.core.mapper.ColumnMappers;
 import org.jdbi.v3.core.mapper.Mappers;
 import org.jdbi.v3.core.mapper.RowMappers;
+import org.jdbi.v3.core.mapper.reflect.internal.PojoTypes;
+import org.jdbi.v3.core.statement.CachedResults;
 import org.jdbi.v3.core.statement.SqlStatements;
 
 /**
@@ -51,6 +55,12 @@ public final class ConfigRegistry {
         get(ColumnMappers.class);
         get(Mappers.class);
         get(JdbiCollectors.class);
+        // created lazily on every handle and statement otherwise; copying is much cheaper than construction
+        get(Handles.class);
+        get(SqlArrayTypes.class);
+        get(PojoTypes.class);
+        // shares its cache with all copies, so it must exist before the first copy is made
+        get(CachedResults.class);
     }
 
     private ConfigRegistry(ConfigRegistry that) {
@@ -38,6 +38,14 @@ public final class ConfigCustomizerChain implements ConfigCustomizer {
         configCustomizers.add(configCustomizer);
     }
 
+    /**
+     * Returns true if no customizer was added to the chain.
+     * @return True if the chain does not change a {@link ConfigRegistry} object
+     */
+    public boolean isEmpty() {
+        return configCustomizers.isEmpty();
+    }
+
     /**
      * Applies all customizers in the chain to the given {@link ConfigRegistry} object.
      * @param config A {@link ConfigRegistry} object
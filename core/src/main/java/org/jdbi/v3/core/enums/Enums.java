@@ -13,13 +13,16 @@
  */
 package org.jdbi.v3.core.enums;
 
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.mapper.ColumnMappers;
 
 /**
  * Configuration for behavior related to {@link Enum}s.
  */
 public class Enums implements JdbiConfig<Enums> {
     private EnumStrategy strategy;
+    private ConfigRegistry registry;
 
     public Enums() {
         strategy = EnumStrategy.BY_NAME;
@@ -29,6 +32,11 @@ public class Enums implements JdbiConfig<Enums> {
         strategy = other.strategy;
     }
 
+    @Override
+    public void setRegistry(ConfigRegistry registry) {
+        this.registry = registry;
+    }
+
     /**
      * Returns the default strategy to use for mapping and binding enums, in the absence of a
      * {@link EnumByName} or {@link EnumByOrdinal} qualifying annotation. The default default
@@ -44,6 +52,10 @@ public class Enums implements JdbiConfig<Enums> {
      * @return this Enums instance, for chaining
      */
     public Enums setEnumStrategy(EnumStrategy enumStrategy) {
+        if (registry != null && strategy != enumStrategy) {
+            // enum mappers are built for a strategy
+            registry.get(ColumnMappers.class).clearCache();
+        }
         this.strategy = enumStrategy;
         return this;
     }
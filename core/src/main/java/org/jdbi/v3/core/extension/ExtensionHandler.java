@@ -64,6 +64,18 @@ public interface ExtensionHandler {
     @Beta
     default void warm(ConfigRegistry config) {}
 
+    /**
+     * Called by {@link org.jdbi.v3.core.Jdbi#warmUp(java.util.Collection)} to prepare the handler before the extension is used for the
+     * first time. In addition to {@link #warm(ConfigRegistry)}, a handler may load and parse resources here that are too
+     * expensive to look up for every attached extension. The default implementation calls {@link #warm(ConfigRegistry)}.
+     *
+     * @param config the method configuration to use for preparing
+     */
+    @Alpha
+    default void prepare(ConfigRegistry config) {
+        warm(config);
+    }
+
     /**
      * Returns a default handler for missing functionality. The handler will throw an exception when invoked.
      * @param method The method to which this specific handler instance is bound
@@ -45,8 +45,8 @@ import org.jdbi.v3.meta.Alpha;
 public final class ExtensionMetadata {
 
     private final Class<?> extensionType;
-    private final ConfigCustomizer instanceConfigCustomizer;
-    private final Map<Method, ? extends ConfigCustomizer> methodConfigCustomizers;
+    private final ConfigCustomizerChain instanceConfigCustomizer;
+    private final Map<Method, ConfigCustomizerChain> methodConfigCustomizers;
     private final Map<Method, ExtensionHandler> methodHandlers;
     private final Optional<Method> finalizer;
 
@@ -61,8 +61,8 @@ public final class ExtensionMetadata {
 
     private ExtensionMetadata(
             Class<?> extensionType,
-            ConfigCustomizer instanceConfigCustomizer,
-            Map<Method, ? extends ConfigCustomizer> methodConfigCustomizers,
+            ConfigCustomizerChain instanceConfigCustomizer,
+            Map<Method, ConfigCustomizerChain> methodConfigCustomizers,
             Map<Method, ExtensionHandler> methodHandlers,
             Optional<Method> finalizer) {
         this.extensionType = extensionType;
@@ -113,6 +113,45 @@ public final class ExtensionMetadata {
         return methodHandlers.keySet();
     }
 
+    /**
+     * Returns the {@link ExtensionHandler} associated with a method. All extension handler customizers have
+     * already been applied to the returned handler.
+     * @param method The method to look up
+     * @return An {@link Optional} containing the {@link ExtensionHandler} if the method has one
+     */
+    public Optional<ExtensionHandler> findExtensionHandler(Method method) {
+        return Optional.ofNullable(methodHandlers.get(method));
+    }
+
+    /**
+     * Prepares all extension handlers before the extension is used for the first time. Each handler is prepared with
+     * its method configuration. If neither the extension type nor the method customize the configuration, the given
+     * configuration object is used directly, so that the caches it holds are filled for every copy that is made later.
+     *
+     * @param config The configuration object which should be used as base for the method specific configuration
+     * @see ExtensionHandler#prepare(ConfigRegistry)
+     */
+    public void prepare(ConfigRegistry config) {
+        final boolean customizesInstance = !instanceConfigCustomizer.isEmpty();
+        final ConfigRegistry instanceConfig = customizesInstance ? createInstanceConfiguration(config) : config;
+
+        methodHandlers.forEach((method, handler) -> {
+            final ConfigCustomizerChain methodConfigCustomizer = methodConfigCustomizers.get(method);
+            final ConfigRegistry methodConfig = methodConfigCustomizer == null || methodConfigCustomizer.isEmpty()
+                    ? instanceConfig
+                    : createMethodConfiguration(method, instanceConfig);
+
+            try {
+                handler.prepare(methodConfig);
+            } catch (Exception e) {
+                // same as warming an attached extension, only fail if fail fast is requested.
+                if (config.get(Extensions.class).isFailFast()) {
+                    throw new UnableToCreateExtensionException(e, "While preparing %s: %s", method, e.getMessage());
+                }
+            }
+        });
+    }
+
     /**
      * Returns a reference to a method that overrides {@link Object#finalize()} if it exists.
      * @return An {@link Optional} containing a {@link Method} if a finalizer exists.
@@ -218,6 +218,25 @@ public class Extensions implements JdbiConfig<Extensions> {
         return extensionMetadataCache.computeIfAbsent(extensionType, createMetadata(extensionFactory));
     }
 
+    /**
+     * Builds and caches the extension metadata for an extension type and prepares all of its extension handlers.
+     *
+     * @param extensionType The extension type
+     * @return The {@link ExtensionMetadata} for the extension type
+     * @throws NoSuchExtensionException if no registered extension factory handles the type
+     * @see ExtensionMetadata#prepare(ConfigRegistry)
+     */
+    @Alpha
+    public ExtensionMetadata warmUp(Class<?> extensionType) {
+        final ExtensionFactoryDelegate factory = findFactoryFor(extensionType)
+                .map(ExtensionFactoryDelegate.class::cast)
+                .orElseThrow(() -> new NoSuchExtensionException(extensionType));
+
+        final ExtensionMetadata extensionMetadata = findMetadata(extensionType, factory.getDelegatedFactory());
+        extensionMetadata.prepare(registry);
+        return extensionMetadata;
+    }
+
     private Extensions internalRegisterHandlerFactory(ExtensionHandlerFactory extensionHandlerFactory) {
         extensionHandlerFactories.add(0, extensionHandlerFactory);
         return this;
@@ -15,8 +15,10 @@ package org.jdbi.v3.core.mapper;
 
 import java.lang.reflect.Type;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 
@@ -26,7 +28,6 @@ import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.enums.internal.EnumMapperFactory;
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.interceptor.JdbiInterceptionChainHolder;
-import org.jdbi.v3.core.internal.CopyOnWriteHashMap;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.meta.Alpha;
 
@@ -34,19 +35,24 @@ import org.jdbi.v3.meta.Alpha;
  * Configuration registry for {@link ColumnMapperFactory} instances.
  */
 public class ColumnMappers implements JdbiConfig<ColumnMappers> {
+    private static final int DEFAULT_STRING_DICTIONARY_SIZE = 4096;
 
     private final JdbiInterceptionChainHolder<ColumnMapper<?>, QualifiedColumnMapperFactory> inferenceInterceptors;
 
     private final List<QualifiedColumnMapperFactory> factories;
-    private final Map<QualifiedType<?>, Optional<? extends ColumnMapper<?>>> cache;
+    // shared with all copies, which publish the mappers they build into it; replaced when mapper inputs change
+    private ConcurrentMap<QualifiedType<?>, Optional<? extends ColumnMapper<?>>> cache;
+    private final Set<ColumnMapper<?>> initialized = ConcurrentHashMap.newKeySet();
 
     private boolean coalesceNullPrimitivesToDefaults = true;
+    // shared with all copies, so that all handles of a Jdbi canonicalize into one dictionary
+    private StringDictionary stringDictionary;
     private ConfigRegistry registry;
 
     public ColumnMappers() {
         inferenceInterceptors = new JdbiInterceptionChainHolder<>(InferredColumnMapperFactory::new);
         factories = new CopyOnWriteArrayList<>();
-        cache = new CopyOnWriteHashMap<>();
+        cache = new ConcurrentHashMap<>();
         register(new SqlArrayMapperFactory());
         register(new JavaTimeMapperFactory());
         register(new SqlTimeMapperFactory());
@@ -57,13 +63,16 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
         register(new OptionalColumnMapperFactory());
         register(new EnumMapperFactory());
         register(new NVarcharMapper());
+        register(new DedupeMapperFactory());
+        stringDictionary = new StringDictionary(DEFAULT_STRING_DICTIONARY_SIZE);
     }
 
     private ColumnMappers(ColumnMappers that) {
         factories = new CopyOnWriteArrayList<>(that.factories);
-        cache = new CopyOnWriteHashMap<>(that.cache);
+        cache = that.cache;
         inferenceInterceptors = new JdbiInterceptionChainHolder<>(that.inferenceInterceptors);
         coalesceNullPrimitivesToDefaults = that.coalesceNullPrimitivesToDefaults;
+        stringDictionary = that.stringDictionary;
     }
 
     @Override
@@ -156,7 +165,24 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
      */
     public ColumnMappers register(QualifiedColumnMapperFactory factory) {
         factories.add(0, factory);
-        cache.clear();
+        return clearCache();
+    }
+
+    /**
+     * Starts a new mapper cache for this config and the copies made from it afterwards. Copies that already exist, and
+     * the config this one was copied from, keep the cache they share. Configuration that column mapper factories read
+     * while building a mapper must call this method when it changes. The row mappers of this config are discarded as well,
+     * since row mapper factories look up column mappers while building.
+     *
+     * @return this
+     */
+    @Alpha
+    public ColumnMappers clearCache() {
+        cache = new ConcurrentHashMap<>();
+        initialized.clear();
+        if (registry != null) {
+            registry.get(RowMappers.class).clearCache();
+        }
         return this;
     }
 
@@ -207,23 +233,34 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
         // ConcurrentHashMap can enter an infinite loop on nested computeIfAbsent calls.
         // Since column mappers can decorate other column mappers, we have to populate the cache the old fashioned way.
         // See https://bugs.openjdk.java.net/browse/JDK-8062841, https://bugs.openjdk.java.net/browse/JDK-8142175
-        Optional<ColumnMapper<T>> cached = (Optional) cache.get(type);
+        Optional<? extends ColumnMapper<?>> cached = cache.get(type);
 
-        if (cached != null) {
-            return cached;
+        if (cached == null) {
+            Optional<? extends ColumnMapper<?>> built = build(type);
+            Optional<? extends ColumnMapper<?>> existing = cache.putIfAbsent(type, built);
+            cached = existing == null ? built : existing;
         }
 
+        // mappers are shared by all copies but initialized once for every registry that uses them
+        cached.ifPresent(this::init);
+
+        return (Optional) cached;
+    }
+
+    private void init(ColumnMapper<?> mapper) {
+        if (initialized.add(mapper)) {
+            mapper.init(registry);
+        }
+    }
+
+    private Optional<? extends ColumnMapper<?>> build(QualifiedType<?> type) {
         for (QualifiedColumnMapperFactory factory : factories) {
-            Optional<ColumnMapper<T>> maybeMapper = (Optional) factory.build(type, registry);
-            ColumnMapper<T> mapper = maybeMapper.orElse(null);
-            if (mapper != null) {
-                mapper.init(registry);
-                cache.put(type, maybeMapper);
+            Optional<? extends ColumnMapper<?>> maybeMapper = factory.build(type, registry);
+            if (maybeMapper.isPresent()) {
                 return maybeMapper;
             }
         }
 
-        cache.put(type, Optional.empty());
         return Optional.empty();
     }
 
@@ -248,6 +285,30 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
         this.coalesceNullPrimitivesToDefaults = coalesceNullPrimitivesToDefaults;
     }
 
+    /**
+     * Returns the dictionary of canonical strings for {@link org.jdbi.v3.core.qualifier.Dedupe} qualified columns.
+     * The dictionary is shared with all copies of this configuration, and holds up to 4096 distinct values by default.
+     *
+     * @return the string dictionary, e.g. to read its hit rate
+     */
+    @Alpha
+    public StringDictionary getStringDictionary() {
+        return stringDictionary;
+    }
+
+    /**
+     * Sets the dictionary of canonical strings for {@link org.jdbi.v3.core.qualifier.Dedupe} qualified columns.
+     * Setting a new dictionary on a handle or statement configuration scopes deduplication to it.
+     *
+     * @param stringDictionary the string dictionary
+     * @return this
+     */
+    @Alpha
+    public ColumnMappers setStringDictionary(StringDictionary stringDictionary) {
+        this.stringDictionary = stringDictionary;
+        return clearCache();
+    }
+
     @Override
     public ColumnMappers createCopy() {
         return new ColumnMappers(this);
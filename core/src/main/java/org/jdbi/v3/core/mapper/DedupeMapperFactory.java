@@ -0,0 +1,45 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.qualifier.Dedupe;
+import org.jdbi.v3.core.qualifier.NVarchar;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+
+/**
+ * Column mapper factory for {@code @Dedupe String} and {@code @Dedupe @NVarchar String} qualified types.
+ */
+class DedupeMapperFactory implements QualifiedColumnMapperFactory {
+    @Override
+    public Optional<ColumnMapper<?>> build(QualifiedType<?> type, ConfigRegistry config) {
+        if (type.getType() != String.class || !type.hasQualifier(Dedupe.class)) {
+            return Optional.empty();
+        }
+
+        final boolean nvarchar = type.hasQualifier(NVarchar.class);
+        final Set<?> qualifiers = type.getQualifiers();
+        if (qualifiers.size() != (nvarchar ? 2 : 1)) {
+            return Optional.empty();
+        }
+
+        final StringDictionary dictionary = config.get(ColumnMappers.class).getStringDictionary();
+        return Optional.of(nvarchar
+            ? (rs, col, ctx) -> dictionary.canonicalize(rs.getNString(col))
+            : (rs, col, ctx) -> dictionary.canonicalize(rs.getString(col)));
+    }
+}
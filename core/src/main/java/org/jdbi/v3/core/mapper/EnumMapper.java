@@ -13,16 +13,14 @@
  */
 package org.jdbi.v3.core.mapper;
 
+import java.lang.reflect.Array;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.BiPredicate;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
 
-import org.jdbi.v3.core.config.internal.ConfigCache;
-import org.jdbi.v3.core.config.internal.ConfigCaches;
 import org.jdbi.v3.core.enums.DatabaseValue;
 import org.jdbi.v3.core.enums.EnumByName;
 import org.jdbi.v3.core.enums.EnumByOrdinal;
@@ -41,6 +39,15 @@ import org.jdbi.v3.core.statement.StatementContext;
  */
 // TODO jdbi4: move to enums package
 public abstract class EnumMapper<E extends Enum<E>> implements ColumnMapper<E> {
+    // the name tables only depend on the enum class, so they are built once and shared by every mapper lookup
+    private static final ClassValue<EnumByNameColumnMapper<?>> BY_NAME_MAPPERS = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumByNameColumnMapper<?> computeValue(Class<?> type) {
+            return new EnumByNameColumnMapper(type.asSubclass(Enum.class));
+        }
+    };
+
     EnumMapper() {}
 
     /**
@@ -50,8 +57,9 @@ public abstract class EnumMapper<E extends Enum<E>> implements ColumnMapper<E> {
      * @param type the enum type to map
      * @return an enum mapper that matches on {@link Enum#name()}
      */
+    @SuppressWarnings("unchecked")
     public static <E extends Enum<E>> ColumnMapper<E> byName(Class<E> type) {
-        return new EnumByNameColumnMapper<>(type);
+        return (ColumnMapper<E>) BY_NAME_MAPPERS.get(type);
     }
 
     /**
@@ -66,13 +74,39 @@ public abstract class EnumMapper<E extends Enum<E>> implements ColumnMapper<E> {
     }
 
     static class EnumByNameColumnMapper<E extends Enum<E>> implements ColumnMapper<E> {
-        private static final ConfigCache<Class<? extends Enum<?>>, ConfigCache<String, Enum<?>>> BY_NAME_CACHE =
-                ConfigCaches.declare(e -> ConfigCaches.declare(
-                        name -> e.cast(getValueByName(e, name))));
         private final Class<E> enumClass;
-
+        // database value to constant, built once per mapper: exact matches first, then case-insensitive in declaration order
+        private final Map<String, E> byExactName;
+        // open addressing table over case-folded hashes, so that case-insensitive lookups need neither a lowercase copy nor a tree
+        private final String[] caseInsensitiveNames;
+        private final E[] caseInsensitiveValues;
+        private final int mask;
+
+        @SuppressWarnings("unchecked")
         private EnumByNameColumnMapper(Class<E> enumClass) {
             this.enumClass = enumClass;
+
+            final E[] constants = enumClass.getEnumConstants();
+            final Map<String, E> exact = new HashMap<>();
+            final int size = Integer.highestOneBit(Math.max(constants.length, 1) * 4 - 1);
+            this.caseInsensitiveNames = new String[size];
+            this.caseInsensitiveValues = (E[]) Array.newInstance(enumClass, size);
+            this.mask = size - 1;
+
+            for (E constant : constants) {
+                final String databaseValue = databaseValue(constant);
+                exact.putIfAbsent(databaseValue, constant);
+
+                int index = caseFoldedHash(databaseValue) & mask;
+                while (caseInsensitiveNames[index] != null && !caseInsensitiveNames[index].equalsIgnoreCase(databaseValue)) {
+                    index = (index + 1) & mask;
+                }
+                if (caseInsensitiveNames[index] == null) {
+                    caseInsensitiveNames[index] = databaseValue;
+                    caseInsensitiveValues[index] = constant;
+                }
+            }
+            this.byExactName = Collections.unmodifiableMap(exact);
         }
 
         @Override
@@ -81,32 +115,42 @@ public abstract class EnumMapper<E extends Enum<E>> implements ColumnMapper<E> {
 
             return name == null || name.isEmpty() // some vendors treat null and empty varchar as the same
                 ? null
-                : enumClass.cast(BY_NAME_CACHE.get(enumClass, ctx).get(name, ctx));
+                : getValueByName(name);
         }
 
-        @SuppressWarnings("PMD.UnusedPrivateMethod")
-        private static Object getValueByName(Class<? extends Enum<?>> enumClass, String name) {
-            return Stream.concat(
-                        enumConstants(enumClass).filter(enumValueMatches(name, String::equals)),
-                        enumConstants(enumClass).filter(enumValueMatches(name, String::equalsIgnoreCase))
-                    )
-                    .findFirst()
-                    .orElseThrow(() -> new UnableToProduceResultException(
-                        String.format("no %s value could be matched to the name %s", enumClass.getSimpleName(), name)));
+        private E getValueByName(String name) {
+            final E exact = byExactName.get(name);
+            if (exact != null) {
+                return exact;
+            }
+            for (int index = caseFoldedHash(name) & mask; caseInsensitiveNames[index] != null; index = (index + 1) & mask) {
+                if (caseInsensitiveNames[index].equalsIgnoreCase(name)) {
+                    return caseInsensitiveValues[index];
+                }
+            }
+            throw new UnableToProduceResultException(
+                String.format("no %s value could be matched to the name %s", enumClass.getSimpleName(), name));
         }
 
-        private static Predicate<Enum<?>> enumValueMatches(String name, BiPredicate<String, String> comparer) {
-            return e -> Optional.ofNullable(
-                Unchecked.function(e.getDeclaringClass()::getField)
-                    .apply(e.name())
-                    .getAnnotation(DatabaseValue.class))
-                .map(DatabaseValue::value)
-                .map(dbName -> comparer.test(dbName, name))
-                .orElseGet(() -> comparer.test(e.name(), name));
+        // equal for all strings that String#equalsIgnoreCase considers equal
+        private static int caseFoldedHash(String name) {
+            int hash = 0;
+            int i = 0;
+            while (i < name.length()) {
+                final int codePoint = name.codePointAt(i);
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(codePoint));
+                i += Character.charCount(codePoint);
+            }
+            return hash ^ (hash >>> 16);
         }
 
-        private static Stream<Enum<?>> enumConstants(Class<? extends Enum<?>> enumClass) {
-            return Arrays.stream(enumClass.getEnumConstants());
+        private static String databaseValue(Enum<?> constant) {
+            return Optional.ofNullable(
+                Unchecked.function(constant.getDeclaringClass()::getField)
+                    .apply(constant.name())
+                    .getAnnotation(DatabaseValue.class))
+                .map(DatabaseValue::value)
+                .orElseGet(constant::name);
         }
     }
 
@@ -123,8 +167,13 @@ public abstract class EnumMapper<E extends Enum<E>> implements ColumnMapper<E> {
         public E map(ResultSet rs, int columnNumber, StatementContext ctx) throws SQLException {
             int ordinal = rs.getInt(columnNumber);
 
+            // getInt returns 0 for SQL NULL, so only that value needs the extra wasNull call
+            if (ordinal == 0 && rs.wasNull()) {
+                return null;
+            }
+
             try {
-                return rs.wasNull() ? null : enumConstants[ordinal];
+                return enumConstants[ordinal];
             } catch (ArrayIndexOutOfBoundsException oob) {
                 throw new UnableToProduceResultException(String.format(
                         "no %s value could be matched to the ordinal %s", enumClass.getSimpleName(), ordinal),
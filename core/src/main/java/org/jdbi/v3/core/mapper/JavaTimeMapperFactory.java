@@ -29,6 +29,9 @@ import java.util.IdentityHashMap;
 import java.util.Optional;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.time.JavaTimeStrategy;
+import org.jdbi.v3.core.time.JavaTimes;
 
 import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
 
@@ -43,25 +46,41 @@ import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
  *     <li>{@link ZonedDateTime}</li>
  *     <li>{@link ZoneId}</li>
  * </ul>
+ * Unless the {@link JavaTimes} strategy is {@link JavaTimeStrategy#TIMESTAMP}, local date and time values are read with
+ * {@link ResultSet#getObject(int, Class)} instead of allocating intermediate {@link Timestamp} objects. {@link Instant} is
+ * always read from a {@link Timestamp}, which already holds the epoch millis and is cheaper than a {@link LocalDateTime}
+ * and a zone lookup.
  */
 class JavaTimeMapperFactory implements ColumnMapperFactory {
     private final IdentityHashMap<Class<?>, ColumnMapper<?>> mappers = new IdentityHashMap<>();
+    private final IdentityHashMap<Class<?>, ColumnMapper<?>> jdbc42Mappers = new IdentityHashMap<>();
 
     JavaTimeMapperFactory() {
         mappers.put(Instant.class, new GetterMapper<>(JavaTimeMapperFactory::getInstant));
         mappers.put(LocalDate.class, new GetterMapper<>(JavaTimeMapperFactory::getLocalDate));
         mappers.put(LocalTime.class, new GetterMapper<>(JavaTimeMapperFactory::getLocalTime));
         mappers.put(LocalDateTime.class, new GetterMapper<>(JavaTimeMapperFactory::getLocalDateTime));
-        mappers.put(OffsetDateTime.class, new GetterMapper<>(JavaTimeMapperFactory::getOffsetDateTime));
-        mappers.put(ZonedDateTime.class, new GetterMapper<>(JavaTimeMapperFactory::getZonedDateTime));
+        mappers.put(OffsetDateTime.class, new ZonedGetterMapper<>(JavaTimeMapperFactory::getOffsetDateTime));
+        mappers.put(ZonedDateTime.class, new ZonedGetterMapper<>(JavaTimeMapperFactory::getZonedDateTime));
         mappers.put(ZoneId.class, new GetterMapper<>(JavaTimeMapperFactory::getZoneId));
+
+        jdbc42Mappers.putAll(mappers);
+        jdbc42Mappers.put(LocalDate.class, new Jdbc42Mapper<>(JavaTimeMapperFactory::getLocalDate, (r, i, z) -> r.getObject(i, LocalDate.class)));
+        jdbc42Mappers.put(LocalTime.class, new Jdbc42Mapper<>(JavaTimeMapperFactory::getLocalTime, (r, i, z) -> r.getObject(i, LocalTime.class)));
+        jdbc42Mappers.put(LocalDateTime.class, new Jdbc42Mapper<>(JavaTimeMapperFactory::getLocalDateTime, (r, i, z) -> r.getObject(i, LocalDateTime.class)));
+        jdbc42Mappers.put(OffsetDateTime.class, new Jdbc42Mapper<>(JavaTimeMapperFactory::getOffsetDateTime, JavaTimeMapperFactory::getJdbc42OffsetDateTime));
+        jdbc42Mappers.put(ZonedDateTime.class, new Jdbc42Mapper<>(JavaTimeMapperFactory::getZonedDateTime, JavaTimeMapperFactory::getJdbc42ZonedDateTime));
     }
 
     @Override
     public Optional<ColumnMapper<?>> build(Type type, ConfigRegistry config) {
         Class<?> rawType = getErasedType(type);
 
-        return Optional.ofNullable(mappers.get(rawType));
+        if (config.get(JavaTimes.class).getStrategy() == JavaTimeStrategy.TIMESTAMP) {
+            return Optional.ofNullable(mappers.get(rawType));
+        }
+
+        return Optional.ofNullable(jdbc42Mappers.get(rawType));
     }
 
     private static Instant getInstant(ResultSet r, int i) throws SQLException {
@@ -79,14 +98,14 @@ class JavaTimeMapperFactory implements ColumnMapperFactory {
         return ts == null ? null : ts.toLocalDateTime();
     }
 
-    private static OffsetDateTime getOffsetDateTime(ResultSet r, int i) throws SQLException {
+    private static OffsetDateTime getOffsetDateTime(ResultSet r, int i, ZoneId zone) throws SQLException {
         Timestamp ts = r.getTimestamp(i);
-        return ts == null ? null : OffsetDateTime.ofInstant(ts.toInstant(), ZoneId.systemDefault());
+        return ts == null ? null : OffsetDateTime.ofInstant(ts.toInstant(), zone);
     }
 
-    private static ZonedDateTime getZonedDateTime(ResultSet r, int i) throws SQLException {
+    private static ZonedDateTime getZonedDateTime(ResultSet r, int i, ZoneId zone) throws SQLException {
         Timestamp ts = r.getTimestamp(i);
-        return ts == null ? null : ZonedDateTime.ofInstant(ts.toInstant(), ZoneId.systemDefault());
+        return ts == null ? null : ZonedDateTime.ofInstant(ts.toInstant(), zone);
     }
 
     private static LocalTime getLocalTime(ResultSet r, int i) throws SQLException {
@@ -98,4 +117,64 @@ class JavaTimeMapperFactory implements ColumnMapperFactory {
         String id = r.getString(i);
         return id == null ? null : ZoneId.of(id);
     }
+
+    private static OffsetDateTime getJdbc42OffsetDateTime(ResultSet r, int i, ZoneId zone) throws SQLException {
+        LocalDateTime ldt = r.getObject(i, LocalDateTime.class);
+        return ldt == null ? null : OffsetDateTime.of(ldt, zone.getRules().getOffset(ldt));
+    }
+
+    private static ZonedDateTime getJdbc42ZonedDateTime(ResultSet r, int i, ZoneId zone) throws SQLException {
+        LocalDateTime ldt = r.getObject(i, LocalDateTime.class);
+        return ldt == null ? null : ZonedDateTime.of(ldt, zone);
+    }
+
+    @FunctionalInterface
+    private interface ZonedColumnGetter<T> {
+        T get(ResultSet rs, int i, ZoneId zone) throws SQLException;
+    }
+
+    /**
+     * Converts with the zone of the statement's {@link JavaTimes} configuration, which is looked up once per statement.
+     */
+    private static final class ZonedGetterMapper<T> implements ColumnMapper<T> {
+        private final ZonedColumnGetter<T> getter;
+
+        ZonedGetterMapper(ZonedColumnGetter<T> getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        public T map(ResultSet r, int i, StatementContext ctx) throws SQLException {
+            T value = getter.get(r, i, ctx.getConfig(JavaTimes.class).getZone());
+            return r.wasNull() ? null : value;
+        }
+    }
+
+    /**
+     * Reads through {@link ResultSet#getObject(int, Class)} if the statement uses JDBC 4.2 types, through the timestamp getter otherwise.
+     * A null result from {@code getObject} already means SQL NULL, so {@link ResultSet#wasNull()} is not consulted.
+     */
+    private static final class Jdbc42Mapper<T> implements ColumnMapper<T> {
+        private final ZonedColumnGetter<T> timestampGetter;
+        private final ZonedColumnGetter<T> jdbc42Getter;
+
+        Jdbc42Mapper(ColumnGetter<T> timestampGetter, ZonedColumnGetter<T> jdbc42Getter) {
+            this((r, i, z) -> timestampGetter.get(r, i), jdbc42Getter);
+        }
+
+        Jdbc42Mapper(ZonedColumnGetter<T> timestampGetter, ZonedColumnGetter<T> jdbc42Getter) {
+            this.timestampGetter = timestampGetter;
+            this.jdbc42Getter = jdbc42Getter;
+        }
+
+        @Override
+        public T map(ResultSet r, int i, StatementContext ctx) throws SQLException {
+            JavaTimes javaTimes = ctx.getConfig(JavaTimes.class);
+            if (javaTimes.isJdbc42(ctx)) {
+                return jdbc42Getter.get(r, i, javaTimes.getZone());
+            }
+            T value = timestampGetter.get(r, i, javaTimes.getZone());
+            return r.wasNull() ? null : value;
+        }
+    }
 }
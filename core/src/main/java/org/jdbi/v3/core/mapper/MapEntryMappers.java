@@ -13,6 +13,7 @@
  */
 package org.jdbi.v3.core.mapper;
 
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 
 /**
@@ -28,6 +29,12 @@ public class MapEntryMappers implements JdbiConfig<MapEntryMappers>, MapEntryCon
 
     private String keyColumn;
     private String valueColumn;
+    private ConfigRegistry registry;
+
+    @Override
+    public void setRegistry(ConfigRegistry registry) {
+        this.registry = registry;
+    }
 
     @Override
     public String getKeyColumn() {
@@ -45,7 +52,7 @@ public class MapEntryMappers implements JdbiConfig<MapEntryMappers>, MapEntryCon
     @Override
     public MapEntryMappers setKeyColumn(String keyColumn) {
         this.keyColumn = keyColumn;
-        return this;
+        return clearMappers();
     }
 
     @Override
@@ -64,6 +71,14 @@ public class MapEntryMappers implements JdbiConfig<MapEntryMappers>, MapEntryCon
     @Override
     public MapEntryMappers setValueColumn(String valueColumn) {
         this.valueColumn = valueColumn;
+        return clearMappers();
+    }
+
+    private MapEntryMappers clearMappers() {
+        if (registry != null) {
+            // map entry mappers are built for the key and value columns
+            registry.get(RowMappers.class).clearCache();
+        }
         return this;
     }
 
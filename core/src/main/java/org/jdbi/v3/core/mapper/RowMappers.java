@@ -15,15 +15,16 @@ package org.jdbi.v3.core.mapper;
 
 import java.lang.reflect.Type;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.interceptor.JdbiInterceptionChainHolder;
-import org.jdbi.v3.core.internal.CopyOnWriteHashMap;
 import org.jdbi.v3.core.mapper.reflect.internal.PojoMapperFactory;
 import org.jdbi.v3.core.statement.Query;
 import org.jdbi.v3.meta.Alpha;
@@ -36,14 +37,16 @@ public class RowMappers implements JdbiConfig<RowMappers> {
     private final JdbiInterceptionChainHolder<RowMapper<?>, RowMapperFactory> inferenceInterceptors;
 
     private final List<RowMapperFactory> factories;
-    private final Map<Type, Optional<RowMapper<?>>> cache;
+    // shared with all copies, which publish the mappers they build into it; replaced when mapper inputs change
+    private ConcurrentMap<Type, Optional<RowMapper<?>>> cache;
+    private final Set<RowMapper<?>> initialized = ConcurrentHashMap.newKeySet();
 
     private ConfigRegistry registry;
 
     public RowMappers() {
         inferenceInterceptors = new JdbiInterceptionChainHolder<>(InferredRowMapperFactory::new);
         factories = new CopyOnWriteArrayList<>();
-        cache = new CopyOnWriteHashMap<>();
+        cache = new ConcurrentHashMap<>();
         register(MapEntryMapper.factory());
         register(new PojoMapperFactory());
         register(new OptionalRowMapperFactory());
@@ -51,7 +54,7 @@ public class RowMappers implements JdbiConfig<RowMappers> {
 
     private RowMappers(RowMappers that) {
         factories = new CopyOnWriteArrayList<>(that.factories);
-        cache = new CopyOnWriteHashMap<>(that.cache);
+        cache = that.cache;
         inferenceInterceptors = new JdbiInterceptionChainHolder<>(that.inferenceInterceptors);
     }
 
@@ -121,7 +124,20 @@ public class RowMappers implements JdbiConfig<RowMappers> {
      */
     public RowMappers register(RowMapperFactory factory) {
         factories.add(0, factory);
-        cache.clear();
+        return clearCache();
+    }
+
+    /**
+     * Starts a new mapper cache for this config and the copies made from it afterwards. Copies that already exist, and
+     * the config this one was copied from, keep the cache they share. Configuration that row mapper factories read
+     * while building a mapper must call this method when it changes.
+     *
+     * @return this
+     */
+    @Alpha
+    public RowMappers clearCache() {
+        cache = new ConcurrentHashMap<>();
+        initialized.clear();
         return this;
     }
 
@@ -163,21 +179,32 @@ public class RowMappers implements JdbiConfig<RowMappers> {
         // See https://bugs.openjdk.java.net/browse/JDK-8062841, https://bugs.openjdk.java.net/browse/JDK-8142175
         Optional<RowMapper<?>> cached = cache.get(type);
 
-        if (cached != null) {
-            return cached;
+        if (cached == null) {
+            Optional<RowMapper<?>> built = build(type);
+            Optional<RowMapper<?>> existing = cache.putIfAbsent(type, built);
+            cached = existing == null ? built : existing;
         }
 
+        // mappers are shared by all copies but initialized once for every registry that uses them
+        cached.ifPresent(this::init);
+
+        return cached;
+    }
+
+    private void init(RowMapper<?> mapper) {
+        if (initialized.add(mapper)) {
+            mapper.init(registry);
+        }
+    }
+
+    private Optional<RowMapper<?>> build(Type type) {
         for (RowMapperFactory factory : factories) {
             Optional<RowMapper<?>> maybeMapper = factory.build(type, registry);
-            RowMapper<?> mapper = maybeMapper.orElse(null);
-            if (mapper != null) {
-                mapper.init(registry);
-                cache.put(type, maybeMapper);
+            if (maybeMapper.isPresent()) {
                 return maybeMapper;
             }
         }
 
-        cache.put(type, Optional.empty());
         return Optional.empty();
     }
 
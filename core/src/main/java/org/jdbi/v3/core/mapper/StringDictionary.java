@@ -0,0 +1,149 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * A bounded dictionary of canonical {@link String} instances, used to map {@link org.jdbi.v3.core.qualifier.Dedupe}
+ * qualified columns. Values are held weakly, so entries disappear once no mapped result refers to them any longer.
+ * The dictionary is split into segments by hash, each with its own lock. A full segment passes new values through
+ * unchanged instead of evicting entries, so that a high-cardinality column can not displace the values that repeat.
+ */
+@Alpha
+public final class StringDictionary {
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Map<String, WeakReference<String>>[] segments;
+    private final int[] maxSegmentSizes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a dictionary that holds up to {@code maxSize} distinct values.
+     *
+     * @param maxSize the maximum number of distinct values
+     */
+    @SuppressWarnings("unchecked")
+    public StringDictionary(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive, got " + maxSize);
+        }
+        // small dictionaries use fewer segments so that every segment can hold at least one value
+        final int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maxSize));
+        this.segments = new Map[segmentCount];
+        this.maxSegmentSizes = new int[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new WeakHashMap<>();
+            // spread the remainder so that the segment sizes add up to maxSize
+            maxSegmentSizes[i] = maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0);
+        }
+    }
+
+    /**
+     * Returns the canonical instance that is equal to the given value. The value itself becomes the canonical instance
+     * if the dictionary does not hold one yet and has room for it.
+     *
+     * @param value the value, may be null
+     * @return the canonical instance, or null for a null value
+     */
+    public String canonicalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        final int hash = value.hashCode();
+        final int index = (hash ^ (hash >>> 16)) & (segments.length - 1);
+        final Map<String, WeakReference<String>> segment = segments[index];
+        synchronized (segment) {
+            final WeakReference<String> reference = segment.get(value);
+            final String canonical = reference == null ? null : reference.get();
+            if (canonical != null) {
+                hits.increment();
+                return canonical;
+            }
+            misses.increment();
+            if (segment.size() < maxSegmentSizes[index]) {
+                segment.put(value, new WeakReference<>(value));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Returns the number of values that were replaced by a canonical instance.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of values that had no canonical instance yet.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the share of values that were replaced by a canonical instance, or 0 if no value was looked up.
+     *
+     * @return the hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        final long hitCount = getHitCount();
+        final long total = hitCount + getMissCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Returns the number of canonical instances currently held.
+     *
+     * @return the dictionary size
+     */
+    public int size() {
+        int size = 0;
+        for (Map<String, WeakReference<String>> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all canonical instances and resets the hit and miss counts.
+     */
+    public void clear() {
+        for (Map<String, WeakReference<String>> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "StringDictionary[size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "]";
+    }
+}
@@ -28,9 +28,30 @@ public abstract class AbstractSeparatorCharColumnNameMatcher implements ColumnNa
 
     @Override
     public boolean columnNameStartsWith(String columnName, String prefix) {
+        return doMatch(columnName, prefixPropertyName(prefix), true);
+    }
+
+    @Override
+    public String normalizedName(String name) {
+        final StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            // separators may be skipped or may line up with a '.' when matching
+            if (c != '.' && c != separatorChar) {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+        return key.toString();
+    }
+
+    @Override
+    public String normalizedPrefix(String prefix) {
+        return normalizedName(prefixPropertyName(prefix));
+    }
+
+    private static String prefixPropertyName(String prefix) {
         int dotIndex = prefix.lastIndexOf('.');
-        String propertyName = dotIndex == -1 ? prefix : prefix.substring(0, dotIndex);
-        return doMatch(columnName, propertyName, true);
+        return dotIndex == -1 ? prefix : prefix.substring(0, dotIndex);
     }
 
     private boolean doMatch(String columnName, String propertyName, boolean columnNameMayTrailCharacters) {
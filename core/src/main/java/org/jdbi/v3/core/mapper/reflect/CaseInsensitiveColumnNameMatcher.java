@@ -29,6 +29,24 @@ public final class CaseInsensitiveColumnNameMatcher implements ColumnNameMatcher
         return doMatch(columnName, prefix, true);
     }
 
+    @Override
+    public String normalizedName(String name) {
+        final StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            // prefix separators are skipped when matching
+            if (c != '.') {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+        return key.toString();
+    }
+
+    @Override
+    public String normalizedPrefix(String prefix) {
+        return normalizedName(prefix);
+    }
+
     private boolean doMatch(String columnName, String propertyName, boolean columnNameMayTrailCharacters) {
         int cPos = 0;
         int pPos = 0;
@@ -13,6 +13,10 @@
  */
 package org.jdbi.v3.core.mapper.reflect;
 
+import jakarta.annotation.Nullable;
+
+import org.jdbi.v3.meta.Alpha;
+
 /**
  * Strategy for matching SQL column names to Java property, field, or parameter names.
  */
@@ -43,4 +47,37 @@ public interface ColumnNameMatcher {
     default boolean columnNameStartsWith(String columnName, String prefix) {
         return columnName.startsWith(prefix);
     }
+
+    /**
+     * Returns a normalized key for a column name or a Java name. Reflective mappers index the columns of a result set
+     * by this key and call {@link #columnNameMatches(String, String)} only for the columns that have the same key as
+     * the Java name. A column name and a Java name that match must have the same key; names with the same key do not
+     * have to match.
+     * <br>
+     * By default, this method returns {@code null} and every column is tested.
+     *
+     * @param name a column name or a Java name
+     * @return the normalized key or {@code null} if this matcher does not support keys
+     */
+    @Alpha
+    @Nullable
+    default String normalizedName(String name) {
+        return null;
+    }
+
+    /**
+     * Returns the normalized key for a prefix. Reflective mappers call {@link #columnNameStartsWith(String, String)}
+     * only for the columns whose {@link #normalizedName(String) key} starts with this key, so every column name that
+     * starts with the prefix must have a key that starts with the key of the prefix.
+     * <br>
+     * By default, this method returns {@code null} and every column is tested.
+     *
+     * @param prefix the prefix
+     * @return the normalized key or {@code null} if this matcher does not support keys
+     */
+    @Alpha
+    @Nullable
+    default String normalizedPrefix(String prefix) {
+        return null;
+    }
 }
@@ -38,6 +38,7 @@ import org.jdbi.v3.core.mapper.PropagateNull;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.RowMapperFactory;
 import org.jdbi.v3.core.mapper.SingleColumnMapper;
+import org.jdbi.v3.core.mapper.reflect.internal.IndexedColumnNames;
 import org.jdbi.v3.core.mapper.reflect.internal.NullDelegatingMapper;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.qualifier.Qualifiers;
@@ -233,7 +234,7 @@ public final class ConstructorMapper<T> implements RowMapper<T> {
     @Override
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
         final UnaryOperator<String> caseChange = ctx.getConfig(ReflectionMappers.class).getCaseChange();
-        final List<String> columnNames = getColumnNames(rs, caseChange);
+        final List<String> columnNames = new IndexedColumnNames(getColumnNames(rs, caseChange));
         final List<ColumnNameMatcher> columnNameMatchers =
                 ctx.getConfig(ReflectionMappers.class).getColumnNameMatchers();
         final List<String> unmatchedColumns = new ArrayList<>(columnNames);
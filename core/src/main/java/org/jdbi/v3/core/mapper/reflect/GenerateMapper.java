@@ -0,0 +1,38 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.jdbi.v3.meta.Alpha;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Decorate a bean or a class mapped by its constructor (e.g. a record) to instruct the {@code jdbi3-generator}
+ * annotation processor to create a row mapper and bean properties for binding which call the constructor,
+ * setters and getters directly instead of using reflection.
+ * <p>
+ * The generated code is registered by a {@link org.jdbi.v3.core.spi.JdbiPlugin} named after the type with a
+ * {@code MapperPlugin} suffix, which is also listed for {@link org.jdbi.v3.core.Jdbi#installPlugins()}.
+ * A constructor annotated with {@link JdbiConstructor}, the canonical constructor of a record, a no-argument
+ * constructor with setters or the only constructor are used, in this order. {@link ColumnName} and
+ * {@code @Nullable} constructor parameters are respected; nested and qualified properties are not supported.
+ */
+@Alpha
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface GenerateMapper {}
@@ -25,6 +25,7 @@ import java.util.function.UnaryOperator;
 
 import org.jdbi.v3.core.internal.UtilityClassException;
 import org.jdbi.v3.core.mapper.CaseStrategy;
+import org.jdbi.v3.core.mapper.reflect.internal.IndexedColumnNames;
 
 /**
  * Utilities for reflective mappers. This is an internal helper class that should have been package private but as the mappers are spread across the reflect and
@@ -79,12 +80,16 @@ public final class ReflectionMapperUtil {
      * Attempts to find the index of a specified column's mapped parameter in a list of column names
      *
      * @param paramName          the name of the parameter to search for
-     * @param columnNames        list of column names to search in
+     * @param columnNames        list of column names to search in. An {@link IndexedColumnNames} list is searched by the keys of the matchers.
      * @param columnNameMatchers {@link ColumnNameMatcher}s to map {@code paramName} to the column names
      * @param debugName          name of the parameter to use for debugging purposes (ie: when throwing exceptions)
      * @return {@link OptionalInt} with the found index, {@link OptionalInt#empty()} otherwise.
      */
     public static OptionalInt findColumnIndex(String paramName, List<String> columnNames, List<ColumnNameMatcher> columnNameMatchers, Supplier<String> debugName) {
+        if (columnNames instanceof IndexedColumnNames) {
+            return ((IndexedColumnNames) columnNames).findColumnIndex(paramName, columnNameMatchers, debugName);
+        }
+
         OptionalInt result = OptionalInt.empty();
 
         for (int i = 0; i < columnNames.size(); i++) {
@@ -113,13 +118,17 @@ public final class ReflectionMapperUtil {
      * Returns whether any of the given column names begin with the given prefix, according to the list of column name
      * matchers.
      *
-     * @param columnNames the column names to search
+     * @param columnNames the column names to search. An {@link IndexedColumnNames} list is searched by the keys of the matchers.
      * @param prefix the prefix to search for
      * @param columnNameMatchers list of column name matchers
      * @return whether any of the column names begin with the prefix
      * @since 3.5.0
      */
     public static boolean anyColumnsStartWithPrefix(Collection<String> columnNames, String prefix, List<ColumnNameMatcher> columnNameMatchers) {
+        if (columnNames instanceof IndexedColumnNames) {
+            return ((IndexedColumnNames) columnNames).anyColumnStartsWithPrefix(prefix, columnNameMatchers);
+        }
+
         return columnNames.stream().anyMatch(
             columnName -> columnNameMatchers.stream().anyMatch(
                 matcher -> matcher.columnNameStartsWith(columnName, prefix)));
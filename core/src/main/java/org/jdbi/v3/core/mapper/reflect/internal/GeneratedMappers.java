@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect.internal;
+
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.jdbi.v3.core.internal.UtilityClassException;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.NoSuchMapperException;
+import org.jdbi.v3.core.mapper.reflect.ColumnNameMatcher;
+import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import static java.lang.String.format;
+
+import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.findColumnIndex;
+import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.getColumnNames;
+
+/**
+ * Support methods for the row mappers created by the {@code jdbi3-generator} annotation processor.
+ */
+public final class GeneratedMappers {
+    private GeneratedMappers() {
+        throw new UtilityClassException();
+    }
+
+    /**
+     * Matches properties to the columns of a result set, using the column name matchers of {@link ReflectionMappers}.
+     *
+     * @param rs       the result set
+     * @param ctx      the statement context
+     * @param type     the mapped type
+     * @param names    the column names of the properties
+     * @param required whether a property must have a column
+     * @return the column index (starting at 1) of each property, 0 for properties without a column
+     * @throws SQLException if the result set metadata can not be read
+     */
+    public static int[] findColumns(ResultSet rs, StatementContext ctx, Type type, String[] names, boolean[] required) throws SQLException {
+        final ReflectionMappers config = ctx.getConfig(ReflectionMappers.class);
+        final List<ColumnNameMatcher> matchers = config.getColumnNameMatchers();
+        final List<String> columnNames = new IndexedColumnNames(getColumnNames(rs, config.getCaseChange()));
+        final List<String> unmatchedColumns = new ArrayList<>(columnNames);
+        final List<String> unmatchedProperties = new ArrayList<>();
+        final int[] columns = new int[names.length];
+        boolean matched = false;
+
+        for (int i = 0; i < names.length; i++) {
+            final String name = names[i];
+            final OptionalInt index = findColumnIndex(name, columnNames, matchers, () -> type.getTypeName() + "." + name);
+            if (index.isPresent()) {
+                columns[i] = index.getAsInt() + 1;
+                unmatchedColumns.remove(columnNames.get(index.getAsInt()));
+                matched = true;
+            } else if (required[i]) {
+                unmatchedProperties.add(name);
+            }
+        }
+
+        if (!unmatchedProperties.isEmpty()) {
+            throw new IllegalArgumentException(format("Mapping %s found no matching columns for %s in result set", type.getTypeName(), unmatchedProperties));
+        }
+        if (!matched) {
+            throw new IllegalArgumentException(format("Mapping %s didn't find any matching columns in result set", type.getTypeName()));
+        }
+        if (config.isStrictMatching() && !unmatchedColumns.isEmpty()) {
+            throw new IllegalArgumentException(format("Mapping %s could not match properties for columns: %s", type.getTypeName(), unmatchedColumns));
+        }
+
+        return columns;
+    }
+
+    /**
+     * Returns the column mapper for a property.
+     *
+     * @param ctx      the statement context
+     * @param type     the property type
+     * @param property the property name
+     * @param <T>      the boxed property type
+     * @return the column mapper
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ColumnMapper<T> findColumnMapper(StatementContext ctx, Type type, String property) {
+        return (ColumnMapper<T>) ctx.findColumnMapperFor(QualifiedType.of(type))
+            .orElseThrow(() -> new NoSuchMapperException(format("Couldn't find mapper for property '%s' of type '%s'", property, type.getTypeName())));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.generic.GenericTypes;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+
+/**
+ * Bean properties with getters created by the {@code jdbi3-generator} annotation processor. Only used to bind arguments.
+ *
+ * @param <T> the bean type
+ */
+public final class GeneratedProperties<T> extends PojoProperties<T> {
+    private final Map<String, GeneratedProperty<T>> properties;
+
+    private GeneratedProperties(Type type, Map<String, GeneratedProperty<T>> properties) {
+        super(type);
+        this.properties = properties;
+    }
+
+    public static <T> Builder<T> builder(Type type) {
+        return new Builder<>(type);
+    }
+
+    @Override
+    public Map<String, GeneratedProperty<T>> getProperties() {
+        return properties;
+    }
+
+    @Override
+    public PojoBuilder<T> create() {
+        throw new UnsupportedOperationException("Generated properties of " + getType().getTypeName() + " only support binding");
+    }
+
+    public static final class Builder<T> {
+        private final Type type;
+        private final Map<String, GeneratedProperty<T>> properties = new LinkedHashMap<>();
+
+        private Builder(Type type) {
+            this.type = type;
+        }
+
+        public Builder<T> property(String name, Type propertyType, String getterName, Function<T, Object> getter) {
+            properties.put(name, new GeneratedProperty<>(GenericTypes.getErasedType(type), name, QualifiedType.of(propertyType), getterName, getter));
+            return this;
+        }
+
+        public GeneratedProperties<T> build() {
+            return new GeneratedProperties<>(type, Map.copyOf(properties));
+        }
+    }
+
+    static final class GeneratedProperty<T> implements PojoProperty<T> {
+        private final Class<?> beanClass;
+        private final String name;
+        private final QualifiedType<?> qualifiedType;
+        private final String getterName;
+        private final Function<T, Object> getter;
+        private final Map<Class<? extends Annotation>, Optional<? extends Annotation>> annoCache = new ConcurrentHashMap<>();
+
+        GeneratedProperty(Class<?> beanClass, String name, QualifiedType<?> qualifiedType, String getterName, Function<T, Object> getter) {
+            this.beanClass = beanClass;
+            this.name = name;
+            this.qualifiedType = qualifiedType;
+            this.getterName = getterName;
+            this.getter = getter;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public QualifiedType<?> getQualifiedType() {
+            return qualifiedType;
+        }
+
+        // the processor does not record annotations, so they are looked up on the setter and getter of the property
+        @Override
+        public <A extends Annotation> Optional<A> getAnnotation(Class<A> anno) {
+            return annoCache.computeIfAbsent(anno, x ->
+                            accessors().stream()
+                                    .map(m -> m.getAnnotation(anno))
+                                    .filter(Objects::nonNull)
+                                    .findFirst()
+                                    .map(Annotation.class::cast))
+                    .map(anno::cast);
+        }
+
+        private List<AnnotatedElement> accessors() {
+            final String setterName = "set" + name.substring(0, 1).toUpperCase(Locale.ROOT) + name.substring(1);
+            final List<AnnotatedElement> setters = new ArrayList<>();
+            final List<AnnotatedElement> getters = new ArrayList<>();
+            for (Class<?> c = beanClass; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Method method : c.getDeclaredMethods()) {
+                    if (method.getName().equals(setterName) && method.getParameterCount() == 1) {
+                        setters.add(method);
+                    } else if (method.getName().equals(getterName) && method.getParameterCount() == 0) {
+                        getters.add(method);
+                    }
+                }
+            }
+            setters.addAll(getters);
+            return setters;
+        }
+
+        @Override
+        public Object get(T pojo) {
+            return getter.apply(pojo);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect.internal;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+import org.jdbi.v3.core.mapper.reflect.ColumnNameMatcher;
+
+/**
+ * The column names of a result set, indexed by the {@link ColumnNameMatcher#normalizedName(String) normalized key} of
+ * every matcher that supports keys. Finding the column for a property tests only the columns with the same key
+ * instead of every column. The index for a matcher is built when it is used for the first time.
+ * <br>
+ * Instances are used while a mapper is specialized for a result set and are not thread safe.
+ */
+public final class IndexedColumnNames extends AbstractList<String> implements RandomAccess {
+    private final List<String> columnNames;
+    private final Map<ColumnNameMatcher, Index> indexes = new IdentityHashMap<>();
+
+    /**
+     * Creates an index for a list of column names. The list must not be modified afterwards.
+     *
+     * @param columnNames the column names of a result set
+     */
+    public IndexedColumnNames(List<String> columnNames) {
+        this.columnNames = columnNames;
+    }
+
+    @Override
+    public String get(int index) {
+        return columnNames.get(index);
+    }
+
+    @Override
+    public int size() {
+        return columnNames.size();
+    }
+
+    /**
+     * Returns the index of the column that matches a Java name.
+     *
+     * @param paramName          the Java name
+     * @param columnNameMatchers the matchers
+     * @param debugName          name of the parameter to use in exception messages
+     * @return the index of the matching column or empty if no column matches
+     * @throws IllegalArgumentException if more than one column matches
+     */
+    public OptionalInt findColumnIndex(String paramName, List<ColumnNameMatcher> columnNameMatchers, Supplier<String> debugName) {
+        final BitSet matches = new BitSet(columnNames.size());
+
+        for (ColumnNameMatcher matcher : columnNameMatchers) {
+            final Index index = index(matcher);
+            for (int i : index.columns(index.keyed ? matcher.normalizedName(paramName) : null)) {
+                if (!matches.get(i) && matcher.columnNameMatches(columnNames.get(i), paramName)) {
+                    matches.set(i);
+                }
+            }
+        }
+
+        final int first = matches.nextSetBit(0);
+        if (first < 0) {
+            return OptionalInt.empty();
+        }
+
+        final int second = matches.nextSetBit(first + 1);
+        if (second >= 0) {
+            throw new IllegalArgumentException(String.format(
+                "'%s' (%s) matches multiple columns: '%s' (%d) and '%s' (%d)",
+                debugName.get(), paramName,
+                columnNames.get(first), first,
+                columnNames.get(second), second));
+        }
+
+        return OptionalInt.of(first);
+    }
+
+    /**
+     * Returns whether any column begins with a prefix.
+     *
+     * @param prefix             the prefix
+     * @param columnNameMatchers the matchers
+     * @return whether any column name begins with the prefix
+     */
+    public boolean anyColumnStartsWithPrefix(String prefix, List<ColumnNameMatcher> columnNameMatchers) {
+        for (ColumnNameMatcher matcher : columnNameMatchers) {
+            final Index index = index(matcher);
+            final String prefixKey = index.keyed ? matcher.normalizedPrefix(prefix) : null;
+
+            if (prefixKey == null) {
+                for (String columnName : columnNames) {
+                    if (matcher.columnNameStartsWith(columnName, prefix)) {
+                        return true;
+                    }
+                }
+                continue;
+            }
+
+            int position = Arrays.binarySearch(index.sortedKeys, prefixKey);
+            if (position < 0) {
+                position = -position - 1;
+            }
+
+            for (; position < index.sortedKeys.length && index.sortedKeys[position].startsWith(prefixKey); position++) {
+                for (int i : index.columns(index.sortedKeys[position])) {
+                    if (matcher.columnNameStartsWith(columnNames.get(i), prefix)) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private Index index(ColumnNameMatcher matcher) {
+        return indexes.computeIfAbsent(matcher, m -> new Index(columnNames, m));
+    }
+
+    private static final class Index {
+        private static final int[] NONE = new int[0];
+
+        private final Map<String, int[]> columnsByKey = new HashMap<>();
+        private final int[] allColumns;
+        private final String[] sortedKeys;
+        private final boolean keyed;
+
+        Index(List<String> columnNames, ColumnNameMatcher matcher) {
+            allColumns = new int[columnNames.size()];
+            boolean allKeyed = true;
+            for (int i = 0; i < allColumns.length; i++) {
+                final int column = i;
+                final String key = matcher.normalizedName(columnNames.get(i));
+                if (key == null) {
+                    allKeyed = false;
+                    break;
+                }
+                columnsByKey.merge(key, new int[] {column}, (existing, added) -> {
+                    final int[] merged = Arrays.copyOf(existing, existing.length + 1);
+                    merged[existing.length] = column;
+                    return merged;
+                });
+            }
+            for (int i = 0; i < allColumns.length; i++) {
+                allColumns[i] = i;
+            }
+            keyed = allKeyed;
+            sortedKeys = columnsByKey.keySet().toArray(new String[0]);
+            Arrays.sort(sortedKeys);
+        }
+
+        // a matcher without keys has to test every column
+        @SuppressWarnings("PMD.MethodReturnsInternalArray")
+        int[] columns(String key) {
+            if (key == null) {
+                return allColumns;
+            }
+            return columnsByKey.getOrDefault(key, NONE);
+        }
+    }
+}
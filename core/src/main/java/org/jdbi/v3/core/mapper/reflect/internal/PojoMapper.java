@@ -73,7 +73,7 @@ public class PojoMapper<T> implements RowMapper<T> {
     @Override
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
         final UnaryOperator<String> caseChange = ctx.getConfig(ReflectionMappers.class).getCaseChange();
-        final List<String> columnNames = getColumnNames(rs, caseChange);
+        final List<String> columnNames = new IndexedColumnNames(getColumnNames(rs, caseChange));
         final List<ColumnNameMatcher> columnNameMatchers =
             ctx.getConfig(ReflectionMappers.class).getColumnNameMatchers();
         final List<String> unmatchedColumns = new ArrayList<>(columnNames);
@@ -21,17 +21,21 @@ import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.generic.GenericTypes;
 import org.jdbi.v3.core.internal.CopyOnWriteHashMap;
+import org.jdbi.v3.core.mapper.RowMappers;
 
 public class PojoTypes implements JdbiConfig<PojoTypes> {
     private final Map<Class<?>, PojoPropertiesFactory> factories;
+    private final Map<Class<?>, PojoPropertiesFactory> beanFactories;
     private ConfigRegistry registry;
 
     public PojoTypes() {
         factories = new CopyOnWriteHashMap<>();
+        beanFactories = new CopyOnWriteHashMap<>();
     }
 
     private PojoTypes(PojoTypes other) {
         factories = new CopyOnWriteHashMap<>(other.factories);
+        beanFactories = new CopyOnWriteHashMap<>(other.beanFactories);
     }
 
     @Override
@@ -41,6 +45,10 @@ public class PojoTypes implements JdbiConfig<PojoTypes> {
 
     public PojoTypes register(Class<?> key, PojoPropertiesFactory factory) {
         factories.put(key, factory);
+        if (registry != null) {
+            // pojo row mappers are built from the registered properties
+            registry.get(RowMappers.class).clearCache();
+        }
         return this;
     }
 
@@ -49,6 +57,19 @@ public class PojoTypes implements JdbiConfig<PojoTypes> {
                 .map(ppf -> ppf.create(type, registry));
     }
 
+    /**
+     * Registers the properties used instead of bean introspection when binding beans of the given type.
+     */
+    public PojoTypes registerBean(Class<?> key, PojoPropertiesFactory factory) {
+        beanFactories.put(key, factory);
+        return this;
+    }
+
+    public Optional<PojoProperties<?>> findBeanFor(Type type) {
+        return Optional.ofNullable(beanFactories.get(GenericTypes.getErasedType(type)))
+                .map(ppf -> ppf.create(type, registry));
+    }
+
     @Override
     public PojoTypes createCopy() {
         return new PojoTypes(this);
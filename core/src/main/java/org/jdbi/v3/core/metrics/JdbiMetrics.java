@@ -0,0 +1,254 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.metrics;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Configuration class for Jdbi metrics. Metrics are off unless at least one {@link MetricsCollector} is registered;
+ * while no collector is registered, Jdbi does not take any additional time measurements.
+ * <p>
+ * Statements are identified by a statement key. For statements executed through an extension (e.g. a SQL object), the key
+ * is the name of the extension type and the method (<code>Dao.findById</code>). All other statements use their raw SQL with
+ * whitespace collapsed, truncated to {@link #getMaxSqlKeyLength()} characters.
+ */
+@Alpha
+public final class JdbiMetrics implements JdbiConfig<JdbiMetrics> {
+
+    private static final int DEFAULT_MAX_SQL_KEY_LENGTH = 256;
+    private static final int MAX_CACHED_KEYS = 4_096;
+
+    private List<MetricsCollector> collectors;
+    private boolean phaseTimingEnabled;
+    private int maxSqlKeyLength;
+
+    // statement keys are a pure function of the sql / method, so the caches are shared between all copies.
+    private Map<String, String> sqlKeys;
+    private final Map<Method, String> methodKeys;
+
+    public JdbiMetrics() {
+        this.collectors = Collections.emptyList();
+        this.maxSqlKeyLength = DEFAULT_MAX_SQL_KEY_LENGTH;
+        this.sqlKeys = new ConcurrentHashMap<>();
+        this.methodKeys = new ConcurrentHashMap<>();
+    }
+
+    private JdbiMetrics(final JdbiMetrics that) {
+        this.collectors = that.collectors;
+        this.phaseTimingEnabled = that.phaseTimingEnabled;
+        this.maxSqlKeyLength = that.maxSqlKeyLength;
+        this.sqlKeys = that.sqlKeys;
+        this.methodKeys = that.methodKeys;
+    }
+
+    /**
+     * Registers a {@link MetricsCollector}. Only affects handles and statements that are created after the collector was added.
+     *
+     * @param collector the collector
+     * @return this
+     */
+    public JdbiMetrics addCollector(final MetricsCollector collector) {
+        final List<MetricsCollector> newCollectors = new ArrayList<>(collectors);
+        newCollectors.add(collector);
+        this.collectors = Collections.unmodifiableList(newCollectors);
+        return this;
+    }
+
+    /**
+     * Returns all registered collectors.
+     *
+     * @return an immutable list of collectors
+     */
+    public List<MetricsCollector> getCollectors() {
+        return collectors;
+    }
+
+    /**
+     * Returns true if at least one collector is registered.
+     *
+     * @return true if metrics are collected
+     */
+    public boolean isEnabled() {
+        return !collectors.isEmpty();
+    }
+
+    /**
+     * Returns true if Jdbi measures the time spent binding arguments and mapping rows. This is the case if metrics are
+     * collected or if phase timing was enabled explicitly, e.g. by a tracing plugin.
+     *
+     * @return true if binding and mapping times are measured
+     * @see org.jdbi.v3.core.statement.StatementContext#getBindingNanos()
+     * @see org.jdbi.v3.core.statement.StatementContext#getMappingNanos()
+     */
+    public boolean isPhaseTimingEnabled() {
+        return phaseTimingEnabled || isEnabled();
+    }
+
+    /**
+     * Measure the time spent binding arguments and mapping rows even if no collector is registered.
+     *
+     * @param phaseTimingEnabled true to measure binding and mapping times
+     * @return this
+     */
+    public JdbiMetrics setPhaseTimingEnabled(final boolean phaseTimingEnabled) {
+        this.phaseTimingEnabled = phaseTimingEnabled;
+        return this;
+    }
+
+    /**
+     * Returns the maximum length of a statement key that is derived from SQL.
+     *
+     * @return the maximum key length
+     */
+    public int getMaxSqlKeyLength() {
+        return maxSqlKeyLength;
+    }
+
+    /**
+     * Sets the maximum length of a statement key that is derived from SQL. Defaults to 256 characters.
+     *
+     * @param maxSqlKeyLength the maximum key length
+     * @return this
+     */
+    public JdbiMetrics setMaxSqlKeyLength(final int maxSqlKeyLength) {
+        if (maxSqlKeyLength < 1) {
+            throw new IllegalArgumentException("maxSqlKeyLength must be positive");
+        }
+        if (this.maxSqlKeyLength != maxSqlKeyLength) {
+            this.sqlKeys = new ConcurrentHashMap<>();
+            this.maxSqlKeyLength = maxSqlKeyLength;
+        }
+        return this;
+    }
+
+    /**
+     * Returns the statement key for a statement context.
+     *
+     * @param ctx the statement context
+     * @return the statement key
+     */
+    public String statementKey(final StatementContext ctx) {
+        final ExtensionMethod extensionMethod = ctx.getExtensionMethod();
+        if (extensionMethod != null) {
+            return methodKeys.computeIfAbsent(extensionMethod.getMethod(),
+                method -> method.getDeclaringClass().getSimpleName() + "." + method.getName());
+        }
+
+        final String rawSql = ctx.getRawSql();
+        if (rawSql == null) {
+            return ctx.describeJdbiStatementType();
+        }
+
+        final Map<String, String> keys = sqlKeys;
+        final String key = keys.get(rawSql);
+        if (key != null) {
+            return key;
+        }
+
+        final String normalized = normalizeSql(rawSql, maxSqlKeyLength);
+        if (keys.size() < MAX_CACHED_KEYS) {
+            keys.putIfAbsent(rawSql, normalized);
+        }
+        return normalized;
+    }
+
+    /**
+     * Reports the time spent opening a connection and a handle. Only intended for internal instrumentation to call.
+     *
+     * @param connectionNanos the time spent opening the connection
+     * @param handleNanos the time spent opening the handle
+     */
+    public void handleOpened(final long connectionNanos, final long handleNanos) {
+        for (MetricsCollector collector : collectors) {
+            collector.connectionOpened(connectionNanos);
+            collector.handleOpened(handleNanos);
+        }
+    }
+
+    /**
+     * Reports a completed statement. Only intended for internal instrumentation to call.
+     *
+     * @param ctx the statement context
+     */
+    public void statementCompleted(final StatementContext ctx) {
+        final List<MetricsCollector> currentCollectors = collectors;
+        if (currentCollectors.isEmpty()) {
+            return;
+        }
+        final String statementKey = statementKey(ctx);
+        for (MetricsCollector collector : currentCollectors) {
+            collector.statementCompleted(statementKey, ctx);
+        }
+    }
+
+    /**
+     * Reports a serialization failure. Only intended for internal instrumentation to call.
+     *
+     * @param attempt the number of the failed attempt
+     */
+    public void serializationFailure(final int attempt) {
+        for (MetricsCollector collector : collectors) {
+            collector.serializationFailure(attempt);
+        }
+    }
+
+    /**
+     * Reports a completed serializable transaction. Only intended for internal instrumentation to call.
+     *
+     * @param attempts the number of attempts
+     * @param elapsedNanos the time spent on all attempts
+     * @param committed true if the transaction committed
+     */
+    public void serializableTransactionCompleted(final int attempts, final long elapsedNanos, final boolean committed) {
+        for (MetricsCollector collector : collectors) {
+            collector.serializableTransactionCompleted(attempts, elapsedNanos, committed);
+        }
+    }
+
+    static String normalizeSql(final String sql, final int maxLength) {
+        final StringBuilder sb = new StringBuilder(Math.min(sql.length(), maxLength));
+        boolean whitespace = false;
+        for (int i = 0; i < sql.length() && sb.length() < maxLength; i++) {
+            final char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                whitespace = true;
+            } else {
+                if (whitespace && sb.length() > 0) {
+                    sb.append(' ');
+                }
+                whitespace = false;
+                sb.append(c);
+            }
+        }
+        if (sb.length() > maxLength) {
+            sb.setLength(maxLength);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public JdbiMetrics createCopy() {
+        return new JdbiMetrics(this);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * A {@link MetricsCollector} that keeps latency histograms in memory. Statement statistics are keyed by
+ * statement key; once the configured maximum number of keys is reached, all further statements are
+ * accumulated under {@link #OTHER_STATEMENTS}.
+ * <pre>
+ * JdbiMetricsRegistry registry = new JdbiMetricsRegistry();
+ * jdbi.getConfig(JdbiMetrics.class).addCollector(registry);
+ * </pre>
+ */
+@Alpha
+public final class JdbiMetricsRegistry implements MetricsCollector {
+
+    /** Key for statements that exceed the maximum number of tracked statements. */
+    public static final String OTHER_STATEMENTS = "<other>";
+
+    private static final int DEFAULT_MAX_STATEMENTS = 1_000;
+
+    private final int maxStatements;
+    private final LatencyHistogram connectionOpenTime = new LatencyHistogram();
+    private final LatencyHistogram handleOpenTime = new LatencyHistogram();
+    private final Map<String, StatementStatistics> statements = new ConcurrentHashMap<>();
+    private final StatementStatistics otherStatements = new StatementStatistics(OTHER_STATEMENTS);
+    private final TransactionStatistics serializableTransactions = new TransactionStatistics();
+
+    /**
+     * Creates a registry that tracks up to 1,000 distinct statements.
+     */
+    public JdbiMetricsRegistry() {
+        this(DEFAULT_MAX_STATEMENTS);
+    }
+
+    /**
+     * Creates a registry.
+     *
+     * @param maxStatements the maximum number of distinct statement keys to track
+     */
+    public JdbiMetricsRegistry(final int maxStatements) {
+        if (maxStatements < 1) {
+            throw new IllegalArgumentException("maxStatements must be positive");
+        }
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    public void connectionOpened(final long connectionNanos) {
+        connectionOpenTime.record(connectionNanos);
+    }
+
+    @Override
+    public void handleOpened(final long handleNanos) {
+        handleOpenTime.record(handleNanos);
+    }
+
+    @Override
+    public void statementCompleted(final String statementKey, final StatementContext ctx) {
+        statisticsFor(statementKey).record(ctx.getElapsedNanos(),
+            ctx.getBindingNanos(),
+            ctx.getMappingNanos(),
+            ctx.getMappedRows(),
+            ctx.isExecutionFailed());
+    }
+
+    @Override
+    public void serializationFailure(final int attempt) {
+        serializableTransactions.recordFailure();
+    }
+
+    @Override
+    public void serializableTransactionCompleted(final int attempts, final long elapsedNanos, final boolean committed) {
+        serializableTransactions.recordCompletion(attempts, elapsedNanos, committed);
+    }
+
+    private StatementStatistics statisticsFor(final String statementKey) {
+        final StatementStatistics statistics = statements.get(statementKey);
+        if (statistics != null) {
+            return statistics;
+        }
+        if (statements.size() >= maxStatements) {
+            return otherStatements;
+        }
+        return statements.computeIfAbsent(statementKey, StatementStatistics::new);
+    }
+
+    /**
+     * Returns the histogram of the time spent opening connections.
+     *
+     * @return the connection open time histogram
+     */
+    public LatencyHistogram getConnectionOpenTime() {
+        return connectionOpenTime;
+    }
+
+    /**
+     * Returns the histogram of the time spent opening handles, including opening the connection.
+     *
+     * @return the handle open time histogram
+     */
+    public LatencyHistogram getHandleOpenTime() {
+        return handleOpenTime;
+    }
+
+    /**
+     * Returns the statistics of transactions run by the {@link org.jdbi.v3.core.transaction.SerializableTransactionRunner}.
+     *
+     * @return the serializable transaction statistics
+     */
+    public TransactionStatistics getSerializableTransactions() {
+        return serializableTransactions;
+    }
+
+    /**
+     * Returns the statistics for a statement key.
+     *
+     * @param statementKey the statement key
+     * @return the statistics or empty if no statement with this key has been executed
+     */
+    public Optional<StatementStatistics> getStatement(final String statementKey) {
+        if (OTHER_STATEMENTS.equals(statementKey)) {
+            return Optional.of(otherStatements);
+        }
+        return Optional.ofNullable(statements.get(statementKey));
+    }
+
+    /**
+     * Returns the statistics for all tracked statements.
+     *
+     * @return an unmodifiable view of all statement statistics keyed by statement key
+     */
+    public Map<String, StatementStatistics> getStatements() {
+        return Collections.unmodifiableMap(statements);
+    }
+}
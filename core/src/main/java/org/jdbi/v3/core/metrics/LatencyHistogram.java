@@ -0,0 +1,168 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * A lock-free, fixed-size latency histogram with logarithmic buckets. Every power of two is split into
+ * {@value #SUB_BUCKET_COUNT} linear sub-buckets, so recorded values keep a relative precision of about 6%.
+ * Values are recorded in nanoseconds; values larger than about 9.7 hours are recorded in the highest bucket.
+ * <p>
+ * Recording never allocates and never blocks. Reading is not atomic with respect to concurrent recording; the returned values
+ * are a best effort snapshot.
+ */
+@Alpha
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HIGHEST_BIT = 44;
+    private static final int BUCKET_COUNT = (HIGHEST_BIT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+    private static final long HIGHEST_TRACKABLE_VALUE = (1L << (HIGHEST_BIT + 1)) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value.
+     *
+     * @param value the value in nanoseconds. Negative values are ignored.
+     */
+    public void record(final long value) {
+        if (value < 0) {
+            return;
+        }
+        counts.incrementAndGet(bucketIndex(Math.min(value, HIGHEST_TRACKABLE_VALUE)));
+        count.increment();
+        total.add(value);
+
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of all recorded values.
+     *
+     * @return the sum of all recorded values in nanoseconds
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the largest recorded value in nanoseconds
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean of all recorded values.
+     *
+     * @return the mean in nanoseconds or 0 if no value was recorded
+     */
+    public double getMean() {
+        final long c = getCount();
+        return c == 0 ? 0 : (double) getTotal() / c;
+    }
+
+    /**
+     * Returns the value at the given percentile. The value is the upper bound of the bucket that contains the percentile
+     * and never larger than {@link #getMax()}.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value in nanoseconds or 0 if no value was recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+
+        final long[] snapshot = new long[BUCKET_COUNT];
+        long snapshotCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            snapshotCount += snapshot[i];
+        }
+        if (snapshotCount == 0) {
+            return 0;
+        }
+
+        final long targetCount = Math.max(1, (long) Math.ceil(percentile / 100.0 * snapshotCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= targetCount) {
+                return Math.min(highestValueInBucket(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Resets all recorded values. Values recorded concurrently to a reset may be partially lost.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        total.reset();
+        max.set(0);
+    }
+
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueInBucket(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        final long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencyHistogram[count=%d, mean=%.0fns, p50=%dns, p99=%dns, max=%dns]",
+            getCount(), getMean(), getValueAtPercentile(50), getValueAtPercentile(99), getMax());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.metrics;
+
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Receives timing information from Jdbi. All times are in nanoseconds as measured by {@link System#nanoTime()}.
+ * <p>
+ * Collectors are called on the thread that performs the database operation and should return quickly.
+ *
+ * @see JdbiMetrics#addCollector(MetricsCollector)
+ */
+@Alpha
+public interface MetricsCollector {
+
+    /**
+     * Called after the {@link org.jdbi.v3.core.ConnectionFactory} returned a new connection.
+     *
+     * @param connectionNanos the time spent opening the connection
+     */
+    default void connectionOpened(long connectionNanos) {}
+
+    /**
+     * Called after a {@link org.jdbi.v3.core.Handle} was opened. This includes opening the connection and applying all
+     * plugin customizations.
+     *
+     * @param handleNanos the time spent opening the handle
+     */
+    default void handleOpened(long handleNanos) {}
+
+    /**
+     * Called once for every executed statement when its context is closed.
+     *
+     * @param statementKey a key describing the statement. Either the SQL object method or the normalized SQL
+     * @param ctx the statement context. Provides {@link StatementContext#getElapsedNanos()}, {@link StatementContext#getBindingNanos()},
+     *            {@link StatementContext#getMappingNanos()} and {@link StatementContext#getMappedRows()}
+     */
+    default void statementCompleted(String statementKey, StatementContext ctx) {}
+
+    /**
+     * Called by the {@link org.jdbi.v3.core.transaction.SerializableTransactionRunner} for every attempt of a transaction
+     * that failed with a serialization failure.
+     *
+     * @param attempt the number of the failed attempt, starting at 1
+     */
+    default void serializationFailure(int attempt) {}
+
+    /**
+     * Called by the {@link org.jdbi.v3.core.transaction.SerializableTransactionRunner} when a transaction has completed,
+     * either by committing or by giving up.
+     *
+     * @param attempts the number of attempts, including the last one
+     * @param elapsedNanos the time spent on all attempts, including waiting between retries
+     * @param committed true if the transaction committed, false if it failed
+     */
+    default void serializableTransactionCompleted(int attempts, long elapsedNanos, boolean committed) {}
+}
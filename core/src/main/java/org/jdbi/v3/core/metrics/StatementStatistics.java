@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Statistics for all executions of a statement, collected by the {@link JdbiMetricsRegistry}.
+ */
+@Alpha
+public final class StatementStatistics {
+
+    private final String statementKey;
+    private final LatencyHistogram executionTime = new LatencyHistogram();
+    private final LatencyHistogram bindingTime = new LatencyHistogram();
+    private final LatencyHistogram mappingTime = new LatencyHistogram();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder mappedRows = new LongAdder();
+
+    StatementStatistics(final String statementKey) {
+        this.statementKey = statementKey;
+    }
+
+    void record(final long executionNanos, final long bindingNanos, final long mappingNanos, final long rows, final boolean failed) {
+        executionTime.record(executionNanos);
+        bindingTime.record(bindingNanos);
+        mappingTime.record(mappingNanos);
+        mappedRows.add(rows);
+        if (failed) {
+            failures.increment();
+        }
+    }
+
+    /**
+     * Returns the key of the statement.
+     *
+     * @return the SQL object method or the normalized SQL of the statement
+     */
+    public String getStatementKey() {
+        return statementKey;
+    }
+
+    /**
+     * Returns the number of executions.
+     *
+     * @return the number of executions
+     */
+    public long getExecutions() {
+        return executionTime.getCount();
+    }
+
+    /**
+     * Returns the number of executions that failed with an exception.
+     *
+     * @return the number of failed executions
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Returns the total number of rows mapped from all results of this statement.
+     *
+     * @return the number of mapped rows
+     */
+    public long getMappedRows() {
+        return mappedRows.sum();
+    }
+
+    /**
+     * Returns the histogram of the time spent executing the statement in the database driver.
+     *
+     * @return the execution time histogram
+     */
+    public LatencyHistogram getExecutionTime() {
+        return executionTime;
+    }
+
+    /**
+     * Returns the histogram of the time spent binding arguments to the statement.
+     *
+     * @return the binding time histogram
+     */
+    public LatencyHistogram getBindingTime() {
+        return bindingTime;
+    }
+
+    /**
+     * Returns the histogram of the time spent mapping result rows.
+     *
+     * @return the mapping time histogram
+     */
+    public LatencyHistogram getMappingTime() {
+        return mappingTime;
+    }
+
+    @Override
+    public String toString() {
+        return "StatementStatistics[" + statementKey + ", executions=" + getExecutions() + ", failures=" + getFailures()
+            + ", mappedRows=" + getMappedRows() + ", executionTime=" + executionTime + "]";
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Statistics for transactions that are retried on serialization failures, collected by the {@link JdbiMetricsRegistry}.
+ *
+ * @see org.jdbi.v3.core.transaction.SerializableTransactionRunner
+ */
+@Alpha
+public final class TransactionStatistics {
+
+    private final LatencyHistogram transactionTime = new LatencyHistogram();
+    private final LatencyHistogram retriedTransactionTime = new LatencyHistogram();
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder serializationFailures = new LongAdder();
+    private final LongAdder aborted = new LongAdder();
+
+    TransactionStatistics() {}
+
+    void recordFailure() {
+        serializationFailures.increment();
+    }
+
+    void recordCompletion(final int transactionAttempts, final long elapsedNanos, final boolean committed) {
+        attempts.add(transactionAttempts);
+        transactionTime.record(elapsedNanos);
+        if (transactionAttempts > 1) {
+            retriedTransactionTime.record(elapsedNanos);
+        }
+        if (!committed) {
+            aborted.increment();
+        }
+    }
+
+    /**
+     * Returns the number of completed transactions, whether they committed or not.
+     *
+     * @return the number of transactions
+     */
+    public long getTransactions() {
+        return transactionTime.getCount();
+    }
+
+    /**
+     * Returns the number of transaction attempts, including retries.
+     *
+     * @return the number of attempts
+     */
+    public long getAttempts() {
+        return attempts.sum();
+    }
+
+    /**
+     * Returns the number of attempts that failed with a serialization failure.
+     *
+     * @return the number of serialization failures
+     */
+    public long getSerializationFailures() {
+        return serializationFailures.sum();
+    }
+
+    /**
+     * Returns the number of transactions that did not commit, either because they ran out of retries or failed with
+     * another exception.
+     *
+     * @return the number of aborted transactions
+     */
+    public long getAborted() {
+        return aborted.sum();
+    }
+
+    /**
+     * Returns the fraction of attempts that failed with a serialization failure.
+     *
+     * @return the conflict rate between 0 and 1
+     */
+    public double getConflictRate() {
+        final long total = getAttempts();
+        return total == 0 ? 0.0 : (double) getSerializationFailures() / total;
+    }
+
+    /**
+     * Returns the histogram of the time spent on transactions, including all retries and backoff.
+     *
+     * @return the transaction time histogram
+     */
+    public LatencyHistogram getTransactionTime() {
+        return transactionTime;
+    }
+
+    /**
+     * Returns the histogram of the time spent on transactions that needed at least one retry.
+     *
+     * @return the retried transaction time histogram
+     */
+    public LatencyHistogram getRetriedTransactionTime() {
+        return retriedTransactionTime;
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionStatistics[transactions=" + getTransactions() + ", attempts=" + getAttempts()
+            + ", serializationFailures=" + getSerializationFailures() + ", aborted=" + getAborted() + "]";
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Low overhead metrics about connections, handles and statements executed by Jdbi.
+ * <p>
+ * Collectors are registered with the {@link org.jdbi.v3.core.metrics.JdbiMetrics} configuration. The
+ * {@link org.jdbi.v3.core.metrics.JdbiMetricsRegistry} is a built-in collector that keeps latency histograms in memory.
+ */
+package org.jdbi.v3.core.metrics;
@@ -0,0 +1,33 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.qualifier;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Column mapper qualifier annotation, indicating that the annotated String element should be mapped to a canonical
+ * instance from the {@link org.jdbi.v3.core.mapper.StringDictionary} of the
+ * {@link org.jdbi.v3.core.mapper.ColumnMappers} configuration. Use it for low-cardinality columns like status,
+ * country or currency codes, so that large results share one instance per distinct value.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER, ElementType.TYPE})
+@Qualifier
+@Alpha
+public @interface Dedupe {}
@@ -0,0 +1,45 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * A {@link LinkedHashMapRowReducer} for results ordered by the map key. The reduced elements are
+ * streamed as soon as they are complete instead of being collected into a map first.
+ * <p>
+ * The result rows must be ordered (or at least grouped) by the key used in the
+ * {@link #accumulate(Object, RowView) accumulate} method. Once a row with a new key is accumulated,
+ * all elements for earlier keys are considered complete: they are emitted and removed from the map.
+ * Memory use is bounded by the largest element, not by the size of the result, and the first element
+ * is available as soon as its rows have been read.
+ * <p>
+ * If the rows are not grouped by key, an element may be emitted more than once, each time with only
+ * a part of its rows. When used with a method that does not stream (e.g. a {@link RowReducer} passed
+ * to other code), it behaves like a {@link LinkedHashMapRowReducer}.
+ *
+ * <pre>
+ * handle.createQuery("SELECT f.id f_id, f.name f_name, d.id d_id, d.name d_name "
+ *         + "FROM folders f LEFT JOIN documents d ON f.id = d.folder_id ORDER BY f.id")
+ *     .reduceRows((OrderedRowReducer&lt;Integer, Folder&gt;) (map, rowView) -&gt; { ... })
+ *     .forEach(exporter::write);
+ * </pre>
+ *
+ * @param <K> the map key type, usually the primary key of {@code <V>}
+ * @param <V> the map value type and result element type
+ * @see ResultBearing#reduceRows(RowReducer)
+ */
+@Alpha
+@FunctionalInterface
+public interface OrderedRowReducer<K, V> extends LinkedHashMapRowReducer<K, V> {}
@@ -36,6 +36,7 @@ import org.jdbi.v3.core.mapper.RowViewMapper;
 import org.jdbi.v3.core.mapper.SingleColumnMapper;
 import org.jdbi.v3.core.mapper.reflect.BeanMapper;
 import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.result.internal.OrderedRowReducerIterator;
 import org.jdbi.v3.core.result.internal.RowViewImpl;
 import org.jdbi.v3.core.statement.StatementContext;
 
@@ -217,6 +218,10 @@ public interface ResultBearing {
 
     /**
      * Reduce the result rows using the given row reducer.
+     * <p>
+     * An {@link OrderedRowReducer} returns a lazy stream which reads the result rows as its
+     * elements are consumed. The stream must be closed to release the database resources.
+     * Any other reducer reads all rows before the stream is returned.
      *
      * @param rowReducer the row reducer.
      * @param <C> Mutable result container type
@@ -224,7 +229,14 @@ public interface ResultBearing {
      * @return the stream of result elements
      * @see RowReducer
      */
+    @SuppressWarnings("unchecked")
     default <C, R> Stream<R> reduceRows(RowReducer<C, R> rowReducer) {
+        if (rowReducer instanceof OrderedRowReducer) {
+            final OrderedRowReducer<Object, R> orderedRowReducer = (OrderedRowReducer<Object, R>) rowReducer;
+            return scanResultSet((resultSetSupplier, context) ->
+                ResultIterable.of(new OrderedRowReducerIterator<>(resultSetSupplier, orderedRowReducer, context)).stream());
+        }
+
         return scanResultSet((resultSetSupplier, context) -> {
             try (StatementContext ctx = context) {
                 ResultSet resultSet = resultSetSupplier.get();
@@ -15,6 +15,7 @@ package org.jdbi.v3.core.result;
 
 import java.lang.reflect.Type;
 import java.sql.ResultSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +23,7 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -34,7 +36,9 @@ import java.util.stream.StreamSupport;
 
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.result.internal.PrefetchingResultIterator;
 import org.jdbi.v3.core.result.internal.ResultSetResultIterable;
+import org.jdbi.v3.core.result.internal.SpillingList;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.meta.Alpha;
 
@@ -128,6 +132,47 @@ public interface ResultIterable<T> extends Iterable<T> {
         };
     }
 
+    /**
+     * Returns a {@code ResultIterable<T>} that reads and maps the results on a separate thread while
+     * the caller consumes them. Up to {@code bufferSize} mapped results are read ahead, so fetching rows from the
+     * database and mapping them overlaps with the work the caller does for each result.
+     * <br>
+     * The statement is executed on the calling thread; each iteration starts a new daemon thread for reading.
+     * Closing the iterator or stream stops the reading thread and releases the database resources.
+     * <br>
+     * The reading thread uses the handle's connection concurrently with the calling thread. Do not run other
+     * statements on the same handle until the results are consumed or closed unless the JDBC driver supports
+     * concurrent use of a connection.
+     *
+     * @param bufferSize the maximum number of results read ahead
+     * @return the new result iterable
+     */
+    @Alpha
+    default ResultIterable<T> prefetch(int bufferSize) {
+        return prefetch(bufferSize, PrefetchingResultIterator.DAEMON_THREADS);
+    }
+
+    /**
+     * Returns a {@code ResultIterable<T>} that reads and maps the results on a thread of the given executor while
+     * the caller consumes them. Up to {@code bufferSize} mapped results are read ahead.
+     * <br>
+     * The executor must run each task on its own thread without waiting for the caller; a task
+     * runs until all results are read or the iterator is closed.
+     *
+     * @param bufferSize the maximum number of results read ahead
+     * @param executor   runs the thread reading the results
+     * @return the new result iterable
+     * @see #prefetch(int)
+     */
+    @Alpha
+    default ResultIterable<T> prefetch(int bufferSize, Executor executor) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be at least 1");
+        }
+        Objects.requireNonNull(executor, "executor is null");
+        return () -> new PrefetchingResultIterator<>(iterator(), bufferSize, executor);
+    }
+
     @Override
     default void forEach(Consumer<? super T> action) {
         forEachWithCount(action);
@@ -307,12 +352,24 @@ public interface ResultIterable<T> extends Iterable<T> {
      * by {@link Collectors#toList()}. The same limitations apply to the list instance returned from this method.
      * If more control over the list type is required, use {@link #toCollection(Supplier)} or see the {@link #collectIntoList()} method.
      *
+     * <br>
+     * If {@link ResultSpilling} is enabled, rows beyond its limit are written to disk and the returned
+     * list is read only. Rows read back from disk are new objects on every access.
+     *
      * @return results in a {@link List}
      * @see ResultIterable#collectIntoList()
      * @see ResultIterable#toCollection(Supplier)
      */
     default List<T> list() {
-        return collect(Collectors.toList());
+        try (ResultIterator<T> iterator = iterator()) {
+            final StatementContext ctx = iterator.getContext();
+            if (ctx != null && ctx.getConfig(ResultSpilling.class).isEnabled()) {
+                return SpillingList.collect(iterator, ctx);
+            }
+            final List<T> result = new ArrayList<>();
+            iterator.forEachRemaining(result::add);
+            return result;
+        }
     }
 
     /**
@@ -0,0 +1,166 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+
+import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.internal.CopyOnWriteHashMap;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Limits the number of rows {@link ResultIterable#list()} keeps on the heap.
+ * <p>
+ * When enabled, the first {@link #getMaxRowsInMemory()} rows are kept in memory and all further rows are
+ * written to a temporary file with the {@link RowCodec} registered for the class of each row, or for its closest superclass or interface.
+ * Rows without a registered codec are written with Java serialization and must implement {@link Serializable}; the codecs are
+ * checked for all rows, so rows that can not be spilled fail even if the result stays below the limit.
+ * <p>
+ * The returned list reads the spilled rows back from a memory mapped view of the file when they are accessed. Each access
+ * decodes the row again, so the list returns equal but not identical objects for the same spilled row and changes to
+ * them are lost. The list is read only; the temporary file is removed once it is mapped, or when the JVM exits on platforms
+ * which do not allow removing mapped files.
+ */
+@Alpha
+public class ResultSpilling implements JdbiConfig<ResultSpilling> {
+    private final Map<Class<?>, RowCodec<?>> codecs;
+    private int maxRowsInMemory;
+    private Path tempDirectory;
+
+    public ResultSpilling() {
+        this.codecs = new CopyOnWriteHashMap<>();
+        this.maxRowsInMemory = 0;
+    }
+
+    private ResultSpilling(ResultSpilling that) {
+        this.codecs = new CopyOnWriteHashMap<>(that.codecs);
+        this.maxRowsInMemory = that.maxRowsInMemory;
+        this.tempDirectory = that.tempDirectory;
+    }
+
+    /**
+     * Returns true if results are spilled to disk.
+     *
+     * @return true if {@link #getMaxRowsInMemory()} is positive
+     */
+    public boolean isEnabled() {
+        return maxRowsInMemory > 0;
+    }
+
+    /**
+     * Returns the number of rows kept on the heap before further rows are spilled to disk.
+     *
+     * @return the maximum number of rows in memory, 0 if spilling is disabled
+     */
+    public int getMaxRowsInMemory() {
+        return maxRowsInMemory;
+    }
+
+    /**
+     * Sets the number of rows kept on the heap before further rows are spilled to disk. 0 disables spilling,
+     * which is the default.
+     *
+     * @param maxRowsInMemory the maximum number of rows in memory
+     * @return this
+     */
+    public ResultSpilling setMaxRowsInMemory(int maxRowsInMemory) {
+        if (maxRowsInMemory < 0) {
+            throw new IllegalArgumentException("maxRowsInMemory must not be negative");
+        }
+        this.maxRowsInMemory = maxRowsInMemory;
+        return this;
+    }
+
+    /**
+     * Returns the directory for the temporary files.
+     *
+     * @return the directory, or null for the default temporary directory
+     */
+    public Path getTempDirectory() {
+        return tempDirectory;
+    }
+
+    /**
+     * Sets the directory for the temporary files.
+     *
+     * @param tempDirectory the directory, or null for the default temporary directory
+     * @return this
+     */
+    public ResultSpilling setTempDirectory(Path tempDirectory) {
+        this.tempDirectory = tempDirectory;
+        return this;
+    }
+
+    /**
+     * Registers a codec for rows of the given type.
+     *
+     * @param type  the row type
+     * @param codec the codec
+     * @param <T>   the row type
+     * @return this
+     */
+    public <T> ResultSpilling registerCodec(Class<T> type, RowCodec<T> codec) {
+        codecs.put(type, codec);
+        return this;
+    }
+
+    /**
+     * Returns the codec for rows of the given type. If no codec is registered for the type itself, the codec of its closest
+     * superclass is used, then the codec of its closest interface, then Java serialization if the type implements
+     * {@link Serializable}.
+     *
+     * @param type the row type
+     * @param <T>  the row type
+     * @return the codec
+     * @throws IllegalArgumentException if no codec is registered and the type does not implement {@link Serializable}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> RowCodec<T> findCodec(Class<T> type) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            final RowCodec<?> codec = codecs.get(c);
+            if (codec != null) {
+                return (RowCodec<T>) codec;
+            }
+        }
+
+        // breadth first, so the interfaces closest to the type win
+        final Deque<Class<?>> interfaces = new ArrayDeque<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            interfaces.addAll(Arrays.asList(c.getInterfaces()));
+        }
+        while (!interfaces.isEmpty()) {
+            final Class<?> c = interfaces.poll();
+            final RowCodec<?> codec = codecs.get(c);
+            if (codec != null) {
+                return (RowCodec<T>) codec;
+            }
+            interfaces.addAll(Arrays.asList(c.getInterfaces()));
+        }
+
+        if (!Serializable.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException("No RowCodec registered for " + type.getName() + ", which does not implement Serializable");
+        }
+        return RowCodec.serializable();
+    }
+
+    @Override
+    public ResultSpilling createCopy() {
+        return new ResultSpilling(this);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Writes result rows to and reads them from a binary representation. Used by {@link ResultSpilling}
+ * to move rows out of the heap.
+ *
+ * @param <T> the row type
+ */
+@Alpha
+public interface RowCodec<T> {
+    /**
+     * Writes a row.
+     *
+     * @param out the output to write to
+     * @param row the row, may be null
+     * @throws IOException if the row can not be written
+     */
+    void write(DataOutput out, T row) throws IOException;
+
+    /**
+     * Reads a row written by {@link #write(DataOutput, Object)}.
+     *
+     * @param in the input to read from
+     * @return the row
+     * @throws IOException if the row can not be read
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Returns a codec using Java serialization. The rows must implement {@link java.io.Serializable}.
+     *
+     * @param <T> the row type
+     * @return a codec using Java serialization
+     */
+    @SuppressWarnings("unchecked")
+    static <T> RowCodec<T> serializable() {
+        return new RowCodec<>() {
+            @Override
+            public void write(DataOutput out, T row) throws IOException {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+                    oos.writeObject(row);
+                }
+                out.writeInt(bytes.size());
+                out.write(bytes.toByteArray());
+            }
+
+            @Override
+            public T read(DataInput in) throws IOException {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    return (T) ois.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw (IOException) new InvalidClassException(e.getMessage()).initCause(e);
+                }
+            }
+        };
+    }
+}
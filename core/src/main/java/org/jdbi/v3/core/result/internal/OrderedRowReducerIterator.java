@@ -0,0 +1,132 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import org.jdbi.v3.core.result.OrderedRowReducer;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.result.ResultSetException;
+import org.jdbi.v3.core.result.RowView;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Reduces the rows of a result set with an {@link OrderedRowReducer}, returning each element as soon
+ * as a row for a different key has been accumulated.
+ */
+public final class OrderedRowReducerIterator<K, V> implements ResultIterator<V> {
+    private final OrderedRowReducer<K, V> reducer;
+    private final StatementContext context;
+    private final ResultSet resultSet;
+    private final RowView rowView;
+    private final Map<K, V> container;
+
+    private boolean exhausted;
+    private boolean closed;
+    private boolean hasNext;
+    private V next;
+
+    public OrderedRowReducerIterator(Supplier<ResultSet> resultSetSupplier,
+                                     OrderedRowReducer<K, V> reducer,
+                                     StatementContext context) {
+        this.reducer = reducer;
+        this.context = context;
+        try {
+            this.resultSet = resultSetSupplier.get();
+        } catch (RuntimeException e) {
+            context.close();
+            throw e;
+        }
+        this.container = reducer.container();
+
+        if (resultSet != null) {
+            context.addCleanable(resultSet::close);
+            this.rowView = new RowViewImpl(resultSet, context);
+        } else {
+            this.rowView = null;
+            close();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+
+        if (!hasNext) {
+            hasNext = advance();
+            if (!hasNext) {
+                close();
+            }
+        }
+
+        return hasNext;
+    }
+
+    @Override
+    public V next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No element to advance to");
+        }
+
+        final V result = next;
+        hasNext = false;
+        next = null;
+        return result;
+    }
+
+    private boolean advance() {
+        try {
+            while (!exhausted) {
+                if (!resultSet.next()) {
+                    exhausted = true;
+                    break;
+                }
+                reducer.accumulate(container, rowView);
+                // a second key means that all rows of the first one have been seen
+                if (container.size() > 1) {
+                    return takeFirst();
+                }
+            }
+        } catch (SQLException e) {
+            throw new ResultSetException("Exception thrown reducing result set", e, context);
+        }
+
+        return !container.isEmpty() && takeFirst();
+    }
+
+    private boolean takeFirst() {
+        final Iterator<V> values = container.values().iterator();
+        next = values.next();
+        values.remove();
+        return true;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        context.close();
+    }
+
+    @Override
+    public StatementContext getContext() {
+        return context;
+    }
+}
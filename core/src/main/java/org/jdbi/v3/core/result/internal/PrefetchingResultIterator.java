@@ -0,0 +1,203 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Reads and maps the results of a delegate iterator on a separate thread into a bounded buffer.
+ * The delegate is only ever used by the reading thread, which also closes it. Closing this iterator
+ * or its statement context stops the reading thread and waits for it to release the delegate.
+ * <br>
+ * While results are read ahead, the reading thread uses the handle's connection concurrently with
+ * any other work done on the handle. Callers should not run other statements on the handle until
+ * the iterator is exhausted or closed unless the JDBC driver supports concurrent use of a connection.
+ */
+public final class PrefetchingResultIterator<T> implements ResultIterator<T> {
+    /** Runs each reader on a new daemon thread. */
+    public static final Executor DAEMON_THREADS = task -> {
+        final Thread thread = new Thread(task, "jdbi-prefetch");
+        thread.setDaemon(true);
+        thread.start();
+    };
+
+    private static final Object END = new Object();
+    private static final Object NULL = new Object();
+    private static final long POLL_MILLIS = 100;
+
+    private final ResultIterator<T> delegate;
+    private final BlockingQueue<Object> buffer;
+    private final CountDownLatch done = new CountDownLatch(1);
+    private final Object endLock = new Object();
+
+    private volatile boolean cancelled;
+    private volatile Thread reader;
+    private volatile boolean closed;
+    private Object next;
+
+    public PrefetchingResultIterator(ResultIterator<T> delegate, int bufferSize, Executor executor) {
+        this.delegate = delegate;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+
+        delegate.getContext().addCleanable(this::cancel);
+        try {
+            executor.execute(this::read);
+        } catch (RuntimeException e) {
+            done.countDown();
+            delegate.close();
+            throw e;
+        }
+    }
+
+    private void read() {
+        reader = Thread.currentThread();
+        try {
+            try (ResultIterator<T> results = delegate) {
+                while (!cancelled && results.hasNext()) {
+                    final T value = results.next();
+                    put(value == null ? NULL : value);
+                }
+                put(END);
+            } catch (Throwable t) {
+                put(new Failure(t));
+            }
+        } finally {
+            done.countDown();
+        }
+    }
+
+    private void put(Object value) {
+        try {
+            while (!cancelled) {
+                if (buffer.offer(value, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelled = true;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+
+        if (next == null) {
+            next = take();
+        }
+
+        if (next == END) {
+            close();
+            return false;
+        }
+
+        if (next instanceof Failure) {
+            close();
+            throw Sneaky.throwAnyway(((Failure) next).cause);
+        }
+
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No element to advance to");
+        }
+
+        final Object value = next;
+        next = null;
+        return value == NULL ? null : (T) value;
+    }
+
+    private Object take() {
+        try {
+            return buffer.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Failure(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        cancel();
+        delegate.getContext().close();
+    }
+
+    private void cancel() {
+        // the delegate closes the statement context on the reading thread once it is exhausted
+        if (Thread.currentThread().equals(reader)) {
+            return;
+        }
+
+        cancelled = true;
+        buffer.clear();
+        awaitReader();
+
+        // the reader stops without queueing anything once cancelled, so wake up a consumer blocked in take()
+        queueEnd();
+    }
+
+    private void queueEnd() {
+        // a concurrent cancel may queue END as well, so clear and add atomically
+        synchronized (endLock) {
+            buffer.clear();
+            buffer.add(END);
+        }
+    }
+
+    private void awaitReader() {
+        // the statement context must stay open until the reader no longer uses the result set
+        boolean interrupted = false;
+        while (true) {
+            try {
+                done.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public StatementContext getContext() {
+        return delegate.getContext();
+    }
+
+    private static final class Failure {
+        private final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.function.Supplier;
 
 import org.jdbi.v3.core.internal.exceptions.Sneaky;
 import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.metrics.JdbiMetrics;
 import org.jdbi.v3.core.result.ResultIterator;
 import org.jdbi.v3.core.result.ResultSetException;
 import org.jdbi.v3.core.statement.StatementContext;
@@ -33,6 +34,7 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
     private final StatementContext context;
 
     private final AtomicLong mappedRows = new AtomicLong();
+    private final boolean timed;
 
     private volatile boolean alreadyAdvanced = false;
     private volatile boolean hasNext = false;
@@ -43,6 +45,7 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
         StatementContext context) throws SQLException {
 
         this.context = context;
+        this.timed = context.getConfig(JdbiMetrics.class).isPhaseTimingEnabled();
 
         if (resultSetSupplier instanceof ResultSetSupplier) {
             this.resultSetSupplier = (ResultSetSupplier) resultSetSupplier;
@@ -102,11 +105,15 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
 
         mappedRows.incrementAndGet();
 
+        final long mappingStart = timed ? System.nanoTime() : 0;
         try {
             return rowMapper.map(resultSet, context);
         } catch (SQLException e) {
             throw new ResultSetException("Exception thrown mapping result set into return type", e, context);
         } finally {
+            if (timed) {
+                context.addMappingNanos(System.nanoTime() - mappingStart);
+            }
             alreadyAdvanced = safeNext();
             if (!alreadyAdvanced) {
                 close();
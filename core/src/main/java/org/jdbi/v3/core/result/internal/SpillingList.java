@@ -0,0 +1,252 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.result.ResultSetException;
+import org.jdbi.v3.core.result.ResultSpilling;
+import org.jdbi.v3.core.result.RowCodec;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * A read only list that keeps its first elements on the heap and reads the others from a memory mapped file.
+ * Spilled elements are decoded on every access, so each call to {@link #get(int)} returns a new instance for them.
+ */
+public final class SpillingList<T> extends AbstractList<T> implements RandomAccess {
+    private static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+    private static final int NULL_ROW = -1;
+
+    private final List<T> inMemory;
+    private final List<RowCodec<T>> codecs;
+    // index into codecs of every spilled row, or NULL_ROW
+    private final int[] rowCodecs;
+    // start offset of every spilled row, followed by the end of the last row
+    private final long[] offsets;
+    private final int spilled;
+    // first row index and file offset of each mapped segment
+    private final int[] segmentRows;
+    private final long[] segmentOffsets;
+    private final MappedByteBuffer[] segments;
+
+    private SpillingList(List<T> inMemory, List<RowCodec<T>> codecs, int[] rowCodecs, long[] offsets, int spilled, FileChannel channel)
+            throws IOException {
+        this.inMemory = inMemory;
+        this.codecs = codecs;
+        this.rowCodecs = rowCodecs;
+        this.offsets = offsets;
+        this.spilled = spilled;
+
+        final List<Integer> rows = new ArrayList<>();
+        for (int row = 0; row < spilled; row++) {
+            if (rows.isEmpty() || offsets[row + 1] - offsets[rows.get(rows.size() - 1)] > MAX_SEGMENT_SIZE) {
+                rows.add(row);
+            }
+        }
+
+        this.segmentRows = rows.stream().mapToInt(Integer::intValue).toArray();
+        this.segmentOffsets = new long[segmentRows.length];
+        this.segments = new MappedByteBuffer[segmentRows.length];
+        for (int i = 0; i < segmentRows.length; i++) {
+            final long start = offsets[segmentRows[i]];
+            final long end = i + 1 < segmentRows.length ? offsets[segmentRows[i + 1]] : offsets[spilled];
+            segmentOffsets[i] = start;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        }
+    }
+
+    /**
+     * Collects the remaining rows of an iterator, spilling all rows beyond the configured limit to disk.
+     *
+     * @param rows the rows to collect
+     * @param ctx  the statement context of the rows
+     * @param <T>  the row type
+     * @return a list of all rows
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> collect(Iterator<T> rows, StatementContext ctx) {
+        final ResultSpilling spilling = ctx.getConfig(ResultSpilling.class);
+
+        // rows may be of different subclasses, so every row is written with the codec for its own class. The codecs are
+        // looked up for the rows kept in memory as well, so rows that can not be spilled fail regardless of the result size.
+        final List<RowCodec<T>> codecs = new ArrayList<>();
+        final Map<Class<?>, Integer> codecIndexes = new HashMap<>();
+        final Function<T, Integer> codecIndex = row -> codecIndexes.computeIfAbsent(row.getClass(), type -> {
+            codecs.add(spilling.findCodec((Class<T>) type));
+            return codecs.size() - 1;
+        });
+
+        final List<T> inMemory = new ArrayList<>();
+        while (inMemory.size() < spilling.getMaxRowsInMemory() && rows.hasNext()) {
+            final T row = rows.next();
+            if (row != null) {
+                codecIndex.apply(row);
+            }
+            inMemory.add(row);
+        }
+
+        if (!rows.hasNext()) {
+            return inMemory;
+        }
+
+        Path file = null;
+        try {
+            file = spilling.getTempDirectory() == null
+                ? Files.createTempFile("jdbi-results", ".spill")
+                : Files.createTempFile(spilling.getTempDirectory(), "jdbi-results", ".spill");
+
+            long[] offsets = new long[1024];
+            int[] rowCodecs = new int[offsets.length];
+            int spilled = 0;
+            try (CountingOutputStream counter = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+                 DataOutputStream out = new DataOutputStream(counter)) {
+                while (rows.hasNext()) {
+                    final T row = rows.next();
+                    if (spilled + 1 >= offsets.length) {
+                        offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                        rowCodecs = Arrays.copyOf(rowCodecs, offsets.length);
+                    }
+                    offsets[spilled] = counter.count;
+                    if (row == null) {
+                        rowCodecs[spilled] = NULL_ROW;
+                    } else {
+                        final int codec = codecIndex.apply(row);
+                        rowCodecs[spilled] = codec;
+                        codecs.get(codec).write(out, row);
+                        out.flush();
+                    }
+                    spilled++;
+                }
+                offsets[spilled] = counter.count;
+            }
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return new SpillingList<>(inMemory, codecs, rowCodecs, offsets, spilled, channel);
+            }
+        } catch (IOException e) {
+            throw new ResultSetException("Unable to spill results to disk", e, ctx);
+        } finally {
+            if (file != null) {
+                deleteOrDeleteOnExit(file);
+            }
+        }
+    }
+
+    private static void deleteOrDeleteOnExit(Path file) {
+        try {
+            // mapped segments stay readable after the file is removed
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < inMemory.size()) {
+            return inMemory.get(index);
+        }
+
+        final int row = index - inMemory.size();
+        if (row >= spilled) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (rowCodecs[row] == NULL_ROW) {
+            return null;
+        }
+
+        int segment = Arrays.binarySearch(segmentRows, row);
+        if (segment < 0) {
+            segment = -segment - 2;
+        }
+
+        final ByteBuffer buffer = segments[segment].duplicate();
+        buffer.position((int) (offsets[row] - segmentOffsets[segment]));
+        buffer.limit((int) (offsets[row + 1] - segmentOffsets[segment]));
+        try {
+            return codecs.get(rowCodecs[row]).read(new DataInputStream(new ByteBufferInputStream(buffer)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read spilled result row " + index, e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return inMemory.size() + spilled;
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+    }
+}
@@ -46,7 +46,9 @@ import org.jdbi.v3.core.statement.internal.PreparedBinding;
 import static java.lang.String.format;
 
 class ArgumentBinder {
-    final PreparedStatement stmt;
+    PreparedStatement stmt;
+    // position of the first parameter of the binding, used to bind several rows into a multi-row insert
+    int parameterOffset;
     final StatementContext ctx;
     final ParsedParameters params;
     final Map<QualifiedType<?>, Function<Object, Argument>> argumentFactoryByType = new HashMap<>();
@@ -78,7 +80,7 @@ class ArgumentBinder {
             try {
                 argumentFactoryForType(type)
                     .apply(unwrap(binding.positionals.get(index)))
-                    .apply(index + 1, stmt, ctx);
+                    .apply(parameterOffset + index + 1, stmt, ctx);
             } catch (SQLException e) {
                 throw new UnableToCreateStatementException("Exception while binding positional param at (0 based) position " + index, e, ctx);
             }
@@ -101,13 +103,13 @@ class ArgumentBinder {
                 if (value == null) {
                     if (binding.named.containsKey(name)) {
                         // bind a null for the given name
-                        nullArgument.apply(i + 1, stmt, ctx);
+                        nullArgument.apply(parameterOffset + i + 1, stmt, ctx);
                     } else {
                         // binding was not set, look through the named argument finders
                         for (NamedArgumentFinder naf : binding.namedArgumentFinder) {
                             Optional<Argument> found = naf.find(name, ctx);
                             if (found.isPresent()) {
-                                found.get().apply(i + 1, stmt, ctx);
+                                found.get().apply(parameterOffset + i + 1, stmt, ctx);
                                 continue assignNames;
                             }
                         }
@@ -115,12 +117,12 @@ class ArgumentBinder {
                     }
                 } else {
                     if (value instanceof Argument) {
-                        ((Argument) value).apply(i + 1, stmt, ctx);
+                        ((Argument) value).apply(parameterOffset + i + 1, stmt, ctx);
                     } else {
                         // value set, find an argument factory and assign the value
                         argumentFactoryForType(typeOf(value))
                             .apply(unwrap(value))
-                            .apply(i + 1, stmt, ctx);
+                            .apply(parameterOffset + i + 1, stmt, ctx);
                     }
                 }
             } catch (SQLException e) {
@@ -238,7 +240,7 @@ class ArgumentBinder {
                         innerBinders.add(wrapCheckedConsumer(name,
                             binding -> p.getValue()
                                 .apply(binding.prepareKeys.get(p.getKey()))
-                                .apply(index + 1, stmt, ctx)));
+                                .apply(parameterOffset + index + 1, stmt, ctx)));
                     } else {
                         innerBinders.add(wrapCheckedConsumer(name,
                             binding -> binding.namedArgumentFinder.stream()
@@ -249,13 +251,13 @@ class ArgumentBinder {
                                         .flatMap(naf -> naf.find(name, ctx).stream())
                                         .findFirst()
                                         .orElseThrow(() -> missingNamedParameter(name, binding)))
-                                .apply(index + 1, stmt, ctx)));
+                                .apply(parameterOffset + index + 1, stmt, ctx)));
                     }
                 } else {
                     final Function<Object, Argument> binder = argumentFactoryForType(typeOf(value));
                     innerBinders.add(wrapCheckedConsumer(name,
                         binding -> binder.apply(unwrap(binding.named.get(name)))
-                            .apply(index + 1, stmt, ctx)));
+                            .apply(parameterOffset + index + 1, stmt, ctx)));
                 }
             }
             return binding -> innerBinders.forEach(b -> b.accept(binding));
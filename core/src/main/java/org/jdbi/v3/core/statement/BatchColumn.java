@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.argument.Argument;
+
+/**
+ * One parameter of a columnar {@link PreparedBatch}, bound straight from the column values for each row.
+ */
+abstract class BatchColumn {
+    /**
+     * Returns the number of values in this column.
+     */
+    abstract int size();
+
+    abstract void bind(PreparedStatement stmt, int position, int row, StatementContext ctx) throws SQLException;
+
+    static BatchColumn of(int[] values) {
+        return new BatchColumn() {
+            @Override
+            int size() {
+                return values.length;
+            }
+
+            @Override
+            void bind(PreparedStatement stmt, int position, int row, StatementContext ctx) throws SQLException {
+                stmt.setInt(position, values[row]);
+            }
+        };
+    }
+
+    static BatchColumn of(long[] values) {
+        return new BatchColumn() {
+            @Override
+            int size() {
+                return values.length;
+            }
+
+            @Override
+            void bind(PreparedStatement stmt, int position, int row, StatementContext ctx) throws SQLException {
+                stmt.setLong(position, values[row]);
+            }
+        };
+    }
+
+    static BatchColumn of(double[] values) {
+        return new BatchColumn() {
+            @Override
+            int size() {
+                return values.length;
+            }
+
+            @Override
+            void bind(PreparedStatement stmt, int position, int row, StatementContext ctx) throws SQLException {
+                stmt.setDouble(position, values[row]);
+            }
+        };
+    }
+
+    /**
+     * Binds the values through the argument factory for their type. The factory is looked up once for columns of a
+     * single element type, otherwise whenever the class of the value changes.
+     */
+    static BatchColumn of(List<?> values, Class<?> elementType, Function<Class<?>, Function<Object, Argument>> argumentFactoryLookup) {
+        return new BatchColumn() {
+            private Class<?> type = elementType == Object.class ? null : elementType;
+            private Function<Object, Argument> factory = type == null ? null : argumentFactoryLookup.apply(type);
+
+            @Override
+            int size() {
+                return values.size();
+            }
+
+            @Override
+            void bind(PreparedStatement stmt, int position, int row, StatementContext ctx) throws SQLException {
+                final Object value = values.get(row);
+                if (elementType == Object.class) {
+                    final Class<?> valueType = value == null ? Object.class : value.getClass();
+                    if (valueType != type) {
+                        type = valueType;
+                        factory = argumentFactoryLookup.apply(valueType);
+                    }
+                }
+                factory.apply(value).apply(position, stmt, ctx);
+            }
+        };
+    }
+
+    /**
+     * Binds the same argument for every row.
+     */
+    static BatchColumn constant(Argument argument) {
+        return new BatchColumn() {
+            @Override
+            int size() {
+                return Integer.MAX_VALUE;
+            }
+
+            @Override
+            void bind(PreparedStatement stmt, int position, int row, StatementContext ctx) throws SQLException {
+                argument.apply(position, stmt, ctx);
+            }
+        };
+    }
+}
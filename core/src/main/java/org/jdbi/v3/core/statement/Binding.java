@@ -13,9 +13,25 @@
  */
 package org.jdbi.v3.core.statement;
 
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -23,6 +39,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.jdbi.v3.core.argument.Argument;
 import org.jdbi.v3.core.argument.NamedArgumentFinder;
@@ -34,6 +52,13 @@ import static org.jdbi.v3.core.statement.ArgumentBinder.unwrap;
  * Represents the arguments bound to a particular statement.
  */
 public class Binding {
+    // immutable types whose equals and hashCode compare by value
+    private static final Set<Class<?>> VALUE_TYPES = Set.of(
+        String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+        BigInteger.class, BigDecimal.class, UUID.class, Instant.class, LocalDate.class, LocalTime.class, LocalDateTime.class,
+        OffsetDateTime.class, OffsetTime.class, ZonedDateTime.class, Duration.class, Period.class);
+    private static final Object NO_VALUE_KEY = new Object();
+
     protected final Map<Integer, Object> positionals = new TreeMap<>();
     protected final Map<String, Object> named = new LinkedHashMap<>();
     protected final List<NamedArgumentFinder> namedArgumentFinder = new ArrayList<>();
@@ -228,6 +253,90 @@ public class Binding {
         return buf + "}";
     }
 
+    /**
+     * Returns the bound values in a form that can be compared with {@code equals}, or null if a value can not be
+     * compared by value. Arrays, lists, sets, optionals and dates are compared by their content; raw {@link Argument}
+     * objects, values from a {@link NamedArgumentFinder} and all other types are not comparable.
+     */
+    Object valueKey() {
+        if (!namedArgumentFinder.isEmpty()) {
+            return null;
+        }
+        final Map<Integer, Object> positionalKeys = new TreeMap<>();
+        for (final Map.Entry<Integer, Object> entry : positionals.entrySet()) {
+            final Object key = valueKey(entry.getValue());
+            if (key == NO_VALUE_KEY) {
+                return null;
+            }
+            positionalKeys.put(entry.getKey(), key);
+        }
+        final Map<String, Object> namedKeys = new HashMap<>();
+        for (final Map.Entry<String, Object> entry : named.entrySet()) {
+            final Object key = valueKey(entry.getValue());
+            if (key == NO_VALUE_KEY) {
+                return null;
+            }
+            namedKeys.put(entry.getKey(), key);
+        }
+        return List.of(positionalKeys, namedKeys);
+    }
+
+    private static Object valueKey(final Object value) {
+        if (value == null || value instanceof Enum || VALUE_TYPES.contains(value.getClass())) {
+            return value;
+        }
+        if (value instanceof TypedValue) {
+            final TypedValue typedValue = (TypedValue) value;
+            final Object key = valueKey(typedValue.getValue());
+            return key == NO_VALUE_KEY ? NO_VALUE_KEY : new TypedValue(typedValue.getType(), key);
+        }
+        if (value instanceof byte[]) {
+            return Arrays.asList(byte[].class, ByteBuffer.wrap(((byte[]) value).clone()));
+        }
+        if (value.getClass().isArray()) {
+            final List<Object> elements = new ArrayList<>();
+            for (int i = 0; i < Array.getLength(value); i++) {
+                elements.add(Array.get(value, i));
+            }
+            return elementsKey(value.getClass(), elements);
+        }
+        if (value instanceof List) {
+            return elementsKey(List.class, (List<?>) value);
+        }
+        if (value instanceof Set) {
+            final Object key = elementsKey(Set.class, (Set<?>) value);
+            return key == NO_VALUE_KEY ? NO_VALUE_KEY : new HashSet<>((List<?>) key);
+        }
+        if (value instanceof Optional) {
+            return elementsKey(Optional.class, ((Optional<?>) value).stream().collect(Collectors.toList()));
+        }
+        return dateKey(value);
+    }
+
+    // the mutable java.util.Date types are compared by their time at binding
+    private static Object dateKey(final Object value) {
+        if (value instanceof Timestamp) {
+            return Arrays.asList(value.getClass(), ((Timestamp) value).getTime(), ((Timestamp) value).getNanos());
+        }
+        if (value instanceof java.util.Date) {
+            return Arrays.asList(value.getClass(), ((java.util.Date) value).getTime());
+        }
+        return NO_VALUE_KEY;
+    }
+
+    private static Object elementsKey(final Class<?> containerType, final Collection<?> elements) {
+        final List<Object> keys = new ArrayList<>(elements.size() + 1);
+        keys.add(containerType);
+        for (final Object element : elements) {
+            final Object key = valueKey(element);
+            if (key == NO_VALUE_KEY) {
+                return NO_VALUE_KEY;
+            }
+            keys.add(key);
+        }
+        return keys;
+    }
+
     /**
      * Remove all bindings from this Binding.
      */
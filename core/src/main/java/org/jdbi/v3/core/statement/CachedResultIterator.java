@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.jdbi.v3.core.result.ResultIterator;
+
+/**
+ * Iterates over the rows of a {@link CachedResults cached result}.
+ */
+final class CachedResultIterator<T> implements ResultIterator<T> {
+    private final Iterator<T> rows;
+    private final StatementContext context;
+    private boolean closeContext;
+
+    CachedResultIterator(List<T> rows, StatementContext context, boolean closeContext) {
+        this.rows = rows.iterator();
+        this.context = context;
+        this.closeContext = closeContext;
+    }
+
+    @Override
+    public boolean hasNext() {
+        boolean hasNext = rows.hasNext();
+        if (!hasNext) {
+            close();
+        }
+        return hasNext;
+    }
+
+    @Override
+    public T next() {
+        return rows.next();
+    }
+
+    @Override
+    public void close() {
+        if (closeContext) {
+            closeContext = false;
+            context.close();
+        }
+    }
+
+    @Override
+    public StatementContext getContext() {
+        return context;
+    }
+}
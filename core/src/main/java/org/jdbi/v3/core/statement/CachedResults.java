@@ -0,0 +1,255 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheBuilder;
+import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
+import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Configuration and storage for cached query results.
+ * <br>
+ * A query marked with {@link Query#cacheResults(String...)} stores the rows it maps with {@link Query#mapTo(QualifiedType)} (and the other
+ * {@code mapTo} methods) in a cache shared by all handles of a {@link org.jdbi.v3.core.Jdbi} instance. The cache key is the rendered SQL, the
+ * bound values and the mapped type. Queries with bindings that can not be compared by value (raw {@link org.jdbi.v3.core.argument.Argument}s,
+ * beans, maps etc.) are executed without the cache. Results are only cached if the statement uses the same mappers for the mapped type as the
+ * {@link org.jdbi.v3.core.Jdbi} instance, so queries on handles or statements that register their own mappers are executed without the cache.
+ * <br>
+ * Cached results are tagged, usually with the names of the tables they read. Statements marked with
+ * {@link SqlStatement#invalidateCachedResults(String...)} invalidate all results with any of their tags once they have run, or once the
+ * transaction they ran in has been committed. Results also expire after {@link #getTimeToLive()}. Changes made outside of Jdbi, or by statements
+ * without tags, are only seen after a result expired.
+ * <br>
+ * The mapped objects are shared between all callers and must not be modified.
+ */
+@Alpha
+public final class CachedResults implements JdbiConfig<CachedResults> {
+
+    /** The default number of cached results. */
+    public static final int DEFAULT_MAX_SIZE = 1_000;
+
+    /** The default time to live of a cached result. */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private final TagVersions tagVersions;
+    private JdbiCache<Object, Slot> cache;
+    private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+
+    public CachedResults() {
+        tagVersions = new TagVersions();
+        cache = DefaultJdbiCacheBuilder.builder().maxSize(DEFAULT_MAX_SIZE).build();
+    }
+
+    private CachedResults(CachedResults that) {
+        this.tagVersions = that.tagVersions;
+        this.cache = that.cache;
+        this.timeToLive = that.timeToLive;
+    }
+
+    /**
+     * Sets the cache used to store results. This can be used to change the number of cached results or to use a different cache implementation.
+     * The cache builder should set a maximum size.
+     *
+     * @param cacheBuilder the cache builder to use to create the cache
+     * @return this
+     */
+    public CachedResults setCache(JdbiCacheBuilder cacheBuilder) {
+        this.cache = cacheBuilder.build();
+        return this;
+    }
+
+    /**
+     * Returns the time after which a cached result is discarded, regardless of invalidations.
+     *
+     * @return the time to live
+     */
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets the time after which a cached result is discarded, regardless of invalidations.
+     *
+     * @param timeToLive the time to live, must be positive
+     * @return this
+     */
+    public CachedResults setTimeToLive(Duration timeToLive) {
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("time to live must be positive");
+        }
+        this.timeToLive = timeToLive;
+        return this;
+    }
+
+    /**
+     * Invalidates all cached results with any of the given tags immediately.
+     *
+     * @param tags the tags to invalidate
+     */
+    public void invalidate(String... tags) {
+        tagVersions.invalidate(Arrays.asList(tags));
+    }
+
+    /**
+     * Invalidates all cached results immediately.
+     */
+    public void invalidateAll() {
+        tagVersions.invalidateAll();
+    }
+
+    /**
+     * Returns cache statistics for the result cache. This returns a cache specific object,
+     * so the user needs to know what caching library is in use.
+     *
+     * @param <T> the type of the cache statistics object
+     * @return cache statistics
+     */
+    public <T> T cacheStats() {
+        return cache.getStats();
+    }
+
+    <T> List<T> get(String renderedSql, Object bindings, QualifiedType<T> type, List<String> tags, Supplier<List<T>> loader) {
+        Slot slot = cache.getWithLoader(new ResultKey(renderedSql, bindings, type), key -> new Slot());
+        long now = System.nanoTime();
+
+        Entry entry = slot.entry;
+        if (entry != null && now - entry.expiresAt < 0 && tagVersions.isCurrent(entry.version, entry.tags)) {
+            @SuppressWarnings("unchecked")
+            List<T> rows = (List<T>) entry.rows;
+            return rows;
+        }
+
+        // read the version before the query runs, so an invalidation that races with it makes the entry stale
+        long version = tagVersions.current();
+        List<T> rows = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+        slot.entry = new Entry(rows, version, tags, now + timeToLive.toNanos());
+        return rows;
+    }
+
+    void invalidateAfterExecution(SqlStatement<?> statement, List<String> tags) {
+        statement.getContext().addCleanable(() -> {
+            Handle handle = statement.getHandle();
+            if (!handle.isClosed() && handle.isInTransaction()) {
+                handle.afterCommit(() -> tagVersions.invalidate(tags));
+            } else {
+                tagVersions.invalidate(tags);
+            }
+        });
+    }
+
+    @Override
+    public CachedResults createCopy() {
+        return new CachedResults(this);
+    }
+
+    /**
+     * Invalidation works by versions instead of removing entries, so any {@link JdbiCache} implementation can be used. Every invalidation
+     * advances a global clock and records it for its tags. An entry is current if none of its tags has been invalidated since it was loaded.
+     */
+    private static final class TagVersions {
+        private final AtomicLong clock = new AtomicLong();
+        private final Map<String, Long> versions = new ConcurrentHashMap<>();
+        private volatile long allVersion;
+
+        long current() {
+            return clock.get();
+        }
+
+        void invalidate(List<String> tags) {
+            long version = clock.incrementAndGet();
+            tags.forEach(tag -> versions.merge(tag, version, Math::max));
+        }
+
+        void invalidateAll() {
+            allVersion = clock.incrementAndGet();
+        }
+
+        boolean isCurrent(long version, List<String> tags) {
+            if (allVersion > version) {
+                return false;
+            }
+            for (String tag : tags) {
+                Long invalidated = versions.get(tag);
+                if (invalidated != null && invalidated > version) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Slot {
+        private volatile Entry entry;
+    }
+
+    private static final class Entry {
+        private final List<?> rows;
+        private final long version;
+        private final List<String> tags;
+        private final long expiresAt;
+
+        Entry(List<?> rows, long version, List<String> tags, long expiresAt) {
+            this.rows = rows;
+            this.version = version;
+            this.tags = tags;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class ResultKey {
+        private final String sql;
+        private final Object bindings;
+        private final QualifiedType<?> type;
+        private final int hashCode;
+
+        ResultKey(String sql, Object bindings, QualifiedType<?> type) {
+            this.sql = sql;
+            this.bindings = bindings;
+            this.type = type;
+            this.hashCode = Objects.hash(sql, bindings, type);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ResultKey that = (ResultKey) o;
+            return hashCode == that.hashCode && sql.equals(that.sql) && bindings.equals(that.bindings) && type.equals(that.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -16,6 +16,7 @@ package org.jdbi.v3.core.statement;
 import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.cache.JdbiCacheBuilder;
 import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
+import org.jdbi.v3.core.statement.internal.SqlScanner;
 import org.jdbi.v3.meta.Beta;
 
 public abstract class CachingSqlParser implements SqlParser {
@@ -36,7 +37,11 @@ public abstract class CachingSqlParser implements SqlParser {
     @Override
     public ParsedSql parse(String sql, StatementContext ctx) {
         try {
-            return parsedSqlCache.get(sql);
+            final StartupSnapshot snapshot = ctx == null ? null : ctx.getConfig(SqlStatements.class).getStartupSnapshot();
+            if (snapshot == null) {
+                return parsedSqlCache.get(sql);
+            }
+            return parsedSqlCache.getWithLoader(sql, s -> snapshot.parse(getClass().getName(), s, this::internalParse));
         } catch (IllegalArgumentException e) {
             throw new UnableToCreateStatementException("Exception parsing for named parameter replacement", e, ctx);
         }
@@ -52,4 +57,25 @@ public abstract class CachingSqlParser implements SqlParser {
     }
 
     abstract ParsedSql internalParse(String sql);
+
+    static ParsedSql scan(String sql, SqlScanner.Syntax syntax) {
+        ParsedSql.Builder parsedSql = ParsedSql.builder();
+        SqlScanner.scan(sql, syntax, new SqlScanner.Handler() {
+            @Override
+            public void text(int start, int end) {
+                parsedSql.append(sql, start, end);
+            }
+
+            @Override
+            public void name(int start, int end) {
+                parsedSql.appendNamedParameter(sql.substring(start, end));
+            }
+
+            @Override
+            public void positionalParameter() {
+                parsedSql.appendPositionalParameter();
+            }
+        });
+        return parsedSql.build();
+    }
 }
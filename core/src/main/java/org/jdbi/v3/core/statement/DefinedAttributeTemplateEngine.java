@@ -19,19 +19,8 @@ import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.Token;
 import org.jdbi.v3.core.config.ConfigRegistry;
-import org.jdbi.v3.core.internal.lexer.DefineStatementLexer;
-import org.jdbi.v3.core.statement.internal.ErrorListener;
-
-import static org.antlr.v4.runtime.Recognizer.EOF;
-import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.COMMENT;
-import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.DEFINE;
-import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.DOUBLE_QUOTED_TEXT;
-import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.ESCAPED_TEXT;
-import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.LITERAL;
-import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.QUOTED_TEXT;
+import org.jdbi.v3.core.statement.internal.SqlScanner;
 
 /**
  * Template engine which replaces angle-bracketed tokens like
@@ -51,37 +40,30 @@ public class DefinedAttributeTemplateEngine implements TemplateEngine.Parsing {
                 preparation.add((ctx, b) -> b.append(bit));
             }
         };
-        DefineStatementLexer lexer = new DefineStatementLexer(CharStreams.fromString(template));
-        lexer.addErrorListener(new ErrorListener());
-        Token t = lexer.nextToken();
-        while (t.getType() != EOF) {
-            switch (t.getType()) {
-                case COMMENT:
-                case LITERAL:
-                case QUOTED_TEXT:
-                case DOUBLE_QUOTED_TEXT:
-                    buf.append(t.getText());
-                    break;
-                case DEFINE:
-                    pushBuf.run();
-                    String text = t.getText();
-                    String key = text.substring(1, text.length() - 1);
-                    preparation.add((ctx, b) -> {
-                        Object value = ctx.getAttribute(key);
-                        if (value == null) {
-                            throw new UnableToCreateStatementException("Undefined attribute for token '" + text + "'", ctx);
-                        }
-                        b.append(value);
-                    });
-                    break;
-                case ESCAPED_TEXT:
-                    buf.append(t.getText().substring(1));
-                    break;
-                default:
-                    break;
+        SqlScanner.scan(template, SqlScanner.Syntax.DEFINED_ATTRIBUTES, new SqlScanner.Handler() {
+            @Override
+            public void text(int start, int end) {
+                buf.append(template, start, end);
+            }
+
+            @Override
+            public void name(int start, int end) {
+                pushBuf.run();
+                String key = template.substring(start, end);
+                preparation.add((ctx, b) -> {
+                    Object value = ctx.getAttribute(key);
+                    if (value == null) {
+                        throw new UnableToCreateStatementException("Undefined attribute for token '<" + key + ">'", ctx);
+                    }
+                    b.append(value);
+                });
             }
-            t = lexer.nextToken();
-        }
+
+            @Override
+            public void positionalParameter() {
+                // not recognized in templates
+            }
+        });
         pushBuf.run();
         return Optional.of(ctx -> {
             try {
@@ -0,0 +1,188 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution timing of a statement. Durations are measured with the monotonic clock; the wall clock {@link Instant}s are
+ * only taken eagerly if a listener needs them. Otherwise they are derived on first access from a wall clock reading that
+ * is at most a second older than the recorded time, so that they follow adjustments of the system clock. Once a moment
+ * is set explicitly, the elapsed time is derived from the moments instead of the monotonic clock.
+ */
+final class ExecutionTimes {
+    private static final int EXECUTION_RECORDED = 1;
+    private static final int COMPLETION_RECORDED = 2;
+    private static final int EXCEPTION_RECORDED = 4;
+    private static final int REPORTED = 8;
+    private static final int MOMENT_SET = 16;
+
+    private int recorded;
+
+    private long executionNanos;
+    private long completionNanos;
+    private long exceptionNanos;
+    private long bindingNanos;
+    private long mappingNanos;
+
+    private Instant executionMoment;
+    private Instant completionMoment;
+    private Instant exceptionMoment;
+
+    private ClockAnchor executionAnchor;
+    private ClockAnchor completionAnchor;
+    private ClockAnchor exceptionAnchor;
+
+    void recordExecution(final boolean eagerMoment) {
+        this.executionNanos = System.nanoTime();
+        this.executionAnchor = eagerMoment ? null : ClockAnchor.current(executionNanos);
+        this.recorded = EXECUTION_RECORDED | (recorded & REPORTED);
+        this.executionMoment = eagerMoment ? Instant.now() : null;
+        this.completionMoment = null;
+        this.exceptionMoment = null;
+    }
+
+    void recordCompletion(final boolean eagerMoment) {
+        this.completionNanos = System.nanoTime();
+        this.completionAnchor = eagerMoment ? null : ClockAnchor.current(completionNanos);
+        this.recorded |= COMPLETION_RECORDED;
+        this.completionMoment = eagerMoment ? Instant.now() : null;
+    }
+
+    void recordException(final boolean eagerMoment) {
+        this.exceptionNanos = System.nanoTime();
+        this.exceptionAnchor = eagerMoment ? null : ClockAnchor.current(exceptionNanos);
+        this.recorded |= EXCEPTION_RECORDED;
+        this.exceptionMoment = eagerMoment ? Instant.now() : null;
+    }
+
+    long getElapsedNanos() {
+        if ((recorded & MOMENT_SET) != 0) {
+            return elapsedNanosFromMoments();
+        }
+        if ((recorded & EXECUTION_RECORDED) == 0) {
+            return -1;
+        }
+        if ((recorded & COMPLETION_RECORDED) != 0) {
+            return completionNanos - executionNanos;
+        }
+        if ((recorded & EXCEPTION_RECORDED) != 0) {
+            return exceptionNanos - executionNanos;
+        }
+        return -1;
+    }
+
+    private long elapsedNanosFromMoments() {
+        final Instant start = getExecutionMoment();
+        final Instant completion = getCompletionMoment();
+        final Instant end = completion == null ? getExceptionMoment() : completion;
+        if (start == null || end == null) {
+            return -1;
+        }
+        return Duration.between(start, end).toNanos();
+    }
+
+    boolean isFailed() {
+        return (recorded & EXCEPTION_RECORDED) != 0;
+    }
+
+    /**
+     * Returns true exactly once after execution has been recorded, to report metrics only once per statement.
+     */
+    boolean markReported() {
+        if ((recorded & EXECUTION_RECORDED) == 0 || (recorded & REPORTED) != 0) {
+            return false;
+        }
+        recorded |= REPORTED;
+        return true;
+    }
+
+    long getBindingNanos() {
+        return bindingNanos;
+    }
+
+    void addBindingNanos(final long nanos) {
+        this.bindingNanos += nanos;
+    }
+
+    long getMappingNanos() {
+        return mappingNanos;
+    }
+
+    void addMappingNanos(final long nanos) {
+        this.mappingNanos += nanos;
+    }
+
+    Instant getExecutionMoment() {
+        if (executionMoment == null && executionAnchor != null && (recorded & EXECUTION_RECORDED) != 0) {
+            executionMoment = executionAnchor.toInstant(executionNanos);
+        }
+        return executionMoment;
+    }
+
+    void setExecutionMoment(final Instant executionMoment) {
+        this.executionMoment = executionMoment;
+        this.recorded |= MOMENT_SET;
+    }
+
+    Instant getCompletionMoment() {
+        if (completionMoment == null && completionAnchor != null && (recorded & COMPLETION_RECORDED) != 0) {
+            completionMoment = completionAnchor.toInstant(completionNanos);
+        }
+        return completionMoment;
+    }
+
+    void setCompletionMoment(final Instant completionMoment) {
+        this.completionMoment = completionMoment;
+        this.recorded |= MOMENT_SET;
+    }
+
+    Instant getExceptionMoment() {
+        if (exceptionMoment == null && exceptionAnchor != null && (recorded & EXCEPTION_RECORDED) != 0) {
+            exceptionMoment = exceptionAnchor.toInstant(exceptionNanos);
+        }
+        return exceptionMoment;
+    }
+
+    void setExceptionMoment(final Instant exceptionMoment) {
+        this.exceptionMoment = exceptionMoment;
+        this.recorded |= MOMENT_SET;
+    }
+
+    /**
+     * A wall clock reading together with the monotonic clock reading taken at the same time.
+     */
+    private static final class ClockAnchor {
+        private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(1);
+        private static volatile ClockAnchor anchor = new ClockAnchor();
+
+        private final Instant moment = Instant.now();
+        private final long nanos = System.nanoTime();
+
+        static ClockAnchor current(final long nanoTime) {
+            ClockAnchor current = anchor;
+            if (nanoTime - current.nanos > TTL_NANOS) {
+                current = new ClockAnchor();
+                anchor = current;
+            }
+            return current;
+        }
+
+        Instant toInstant(final long nanoTime) {
+            return moment.plusNanos(nanoTime - nanos);
+        }
+    }
+}
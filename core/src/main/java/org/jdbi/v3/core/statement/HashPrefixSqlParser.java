@@ -13,22 +13,10 @@
  */
 package org.jdbi.v3.core.statement;
 
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.Token;
 import org.jdbi.v3.core.cache.JdbiCacheBuilder;
-import org.jdbi.v3.core.internal.lexer.HashStatementLexer;
-import org.jdbi.v3.core.statement.internal.ErrorListener;
+import org.jdbi.v3.core.statement.internal.SqlScanner;
 import org.jdbi.v3.meta.Beta;
 
-import static org.antlr.v4.runtime.Recognizer.EOF;
-import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.COMMENT;
-import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.DOUBLE_QUOTED_TEXT;
-import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.ESCAPED_TEXT;
-import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.LITERAL;
-import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.NAMED_PARAM;
-import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.POSITIONAL_PARAM;
-import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.QUOTED_TEXT;
-
 /**
  * SQL parser which recognizes named parameter tokens of the form
  * <code>#tokenName</code>.
@@ -49,32 +37,6 @@ public class HashPrefixSqlParser extends CachingSqlParser {
 
     @Override
     ParsedSql internalParse(String sql) {
-        ParsedSql.Builder parsedSql = ParsedSql.builder();
-        HashStatementLexer lexer = new HashStatementLexer(CharStreams.fromString(sql));
-        lexer.addErrorListener(new ErrorListener());
-        Token t = lexer.nextToken();
-        while (t.getType() != EOF) {
-            switch (t.getType()) {
-                case COMMENT:
-                case LITERAL:
-                case QUOTED_TEXT:
-                case DOUBLE_QUOTED_TEXT:
-                    parsedSql.append(t.getText());
-                    break;
-                case NAMED_PARAM:
-                    parsedSql.appendNamedParameter(t.getText().substring(1));
-                    break;
-                case POSITIONAL_PARAM:
-                    parsedSql.appendPositionalParameter();
-                    break;
-                case ESCAPED_TEXT:
-                    parsedSql.append(t.getText().substring(1));
-                    break;
-                default:
-                    break;
-            }
-            t = lexer.nextToken();
-        }
-        return parsedSql.build();
+        return scan(sql, SqlScanner.Syntax.HASH_PARAMETERS);
     }
 }
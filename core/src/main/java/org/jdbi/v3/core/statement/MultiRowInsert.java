@@ -0,0 +1,194 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+/**
+ * A parsed <code>INSERT ... VALUES (...)</code> statement that can be expanded to insert multiple rows.
+ * Only statements that start with <code>INSERT</code>, contain exactly one <code>VALUES</code> tuple at
+ * the end and have all parameters inside that tuple are accepted; anything else (<code>INSERT ... SELECT</code>,
+ * <code>ON CONFLICT</code>, <code>RETURNING</code>, ...) is left alone.
+ */
+final class MultiRowInsert {
+    private final String sql;
+    private final int tupleStart;
+    private final int tupleEnd;
+
+    private MultiRowInsert(String sql, int tupleStart, int tupleEnd) {
+        this.sql = sql;
+        this.tupleStart = tupleStart;
+        this.tupleEnd = tupleEnd;
+    }
+
+    /**
+     * Returns the statement with the values tuple repeated <code>rows</code> times.
+     */
+    String sql(int rows) {
+        if (rows == 1) {
+            return sql;
+        }
+        final String tuple = sql.substring(tupleStart, tupleEnd);
+        final StringBuilder sb = new StringBuilder(sql.length() + (rows - 1) * (tuple.length() + 2));
+        sb.append(sql, 0, tupleEnd);
+        for (int i = 1; i < rows; i++) {
+            sb.append(", ").append(tuple);
+        }
+        return sb.append(sql, tupleEnd, sql.length()).toString();
+    }
+
+    /**
+     * Parses a statement. Returns null if the statement is not a simple single row insert.
+     */
+    static MultiRowInsert parse(String sql) {
+        final Scanner scanner = new Scanner(sql);
+        if (!scanner.keyword("INSERT")) {
+            return null;
+        }
+        // find VALUES outside of parentheses, no parameters allowed before it
+        while (!scanner.keyword("VALUES")) {
+            if (!scanner.skipToken() || scanner.parameters > 0) {
+                return null;
+            }
+        }
+        scanner.skipWhitespace();
+        if (!scanner.at('(')) {
+            return null;
+        }
+        final int tupleStart = scanner.pos;
+        if (!scanner.skipToken()) {
+            return null;
+        }
+        final int tupleEnd = scanner.pos;
+
+        scanner.skipWhitespace();
+        if (scanner.at(';')) {
+            scanner.pos++;
+            scanner.skipWhitespace();
+        }
+        return scanner.pos == sql.length() ? new MultiRowInsert(sql, tupleStart, tupleEnd) : null;
+    }
+
+    private static final class Scanner {
+        private final String sql;
+        private int pos;
+        private int parameters;
+
+        Scanner(String sql) {
+            this.sql = sql;
+        }
+
+        boolean at(char c) {
+            return pos < sql.length() && sql.charAt(pos) == c;
+        }
+
+        /** Skips whitespace and comments. */
+        void skipWhitespace() {
+            while (pos < sql.length()) {
+                final char c = sql.charAt(pos);
+                if (Character.isWhitespace(c)) {
+                    pos++;
+                } else if (sql.startsWith("--", pos)) {
+                    final int end = sql.indexOf('\n', pos);
+                    pos = end < 0 ? sql.length() : end + 1;
+                } else if (sql.startsWith("/*", pos)) {
+                    final int end = sql.indexOf("*/", pos + 2);
+                    pos = end < 0 ? sql.length() : end + 2;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        /** Consumes the keyword if it is the next token. */
+        boolean keyword(String keyword) {
+            skipWhitespace();
+            final int end = pos + keyword.length();
+            if (sql.regionMatches(true, pos, keyword, 0, keyword.length())
+                && (end == sql.length() || !Character.isJavaIdentifierPart(sql.charAt(end)))) {
+                pos = end;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Skips the next token: a word, a quoted string or identifier, or a balanced parenthesized group.
+         * Returns false at the end of the statement or if quotes or parentheses are unbalanced.
+         */
+        boolean skipToken() {
+            skipWhitespace();
+            if (pos >= sql.length()) {
+                return false;
+            }
+            int depth = 0;
+            do {
+                final char c = sql.charAt(pos);
+                switch (c) {
+                    case '\'':
+                    case '"':
+                    case '`':
+                        final int end = closingQuote(c, pos + 1);
+                        if (end < 0) {
+                            return false;
+                        }
+                        pos = end + 1;
+                        break;
+                    case '(':
+                        depth++;
+                        pos++;
+                        break;
+                    case ')':
+                        depth--;
+                        if (depth < 0) {
+                            return false;
+                        }
+                        pos++;
+                        break;
+                    case '?':
+                        parameters++;
+                        pos++;
+                        break;
+                    default:
+                        if (Character.isJavaIdentifierPart(c)) {
+                            while (pos < sql.length() && Character.isJavaIdentifierPart(sql.charAt(pos))) {
+                                pos++;
+                            }
+                        } else {
+                            pos++;
+                        }
+                        break;
+                }
+                if (depth > 0) {
+                    skipWhitespace();
+                }
+            } while (depth > 0 && pos < sql.length());
+            return depth == 0;
+        }
+
+        private int closingQuote(char quote, int from) {
+            int i = from;
+            while (i < sql.length()) {
+                if (sql.charAt(i) == quote) {
+                    // doubled quote is an escaped quote
+                    if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                        i += 2;
+                        continue;
+                    }
+                    return i;
+                }
+                i++;
+            }
+            return -1;
+        }
+    }
+}
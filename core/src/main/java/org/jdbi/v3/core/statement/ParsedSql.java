@@ -126,6 +126,11 @@ public final class ParsedSql {
             return this;
         }
 
+        Builder append(String source, int start, int end) {
+            sql.append(source, start, end);
+            return this;
+        }
+
         /**
          * Records a positional parameters, and appends a <code>?</code> to the
          * SQL string.
@@ -27,6 +27,7 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.argument.Argument;
@@ -34,7 +35,9 @@ import org.jdbi.v3.core.argument.Arguments;
 import org.jdbi.v3.core.argument.NamedArgumentFinder;
 import org.jdbi.v3.core.argument.internal.NamedArgumentFinderFactory;
 import org.jdbi.v3.core.argument.internal.NamedArgumentFinderFactory.PrepareKey;
+import org.jdbi.v3.core.metrics.JdbiMetrics;
 import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.qualifier.Qualifiers;
 import org.jdbi.v3.core.result.BatchResultBearing;
 import org.jdbi.v3.core.result.ResultBearing;
 import org.jdbi.v3.core.result.ResultIterator;
@@ -43,6 +46,7 @@ import org.jdbi.v3.core.result.ResultProducers;
 import org.jdbi.v3.core.result.ResultSetScanner;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.jdbi.v3.core.statement.internal.PreparedBinding;
+import org.jdbi.v3.meta.Alpha;
 
 import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
 
@@ -58,10 +62,15 @@ import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
  *
  * An entire batch can be bound and added in one go with {@link PreparedBatch#add(Map)}
  * or {@link PreparedBatch#add(Object...)}.
+ * <br>
+ * Data that is already held column-wise can be bound with the {@code bindColumn} methods and executed with
+ * {@link PreparedBatch#executeColumns(int)}, without creating a binding for each row.
  */
 public class PreparedBatch extends SqlStatement<PreparedBatch> implements ResultBearing {
     private final List<PreparedBinding> bindings = new ArrayList<>();
     final Map<PrepareKey, Function<String, Optional<Function<Object, Argument>>>> preparedFinders = new HashMap<>();
+    private final Map<String, BatchColumn> namedColumns = new HashMap<>();
+    private final Map<Integer, BatchColumn> positionalColumns = new HashMap<>();
 
     public PreparedBatch(Handle handle, CharSequence sql) {
         super(handle, sql);
@@ -119,7 +128,7 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
      */
     public int[] execute() {
         try {
-            return internalBatchExecute().updateCounts;
+            return internalBatchExecute(true).updateCounts;
         } finally {
             close();
         }
@@ -200,7 +209,7 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
     private <R> R execute(ResultProducer<R> producer, Consumer<ExecutedBatch> batchConsumer) {
         try {
             return producer.produce(() -> {
-                ExecutedBatch executedBatch = internalBatchExecute();
+                ExecutedBatch executedBatch = internalBatchExecute(false);
                 batchConsumer.accept(executedBatch);
                 return executedBatch.stmt;
             }, getContext());
@@ -210,7 +219,7 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
         }
     }
 
-    private ExecutedBatch internalBatchExecute() {
+    private ExecutedBatch internalBatchExecute(boolean multiRowInsertAllowed) {
         if (!getBinding().isEmpty()) {
             add();
         }
@@ -224,6 +233,14 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
         ParsedParameters parsedParameters = parsedSql.getParameters();
 
         try {
+            if (multiRowInsertAllowed && bindings.size() > 1) {
+                final int rowsPerStatement = getConfig(PreparedBatches.class).rowsPerStatement(parsedParameters.getParameterCount());
+                final MultiRowInsert insert = rowsPerStatement > 1 ? MultiRowInsert.parse(sql) : null;
+                if (insert != null) {
+                    return executeMultiRowInsert(insert, parsedParameters, Math.min(rowsPerStatement, Integer.highestOneBit(bindings.size())));
+                }
+            }
+
             try {
                 stmt = createStatement(sql);
 
@@ -239,6 +256,9 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
 
             beforeBinding();
 
+            final boolean timed = getConfig(JdbiMetrics.class).isPhaseTimingEnabled();
+            final long bindingStart = timed ? System.nanoTime() : 0;
+
             try {
                 ArgumentBinder binder = new ArgumentBinder.Prepared(this, parsedParameters, bindings.get(0));
                 for (Binding binding : bindings) {
@@ -250,6 +270,10 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
                 throw new UnableToExecuteStatementException("Exception while binding parameters", e, ctx);
             }
 
+            if (timed) {
+                ctx.addBindingNanos(System.nanoTime() - bindingStart);
+            }
+
             beforeExecution();
 
             try {
@@ -268,6 +292,111 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
         }
     }
 
+    /**
+     * Executes the batch as multi-row inserts. Rows are inserted in batch order: first in statements of
+     * <code>rowsPerStatement</code> rows, then the remainder in statements of decreasing powers of two.
+     */
+    private ExecutedBatch executeMultiRowInsert(MultiRowInsert insert, ParsedParameters parsedParameters, int rowsPerStatement) {
+        final StatementContext ctx = getContext();
+        final int parametersPerRow = parsedParameters.getParameterCount();
+        final int rowCount = bindings.size();
+
+        final List<PreparedStatement> statements = new ArrayList<>();
+        final List<Integer> statementRows = new ArrayList<>();
+        final int fullStatements = rowCount / rowsPerStatement;
+        for (int rows = rowsPerStatement; rows > 0; rows >>= 1) {
+            final int executions = rows == rowsPerStatement ? fullStatements : (rowCount & rows) == 0 ? 0 : 1;
+            if (executions > 0) {
+                statements.add(createMultiRowStatement(insert.sql(rows)));
+                statementRows.add(rows);
+            }
+        }
+
+        final boolean timed = getConfig(JdbiMetrics.class).isPhaseTimingEnabled();
+        final long bindingStart = timed ? System.nanoTime() : 0;
+
+        ArgumentBinder binder = null;
+        int row = 0;
+        try {
+            for (int i = 0; i < statements.size(); i++) {
+                stmt = statements.get(i);
+                beforeBinding();
+                if (binder == null) {
+                    binder = new ArgumentBinder.Prepared(this, parsedParameters, bindings.get(0));
+                }
+                binder.stmt = stmt;
+                final int rows = statementRows.get(i);
+                final int executions = i == 0 ? fullStatements : 1;
+                for (int execution = 0; execution < executions; execution++) {
+                    for (int r = 0; r < rows; r++) {
+                        final Binding binding = bindings.get(row++);
+                        ctx.setBinding(binding);
+                        binder.parameterOffset = r * parametersPerRow;
+                        binder.bind(binding);
+                    }
+                    stmt.addBatch();
+                }
+            }
+        } catch (SQLException e) {
+            throw new UnableToExecuteStatementException("Exception while binding parameters", e, ctx);
+        }
+
+        if (timed) {
+            ctx.addBindingNanos(System.nanoTime() - bindingStart);
+        }
+
+        for (PreparedStatement statement : statements) {
+            stmt = statement;
+            beforeExecution();
+        }
+
+        try {
+            final int[] updateCounts = SqlLoggerUtil.wrap(() -> {
+                final int[] counts = new int[rowCount];
+                int first = 0;
+                for (int i = 0; i < statements.size(); i++) {
+                    final int rows = statementRows.get(i);
+                    for (int statementCount : statements.get(i).executeBatch()) {
+                        Arrays.fill(counts, first, first + rows, rowUpdateCount(statementCount, rows));
+                        first += rows;
+                    }
+                }
+                return counts;
+            }, ctx, getConfig(SqlStatements.class).getSqlLogger());
+
+            for (PreparedStatement statement : statements) {
+                stmt = statement;
+                afterExecution();
+            }
+
+            ctx.setBinding(new PreparedBinding(ctx));
+
+            stmt = statements.get(0);
+            return new ExecutedBatch(stmt, updateCounts);
+        } catch (SQLException e) {
+            throw new UnableToExecuteStatementException(Batch.mungeBatchException(e), ctx);
+        }
+    }
+
+    private static int rowUpdateCount(int statementCount, int rows) {
+        // a simple insert reports one row per tuple. Anything else can not be attributed to single rows.
+        if (statementCount == rows) {
+            return 1;
+        }
+        return statementCount == Statement.EXECUTE_FAILED ? Statement.EXECUTE_FAILED : Statement.SUCCESS_NO_INFO;
+    }
+
+    private PreparedStatement createMultiRowStatement(String multiRowSql) {
+        try {
+            final PreparedStatement statement = createStatement(multiRowSql);
+            getContext().addCleanable(() -> getHandle().getStatementBuilder().close(getHandle().getConnection(), multiRowSql, statement));
+            getConfig(SqlStatements.class).customize(statement);
+            return statement;
+        } catch (SQLException e) {
+            throw new UnableToCreateStatementException(e, getContext());
+        }
+    }
+
     /**
      * Add the current binding as a saved batch and clear the binding.
      * @return this
@@ -310,6 +439,316 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
         return this;
     }
 
+    /**
+     * Bind a column of values to a named parameter of a columnar batch.
+     *
+     * @param name the parameter name
+     * @param values the column values, one per row
+     * @return this
+     * @see #executeColumns(int)
+     */
+    @Alpha
+    public PreparedBatch bindColumn(String name, int[] values) {
+        namedColumns.put(name, BatchColumn.of(values));
+        return this;
+    }
+
+    /**
+     * Bind a column of values to a named parameter of a columnar batch.
+     *
+     * @param name the parameter name
+     * @param values the column values, one per row
+     * @return this
+     * @see #executeColumns(int)
+     */
+    @Alpha
+    public PreparedBatch bindColumn(String name, long[] values) {
+        namedColumns.put(name, BatchColumn.of(values));
+        return this;
+    }
+
+    /**
+     * Bind a column of values to a named parameter of a columnar batch.
+     *
+     * @param name the parameter name
+     * @param values the column values, one per row
+     * @return this
+     * @see #executeColumns(int)
+     */
+    @Alpha
+    public PreparedBatch bindColumn(String name, double[] values) {
+        namedColumns.put(name, BatchColumn.of(values));
+        return this;
+    }
+
+    /**
+     * Bind a column of values to a named parameter of a columnar batch. The values are bound with the argument
+     * factory for the component type of the array, or for the type of each value if the array is an {@code Object[]}.
+     *
+     * @param name the parameter name
+     * @param values the column values, one per row
+     * @return this
+     * @see #executeColumns(int)
+     */
+    @Alpha
+    public PreparedBatch bindColumn(String name, Object[] values) {
+        namedColumns.put(name, objectColumn(Arrays.asList(values), values.getClass().getComponentType()));
+        return this;
+    }
+
+    /**
+     * Bind a column of values to a named parameter of a columnar batch. The values are bound with the argument
+     * factory for the type of each value.
+     *
+     * @param name the parameter name
+     * @param values the column values, one per row
+     * @return this
+     * @see #executeColumns(int)
+     */
+    @Alpha
+    public PreparedBatch bindColumn(String name, List<?> values) {
+        namedColumns.put(name, objectColumn(values, Object.class));
+        return this;
+    }
+
+    /**
+     * Bind a column of values to a positional parameter of a columnar batch.
+     *
+     * @param position the parameter position, starting at 0
+     * @param values the column values, one per row
+     * @return this
+     * @see #executeColumns(int)
+     */
+    @Alpha
+    public PreparedBatch bindColumn(int position, int[] values) {
+        positionalColumns.put(position, BatchColumn.of(values));
+        return this;
+    }
+
+    /**
+     * Bind a column of values to a positional parameter of a columnar batch.
+     *
+     * @param position the parameter position, starting at 0
+     * @param values the column values, one per row
+     * @return this
+     * @see #executeColumns(int)
+     */
+    @Alpha
+    public PreparedBatch bindColumn(int position, long[] values) {
+        positionalColumns.put(position, BatchColumn.of(values));
+        return this;
+    }
+
+    /**
+     * Bind a column of values to a positional parameter of a columnar batch.
+     *
+     * @param position the parameter position, starting at 0
+     * @param values the column values, one per row
+     * @return this
+     * @see #executeColumns(int)
+     */
+    @Alpha
+    public PreparedBatch bindColumn(int position, double[] values) {
+        positionalColumns.put(position, BatchColumn.of(values));
+        return this;
+    }
+
+    /**
+     * Bind a column of values to a positional parameter of a columnar batch. The values are bound with the argument
+     * factory for the component type of the array, or for the type of each value if the array is an {@code Object[]}.
+     *
+     * @param position the parameter position, starting at 0
+     * @param values the column values, one per row
+     * @return this
+     * @see #executeColumns(int)
+     */
+    @Alpha
+    public PreparedBatch bindColumn(int position, Object[] values) {
+        positionalColumns.put(position, objectColumn(Arrays.asList(values), values.getClass().getComponentType()));
+        return this;
+    }
+
+    /**
+     * Bind a column of values to a positional parameter of a columnar batch. The values are bound with the argument
+     * factory for the type of each value.
+     *
+     * @param position the parameter position, starting at 0
+     * @param values the column values, one per row
+     * @return this
+     * @see #executeColumns(int)
+     */
+    @Alpha
+    public PreparedBatch bindColumn(int position, List<?> values) {
+        positionalColumns.put(position, objectColumn(values, Object.class));
+        return this;
+    }
+
+    private BatchColumn objectColumn(List<?> values, Class<?> elementType) {
+        return BatchColumn.of(values, elementType, type -> buildArgument(getConfig(Qualifiers.class).qualifiedTypeOf(type)));
+    }
+
+    /**
+     * Execute the batch for the first <code>rowCount</code> values of the bound columns and return the number of rows
+     * affected for each row.
+     * <br>
+     * Every parameter is bound from its column for each row. Primitive columns are bound with
+     * {@link PreparedStatement#setInt(int, int)}, {@link PreparedStatement#setLong(int, long)} and
+     * {@link PreparedStatement#setDouble(int, double)}. Parameters without a column use the value bound to the batch
+     * with the regular {@code bind} methods for every row. No per-row binding is created, and the rows are sent to the
+     * database in chunks of {@link PreparedBatches#getColumnChunkSize()} rows, so columns of any size can be loaded.
+     * The chunks are executed one after the other; use a transaction if all rows must be inserted atomically.
+     * <br>
+     * Columnar execution can not be combined with rows added by {@link #add()}.
+     *
+     * @param rowCount the number of rows to execute
+     * @return the number of rows affected per row
+     * @throws IllegalArgumentException if a bound column has fewer than <code>rowCount</code> values
+     */
+    @Alpha
+    public int[] executeColumns(int rowCount) {
+        try {
+            return internalColumnExecute(rowCount);
+        } finally {
+            close();
+        }
+    }
+
+    private int[] internalColumnExecute(int rowCount) {
+        try {
+            if (!bindings.isEmpty()) {
+                throw new IllegalStateException("Columnar execution can not be combined with rows added by add()");
+            }
+            if (rowCount < 0) {
+                throw new IllegalArgumentException("rowCount must not be negative, got " + rowCount);
+            }
+            checkColumnSizes(namedColumns, rowCount);
+            checkColumnSizes(positionalColumns, rowCount);
+
+            beforeTemplating();
+
+            final StatementContext ctx = getContext();
+            final ParsedSql parsedSql = parseSql();
+
+            try {
+                stmt = createStatement(parsedSql.getSql());
+
+                getContext().addCleanable(() -> cleanupStatement(stmt));
+                getConfig(SqlStatements.class).customize(stmt);
+            } catch (SQLException e) {
+                throw new UnableToCreateStatementException(e, ctx);
+            }
+
+            if (rowCount == 0) {
+                return new int[0];
+            }
+
+            final BatchColumn[] columns = columnsFor(parsedSql.getParameters());
+            final int chunkSize = getConfig(PreparedBatches.class).getColumnChunkSize();
+            final int[] updateCounts = new int[rowCount];
+
+            beforeBinding();
+            bindColumnRows(columns, 0, Math.min(chunkSize, rowCount));
+            beforeExecution();
+
+            try {
+                SqlLoggerUtil.wrap(() -> {
+                    int first = 0;
+                    while (first < rowCount) {
+                        final int last = Math.min(first + chunkSize, rowCount);
+                        if (first > 0) {
+                            bindColumnRows(columns, first, last);
+                        }
+                        final int[] counts = stmt.executeBatch();
+                        System.arraycopy(counts, 0, updateCounts, first, Math.min(counts.length, last - first));
+                        first = last;
+                    }
+                    return updateCounts;
+                }, ctx, getConfig(SqlStatements.class).getSqlLogger());
+
+                afterExecution();
+
+                ctx.setBinding(new PreparedBinding(ctx));
+
+                return updateCounts;
+            } catch (SQLException e) {
+                throw new UnableToExecuteStatementException(Batch.mungeBatchException(e), ctx);
+            }
+        } finally {
+            namedColumns.clear();
+            positionalColumns.clear();
+        }
+    }
+
+    private void checkColumnSizes(Map<?, BatchColumn> columns, int rowCount) {
+        columns.forEach((key, column) -> {
+            if (column.size() < rowCount) {
+                throw new IllegalArgumentException(String.format("Column '%s' has %d values, expected at least %d", key, column.size(), rowCount));
+            }
+        });
+    }
+
+    private BatchColumn[] columnsFor(ParsedParameters parameters) {
+        final StatementContext ctx = getContext();
+        final PreparedBinding constants = getBinding();
+        final ArgumentBinder binder = new ArgumentBinder(stmt, ctx, parameters);
+        final List<String> names = parameters.getParameterNames();
+        final BatchColumn[] columns = new BatchColumn[parameters.getParameterCount()];
+
+        for (int i = 0; i < columns.length; i++) {
+            if (parameters.isPositional()) {
+                columns[i] = positionalColumns.get(i);
+                if (columns[i] == null) {
+                    if (!constants.positionals.containsKey(i)) {
+                        throw new UnableToCreateStatementException(String.format("Missing column or positional parameter %d", i), ctx);
+                    }
+                    columns[i] = BatchColumn.constant(constantArgument(binder, constants.positionals.get(i)));
+                }
+            } else {
+                final String name = names.get(i);
+                columns[i] = namedColumns.get(name);
+                if (columns[i] == null) {
+                    columns[i] = BatchColumn.constant(constantArgument(binder, constants, name));
+                }
+            }
+        }
+        return columns;
+    }
+
+    private Argument constantArgument(ArgumentBinder binder, Object value) {
+        return binder.argumentFactoryForType(binder.typeOf(value)).apply(ArgumentBinder.unwrap(value));
+    }
+
+    private Argument constantArgument(ArgumentBinder binder, PreparedBinding constants, String name) {
+        if (constants.named.containsKey(name)) {
+            return constantArgument(binder, constants.named.get(name));
+        }
+        return Stream.concat(constants.namedArgumentFinder.stream(), constants.realizedBackupArgumentFinders.get().stream())
+                .flatMap(finder -> finder.find(name, getContext()).stream())
+                .findFirst()
+                .orElseThrow(() -> new UnableToCreateStatementException(String.format("Missing column or named parameter '%s'", name), getContext()));
+    }
+
+    private void bindColumnRows(BatchColumn[] columns, int first, int last) {
+        final StatementContext ctx = getContext();
+        final boolean timed = getConfig(JdbiMetrics.class).isPhaseTimingEnabled();
+        final long bindingStart = timed ? System.nanoTime() : 0;
+
+        try {
+            for (int row = first; row < last; row++) {
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i].bind(stmt, i + 1, row, ctx);
+                }
+                stmt.addBatch();
+            }
+        } catch (SQLException e) {
+            throw new UnableToExecuteStatementException("Exception while binding parameters", e, ctx);
+        }
+
+        if (timed) {
+            ctx.addBindingNanos(System.nanoTime() - bindingStart);
+        }
+    }
+
     /**
      * Returns the number of bindings in this batch.
      *
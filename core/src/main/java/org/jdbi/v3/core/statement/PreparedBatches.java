@@ -0,0 +1,161 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Configuration for {@link PreparedBatch} execution.
+ * <br>
+ * Many drivers (e.g. H2, SQLite, or PostgreSQL without <code>reWriteBatchedInserts</code>) execute every row of a batch
+ * as a separate statement. When multi-row inserts are enabled, {@link PreparedBatch#execute()} rewrites a simple
+ * <code>INSERT INTO ... VALUES (...)</code> statement into <code>INSERT INTO ... VALUES (...), (...), ...</code> and binds
+ * multiple rows into each statement. To keep the number of distinct SQL strings small, statements contain a power of two
+ * rows, up to {@link #getMaxRowsPerStatement()} rows and at most {@link #getMaxParametersPerStatement()} parameters.
+ * <br>
+ * A rewritten batch may execute as multiple statements. Use a transaction if all rows must be inserted atomically.
+ * Batches that return generated keys or results are never rewritten.
+ */
+@Alpha
+public final class PreparedBatches implements JdbiConfig<PreparedBatches> {
+
+    private static final int DEFAULT_MAX_PARAMETERS = 999;
+    private static final int DEFAULT_MAX_ROWS = 256;
+    private static final int DEFAULT_COLUMN_CHUNK_SIZE = 1000;
+
+    private boolean multiRowInserts;
+    private int maxParametersPerStatement = DEFAULT_MAX_PARAMETERS;
+    private int maxRowsPerStatement = DEFAULT_MAX_ROWS;
+    private int columnChunkSize = DEFAULT_COLUMN_CHUNK_SIZE;
+
+    public PreparedBatches() {}
+
+    private PreparedBatches(PreparedBatches that) {
+        this.multiRowInserts = that.multiRowInserts;
+        this.maxParametersPerStatement = that.maxParametersPerStatement;
+        this.maxRowsPerStatement = that.maxRowsPerStatement;
+        this.columnChunkSize = that.columnChunkSize;
+    }
+
+    /**
+     * Returns true if batches of simple insert statements are rewritten into multi-row inserts.
+     *
+     * @return true if multi-row inserts are enabled
+     */
+    public boolean isMultiRowInserts() {
+        return multiRowInserts;
+    }
+
+    /**
+     * Rewrite batches of simple insert statements into multi-row inserts. Off by default.
+     *
+     * @param multiRowInserts true to enable multi-row inserts
+     * @return this
+     */
+    public PreparedBatches setMultiRowInserts(boolean multiRowInserts) {
+        this.multiRowInserts = multiRowInserts;
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of bind parameters in a rewritten insert statement.
+     *
+     * @return the maximum number of parameters
+     */
+    public int getMaxParametersPerStatement() {
+        return maxParametersPerStatement;
+    }
+
+    /**
+     * Sets the maximum number of bind parameters in a rewritten insert statement. The default of 999 is safe for all
+     * common databases; PostgreSQL and Oracle allow up to 65535, SQL Server 2100 parameters.
+     *
+     * @param maxParametersPerStatement the maximum number of parameters
+     * @return this
+     */
+    public PreparedBatches setMaxParametersPerStatement(int maxParametersPerStatement) {
+        if (maxParametersPerStatement < 1) {
+            throw new IllegalArgumentException("maxParametersPerStatement must be positive, got " + maxParametersPerStatement);
+        }
+        this.maxParametersPerStatement = maxParametersPerStatement;
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of rows in a rewritten insert statement.
+     *
+     * @return the maximum number of rows
+     */
+    public int getMaxRowsPerStatement() {
+        return maxRowsPerStatement;
+    }
+
+    /**
+     * Sets the maximum number of rows in a rewritten insert statement. Defaults to 256.
+     *
+     * @param maxRowsPerStatement the maximum number of rows
+     * @return this
+     */
+    public PreparedBatches setMaxRowsPerStatement(int maxRowsPerStatement) {
+        if (maxRowsPerStatement < 1) {
+            throw new IllegalArgumentException("maxRowsPerStatement must be positive, got " + maxRowsPerStatement);
+        }
+        this.maxRowsPerStatement = maxRowsPerStatement;
+        return this;
+    }
+
+    /**
+     * Returns the number of rows that a columnar batch sends to the database with each {@code executeBatch} call.
+     *
+     * @return the number of rows per chunk
+     * @see PreparedBatch#executeColumns(int)
+     */
+    public int getColumnChunkSize() {
+        return columnChunkSize;
+    }
+
+    /**
+     * Sets the number of rows that a columnar batch sends to the database with each {@code executeBatch} call.
+     * Larger chunks need fewer round trips, smaller chunks keep less pending batch data in the driver. Defaults to 1000.
+     *
+     * @param columnChunkSize the number of rows per chunk
+     * @return this
+     * @see PreparedBatch#executeColumns(int)
+     */
+    public PreparedBatches setColumnChunkSize(int columnChunkSize) {
+        if (columnChunkSize < 1) {
+            throw new IllegalArgumentException("columnChunkSize must be positive, got " + columnChunkSize);
+        }
+        this.columnChunkSize = columnChunkSize;
+        return this;
+    }
+
+    /**
+     * Returns the number of rows that the largest rewritten statement contains, rounded down to a power of two.
+     * Returns 1 if the statement should not be rewritten.
+     */
+    int rowsPerStatement(int parametersPerRow) {
+        if (!multiRowInserts) {
+            return 1;
+        }
+        int rows = Math.min(maxRowsPerStatement, maxParametersPerStatement / Math.max(parametersPerRow, 1));
+        return rows < 2 ? 1 : Integer.highestOneBit(rows);
+    }
+
+    @Override
+    public PreparedBatches createCopy() {
+        return new PreparedBatches(this);
+    }
+}
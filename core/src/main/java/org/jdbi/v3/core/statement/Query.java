@@ -15,18 +15,28 @@ package org.jdbi.v3.core.statement;
 
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.mapper.ColumnMappers;
+import org.jdbi.v3.core.mapper.RowMappers;
+import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.result.ResultBearing;
+import org.jdbi.v3.core.result.ResultIterable;
+import org.jdbi.v3.core.result.ResultIterator;
 import org.jdbi.v3.core.result.ResultProducer;
 import org.jdbi.v3.core.result.ResultProducers;
 import org.jdbi.v3.core.result.ResultSetScanner;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
+import org.jdbi.v3.meta.Alpha;
 
 /**
  * Statement providing convenience result handling for SQL queries.
  */
 public class Query extends SqlStatement<Query> implements ResultBearing {
+    private List<String> cacheTags;
+
     public Query(Handle handle, CharSequence sql) {
         super(handle, sql);
     }
@@ -61,6 +71,65 @@ public class Query extends SqlStatement<Query> implements ResultBearing {
         return execute(ResultProducers.returningResults()).scanResultSet(resultSetScanner);
     }
 
+    @Override
+    public <T> ResultIterable<T> mapTo(QualifiedType<T> type) {
+        if (cacheTags == null) {
+            return ResultBearing.super.mapTo(type);
+        }
+        return () -> cachedIterator(type);
+    }
+
+    /**
+     * Cache the results of this query in the {@link CachedResults} of the Jdbi instance. Only results mapped
+     * with one of the {@code mapTo} methods are cached. Bound arrays and collections are compared by content; queries
+     * with bindings that can not be compared by value (beans, raw arguments or types without value based {@code equals}),
+     * or that are mapped by other mappers than those of the Jdbi instance, are executed every time.
+     *
+     * @param tags the tags of the cached results, usually the names of the tables this query reads
+     * @return the modified query
+     * @see SqlStatement#invalidateCachedResults(String...)
+     */
+    @Alpha
+    public Query cacheResults(String... tags) {
+        this.cacheTags = List.of(tags);
+        return this;
+    }
+
+    private <T> ResultIterator<T> cachedIterator(QualifiedType<T> type) {
+        Object bindings = getBinding().valueKey();
+        if (bindings == null || !mapsLikeJdbi(type)) {
+            return ResultBearing.super.mapTo(type).iterator();
+        }
+
+        final StatementContext ctx = getContext();
+        String renderedSql = renderTemplate();
+
+        boolean[] executed = new boolean[1];
+        List<T> rows;
+        try {
+            rows = getConfig(CachedResults.class)
+                .get(renderedSql, bindings, type, cacheTags, () -> {
+                    executed[0] = true;
+                    return ResultBearing.super.mapTo(type).list();
+                });
+        } finally {
+            discardTemplate();
+        }
+
+        // list() has closed the context if the query was executed
+        return new CachedResultIterator<>(rows, ctx, !executed[0]);
+    }
+
+    // cached results are shared by all handles, so only results that are mapped by the mappers of the Jdbi instance are cached
+    private boolean mapsLikeJdbi(QualifiedType<?> type) {
+        ConfigRegistry jdbiConfig = getHandle().getJdbi().getConfig();
+        if (type.getQualifiers().isEmpty()
+            && !jdbiConfig.get(RowMappers.class).findFor(type.getType()).equals(getConfig(RowMappers.class).findFor(type.getType()))) {
+            return false;
+        }
+        return jdbiConfig.get(ColumnMappers.class).findFor(type).equals(getConfig(ColumnMappers.class).findFor(type));
+    }
+
     /**
      * Specify the fetch size for the query. This should cause the results to be
      * fetched from the underlying RDBMS in groups of rows equal to the number passed.
@@ -14,7 +14,6 @@
 package org.jdbi.v3.core.statement;
 
 import java.sql.SQLException;
-import java.time.Instant;
 
 import org.jdbi.v3.core.internal.UtilityClassException;
 import org.jdbi.v3.core.statement.internal.SqlLoggable;
@@ -25,19 +24,27 @@ class SqlLoggerUtil {
     }
 
     static <T> T wrap(SqlLoggable<T> r, StatementContext ctx, SqlLogger logger) throws SQLException {
+        // the no-op logger never looks at the context, so only record the (cheap) monotonic time stamps.
+        final boolean logging = logger != SqlLogger.NOP_SQL_LOGGER;
         try {
-            ctx.setExecutionMoment(Instant.now());
-            logger.logBeforeExecution(ctx);
+            ctx.recordExecution(logging);
+            if (logging) {
+                logger.logBeforeExecution(ctx);
+            }
 
             T result = r.invoke();
 
-            ctx.setCompletionMoment(Instant.now());
-            logger.logAfterExecution(ctx);
+            ctx.recordCompletion(logging);
+            if (logging) {
+                logger.logAfterExecution(ctx);
+            }
 
             return result;
         } catch (SQLException e) {
-            ctx.setExceptionMoment(Instant.now());
-            logger.logException(ctx, e);
+            ctx.recordException(logging);
+            if (logging) {
+                logger.logException(ctx, e);
+            }
             throw e;
         }
     }
@@ -53,10 +53,12 @@ import org.jdbi.v3.core.internal.IterableLike;
 import org.jdbi.v3.core.mapper.Mappers;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.immutables.JdbiImmutables;
+import org.jdbi.v3.core.metrics.JdbiMetrics;
 import org.jdbi.v3.core.qualifier.NVarchar;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.statement.internal.JfrSupport;
 import org.jdbi.v3.core.statement.internal.OptionalEvent;
+import org.jdbi.v3.meta.Alpha;
 import org.jdbi.v3.meta.Beta;
 
 import static java.util.stream.Collectors.joining;
@@ -73,6 +75,8 @@ import static org.jdbi.v3.core.generic.GenericTypes.parameterizeClass;
 public abstract class SqlStatement<This extends SqlStatement<This>> extends BaseStatement<This> {
     private final String sql;
     PreparedStatement stmt;
+    // the customizers have already run before templating for the next execution
+    private boolean templated;
 
     SqlStatement(Handle handle,
                  CharSequence sql) {
@@ -1781,6 +1785,20 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
         return addCustomizer(new DefineNamedBindingsStatementCustomizer());
     }
 
+    /**
+     * Invalidate all {@link CachedResults cached results} with any of the given tags once this statement has run.
+     * If the statement runs in a transaction, the results are invalidated after the transaction commits.
+     *
+     * @param tags the tags to invalidate, usually the names of the tables this statement modifies
+     * @return this
+     * @see Query#cacheResults(String...)
+     */
+    @Alpha
+    public This invalidateCachedResults(String... tags) {
+        getConfig(CachedResults.class).invalidateAfterExecution(this, List.of(tags));
+        return typedThis;
+    }
+
     @Override
     public String toString() {
         return String.format("%s[sql=%s, bindings=%s]", getClass().getSimpleName(), sql, getContext().getBinding());
@@ -1791,7 +1809,11 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
         final OptionalEvent evt = JfrSupport.newStatementEvent();
         evt.begin();
 
-        beforeTemplating();
+        if (templated) {
+            templated = false;
+        } else {
+            beforeTemplating();
+        }
 
         ParsedSql parsedSql = parseSql();
 
@@ -1809,8 +1831,15 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
 
         beforeBinding();
 
+        final boolean timed = getConfig(JdbiMetrics.class).isPhaseTimingEnabled();
+        final long bindingStart = timed ? System.nanoTime() : 0;
+
         new ArgumentBinder(stmt, ctx, parsedSql.getParameters()).bind(getBinding());
 
+        if (timed) {
+            ctx.addBindingNanos(System.nanoTime() - bindingStart);
+        }
+
         beforeExecution();
 
         attachJfrEvent(evt, ctx);
@@ -1866,6 +1895,20 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
         callCustomizers(c -> c.beforeTemplating(stmt, getContext()));
     }
 
+    /**
+     * Runs the customizers before templating and renders the sql. The next execution of this statement
+     * does not run these customizers again, unless {@link #discardTemplate()} is called first.
+     */
+    String renderTemplate() {
+        beforeTemplating();
+        templated = true;
+        return getConfig(SqlStatements.class).preparedRender(sql, getContext());
+    }
+
+    void discardTemplate() {
+        templated = false;
+    }
+
     void beforeBinding() {
         callCustomizers(c -> c.beforeBinding(stmt, getContext()));
     }
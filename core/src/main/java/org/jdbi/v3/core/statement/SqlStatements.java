@@ -35,8 +35,12 @@ import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.cache.JdbiCacheBuilder;
 import org.jdbi.v3.core.cache.JdbiCacheLoader;
 import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Alpha;
 import org.jdbi.v3.meta.Beta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Configuration holder for {@link SqlStatement}s.
@@ -46,10 +50,15 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
     /** The default size of the SQL template cache. */
     public static final int SQL_TEMPLATE_CACHE_SIZE = 1_000;
 
+    private static final Logger LOG = LoggerFactory.getLogger(SqlStatements.class);
+
+    private ConfigRegistry registry;
+
     private final Map<String, Object> attributes;
     private TemplateEngine templateEngine;
     private JdbiCache<StatementCacheKey, Function<StatementContext, String>> templateCache;
     private SqlParser sqlParser;
+    private StartupSnapshot startupSnapshot;
     private SqlLogger sqlLogger;
     private Integer queryTimeout;
     private volatile boolean allowUnusedBindings;
@@ -79,6 +88,7 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         this.attributes = Collections.synchronizedMap(that.getAttributes()); // already copied
         this.templateEngine = that.templateEngine;
         this.sqlParser = that.sqlParser;
+        this.startupSnapshot = that.startupSnapshot;
         this.sqlLogger = that.sqlLogger;
         this.queryTimeout = that.queryTimeout;
         this.allowUnusedBindings = that.allowUnusedBindings;
@@ -207,6 +217,30 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         return this;
     }
 
+    /**
+     * Returns the {@link StartupSnapshot} that records parsed and located SQL, if any.
+     *
+     * @return the startup snapshot or null
+     */
+    @Alpha
+    @Nullable
+    public StartupSnapshot getStartupSnapshot() {
+        return startupSnapshot;
+    }
+
+    /**
+     * Sets a {@link StartupSnapshot}. Parsed SQL and located SQL object statements are taken from the snapshot and
+     * recorded in it. The default is no snapshot.
+     *
+     * @param startupSnapshot the startup snapshot, may be null
+     * @return this
+     */
+    @Alpha
+    public SqlStatements setStartupSnapshot(@Nullable StartupSnapshot startupSnapshot) {
+        this.startupSnapshot = startupSnapshot;
+        return this;
+    }
+
     /**
      * @return the timing collector
      * @deprecated use {@link #getSqlLogger} instead
@@ -438,6 +472,36 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         return contextListeners;
     }
 
+    /**
+     * Renders and parses a SQL template before its first use, so that the template cache and the cache of the
+     * {@link SqlParser} already hold it when the first statement is created. The template is rendered with the
+     * globally defined attributes. Templates that need statement specific attributes to render are only parsed
+     * by the template engine.
+     *
+     * @param template the SQL template
+     * @return this
+     * @throws IllegalStateException if this configuration is not part of a {@link ConfigRegistry}
+     */
+    @Alpha
+    public SqlStatements prepare(String template) {
+        Objects.requireNonNull(template, "template is null");
+        if (registry == null) {
+            throw new IllegalStateException("SqlStatements must be part of a ConfigRegistry to prepare templates");
+        }
+        try {
+            final StatementContext ctx = StatementContext.forPreparation(registry);
+            sqlParser.parse(preparedRender(template, ctx), ctx);
+        } catch (RuntimeException e) {
+            LOG.debug("Could not prepare SQL template '{}'", template, e);
+        }
+        return this;
+    }
+
+    @Override
+    public void setRegistry(ConfigRegistry registry) {
+        this.registry = registry;
+    }
+
     String preparedRender(String template, StatementContext ctx) {
         try {
             return Optional.ofNullable(
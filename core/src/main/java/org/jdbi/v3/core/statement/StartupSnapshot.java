@@ -0,0 +1,286 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.meta.Alpha;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the deterministic results of parsing SQL and of locating SQL object statements, so that they can be written
+ * to a file and loaded again when the application starts the next time. This helps short-lived processes which would
+ * otherwise pay for parsing and locating on every start.
+ * <br>
+ * A snapshot is used by setting it with {@link SqlStatements#setStartupSnapshot(StartupSnapshot)}. It records every
+ * SQL statement that is parsed by a {@link CachingSqlParser} and every SQL object statement that is located, up to
+ * {@link #MAX_ENTRIES} entries each. {@link #write(Path)} stores the snapshot in a file, {@link #load(Path)} maps the
+ * file into memory and reads it. A file is only used if it was written with the same classpath. The classpath hash covers
+ * the name, size and modification time of each classpath entry and of every file within a class directory, so that edited
+ * resources such as SQL files invalidate the snapshot.
+ * <br>
+ * Compiled templates and the extension metadata of SQL objects contain code and are not part of a snapshot.
+ */
+@Alpha
+public final class StartupSnapshot {
+
+    /** The maximum number of parsed and located SQL statements that are recorded. */
+    public static final int MAX_ENTRIES = 10_000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupSnapshot.class);
+
+    // "JDBS"
+    private static final int MAGIC = 0x4a444253;
+    private static final int VERSION = 1;
+
+    private final Map<String, Map<String, ParsedSql>> parsedSql = new ConcurrentHashMap<>();
+    private final Map<String, String> locatedSql = new ConcurrentHashMap<>();
+    private final boolean loaded;
+
+    /**
+     * Creates an empty snapshot.
+     */
+    public StartupSnapshot() {
+        this(false);
+    }
+
+    private StartupSnapshot(boolean loaded) {
+        this.loaded = loaded;
+    }
+
+    /**
+     * Loads a snapshot from a file. If the file does not exist, can not be read or was written with a different
+     * classpath, an empty snapshot is returned.
+     *
+     * @param file the snapshot file
+     * @return the {@link StartupSnapshot}
+     */
+    public static StartupSnapshot load(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                LOG.debug("Ignoring startup snapshot {}, unknown format", file);
+                return new StartupSnapshot();
+            }
+            if (!classpathHash().equals(readString(buffer))) {
+                LOG.debug("Ignoring startup snapshot {}, the classpath has changed", file);
+                return new StartupSnapshot();
+            }
+
+            final StartupSnapshot snapshot = new StartupSnapshot(true);
+
+            for (int parsers = buffer.getInt(); parsers > 0; parsers--) {
+                final Map<String, ParsedSql> entries = snapshot.parsedSqlFor(readString(buffer));
+                for (int count = buffer.getInt(); count > 0; count--) {
+                    final String rawSql = readString(buffer);
+                    final String sql = readString(buffer);
+                    final boolean positional = buffer.get() != 0;
+                    final List<String> names = new ArrayList<>();
+                    for (int parameters = buffer.getInt(); parameters > 0; parameters--) {
+                        names.add(readString(buffer));
+                    }
+                    entries.put(rawSql, ParsedSql.of(sql, new ParsedParameters(positional, names)));
+                }
+            }
+
+            for (int count = buffer.getInt(); count > 0; count--) {
+                snapshot.locatedSql.put(readString(buffer), readString(buffer));
+            }
+
+            return snapshot;
+        } catch (NoSuchFileException e) {
+            return new StartupSnapshot();
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Ignoring unreadable startup snapshot {}", file, e);
+            return new StartupSnapshot();
+        }
+    }
+
+    /**
+     * Writes the snapshot to a file. The file is replaced atomically.
+     *
+     * @param file the snapshot file
+     * @throws IOException if the file can not be written
+     */
+    public void write(Path file) throws IOException {
+        final Path target = file.toAbsolutePath();
+        final Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                writeString(out, classpathHash());
+
+                out.writeInt(parsedSql.size());
+                for (Map.Entry<String, Map<String, ParsedSql>> parser : parsedSql.entrySet()) {
+                    writeString(out, parser.getKey());
+                    // copy, entries may be added while writing
+                    final List<Map.Entry<String, ParsedSql>> entries = new ArrayList<>(parser.getValue().entrySet());
+                    out.writeInt(entries.size());
+                    for (Map.Entry<String, ParsedSql> entry : entries) {
+                        final ParsedParameters parameters = entry.getValue().getParameters();
+                        writeString(out, entry.getKey());
+                        writeString(out, entry.getValue().getSql());
+                        out.writeBoolean(parameters.isPositional());
+                        out.writeInt(parameters.getParameterCount());
+                        for (String name : parameters.getParameterNames()) {
+                            writeString(out, name);
+                        }
+                    }
+                }
+
+                final List<Map.Entry<String, String>> located = new ArrayList<>(locatedSql.entrySet());
+                out.writeInt(located.size());
+                for (Map.Entry<String, String> entry : located) {
+                    writeString(out, entry.getKey());
+                    writeString(out, entry.getValue());
+                }
+            }
+
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Returns true if the snapshot was loaded from a file that matched the classpath.
+     *
+     * @return true if the snapshot was loaded from a file
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Returns true if the snapshot holds neither parsed nor located SQL.
+     *
+     * @return true if the snapshot is empty
+     */
+    public boolean isEmpty() {
+        return locatedSql.isEmpty() && parsedSql.values().stream().allMatch(Map::isEmpty);
+    }
+
+    /**
+     * Returns the located SQL for a key from the snapshot. If the snapshot does not contain the key, the SQL is
+     * located and recorded. This is used to locate the SQL of SQL object methods.
+     *
+     * @param key     a key that identifies the SQL locator, the SQL object type and the method
+     * @param locator locates the SQL if it is not in the snapshot
+     * @return the located SQL
+     */
+    public String locate(String key, Supplier<String> locator) {
+        String sql = locatedSql.get(key);
+        if (sql == null) {
+            sql = locator.get();
+            if (locatedSql.size() < MAX_ENTRIES) {
+                locatedSql.put(key, sql);
+            }
+        }
+        return sql;
+    }
+
+    ParsedSql parse(String parserName, String sql, Function<String, ParsedSql> parser) {
+        final Map<String, ParsedSql> entries = parsedSqlFor(parserName);
+        ParsedSql parsed = entries.get(sql);
+        if (parsed == null) {
+            parsed = parser.apply(sql);
+            if (entries.size() < MAX_ENTRIES) {
+                entries.put(sql, parsed);
+            }
+        }
+        return parsed;
+    }
+
+    private Map<String, ParsedSql> parsedSqlFor(String parserName) {
+        return parsedSql.computeIfAbsent(parserName, p -> new ConcurrentHashMap<>());
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String classpathHash() {
+        return classpathHash(System.getProperty("java.class.path", ""));
+    }
+
+    static String classpathHash(String classpath) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String entry : classpath.split(File.pathSeparator)) {
+                final File file = new File(entry);
+                update(digest, entry, file);
+                if (file.isDirectory()) {
+                    hashDirectory(digest, file.toPath());
+                }
+            }
+
+            final StringBuilder hash = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // resources in a directory can change without changing the directory itself
+    private static void hashDirectory(MessageDigest digest, Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(Files::isRegularFile)
+                .sorted()
+                .forEach(path -> update(digest, directory.relativize(path).toString(), path.toFile()));
+        } catch (IOException | UncheckedIOException e) {
+            // an unreadable directory can not be checked, so no snapshot matches it
+            digest.update(Long.toString(System.nanoTime()).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void update(MessageDigest digest, String name, File file) {
+        digest.update((name + '\0' + file.length() + '\0' + file.lastModified() + '\0').getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -52,6 +52,7 @@ import org.jdbi.v3.core.mapper.ColumnMappers;
 import org.jdbi.v3.core.mapper.Mappers;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.RowMappers;
+import org.jdbi.v3.core.metrics.JdbiMetrics;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.meta.Alpha;
 import org.jdbi.v3.meta.Beta;
@@ -86,9 +87,7 @@ public class StatementContext implements Closeable {
     private String[] generatedKeysColumnNames = new String[0];
     private volatile boolean concurrentUpdatable = false;
 
-    private Instant executionMoment;
-    private Instant completionMoment;
-    private Instant exceptionMoment;
+    private final ExecutionTimes executionTimes = new ExecutionTimes();
     private volatile long mappedRows;
     private String traceId;
 
@@ -98,6 +97,11 @@ public class StatementContext implements Closeable {
         return context;
     }
 
+    // used to render and parse SQL ahead of its first use, context listeners are not notified
+    static StatementContext forPreparation(final ConfigRegistry config) {
+        return new StatementContext(config, null, null);
+    }
+
     private StatementContext(final ConfigRegistry config, final ExtensionMethod extensionMethod, final Type jdbiStatementType) {
         this.config = requireNonNull(config);
         this.extensionMethod = extensionMethod;
@@ -519,7 +523,7 @@ public class StatementContext implements Closeable {
      */
     @Nullable
     public Instant getExecutionMoment() {
-        return executionMoment;
+        return executionTimes.getExecutionMoment();
     }
 
     /**
@@ -529,7 +533,7 @@ public class StatementContext implements Closeable {
      * @param executionMoment Sets the start of query execution.
      */
     public void setExecutionMoment(Instant executionMoment) {
-        this.executionMoment = executionMoment;
+        executionTimes.setExecutionMoment(executionMoment);
     }
 
     /**
@@ -539,7 +543,7 @@ public class StatementContext implements Closeable {
      */
     @Nullable
     public Instant getCompletionMoment() {
-        return completionMoment;
+        return executionTimes.getCompletionMoment();
     }
 
     /**
@@ -549,7 +553,7 @@ public class StatementContext implements Closeable {
      * @param completionMoment Sets the end of query execution.
      */
     public void setCompletionMoment(Instant completionMoment) {
-        this.completionMoment = completionMoment;
+        executionTimes.setCompletionMoment(completionMoment);
     }
 
     /**
@@ -559,7 +563,7 @@ public class StatementContext implements Closeable {
      */
     @Nullable
     public Instant getExceptionMoment() {
-        return exceptionMoment;
+        return executionTimes.getExceptionMoment();
     }
 
     /**
@@ -569,7 +573,7 @@ public class StatementContext implements Closeable {
      * @param exceptionMoment Sets the end of query execution.
      */
     public void setExceptionMoment(Instant exceptionMoment) {
-        this.exceptionMoment = exceptionMoment;
+        executionTimes.setExceptionMoment(exceptionMoment);
     }
 
     /**
@@ -606,11 +610,92 @@ public class StatementContext implements Closeable {
 
     /**
      * Convenience method to measure elapsed time between start of query execution and completion or exception as appropriate. Do not call with a null argument or before a query has executed/exploded.
+     * The elapsed time is consistent with the moments returned by {@link #getExecutionMoment()}, {@link #getCompletionMoment()}
+     * and {@link #getExceptionMoment()}, including moments set explicitly.
      * @param unit the time unit to convert to
      * @return the elapsed time in the given unit
      */
     public long getElapsedTime(ChronoUnit unit) {
-        return unit.between(executionMoment, completionMoment == null ? exceptionMoment : completionMoment);
+        final long elapsedNanos = getElapsedNanos();
+        if (elapsedNanos < 0) {
+            final Instant completionMoment = getCompletionMoment();
+            return unit.between(getExecutionMoment(), completionMoment == null ? getExceptionMoment() : completionMoment);
+        }
+        return unit == ChronoUnit.NANOS ? elapsedNanos : unit.between(Instant.EPOCH, Instant.EPOCH.plusNanos(elapsedNanos));
+    }
+
+    /**
+     * Returns the elapsed time between start of query execution and completion or exception in nanoseconds, as measured
+     * by {@link System#nanoTime()}. If the execution, completion or exception moment was set explicitly, the elapsed time
+     * is derived from those moments instead. Only intended for internal instrumentation to call.
+     *
+     * @return the elapsed time in nanoseconds or -1 if the statement has not been executed by Jdbi
+     */
+    @Alpha
+    public long getElapsedNanos() {
+        return executionTimes.getElapsedNanos();
+    }
+
+    /**
+     * Returns the time spent binding arguments to the statement in nanoseconds. Only recorded if
+     * {@link org.jdbi.v3.core.metrics.JdbiMetrics#isPhaseTimingEnabled() phase timing} is enabled. Only intended for internal instrumentation to call.
+     *
+     * @return the binding time in nanoseconds
+     */
+    @Alpha
+    public long getBindingNanos() {
+        return executionTimes.getBindingNanos();
+    }
+
+    /**
+     * Returns the time spent mapping result rows in nanoseconds. Only recorded if
+     * {@link org.jdbi.v3.core.metrics.JdbiMetrics#isPhaseTimingEnabled() phase timing} is enabled. Only intended for internal instrumentation to call.
+     *
+     * @return the mapping time in nanoseconds
+     */
+    @Alpha
+    public long getMappingNanos() {
+        return executionTimes.getMappingNanos();
+    }
+
+    /**
+     * Instrument the time spent mapping result rows. Only intended for internal instrumentation to call.
+     *
+     * @param mappingNanos the additional mapping time in nanoseconds
+     */
+    @Alpha
+    public void addMappingNanos(final long mappingNanos) {
+        executionTimes.addMappingNanos(mappingNanos);
+    }
+
+    /**
+     * Returns true if the statement execution failed with an exception. Only intended for internal instrumentation to call.
+     *
+     * @return true if the statement execution failed
+     */
+    @Alpha
+    public boolean isExecutionFailed() {
+        return executionTimes.isFailed();
+    }
+
+    void addBindingNanos(final long bindingNanos) {
+        executionTimes.addBindingNanos(bindingNanos);
+    }
+
+    /**
+     * Records the start of query execution. The {@link Instant} is only taken eagerly if someone (e.g. a {@link SqlLogger}) will
+     * look at it, otherwise it is derived on first access from a recent wall clock reading and the monotonic clock.
+     */
+    void recordExecution(final boolean eagerMoment) {
+        executionTimes.recordExecution(eagerMoment);
+    }
+
+    void recordCompletion(final boolean eagerMoment) {
+        executionTimes.recordCompletion(eagerMoment);
+    }
+
+    void recordException(final boolean eagerMoment) {
+        executionTimes.recordException(eagerMoment);
     }
 
     /**
@@ -634,32 +719,40 @@ public class StatementContext implements Closeable {
 
     @Override
     public void close() {
+        ThrowableSuppressor throwableSuppressor = new ThrowableSuppressor();
+
+        // a failing listener or metrics collector is attached to a cleanup failure instead of replacing it
+        throwableSuppressor.suppressAppend(this::closeCleanables);
+        throwableSuppressor.suppressAppend(this::notifyContextCleaned);
+        if (executionTimes.markReported()) {
+            throwableSuppressor.suppressAppend(() -> getConfig(JdbiMetrics.class).statementCompleted(this));
+        }
 
-        try {
-            List<Cleanable> cleanablesCopy;
+        throwableSuppressor.throwIfNecessary();
+    }
 
-            synchronized (cleanables) {
-                if (cleanables.isEmpty()) {
-                    return; // only notify that the context was cleaned.
-                }
+    private void closeCleanables() {
+        List<Cleanable> cleanablesCopy;
 
-                cleanablesCopy = new ArrayList<>(cleanables);
-                cleanables.clear();
+        synchronized (cleanables) {
+            if (cleanables.isEmpty()) {
+                return; // only notify that the context was cleaned.
             }
 
-            Collections.reverse(cleanablesCopy);
-            cleanablesCopy.forEach(this::notifyCleanableRemoved);
+            cleanablesCopy = new ArrayList<>(cleanables);
+            cleanables.clear();
+        }
 
-            ThrowableSuppressor throwableSuppressor = new ThrowableSuppressor();
+        Collections.reverse(cleanablesCopy);
+        cleanablesCopy.forEach(this::notifyCleanableRemoved);
 
-            for (Cleanable cleanable : cleanablesCopy) {
-                throwableSuppressor.suppressAppend(cleanable::close);
-            }
+        ThrowableSuppressor throwableSuppressor = new ThrowableSuppressor();
 
-            throwableSuppressor.throwIfNecessary(t -> new CloseException("Exception thrown while cleaning StatementContext", t));
-        } finally {
-            notifyContextCleaned();
+        for (Cleanable cleanable : cleanablesCopy) {
+            throwableSuppressor.suppressAppend(cleanable::close);
         }
+
+        throwableSuppressor.throwIfNecessary(t -> new CloseException("Exception thrown while cleaning StatementContext", t));
     }
 
     public ExtensionMethod getExtensionMethod() {
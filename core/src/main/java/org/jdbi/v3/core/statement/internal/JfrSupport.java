@@ -18,6 +18,7 @@ import java.lang.reflect.Method;
 import org.jdbi.v3.core.statement.JdbiStatementEvent;
 
 public final class JfrSupport {
+    private static final OptionalEvent NO_STATEMENT_EVENT = new NoStatementEvent();
     private static final boolean JFR_AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
     private static final boolean FLIGHT_RECORDER_AVAILABLE;
 
@@ -52,18 +53,28 @@ public final class JfrSupport {
         return FLIGHT_RECORDER_AVAILABLE;
     }
 
+    /**
+     * Returns a new statement event if a recording has the {@link JdbiStatementEvent} enabled. Otherwise a shared, stateless
+     * event is returned that never commits, so that no per-statement allocation happens while nobody is listening.
+     */
     public static OptionalEvent newStatementEvent() {
-        if (isFlightRecorderAvailable()) {
+        if (isFlightRecorderAvailable() && Holder.isEnabled()) {
             return Holder.newEvent();
         } else {
-            return new NoStatementEvent();
+            return NO_STATEMENT_EVENT;
         }
     }
 
     private static final class Holder {
+        private static final jdk.jfr.EventType EVENT_TYPE = jdk.jfr.EventType.getEventType(JdbiStatementEvent.class);
+
         private Holder() {}
 
-        public static OptionalEvent newEvent() {
+        static boolean isEnabled() {
+            return EVENT_TYPE.isEnabled();
+        }
+
+        static OptionalEvent newEvent() {
             return new JdbiStatementEvent();
         }
     }
@@ -0,0 +1,179 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement.internal;
+
+import org.jdbi.v3.core.internal.UtilityClassException;
+
+/**
+ * Single pass scanner for named parameters and defined attributes in SQL statements.
+ * <p>
+ * Quoted text, double quoted text and comments are passed through unchanged. A backslash escapes the following
+ * character, which is passed through without the backslash. {@code ::} (casts) and {@code ??} are never parameters.
+ * This scanner reports text as ranges of the scanned string and does not allocate per token.
+ */
+public final class SqlScanner {
+    private SqlScanner() {
+        throw new UtilityClassException();
+    }
+
+    /**
+     * Scans a SQL statement.
+     *
+     * @param sql     the statement
+     * @param syntax  the tokens to recognize
+     * @param handler receives the tokens
+     */
+    public static void scan(String sql, Syntax syntax, Handler handler) {
+        final int length = sql.length();
+        final boolean parameters = syntax != Syntax.DEFINED_ATTRIBUTES;
+        int textStart = 0;
+        int i = 0;
+
+        while (i < length) {
+            final char c = sql.charAt(i);
+            final char next = i + 1 < length ? sql.charAt(i + 1) : 0;
+
+            if (c == '/' && next == '*') {
+                final int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? i + 1 : end + 2;
+            } else if ((c == '/' || c == '-') && next == c) {
+                i = lineEnd(sql, i + 2);
+            } else if (c == '\'') {
+                i = quotedEnd(sql, i);
+            } else if (c == '"') {
+                final int end = i + 1 < length && next != '"' ? sql.indexOf('"', i + 2) : -1;
+                i = end < 0 ? i + 1 : end + 1;
+            } else if (c == '\\' && i + 1 < length) {
+                // the escaped character starts the next text range
+                handler.text(textStart, i);
+                textStart = i + 1;
+                i += 2;
+            } else if (c == '?' && parameters) {
+                if (next == '?') {
+                    i += 2;
+                } else {
+                    handler.text(textStart, i);
+                    handler.positionalParameter();
+                    i++;
+                    textStart = i;
+                }
+            } else if (c == ':' && syntax == Syntax.COLON_PARAMETERS && next == ':') {
+                i += 2;
+            } else if ((c == ':' && syntax == Syntax.COLON_PARAMETERS) || (c == '#' && syntax == Syntax.HASH_PARAMETERS)) {
+                final int end = nameEnd(sql, i + 1, true);
+                if (end > i + 1) {
+                    handler.text(textStart, i);
+                    handler.name(i + 1, end);
+                    textStart = end;
+                }
+                i = Math.max(end, i + 1);
+            } else if (c == '<' && !parameters) {
+                final int end = nameEnd(sql, i + 1, false);
+                if (end > i + 1 && end < length && sql.charAt(end) == '>') {
+                    handler.text(textStart, i);
+                    handler.name(i + 1, end);
+                    textStart = end + 1;
+                    i = end + 1;
+                } else {
+                    i++;
+                }
+            } else {
+                i++;
+            }
+        }
+
+        handler.text(textStart, length);
+    }
+
+    private static int lineEnd(String sql, int from) {
+        int i = from;
+        while (i < sql.length() && sql.charAt(i) != '\r' && sql.charAt(i) != '\n') {
+            i++;
+        }
+        return i;
+    }
+
+    // A quote preceded by a backslash may end the text or be part of it. The text ends at the first quote which
+    // is not escaped, or else at the last escaped one. Without any closing quote, the opening quote is plain text.
+    private static int quotedEnd(String sql, int start) {
+        int lastEscaped = -1;
+        for (int i = start + 1; i < sql.length(); i++) {
+            if (sql.charAt(i) == '\'') {
+                if (sql.charAt(i - 1) != '\\') {
+                    return i + 1;
+                }
+                lastEscaped = i;
+            }
+        }
+        return lastEscaped < 0 ? start + 1 : lastEscaped + 1;
+    }
+
+    private static int nameEnd(String sql, int from, boolean safeNavigation) {
+        final int length = sql.length();
+        int i = from;
+        while (i < length) {
+            final char c = sql.charAt(i);
+            if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '$' || c == '.') {
+                i++;
+            } else if (c == '?' && safeNavigation && i + 1 < length && sql.charAt(i + 1) == '.') {
+                i += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                if (i + 1 < length && Character.isLowSurrogate(sql.charAt(i + 1))) {
+                    i += 2;
+                } else {
+                    break;
+                }
+            } else if (c > 0x7f) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /** The kinds of tokens recognized by the scanner. */
+    public enum Syntax {
+        /** Named parameters of the form {@code :name} and positional {@code ?} parameters. */
+        COLON_PARAMETERS,
+        /** Named parameters of the form {@code #name} and positional {@code ?} parameters. */
+        HASH_PARAMETERS,
+        /** Defined attributes of the form {@code <name>}. */
+        DEFINED_ATTRIBUTES
+    }
+
+    /** Receives the scanned tokens in order. */
+    public interface Handler {
+        /**
+         * Called for a range of text that is passed through.
+         *
+         * @param start the first character of the text
+         * @param end   the end (exclusive) of the text
+         */
+        void text(int start, int end);
+
+        /**
+         * Called for a named parameter or defined attribute.
+         *
+         * @param start the first character of the name, after the prefix
+         * @param end   the end (exclusive) of the name
+         */
+        void name(int start, int end);
+
+        /**
+         * Called for a positional parameter.
+         */
+        void positionalParameter();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.time;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * How Jdbi binds and maps {@code java.time} values.
+ *
+ * @see JavaTimes
+ */
+@Alpha
+public enum JavaTimeStrategy {
+    /**
+     * Convert through {@link java.sql.Timestamp}, {@link java.sql.Date} and {@link java.sql.Time}. Works with every driver.
+     */
+    TIMESTAMP,
+    /**
+     * Use the JDBC 4.2 {@code getObject(int, Class)} and {@code setObject(int, Object)} methods with {@code java.time} types directly.
+     * The driver must support them.
+     */
+    JDBC42,
+    /**
+     * Use {@link #JDBC42} if the driver reports JDBC 4.2 or later in its {@link java.sql.DatabaseMetaData}, {@link #TIMESTAMP} otherwise.
+     */
+    AUTO
+}
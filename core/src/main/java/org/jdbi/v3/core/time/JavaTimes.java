@@ -0,0 +1,134 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.time;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.ZoneId;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.mapper.ColumnMappers;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Configuration for binding and mapping {@code java.time} values.
+ * <br>
+ * By default, {@link java.time.LocalDateTime}, {@link java.time.OffsetDateTime} and {@link java.time.ZonedDateTime} values are converted
+ * through a {@link java.sql.Timestamp} and {@link java.time.LocalDate} and {@link java.time.LocalTime} through {@link java.sql.Date} and
+ * {@link java.sql.Time}. With {@link JavaTimeStrategy#JDBC42}, the driver reads and writes these types directly. Zoned values are still
+ * read and written as a local date-time in the {@link #getZone() zone}, so both strategies store the same values. {@link java.time.Instant}
+ * always goes through a {@link java.sql.Timestamp}, which already holds the epoch millis.
+ * <br>
+ * Changing the strategy discards the column mappers that were looked up with this configuration.
+ */
+@Alpha
+public final class JavaTimes implements JdbiConfig<JavaTimes> {
+    private JavaTimeStrategy strategy = JavaTimeStrategy.TIMESTAMP;
+
+    // resolved lazily, once per copy (i.e. per statement)
+    private ZoneId zone;
+    private Boolean jdbc42Supported;
+    private ConfigRegistry registry;
+
+    public JavaTimes() {}
+
+    private JavaTimes(JavaTimes that) {
+        this.strategy = that.strategy;
+    }
+
+    @Override
+    public void setRegistry(ConfigRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the strategy used to bind and map {@code java.time} values.
+     *
+     * @return the strategy, {@link JavaTimeStrategy#TIMESTAMP} by default
+     */
+    public JavaTimeStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Sets the strategy used to bind and map {@code java.time} values.
+     *
+     * @param strategy the strategy
+     * @return this
+     */
+    public JavaTimes setStrategy(JavaTimeStrategy strategy) {
+        if (registry != null && strategy != this.strategy) {
+            // java.time column mappers are built for a strategy
+            registry.get(ColumnMappers.class).clearCache();
+        }
+        this.strategy = strategy;
+        return this;
+    }
+
+    /**
+     * Returns the zone used to convert between zoned values and local date-times.
+     *
+     * @return the JVM default time zone at the time of the first call on this configuration instance
+     */
+    public ZoneId getZone() {
+        ZoneId result = zone;
+        if (result == null) {
+            result = ZoneId.systemDefault();
+            zone = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if {@code java.time} values should be passed to the driver directly for the given statement.
+     *
+     * @param ctx the statement context
+     * @return true if JDBC 4.2 types should be used
+     */
+    public boolean isJdbc42(StatementContext ctx) {
+        switch (strategy) {
+            case JDBC42:
+                return true;
+            case AUTO:
+                Boolean result = jdbc42Supported;
+                if (result == null) {
+                    result = detectJdbc42(ctx);
+                    jdbc42Supported = result;
+                }
+                return result;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean detectJdbc42(StatementContext ctx) {
+        if (ctx == null || ctx.getConnection() == null) {
+            return false;
+        }
+        try {
+            DatabaseMetaData metaData = ctx.getConnection().getMetaData();
+            int major = metaData.getJDBCMajorVersion();
+            return major > 4 || (major == 4 && metaData.getJDBCMinorVersion() >= 2);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public JavaTimes createCopy() {
+        return new JavaTimes(this);
+    }
+}
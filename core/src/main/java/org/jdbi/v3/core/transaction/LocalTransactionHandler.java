@@ -107,22 +107,27 @@ public class LocalTransactionHandler implements TransactionHandler {
             IN_TRANSACTION
         }
 
-        private final Map<String, Savepoint> savepoints = new HashMap<>();
+        private Map<String, Savepoint> savepoints;
         private boolean initialAutocommit;
         private State handlerState;
+        // the autocommit state read in the constructor is still current for the first isInTransaction call, which happens
+        // right after binding the handler while the handle is created. Saves a getAutoCommit() round trip per handle.
+        private boolean autocommitCached;
 
         BoundLocalTransactionHandler(Handle handle) throws SQLException {
             this.initialAutocommit = handle.getConnection().getAutoCommit();
             this.handlerState = getInitialHandlerState();
+            this.autocommitCached = true;
         }
 
         @Override
         public void begin(Handle handle) {
+            autocommitCached = false;
             try {
                 if (handlerState == State.OUTSIDE_TRANSACTION) {
                     Connection conn = handle.getConnection(); // NOPMD
                     initialAutocommit = conn.getAutoCommit();
-                    savepoints.clear();
+                    clearSavepoints();
                     conn.setAutoCommit(false);
                     handlerState = State.AFTER_BEGIN;
                 }
@@ -133,6 +138,7 @@ public class LocalTransactionHandler implements TransactionHandler {
 
         @Override
         public void commit(Handle handle) {
+            autocommitCached = false;
             try {
                 if (handlerState != State.OUTSIDE_TRANSACTION) {
                     handle.getConnection().commit();
@@ -152,6 +158,7 @@ public class LocalTransactionHandler implements TransactionHandler {
 
         @Override
         public void rollback(Handle handle) {
+            autocommitCached = false;
             try {
                 if (handlerState != State.OUTSIDE_TRANSACTION) {
                     handle.getConnection().rollback();
@@ -166,10 +173,14 @@ public class LocalTransactionHandler implements TransactionHandler {
 
         @Override
         public void savepoint(Handle handle, String name) {
+            autocommitCached = false;
             @SuppressWarnings("PMD.CloseResource")
             final Connection conn = handle.getConnection();
             try {
                 final Savepoint savepoint = conn.setSavepoint(name);
+                if (savepoints == null) {
+                    savepoints = new HashMap<>();
+                }
                 savepoints.put(name, savepoint);
             } catch (SQLException e) {
                 throw new TransactionException(String.format("Unable to create savepoint '%s'", name), e);
@@ -178,10 +189,11 @@ public class LocalTransactionHandler implements TransactionHandler {
 
         @Override
         public void releaseSavepoint(Handle handle, String name) {
+            autocommitCached = false;
             @SuppressWarnings("PMD.CloseResource")
             final Connection conn = handle.getConnection();
             try {
-                final Savepoint savepoint = savepoints.remove(name);
+                final Savepoint savepoint = removeSavepoint(name);
                 if (savepoint == null) {
                     throw new TransactionException(String.format("Attempt to release non-existent savepoint, '%s'",
                                                                  name));
@@ -194,10 +206,11 @@ public class LocalTransactionHandler implements TransactionHandler {
 
         @Override
         public void rollbackToSavepoint(Handle handle, String name) {
+            autocommitCached = false;
             @SuppressWarnings("PMD.CloseResource")
             final Connection conn = handle.getConnection();
             try {
-                final Savepoint savepoint = savepoints.remove(name);
+                final Savepoint savepoint = removeSavepoint(name);
                 if (savepoint == null) {
                     throw new TransactionException(String.format("Attempt to rollback to non-existent savepoint, '%s'",
                                                                  name));
@@ -210,6 +223,10 @@ public class LocalTransactionHandler implements TransactionHandler {
 
         @Override
         public boolean isInTransaction(Handle handle) {
+            if (autocommitCached) {
+                autocommitCached = false;
+                return handlerState == State.IN_TRANSACTION || !initialAutocommit;
+            }
             try {
                 return handlerState == State.IN_TRANSACTION || !handle.getConnection().getAutoCommit();
             } catch (SQLException e) {
@@ -273,11 +290,21 @@ public class LocalTransactionHandler implements TransactionHandler {
                 throw new UnableToRestoreAutoCommitStateException(e);
             } finally {
                 if (initialAutocommit) {
-                    savepoints.clear();
+                    clearSavepoints();
                 }
             }
         }
 
+        private Savepoint removeSavepoint(String name) {
+            return savepoints == null ? null : savepoints.remove(name);
+        }
+
+        private void clearSavepoints() {
+            if (savepoints != null) {
+                savepoints.clear();
+            }
+        }
+
         private State getInitialHandlerState() {
             return initialAutocommit ? State.OUTSIDE_TRANSACTION : State.AFTER_BEGIN;
         }
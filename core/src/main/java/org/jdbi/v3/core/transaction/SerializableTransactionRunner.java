@@ -14,23 +14,32 @@
 package org.jdbi.v3.core.transaction;
 
 import java.sql.SQLException;
-import java.util.ArrayDeque;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.HandleCallback;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.metrics.JdbiMetrics;
+import org.jdbi.v3.meta.Alpha;
 
 /**
  * A TransactionHandler that automatically retries transactions that fail due to
  * serialization failures, which can generally be resolved by automatically
  * retrying the transaction.  Any HandleCallback used under this runner
  * should be aware that it may be invoked multiple times and should be idempotent.
+ * <p>
+ * By default, failed transactions are retried immediately. Under contention, immediate retries
+ * tend to collide again; {@link Configuration#setBackoff(Duration, Duration)} spaces retries out
+ * with an exponentially growing, randomized delay and {@link Configuration#setMaxConcurrentTransactions(int)}
+ * limits the number of transactions that run at the same time.
  */
 public class SerializableTransactionRunner extends DelegatingTransactionHandler implements TransactionHandler {
     /* http://www.postgresql.org/docs/9.1/static/errcodes-appendix.html */
@@ -49,29 +58,45 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
     public <R, X extends Exception> R inTransaction(Handle handle,
                                                     HandleCallback<R, X> callback) throws X {
         final Configuration config = handle.getConfig(Configuration.class);
-        int attempts = 1 + config.maxRetries;
+        final JdbiMetrics metrics = handle.getConfig(JdbiMetrics.class);
+        final long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+        // nested transactions already hold a permit from the outermost transaction
+        final Semaphore limiter = config.limiter == null || handle.isInTransaction() ? null : config.limiter;
 
-        Deque<Exception> failures = new ArrayDeque<>();
+        final List<Exception> failures = new ArrayList<>();
         while (true) {
             try {
-                R result = getDelegate().inTransaction(handle, callback);
-                config.onSuccess.accept(new ArrayList<>(failures));
+                R result = attempt(handle, callback, limiter);
+                config.onSuccess.accept(config.onSuccess == Configuration.NOP ? failures : new ArrayList<>(failures));
+                if (metrics.isEnabled()) {
+                    metrics.serializableTransactionCompleted(failures.size() + 1, System.nanoTime() - start, true);
+                }
                 return result;
             } catch (Exception last) {
                 // throw immediately if the exception is unexpected
                 if (!isSqlState(config.serializationFailureSqlState, last)) {
+                    if (metrics.isEnabled()) {
+                        metrics.serializableTransactionCompleted(failures.size() + 1, System.nanoTime() - start, false);
+                    }
                     throw last;
                 }
 
-                failures.addLast(last);
-                config.onFailure.accept(new ArrayList<>(failures));
+                failures.add(last);
+                if (config.onFailure != Configuration.NOP) {
+                    config.onFailure.accept(new ArrayList<>(failures));
+                }
+                if (metrics.isEnabled()) {
+                    metrics.serializationFailure(failures.size());
+                }
 
-                // no more attempts left? Throw ALL the exceptions! \o/
-                attempts -= 1;
-                if (attempts <= 0) {
-                    Exception toThrow = failures.removeLast();
+                // no more attempts left or interrupted while backing off? Throw ALL the exceptions! \o/
+                if (failures.size() > config.maxRetries || !config.backoff(failures.size())) {
+                    if (metrics.isEnabled()) {
+                        metrics.serializableTransactionCompleted(failures.size(), System.nanoTime() - start, false);
+                    }
+                    Exception toThrow = failures.remove(failures.size() - 1);
                     while (!failures.isEmpty()) {
-                        toThrow.addSuppressed(failures.removeLast());
+                        toThrow.addSuppressed(failures.remove(failures.size() - 1));
                     }
                     throw Sneaky.throwAnyway(toThrow);
                 }
@@ -79,6 +104,23 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
         }
     }
 
+    private <R, X extends Exception> R attempt(Handle handle, HandleCallback<R, X> callback, Semaphore limiter) throws X {
+        if (limiter == null) {
+            return getDelegate().inTransaction(handle, callback);
+        }
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException("Interrupted while waiting to begin a serializable transaction", e);
+        }
+        try {
+            return getDelegate().inTransaction(handle, callback);
+        } finally {
+            limiter.release();
+        }
+    }
+
     @Override
     public <R, X extends Exception> R inTransaction(Handle handle,
                                                     TransactionIsolationLevel level,
@@ -133,6 +175,8 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
      */
     public static class Configuration implements JdbiConfig<Configuration> {
         private static final int DEFAULT_MAX_RETRIES = 5;
+        private static final double DEFAULT_BACKOFF_MULTIPLIER = 2.0;
+        private static final double DEFAULT_JITTER = 1.0;
 
         @SuppressWarnings("UnnecessaryLambda") // constant for readablity
         private static final Consumer<List<Exception>> NOP = list -> {};
@@ -141,6 +185,11 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
         private String serializationFailureSqlState = SQLSTATE_TXN_SERIALIZATION_FAILED;
         private Consumer<List<Exception>> onFailure = NOP;
         private Consumer<List<Exception>> onSuccess = NOP;
+        private long initialBackoffNanos;
+        private long maxBackoffNanos;
+        private double backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+        private double jitter = DEFAULT_JITTER;
+        private Semaphore limiter;
 
         public Configuration() {}
 
@@ -149,6 +198,12 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
             serializationFailureSqlState = that.serializationFailureSqlState;
             onFailure = that.onFailure;
             onSuccess = that.onSuccess;
+            initialBackoffNanos = that.initialBackoffNanos;
+            maxBackoffNanos = that.maxBackoffNanos;
+            backoffMultiplier = that.backoffMultiplier;
+            jitter = that.jitter;
+            // all copies share the limiter of the Jdbi instance
+            limiter = that.limiter;
         }
 
         /**
@@ -202,6 +257,108 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
             return this;
         }
 
+        /**
+         * Wait between retries. The delay before the first retry is <code>initialBackoff</code> and is multiplied by the
+         * {@link #setBackoffMultiplier(double) backoff multiplier} for every further retry, up to <code>maxBackoff</code>.
+         * Every delay is randomized by the {@link #setJitter(double) jitter}, so that transactions that failed together do not
+         * retry together. The waiting thread is parked, which releases the carrier thread of a virtual thread.
+         * <br>
+         * Retries happen immediately by default.
+         *
+         * @param initialBackoff the delay before the first retry. {@link Duration#ZERO} disables backoff
+         * @param maxBackoff the maximum delay between two retries
+         * @return this
+         */
+        @Alpha
+        public Configuration setBackoff(Duration initialBackoff, Duration maxBackoff) {
+            if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+                throw new IllegalArgumentException("Backoff must satisfy 0 <= initialBackoff <= maxBackoff, got " + initialBackoff + " and " + maxBackoff);
+            }
+            this.initialBackoffNanos = initialBackoff.toNanos();
+            this.maxBackoffNanos = maxBackoff.toNanos();
+            return this;
+        }
+
+        /**
+         * Sets the factor by which the backoff grows with every retry. Defaults to 2.
+         *
+         * @param backoffMultiplier the backoff multiplier, must be at least 1
+         * @return this
+         */
+        @Alpha
+        public Configuration setBackoffMultiplier(double backoffMultiplier) {
+            if (backoffMultiplier < 1.0 || Double.isNaN(backoffMultiplier)) {
+                throw new IllegalArgumentException("Backoff multiplier must be >= 1, got " + backoffMultiplier);
+            }
+            this.backoffMultiplier = backoffMultiplier;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of every backoff delay that is randomized. With a jitter of 0, retries wait exactly the
+         * computed delay; with the default of 1, they wait a uniformly distributed time between zero and the computed delay.
+         *
+         * @param jitter the randomized fraction of the delay, between 0 and 1
+         * @return this
+         */
+        @Alpha
+        public Configuration setJitter(double jitter) {
+            if (!(jitter >= 0.0 && jitter <= 1.0)) {
+                throw new IllegalArgumentException("Jitter must be between 0 and 1, got " + jitter);
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Limits the number of serializable transactions that may run concurrently. Transactions that exceed the limit wait
+         * until a running transaction has completed. Threads that wait between retries do not hold a permit. The limit is shared
+         * by all handles created from the {@link org.jdbi.v3.core.Jdbi} instance it is configured on.
+         *
+         * @param maxConcurrentTransactions the maximum number of concurrent transactions, or 0 for no limit (the default)
+         * @return this
+         */
+        @Alpha
+        public Configuration setMaxConcurrentTransactions(int maxConcurrentTransactions) {
+            if (maxConcurrentTransactions < 0) {
+                throw new IllegalArgumentException("Maximum concurrent transactions must be >= 0 (0 for no limit), got " + maxConcurrentTransactions);
+            }
+            this.limiter = maxConcurrentTransactions == 0 ? null : new Semaphore(maxConcurrentTransactions, true);
+            return this;
+        }
+
+        /**
+         * Returns the delay before retry number <code>retry</code>, including jitter.
+         */
+        long backoffNanos(int retry, double random) {
+            if (initialBackoffNanos == 0) {
+                return 0;
+            }
+            double delay = initialBackoffNanos * Math.pow(backoffMultiplier, retry - 1);
+            delay = Math.min(delay, maxBackoffNanos);
+            return (long) (delay * (1.0 - jitter * random));
+        }
+
+        /**
+         * Waits before the next retry. Returns false if the thread was interrupted.
+         */
+        boolean backoff(int retry) {
+            final long delay = backoffNanos(retry, ThreadLocalRandom.current().nextDouble());
+            if (delay <= 0) {
+                return true;
+            }
+            final long deadline = System.nanoTime() + delay;
+            long remaining = delay;
+            while (remaining > 0) {
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.currentThread().isInterrupted()) {
+                    return false;
+                }
+                remaining = deadline - System.nanoTime();
+            }
+            return true;
+        }
+
         @Override
         public Configuration createCopy() {
             return new Configuration(this);
@@ -22,6 +22,7 @@ import org.jdbi.v3.core.enums.EnumStrategy;
 import org.jdbi.v3.core.enums.Enums;
 import org.jdbi.v3.core.internal.EnumStrategies;
 import org.jdbi.v3.core.junit5.SqliteDatabaseExtension;
+import org.jdbi.v3.core.mapper.EnumMapper;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.junit.jupiter.api.Test;
@@ -210,6 +211,12 @@ public class EnumsConfigTest {
             .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    public void byNameMappersAreSharedPerEnum() {
+        assertThat(EnumMapper.byName(Foobar.class)).isSameAs(EnumMapper.byName(Foobar.class));
+        assertThat(EnumMapper.byName(Foobar.class)).isNotSameAs(EnumMapper.byName(RetentionPolicy.class));
+    }
+
     @EnumByName
     @EnumByOrdinal
     public enum BiPolar {
@@ -16,6 +16,7 @@ package org.jdbi.v3.core.mapper;
 import java.util.List;
 
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.enums.DatabaseValue;
 import org.jdbi.v3.core.junit5.H2DatabaseExtension;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.junit.jupiter.api.BeforeEach;
@@ -100,6 +101,24 @@ public class TestEnums {
             .isEqualTo(SomethingElse.Name.brian);
     }
 
+    @Test
+    public void testEnumExactNameBeforeCaseInsensitive() {
+        assertThat(handle.createQuery("select 'a' union all select 'A' union all select 'X-Ray' union all select 'x-ray'")
+            .mapTo(Mixed.class)
+            .list())
+            .containsExactly(Mixed.a, Mixed.A, Mixed.XRAY, Mixed.XRAY);
+    }
+
+    @Test
+    public void testEnumCaseInsensitiveFirstDeclared() {
+        assertThat(handle.createQuery("select 'b'").mapTo(Mixed.class).one())
+            .isEqualTo(Mixed.B);
+    }
+
+    public enum Mixed {
+        @DatabaseValue("x-ray") XRAY, a, A, B
+    }
+
     @Test
     public void testGenericEnumBindBean() {
         handle.useTransaction(h -> assertThat(h.createQuery("select :e.val")
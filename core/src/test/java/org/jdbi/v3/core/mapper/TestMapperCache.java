@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.enums.EnumStrategy;
+import org.jdbi.v3.core.enums.Enums;
+import org.jdbi.v3.core.generic.GenericType;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class TestMapperCache {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    private Jdbi jdbi;
+
+    @BeforeEach
+    public void setUp() {
+        jdbi = h2Extension.getJdbi();
+        jdbi.useHandle(h -> h.execute("insert into something (id, name) values (1, 'BLUE')"));
+    }
+
+    @Test
+    public void testCopiesShareMappers() {
+        CountingFactory factory = new CountingFactory();
+        jdbi.registerRowMapper(factory);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(jdbi.withHandle(this::findSomething).getName()).isEqualTo("BLUE");
+        }
+
+        assertThat(factory.built).hasValue(1);
+    }
+
+    @Test
+    public void testRegisterOnCopy() {
+        CountingFactory factory = new CountingFactory();
+        jdbi.registerRowMapper(factory);
+        jdbi.getConfig(RowMappers.class).findFor(Something.class);
+
+        jdbi.useHandle(h -> {
+            h.registerRowMapper(Something.class, (rs, ctx) -> new Something(rs.getInt("id"), "handle"));
+            assertThat(findSomething(h).getName()).isEqualTo("handle");
+        });
+
+        assertThat(jdbi.withHandle(this::findSomething).getName()).isEqualTo("BLUE");
+        assertThat(factory.built).hasValue(1);
+    }
+
+    @Test
+    public void testCopiesPublishMappers() {
+        CountingFactory factory = new CountingFactory();
+        jdbi.registerRowMapper(factory);
+
+        jdbi.useHandle(this::findSomething);
+
+        assertThat(jdbi.getConfig(RowMappers.class).findFor(Something.class)).isPresent();
+        assertThat(factory.built).hasValue(1);
+    }
+
+    @Test
+    public void testRegisterOnParentAfterCopy() {
+        jdbi.registerRowMapper(new CountingFactory());
+
+        jdbi.useHandle(h -> {
+            findSomething(h);
+            jdbi.registerRowMapper(Something.class, (rs, ctx) -> new Something(rs.getInt("id"), "jdbi"));
+
+            // existing copies keep the factories and mappers they were copied with
+            assertThat(findSomething(h).getName()).isEqualTo("BLUE");
+        });
+
+        assertThat(jdbi.withHandle(this::findSomething).getName()).isEqualTo("jdbi");
+    }
+
+    @Test
+    public void testKeyColumnOnStatement() {
+        jdbi.useHandle(h -> {
+            assertThat(findMap(h, "id", "name")).containsExactly(entry("1", "BLUE"));
+            assertThat(findMap(h, "name", "id")).containsExactly(entry("BLUE", "1"));
+        });
+    }
+
+    @Test
+    public void testEnumStrategyOnCopy() {
+        Color byName = jdbi.withHandle(h -> findColor(h, "name"));
+        assertThat(byName).isEqualTo(Color.BLUE);
+
+        Color byOrdinal = jdbi.withHandle(h -> {
+            h.getConfig(Enums.class).setEnumStrategy(EnumStrategy.BY_ORDINAL);
+            return findColor(h, "id");
+        });
+        assertThat(byOrdinal).isEqualTo(Color.GREEN);
+
+        Color again = jdbi.withHandle(h -> findColor(h, "name"));
+        assertThat(again).isEqualTo(Color.BLUE);
+    }
+
+    private Something findSomething(Handle handle) {
+        return handle.createQuery("select id, name from something")
+            .mapTo(Something.class)
+            .one();
+    }
+
+    private Map<String, String> findMap(Handle handle, String keyColumn, String valueColumn) {
+        return handle.createQuery("select id, name from something")
+            .configure(MapEntryMappers.class, c -> c.setKeyColumn(keyColumn).setValueColumn(valueColumn))
+            .collectInto(new GenericType<Map<String, String>>() {});
+    }
+
+    private Color findColor(Handle handle, String column) {
+        return handle.createQuery("select " + column + " from something")
+            .mapTo(Color.class)
+            .one();
+    }
+
+    public enum Color {
+        RED, GREEN, BLUE
+    }
+
+    static class CountingFactory implements RowMapperFactory {
+        private final AtomicInteger built = new AtomicInteger();
+
+        @Override
+        public Optional<RowMapper<?>> build(Type type, ConfigRegistry config) {
+            if (type != Something.class) {
+                return Optional.empty();
+            }
+            built.incrementAndGet();
+            return Optional.of(new SomethingMapper());
+        }
+    }
+}
@@ -131,4 +131,12 @@ public class SnakeCaseColumnNameMatcherTest {
         assertThat(snake.columnNameStartsWith("foobar", "foo")).isTrue();
     }
 
+    @Test
+    public void testNormalizedNames() {
+        assertThat(snake.normalizedName("foo_bar_baz")).isEqualTo(snake.normalizedName("foo.barBaz"));
+        assertThat(snake.normalizedName("foo_bar")).isEqualTo(snake.normalizedName("foo_.bar"));
+        assertThat(snake.normalizedName("FOO_BAR")).isEqualTo("foobar");
+        assertThat(snake.normalizedPrefix("foo.bar.")).isEqualTo("foobar");
+        assertThat(snake.normalizedPrefix("foo.bar")).isEqualTo("foo");
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.jdbi.v3.core.mapper.reflect.CaseInsensitiveColumnNameMatcher;
+import org.jdbi.v3.core.mapper.reflect.ColumnNameMatcher;
+import org.jdbi.v3.core.mapper.reflect.SnakeCaseColumnNameMatcher;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.anyColumnsStartWithPrefix;
+import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.findColumnIndex;
+
+public class IndexedColumnNamesTest {
+
+    private static final List<String> COLUMNS = Arrays.asList(
+        "id", "name", "foo_bar_baz", "foobar", "foo_bar", "test_property_2", "nested_id", "nested_name", "a_$", "other.value");
+
+    private static final List<String> NAMES = Arrays.asList(
+        "id", "ID", "name", "fooBarBaz", "foo.barBaz", "foo.bar.baz", "foo.bar", "foo_.bar", "fooBar", "testProperty2",
+        "nested.id", "nested.name", "nestedName", "a$", "other.value", "otherValue", "missing", "");
+
+    private static final List<String> PREFIXES = Arrays.asList(
+        "foo", "foo.", "foo.bar", "foo.bar.", "nested", "nested.", "test.property", "other", "bar", "missing.", "");
+
+    private final List<ColumnNameMatcher> matchers = Arrays.asList(new CaseInsensitiveColumnNameMatcher(), new SnakeCaseColumnNameMatcher());
+
+    @Test
+    public void testSameResultsAsScan() {
+        IndexedColumnNames indexed = new IndexedColumnNames(new ArrayList<>(COLUMNS));
+
+        for (String name : NAMES) {
+            assertThat(find(indexed, name)).as(name).isEqualTo(find(COLUMNS, name));
+        }
+        for (String prefix : PREFIXES) {
+            assertThat(anyColumnsStartWithPrefix(indexed, prefix, matchers)).as(prefix)
+                .isEqualTo(anyColumnsStartWithPrefix(COLUMNS, prefix, matchers));
+        }
+    }
+
+    @Test
+    public void testMatcherWithoutKeys() {
+        ColumnNameMatcher equalsMatcher = String::equals;
+        IndexedColumnNames indexed = new IndexedColumnNames(new ArrayList<>(COLUMNS));
+
+        assertThat(findColumnIndex("foobar", indexed, List.of(equalsMatcher), () -> "foobar")).hasValue(3);
+        assertThat(anyColumnsStartWithPrefix(indexed, "nested", List.of(equalsMatcher))).isTrue();
+    }
+
+    @Test
+    public void testMultipleMatches() {
+        List<String> columns = Arrays.asList("foo_bar", "id", "foobar");
+        IndexedColumnNames indexed = new IndexedColumnNames(new ArrayList<>(columns));
+
+        assertThatThrownBy(() -> findColumnIndex("fooBar", indexed, matchers, () -> "Type.fooBar"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("'Type.fooBar' (fooBar) matches multiple columns: 'foo_bar' (0) and 'foobar' (2)");
+    }
+
+    private String find(List<String> columns, String name) {
+        try {
+            OptionalInt index = findColumnIndex(name, columns, matchers, () -> name);
+            return index.isPresent() ? columns.get(index.getAsInt()) : "<none>";
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+}
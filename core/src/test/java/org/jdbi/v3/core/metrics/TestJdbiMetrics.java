@@ -0,0 +1,147 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.metrics;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import org.jdbi.v3.core.CloseException;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestJdbiMetrics {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    private JdbiMetricsRegistry registry;
+    private Jdbi jdbi;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new JdbiMetricsRegistry();
+        jdbi = h2Extension.getJdbi();
+        jdbi.getConfig(JdbiMetrics.class).addCollector(registry);
+    }
+
+    @Test
+    public void testStatementMetrics() {
+        try (Handle h = jdbi.open()) {
+            h.execute("insert into something (id, name) values (1, 'Brian')");
+            h.execute("insert into something (id, name) values (2, 'Keith')");
+
+            for (int i = 0; i < 3; i++) {
+                List<String> names = h.createQuery("select name\n\tfrom\t\tsomething\n order by id")
+                    .mapTo(String.class)
+                    .list();
+                assertThat(names).containsExactly("Brian", "Keith");
+            }
+        }
+
+        assertThat(registry.getConnectionOpenTime().getCount()).isOne();
+        assertThat(registry.getHandleOpenTime().getCount()).isOne();
+        assertThat(registry.getHandleOpenTime().getMax()).isGreaterThanOrEqualTo(registry.getConnectionOpenTime().getMax());
+
+        assertThat(registry.getStatement("select name from something order by id")).hasValueSatisfying(stats -> {
+            assertThat(stats.getExecutions()).isEqualTo(3);
+            assertThat(stats.getFailures()).isZero();
+            assertThat(stats.getMappedRows()).isEqualTo(6);
+            assertThat(stats.getExecutionTime().getTotal()).isPositive();
+            assertThat(stats.getMappingTime().getTotal()).isPositive();
+        });
+        assertThat(registry.getStatement("insert into something (id, name) values (1, 'Brian')"))
+            .hasValueSatisfying(stats -> assertThat(stats.getExecutions()).isOne());
+    }
+
+    @Test
+    public void testBindingAndFailures() {
+        try (Handle h = jdbi.open()) {
+            h.createUpdate("insert into something (id, name) values (:id, :name)")
+                .bind("id", 1)
+                .bind("name", "Brian")
+                .execute();
+
+            assertThatThrownBy(() -> h.createUpdate("insert into something (id, name) values (:id, :name)")
+                .bind("id", 1)
+                .bind("name", "Brian")
+                .execute())
+                .isInstanceOf(StatementException.class);
+        }
+
+        assertThat(registry.getStatement("insert into something (id, name) values (:id, :name)")).hasValueSatisfying(stats -> {
+            assertThat(stats.getExecutions()).isEqualTo(2);
+            assertThat(stats.getFailures()).isOne();
+            assertThat(stats.getBindingTime().getTotal()).isPositive();
+        });
+    }
+
+    @Test
+    public void testFailingCollectorKeepsCleanupFailure() {
+        jdbi.getConfig(JdbiMetrics.class).addCollector(new MetricsCollector() {
+            @Override
+            public void statementCompleted(String statementKey, StatementContext ctx) {
+                throw new IllegalStateException("collector failed");
+            }
+        });
+
+        try (Handle h = jdbi.open()) {
+            ResultIterator<String> names = h.createQuery("select name from something")
+                .mapTo(String.class)
+                .iterator();
+            names.getContext().addCleanable(() -> {
+                throw new SQLException("cleanup failed");
+            });
+
+            assertThatThrownBy(names::close)
+                .isInstanceOf(CloseException.class)
+                .hasRootCauseMessage("cleanup failed")
+                .satisfies(e -> assertThat(e.getSuppressed())
+                    .singleElement()
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasFieldOrPropertyWithValue("message", "collector failed"));
+        }
+    }
+
+    @Test
+    public void testMaxStatements() {
+        JdbiMetricsRegistry limited = new JdbiMetricsRegistry(1);
+        jdbi.getConfig(JdbiMetrics.class).addCollector(limited);
+
+        try (Handle h = jdbi.open()) {
+            h.execute("insert into something (id, name) values (1, 'Brian')");
+            h.execute("insert into something (id, name) values (2, 'Keith')");
+        }
+
+        assertThat(limited.getStatements()).hasSize(1);
+        assertThat(limited.getStatement(JdbiMetricsRegistry.OTHER_STATEMENTS))
+            .hasValueSatisfying(stats -> assertThat(stats.getExecutions()).isOne());
+    }
+
+    @Test
+    public void testSqlKeyNormalization() {
+        assertThat(JdbiMetrics.normalizeSql("\tselect *\n\tfrom\t\tfoo\n", 100)).isEqualTo("select * from foo");
+        assertThat(JdbiMetrics.normalizeSql("select * from foo", 8)).isEqualTo("select *");
+        assertThat(JdbiMetrics.normalizeSql("select\t\t*", 7)).isEqualTo("select ");
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+public class TestLatencyHistogram {
+
+    @Test
+    public void testBucketBoundaries() {
+        for (long value : new long[] {0, 1, 15, 16, 17, 31, 32, 33, 1_000, 123_456_789L, 1L << 44, (1L << 45) - 1}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertThat(LatencyHistogram.highestValueInBucket(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.highestValueInBucket(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    public void testStatistics() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000);
+        }
+        histogram.record(-1);
+
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat(histogram.getMax()).isEqualTo(1_000_000);
+        assertThat(histogram.getMean()).isEqualTo(500_500.0);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(1_000_000);
+        // six percent relative precision
+        assertThat((double) histogram.getValueAtPercentile(50)).isCloseTo(500_000, within(500_000 * 0.07));
+        assertThat((double) histogram.getValueAtPercentile(99)).isCloseTo(990_000, within(990_000 * 0.07));
+
+        histogram.reset();
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getValueAtPercentile(50)).isZero();
+    }
+
+    @Test
+    public void testHugeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertThat(histogram.getMax()).isEqualTo(Long.MAX_VALUE);
+        assertThat(histogram.getValueAtPercentile(50)).isEqualTo((1L << 45) - 1);
+    }
+
+    @Test
+    public void testInvalidPercentile() {
+        assertThatThrownBy(() -> new LatencyHistogram().getValueAtPercentile(101)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.qualifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.ColumnMappers;
+import org.jdbi.v3.core.mapper.StringDictionary;
+import org.jdbi.v3.core.mapper.reflect.FieldMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestDedupe {
+    private static final QualifiedType<String> DEDUPE_STRING = QualifiedType.of(String.class).with(Dedupe.class);
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance();
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        handle.execute("create table payments (id int primary key, currency varchar, note nvarchar)");
+        for (int i = 0; i < 10; i++) {
+            handle.execute("insert into payments (id, currency, note) values (?, ?, ?)", i, i % 2 == 0 ? "EUR" : "USD", "paid");
+        }
+    }
+
+    @Test
+    public void testCanonicalInstances() {
+        final List<String> currencies = handle.select("select currency from payments order by id")
+            .mapTo(DEDUPE_STRING)
+            .list();
+
+        assertThat(currencies).hasSize(10);
+        for (int i = 2; i < currencies.size(); i++) {
+            assertThat(currencies.get(i)).isSameAs(currencies.get(i - 2));
+        }
+
+        final StringDictionary dictionary = handle.getConfig(ColumnMappers.class).getStringDictionary();
+        assertThat(dictionary.getMissCount()).isEqualTo(2);
+        assertThat(dictionary.getHitCount()).isEqualTo(8);
+        assertThat(dictionary.getHitRate()).isEqualTo(0.8);
+    }
+
+    @Test
+    public void testUnqualifiedNotDeduplicated() {
+        handle.select("select currency from payments order by id")
+            .mapTo(String.class)
+            .list();
+
+        assertThat(handle.getConfig(ColumnMappers.class).getStringDictionary().getMissCount()).isZero();
+    }
+
+    @Test
+    public void testNVarchar() {
+        final List<String> notes = handle.select("select note from payments order by id")
+            .mapTo(DEDUPE_STRING.with(NVarchar.class))
+            .list();
+
+        assertThat(notes).containsOnly("paid");
+        assertThat(notes.get(1)).isSameAs(notes.get(0));
+    }
+
+    @Test
+    public void testAnnotatedField() {
+        final List<Payment> payments = handle.select("select id, currency from payments order by id")
+            .map(FieldMapper.of(Payment.class))
+            .list();
+
+        assertThat(payments.get(2).currency).isSameAs(payments.get(0).currency);
+    }
+
+    @Test
+    public void testScopedDictionary() {
+        final StringDictionary shared = handle.getConfig(ColumnMappers.class).getStringDictionary();
+        final StringDictionary scoped = new StringDictionary(16);
+
+        handle.select("select currency from payments order by id")
+            .configure(ColumnMappers.class, c -> c.setStringDictionary(scoped))
+            .mapTo(DEDUPE_STRING)
+            .list();
+
+        assertThat(scoped.getHitCount()).isEqualTo(8);
+        assertThat(scoped.size()).isEqualTo(2);
+        assertThat(shared.getMissCount()).isZero();
+    }
+
+    @Test
+    public void testBounded() {
+        final StringDictionary dictionary = new StringDictionary(16);
+        for (int i = 0; i < 1000; i++) {
+            dictionary.canonicalize(new String("value" + i));
+        }
+
+        assertThat(dictionary.size()).isLessThanOrEqualTo(16);
+        assertThat(dictionary.getMissCount()).isEqualTo(1000);
+
+        dictionary.clear();
+        assertThat(dictionary.size()).isZero();
+        assertThat(dictionary.getHitRate()).isZero();
+    }
+
+    @Test
+    public void testBoundedSmallAndUnevenSizes() {
+        for (int maxSize : new int[] {1, 3, 17, 100}) {
+            final StringDictionary dictionary = new StringDictionary(maxSize);
+            final List<String> values = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                values.add(dictionary.canonicalize(new String("value" + i)));
+            }
+
+            // every segment fills up, so the dictionary holds exactly maxSize values
+            assertThat(dictionary.size()).as("size of StringDictionary(%d)", maxSize).isEqualTo(maxSize);
+        }
+    }
+
+    public static class Payment {
+        public int id;
+        @Dedupe
+        public String currency;
+    }
+}
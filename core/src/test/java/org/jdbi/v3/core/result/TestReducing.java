@@ -122,6 +122,39 @@ public class TestReducing {
         }
     }
 
+    @Test
+    public void testReduceOrderedRows() {
+        List<Integer> accumulatedBeforeFirst = new ArrayList<>();
+        List<Integer> accumulated = new ArrayList<>();
+        OrderedRowReducer<Integer, SomethingWithLocations> reducer = (map, rv) -> {
+            accumulated.add(rv.getColumn("id", Integer.class));
+            map.computeIfAbsent(rv.getColumn("id", Integer.class),
+                    id -> new SomethingWithLocations(rv.getRow(Something.class)))
+                .locations
+                .add(rv.getColumn("location", String.class));
+        };
+
+        try (Stream<SomethingWithLocations> stream = h2Extension.getSharedHandle()
+                .createQuery("SELECT something.id, name, location FROM something NATURAL JOIN something_location ORDER BY something.id, location")
+                .reduceRows(reducer)) {
+            List<SomethingWithLocations> result = stream
+                .peek(s -> {
+                    if (accumulatedBeforeFirst.isEmpty()) {
+                        accumulatedBeforeFirst.addAll(accumulated);
+                    }
+                })
+                .collect(toList());
+
+            assertThat(result).containsExactly(
+                new SomethingWithLocations(new Something(1, "tree")).at("outside"),
+                new SomethingWithLocations(new Something(2, "apple")).at("pie").at("tree"));
+        }
+
+        // the first element is returned as soon as the first row of the second one was read
+        assertThat(accumulatedBeforeFirst).containsExactly(1, 2);
+        assertThat(accumulated).containsExactly(1, 2, 2);
+    }
+
     @Test
     public void testReduceResultSet() {
         Map<Integer, SomethingWithLocations> result = h2Extension.getSharedHandle()
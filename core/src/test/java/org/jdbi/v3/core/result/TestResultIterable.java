@@ -13,13 +13,28 @@
  */
 package org.jdbi.v3.core.result;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jdbi.v3.core.junit5.H2DatabaseExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TestResultIterable {
 
@@ -74,4 +89,178 @@ public class TestResultIterable {
             .collect(Collectors.joining("\n")))
             .isEqualTo("ID: 1\nID: 2\nID: 3");
     }
+
+    @Test
+    public void testPrefetch() {
+        Set<Thread> mappingThreads = ConcurrentHashMap.newKeySet();
+
+        List<Long> values = h2Extension.getSharedHandle().createQuery("select x from system_range(1, 1000)")
+            .map((rs, ctx) -> {
+                mappingThreads.add(Thread.currentThread());
+                return rs.getLong(1);
+            })
+            .prefetch(16)
+            .list();
+
+        assertThat(values).hasSize(1000).isSorted().startsWith(1L, 2L, 3L).endsWith(1000L);
+        assertThat(mappingThreads).hasSize(1).doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    public void testPrefetchCloseEarly() {
+        AtomicInteger mapped = new AtomicInteger();
+        try (Stream<Long> stream = h2Extension.getSharedHandle().createQuery("select x from system_range(1, 100000)")
+                .map((rs, ctx) -> {
+                    mapped.incrementAndGet();
+                    return rs.getLong(1);
+                })
+                .prefetch(4)
+                .stream()) {
+            assertThat(stream.limit(10)).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        }
+
+        // closing stops the reading thread, which reads at most a buffer and a row ahead
+        assertThat(mapped.get()).isLessThanOrEqualTo(16);
+    }
+
+    @Test
+    public void testPrefetchCloseFromOtherThread() throws Exception {
+        CountDownLatch mapping = new CountDownLatch(1);
+        ResultIterator<Long> iterator = h2Extension.getSharedHandle().createQuery("select x from system_range(1, 10)")
+            .map((rs, ctx) -> {
+                if (rs.getLong(1) == 2) {
+                    mapping.countDown();
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(200));
+                }
+                return rs.getLong(1);
+            })
+            .prefetch(1)
+            .iterator();
+
+        assertThat(iterator.next()).isOne();
+        mapping.await();
+
+        CompletableFuture<Boolean> consumer = CompletableFuture.supplyAsync(iterator::hasNext);
+        iterator.getContext().close();
+
+        // the consumer must not stay blocked waiting for results that the cancelled reader no longer produces
+        assertThat(consumer.get(10, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    public void testPrefetchFailure() {
+        ResultIterable<Long> iterable = h2Extension.getSharedHandle().createQuery("select x from system_range(1, 10)")
+            .map((rs, ctx) -> {
+                if (rs.getLong(1) == 5) {
+                    throw new IllegalStateException("mapping failed");
+                }
+                return rs.getLong(1);
+            })
+            .prefetch(2);
+
+        assertThatThrownBy(iterable::list)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("mapping failed");
+    }
+
+    @Test
+    public void testSpilling() {
+        h2Extension.getSharedHandle().getConfig(ResultSpilling.class).setMaxRowsInMemory(10);
+
+        List<Long> values = h2Extension.getSharedHandle().createQuery("select x from system_range(1, 1000)")
+            .mapTo(Long.class)
+            .list();
+
+        assertThat(values).hasSize(1000).isSorted().startsWith(1L, 2L, 3L).endsWith(1000L);
+        assertThat(values.get(10)).isEqualTo(11L);
+        assertThatThrownBy(() -> values.add(1001L)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testSpillingCodec() {
+        AtomicInteger written = new AtomicInteger();
+        h2Extension.getSharedHandle().getConfig(ResultSpilling.class)
+            .setMaxRowsInMemory(2)
+            .registerCodec(String.class, new RowCodec<String>() {
+                @Override
+                public void write(DataOutput out, String row) throws IOException {
+                    written.incrementAndGet();
+                    out.writeUTF(row);
+                }
+
+                @Override
+                public String read(DataInput in) throws IOException {
+                    return in.readUTF();
+                }
+            });
+
+        List<String> values = h2Extension.getSharedHandle().createQuery("select 'row ' || x from system_range(1, 5)")
+            .mapTo(String.class)
+            .list();
+
+        assertThat(values).containsExactly("row 1", "row 2", "row 3", "row 4", "row 5");
+        assertThat(written.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testSpillingCodecForInterfaceAndNullRows() {
+        AtomicInteger written = new AtomicInteger();
+        h2Extension.getSharedHandle().getConfig(ResultSpilling.class)
+            .setMaxRowsInMemory(2)
+            .registerCodec(CharSequence.class, new RowCodec<CharSequence>() {
+                @Override
+                public void write(DataOutput out, CharSequence row) throws IOException {
+                    written.incrementAndGet();
+                    out.writeUTF(row.toString());
+                }
+
+                @Override
+                public CharSequence read(DataInput in) throws IOException {
+                    return in.readUTF();
+                }
+            });
+
+        List<String> values = h2Extension.getSharedHandle()
+            .createQuery("select case when x = 3 then null else 'row ' || x end from system_range(1, 5)")
+            .mapTo(String.class)
+            .list();
+
+        assertThat(values).containsExactly("row 1", "row 2", null, "row 4", "row 5");
+        assertThat(written.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testSpillingReturnsNewInstances() {
+        h2Extension.getSharedHandle().getConfig(ResultSpilling.class).setMaxRowsInMemory(1);
+
+        List<String> values = h2Extension.getSharedHandle().createQuery("select 'row ' || x from system_range(1, 2)")
+            .mapTo(String.class)
+            .list();
+
+        assertThat(values.get(0)).isSameAs(values.get(0));
+        assertThat(values.get(1)).isEqualTo(values.get(1)).isNotSameAs(values.get(1));
+    }
+
+    @Test
+    public void testSpillingRequiresCodecOrSerializable() {
+        h2Extension.getSharedHandle().getConfig(ResultSpilling.class).setMaxRowsInMemory(10);
+
+        // fails below the limit as well
+        assertThatThrownBy(() -> h2Extension.getSharedHandle().createQuery("select 'row ' || x from system_range(1, 5)")
+            .map((rs, ctx) -> Optional.of(rs.getString(1)))
+            .list())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(Optional.class.getName());
+    }
+
+    @Test
+    public void testSpillingBelowLimit() {
+        h2Extension.getSharedHandle().getConfig(ResultSpilling.class).setMaxRowsInMemory(10);
+
+        List<Long> values = h2Extension.getSharedHandle().createQuery("select x from system_range(1, 5)")
+            .mapTo(Long.class)
+            .list();
+
+        assertThat(values).isInstanceOf(ArrayList.class).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
 }
@@ -0,0 +1,247 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.SomethingMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestCachedResults {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        handle.registerRowMapper(new SomethingMapper());
+        handle.execute("insert into something (id, name) values (1, 'eric')");
+    }
+
+    private List<String> names() {
+        return handle.createQuery("select name from something order by id")
+            .cacheResults("something")
+            .mapTo(String.class)
+            .list();
+    }
+
+    @Test
+    public void cachesUntilInvalidated() {
+        assertThat(names()).containsExactly("eric");
+
+        handle.execute("insert into something (id, name) values (2, 'brian')");
+        assertThat(names()).containsExactly("eric");
+
+        handle.createUpdate("update something set name = 'keith' where id = 2")
+            .invalidateCachedResults("something")
+            .execute();
+        assertThat(names()).containsExactly("eric", "keith");
+    }
+
+    @Test
+    public void otherTagsDoNotInvalidate() {
+        assertThat(names()).containsExactly("eric");
+
+        handle.createUpdate("insert into something (id, name) values (2, 'brian')")
+            .invalidateCachedResults("other")
+            .execute();
+        assertThat(names()).containsExactly("eric");
+
+        handle.getConfig(CachedResults.class).invalidate("something");
+        assertThat(names()).containsExactly("eric", "brian");
+    }
+
+    @Test
+    public void keyIncludesBindingsAndType() {
+        handle.execute("insert into something (id, name) values (2, 'brian')");
+
+        Query query = handle.createQuery("select id, name from something where id = :id").cacheResults("something");
+        assertThat(query.bind("id", 1).mapTo(Something.class).one()).isEqualTo(new Something(1, "eric"));
+        assertThat(handle.createQuery("select id, name from something where id = :id").cacheResults("something")
+            .bind("id", 2).mapTo(Something.class).one()).isEqualTo(new Something(2, "brian"));
+        assertThat(handle.createQuery("select id, name from something where id = :id").cacheResults("something")
+            .bind("id", 1).mapTo(String.class).one()).isEqualTo("1");
+    }
+
+    @Test
+    public void uncomparableBindingsBypassCache() {
+        Something something = new Something(1, "eric");
+        assertThat(handle.createQuery("select name from something where id = :id").cacheResults("something")
+            .bindBean(something).mapTo(String.class).one()).isEqualTo("eric");
+
+        handle.execute("update something set name = 'brian' where id = 1");
+        assertThat(handle.createQuery("select name from something where id = :id").cacheResults("something")
+            .bindBean(something).mapTo(String.class).one()).isEqualTo("brian");
+    }
+
+    @Test
+    public void arrayBindingsCompareByContent() {
+        handle.execute("insert into something (id, name) values (2, 'brian')");
+
+        assertThat(countIn(new int[] {1, 2})).isEqualTo(2);
+        handle.execute("delete from something where id = 2");
+        assertThat(countIn(new int[] {1, 2})).isEqualTo(2);
+        assertThat(countIn(new int[] {1})).isOne();
+
+        assertThat(countEric(new byte[] {1, 2})).isOne();
+        handle.execute("update something set name = 'keith'");
+        assertThat(countEric(new byte[] {1, 2})).isOne();
+        assertThat(countEric(new byte[] {1, 3})).isZero();
+    }
+
+    @Test
+    public void mutableArraysAreCopied() {
+        handle.execute("insert into something (id, name) values (2, 'brian')");
+
+        int[] ids = {1, 2};
+        assertThat(countIn(ids)).isEqualTo(2);
+        ids[1] = 3;
+        assertThat(countIn(ids)).isOne();
+        assertThat(countIn(new int[] {1, 2})).isEqualTo(2);
+    }
+
+    @Test
+    public void valuesWithoutValueSemanticsBypassCache() {
+        StringBuilder name = new StringBuilder("eric");
+        assertThat(handle.createQuery("select count(*) from something where name = :name").cacheResults("something")
+            .bind("name", name).mapTo(Integer.class).one()).isOne();
+
+        handle.execute("update something set name = 'brian' where id = 1");
+        name.setLength(0);
+        name.append("brian");
+        assertThat(handle.createQuery("select count(*) from something where name = :name").cacheResults("something")
+            .bind("name", name).mapTo(Integer.class).one()).isOne();
+    }
+
+    private int countIn(int[] ids) {
+        return handle.createQuery("select count(*) from something where array_contains(:ids, id)").cacheResults("something")
+            .bind("ids", ids).mapTo(Integer.class).one();
+    }
+
+    // the byte array only takes part in the cache key
+    private int countEric(byte[] marker) {
+        return handle.createQuery("select count(*) from something where :marker is not null and name = 'eric'").cacheResults("something")
+            .bind("marker", marker).mapTo(Integer.class).one();
+    }
+
+    @Test
+    public void invalidatesAfterCommit() {
+        assertThat(names()).containsExactly("eric");
+
+        handle.useTransaction(h -> {
+            h.createUpdate("update something set name = 'brian' where id = 1")
+                .invalidateCachedResults("something")
+                .execute();
+            assertThat(names()).containsExactly("eric");
+        });
+
+        assertThat(names()).containsExactly("brian");
+    }
+
+    @Test
+    public void rollbackDoesNotInvalidate() {
+        assertThat(names()).containsExactly("eric");
+        handle.execute("insert into something (id, name) values (2, 'brian')");
+
+        handle.begin();
+        handle.createUpdate("delete from something")
+            .invalidateCachedResults("something")
+            .execute();
+        handle.rollback();
+
+        assertThat(names()).containsExactly("eric");
+    }
+
+    @Test
+    public void batchInvalidates() {
+        assertThat(names()).containsExactly("eric");
+
+        handle.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .invalidateCachedResults("something")
+            .bind("id", 2).bind("name", "brian").add()
+            .execute();
+
+        assertThat(names()).containsExactly("eric", "brian");
+    }
+
+    @Test
+    public void expires() throws Exception {
+        handle.getConfig(CachedResults.class).setTimeToLive(Duration.ofMillis(10));
+        assertThat(names()).containsExactly("eric");
+
+        handle.execute("insert into something (id, name) values (2, 'brian')");
+        Thread.sleep(20);
+
+        assertThat(names()).containsExactly("eric", "brian");
+    }
+
+    @Test
+    public void customizersRunOnce() {
+        AtomicInteger templated = new AtomicInteger();
+        StatementCustomizer counter = new StatementCustomizer() {
+            @Override
+            public void beforeTemplating(PreparedStatement stmt, StatementContext ctx) {
+                templated.incrementAndGet();
+            }
+        };
+
+        handle.createQuery("select name from something order by id").cacheResults("something")
+            .addCustomizer(counter).mapTo(String.class).list();
+        assertThat(templated).hasValue(1);
+
+        handle.createQuery("select name from something order by id").cacheResults("something")
+            .addCustomizer(counter).mapTo(String.class).list();
+        assertThat(templated).hasValue(2);
+    }
+
+    @Test
+    public void otherMappersBypassCache() {
+        assertThat(names()).containsExactly("eric");
+
+        assertThat(handle.createQuery("select name from something order by id")
+            .cacheResults("something")
+            .registerColumnMapper(String.class, (rs, col, ctx) -> rs.getString(col).toUpperCase(Locale.ROOT))
+            .mapTo(String.class)
+            .list()).containsExactly("ERIC");
+
+        assertThat(names()).containsExactly("eric");
+    }
+
+    @Test
+    public void sharedBetweenHandles() {
+        assertThat(names()).containsExactly("eric");
+
+        try (Handle other = h2Extension.getJdbi().open()) {
+            other.execute("insert into something (id, name) values (2, 'brian')");
+            assertThat(other.createQuery("select name from something order by id")
+                .cacheResults("something")
+                .mapTo(String.class)
+                .list()).containsExactly("eric");
+        }
+    }
+}
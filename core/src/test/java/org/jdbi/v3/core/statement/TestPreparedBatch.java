@@ -207,6 +207,31 @@ public class TestPreparedBatch {
                 .containsExactly(tuple(1, "Eric"), tuple(2, "Brian"), tuple(3, "Keith"));
     }
 
+    @Test
+    public void testPrefixedBindBeanIsPrepared() {
+        Handle h = h2Extension.getSharedHandle();
+
+        final PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:s.id, :s.name)");
+
+        b.bindBean("s", new Something(1, "Eric")).add();
+        b.bindBean("s", new Something(2, "Brian")).add();
+
+        assertThat(b.preparedFinders.values())
+                .singleElement()
+                .satisfies(finder -> {
+                    assertThat(finder.apply("s.id")).isPresent();
+                    assertThat(finder.apply("s.name")).isPresent();
+                    assertThat(finder.apply("id")).isEmpty();
+                    assertThat(finder.apply("s.missing")).isEmpty();
+                });
+
+        b.execute();
+
+        final List<Something> r = h.createQuery("select * from something order by id").mapToBean(Something.class).list();
+        assertThat(r).extracting(Something::getId, Something::getName)
+                .containsExactly(tuple(1, "Eric"), tuple(2, "Brian"));
+    }
+
     @Test
     public void testMultipleExecuteBind() {
         Handle h = h2Extension.getSharedHandle();
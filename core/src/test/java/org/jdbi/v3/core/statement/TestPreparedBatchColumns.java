@@ -0,0 +1,138 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class TestPreparedBatchColumns {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance()
+            .withInitializer(h -> h.execute("create table payment (id bigint primary key, amount double, name varchar(50), region varchar(10))"));
+
+    private Handle h;
+
+    @BeforeEach
+    public void setUp() {
+        h = h2Extension.getSharedHandle();
+    }
+
+    @Test
+    public void testNamedColumns() {
+        final int[] counts = h.prepareBatch("insert into payment (id, amount, name, region) values (:id, :amount, :name, :region)")
+                .bindColumn("id", new long[] {1, 2, 3})
+                .bindColumn("amount", new double[] {1.5, 2.5, 3.5})
+                .bindColumn("name", new String[] {"Alice", null, "Carol"})
+                .bind("region", "eu")
+                .executeColumns(3);
+
+        assertThat(counts).containsExactly(1, 1, 1);
+        assertThat(h.createQuery("select id, amount, name, region from payment order by id").mapToMap().list())
+                .extracting(m -> m.get("id"), m -> m.get("amount"), m -> m.get("name"), m -> m.get("region"))
+                .containsExactly(
+                        tuple(1L, 1.5, "Alice", "eu"),
+                        tuple(2L, 2.5, null, "eu"),
+                        tuple(3L, 3.5, "Carol", "eu"));
+    }
+
+    @Test
+    public void testPositionalColumns() {
+        final List<Object> names = Arrays.asList("Alice", "Bob");
+
+        h.prepareBatch("insert into payment (id, amount, name, region) values (?, ?, ?, ?)")
+                .bindColumn(0, new int[] {1, 2})
+                .bindColumn(1, new Object[] {1.5, 2})
+                .bindColumn(2, names)
+                .bind(3, "us")
+                .executeColumns(2);
+
+        assertThat(h.createQuery("select id, amount, name, region from payment order by id").mapToMap().list())
+                .extracting(m -> m.get("id"), m -> m.get("amount"), m -> m.get("name"), m -> m.get("region"))
+                .containsExactly(
+                        tuple(1L, 1.5, "Alice", "us"),
+                        tuple(2L, 2.0, "Bob", "us"));
+    }
+
+    @Test
+    public void testChunks() {
+        h.getConfig(PreparedBatches.class).setColumnChunkSize(3);
+
+        final long[] ids = IntStream.range(0, 12).asLongStream().toArray();
+        final double[] amounts = IntStream.range(0, 12).asDoubleStream().toArray();
+
+        // only the first ten values are inserted
+        final int[] counts = h.prepareBatch("insert into payment (id, amount) values (:id, :amount)")
+                .bindColumn("id", ids)
+                .bindColumn("amount", amounts)
+                .executeColumns(10);
+
+        assertThat(counts).hasSize(10).containsOnly(1);
+        assertThat(h.createQuery("select id, amount from payment order by id").mapToMap().list())
+                .extracting(m -> m.get("id"), m -> m.get("amount"))
+                .containsExactlyElementsOf(IntStream.range(0, 10).mapToObj(i -> tuple((long) i, (double) i)).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testNoRows() {
+        assertThat(h.prepareBatch("insert into payment (id) values (:id)")
+                .bindColumn("id", new long[0])
+                .executeColumns(0))
+                .isEmpty();
+    }
+
+    @Test
+    public void testShortColumn() {
+        final PreparedBatch batch = h.prepareBatch("insert into payment (id, amount) values (:id, :amount)")
+                .bindColumn("id", new long[] {1, 2, 3})
+                .bindColumn("amount", new double[] {1.5, 2.5});
+
+        assertThatThrownBy(() -> batch.executeColumns(3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("amount");
+    }
+
+    @Test
+    public void testMissingColumn() {
+        final PreparedBatch batch = h.prepareBatch("insert into payment (id, amount) values (:id, :amount)")
+                .bindColumn("id", new long[] {1});
+
+        assertThatThrownBy(() -> batch.executeColumns(1))
+                .isInstanceOf(UnableToCreateStatementException.class)
+                .hasMessageContaining("amount");
+    }
+
+    @Test
+    public void testNotCombinedWithRows() {
+        final PreparedBatch batch = h.prepareBatch("insert into payment (id) values (:id)");
+        batch.add(Map.of("id", 1));
+        batch.bindColumn("id", new long[] {2});
+
+        assertThatThrownBy(() -> batch.executeColumns(1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestPreparedBatchMultiRowInsert {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    private final List<String> executedSql = new ArrayList<>();
+
+    private Handle h;
+
+    @BeforeEach
+    public void setUp() {
+        h = h2Extension.getSharedHandle();
+        h.getConfig(PreparedBatches.class).setMultiRowInserts(true);
+        h.getConfig(SqlStatements.class).addCustomizer(new StatementCustomizer() {
+            @Override
+            public void beforeExecution(PreparedStatement stmt, StatementContext ctx) {
+                executedSql.add(stmt.toString());
+            }
+        });
+    }
+
+    @Test
+    public void testParse() {
+        assertThat(MultiRowInsert.parse("insert into something (id, name) values (?, ?)").sql(3))
+            .isEqualTo("insert into something (id, name) values (?, ?), (?, ?), (?, ?)");
+        assertThat(MultiRowInsert.parse("INSERT INTO \"values\" (id) VALUES (coalesce(?, 1)) ; ").sql(2))
+            .isEqualTo("INSERT INTO \"values\" (id) VALUES (coalesce(?, 1)), (coalesce(?, 1)) ; ");
+        assertThat(MultiRowInsert.parse("/* hello */ insert into t (a, b) -- comment\n values (?, 'it''s (')").sql(2))
+            .isEqualTo("/* hello */ insert into t (a, b) -- comment\n values (?, 'it''s ('), (?, 'it''s (')");
+
+        assertThat(MultiRowInsert.parse("update something set name = ? where id = ?")).isNull();
+        assertThat(MultiRowInsert.parse("insert into t (a) select ? from dual")).isNull();
+        assertThat(MultiRowInsert.parse("insert into t (a) values (?), (?)")).isNull();
+        assertThat(MultiRowInsert.parse("insert into t (a) values (?) on conflict do nothing")).isNull();
+        assertThat(MultiRowInsert.parse("insert into t (a) values (?) returning id")).isNull();
+        assertThat(MultiRowInsert.parse("insert into t default values")).isNull();
+        assertThat(MultiRowInsert.parse("insert into t (a) values ('unterminated)")).isNull();
+    }
+
+    @Test
+    public void testRowsPerStatement() {
+        PreparedBatches config = new PreparedBatches();
+        assertThat(config.rowsPerStatement(2)).isOne();
+
+        config.setMultiRowInserts(true);
+        assertThat(config.rowsPerStatement(2)).isEqualTo(256);
+        assertThat(config.rowsPerStatement(10)).isEqualTo(64);
+        assertThat(config.rowsPerStatement(600)).isOne();
+        assertThat(config.setMaxRowsPerStatement(100).rowsPerStatement(0)).isEqualTo(64);
+
+        assertThatThrownBy(() -> config.setMaxParametersPerStatement(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testInsertsAllRowsInOrder() {
+        PreparedBatch batch = h.prepareBatch("insert into something (id, name) values (:id, :name)");
+        int count = 1000;
+        for (int i = 0; i < count; i++) {
+            batch.bind("id", i).bind("name", "name " + i).add();
+        }
+        int[] counts = batch.execute();
+
+        assertThat(counts).hasSize(count).containsOnly(1);
+        // 3 statements of 256 rows, then 128, 64, 32 and 8 rows
+        assertThat(executedSql).hasSize(5);
+
+        List<Something> rows = h.createQuery("select id, name from something order by id").mapToBean(Something.class).list();
+        assertThat(rows).hasSize(count);
+        for (int i = 0; i < count; i++) {
+            assertThat(rows.get(i).getId()).isEqualTo(i);
+            assertThat(rows.get(i).getName()).isEqualTo("name " + i);
+        }
+    }
+
+    @Test
+    public void testPositionalAndParameterLimit() {
+        h.getConfig(PreparedBatches.class).setMaxParametersPerStatement(10);
+
+        PreparedBatch batch = h.prepareBatch("insert into something (id, name) values (?, ?)");
+        for (int i = 0; i < 7; i++) {
+            batch.add(i, "name " + i);
+        }
+        assertThat(batch.execute()).hasSize(7).containsOnly(1);
+        // 4 rows (8 parameters), then 2 and 1 rows
+        assertThat(executedSql).hasSize(3);
+
+        assertThat(h.createQuery("select name from something order by id").mapTo(String.class).list())
+            .containsExactly("name 0", "name 1", "name 2", "name 3", "name 4", "name 5", "name 6");
+    }
+
+    @Test
+    public void testNotRewritten() {
+        PreparedBatch update = h.prepareBatch("update something set name = :name where id = :id");
+        update.bind("id", 1).bind("name", "a").add();
+        update.bind("id", 2).bind("name", "b").add();
+        assertThat(update.execute()).containsExactly(0, 0);
+        assertThat(executedSql).hasSize(1);
+
+        PreparedBatch keys = h.prepareBatch("insert into something (id, name) values (:id, :name)");
+        keys.bind("id", 1).bind("name", "a").add();
+        keys.bind("id", 2).bind("name", "b").add();
+        assertThat(keys.executePreparedBatch("id").mapTo(int.class).list()).containsExactly(1, 2);
+        assertThat(executedSql).hasSize(2);
+    }
+
+    @Test
+    public void testFailureIsReported() {
+        PreparedBatch batch = h.prepareBatch("insert into something (id, name) values (:id, :name)");
+        batch.bind("id", 1).bind("name", "a").add();
+        batch.bind("id", 1).bind("name", "b").add();
+        assertThatThrownBy(batch::execute).isInstanceOf(UnableToExecuteStatementException.class);
+        assertThat(h.createQuery("select count(*) from something").mapTo(int.class).one()).isZero();
+    }
+}
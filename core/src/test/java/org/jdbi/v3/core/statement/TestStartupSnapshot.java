@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestStartupSnapshot {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(H2DatabaseExtension.SOMETHING_INITIALIZER);
+
+    @TempDir
+    Path directory;
+
+    private final CountingParser parser = new CountingParser();
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        handle.execute("insert into something (id, name) values (1, 'eric')");
+        handle.getConfig(SqlStatements.class).setSqlParser(parser);
+    }
+
+    @Test
+    public void testWriteAndLoad() throws IOException {
+        Path file = directory.resolve("jdbi.snapshot");
+
+        StartupSnapshot snapshot = StartupSnapshot.load(file);
+        assertThat(snapshot.isLoaded()).isFalse();
+        assertThat(snapshot.isEmpty()).isTrue();
+
+        handle.getConfig(SqlStatements.class).setStartupSnapshot(snapshot);
+        assertThat(queries()).containsExactly("eric", "eric");
+        assertThat(parser.parsed).hasValue(2);
+        assertThat(snapshot.locate("key", () -> "select 1")).isEqualTo("select 1");
+
+        snapshot.write(file);
+
+        StartupSnapshot loaded = StartupSnapshot.load(file);
+        assertThat(loaded.isLoaded()).isTrue();
+        assertThat(loaded.isEmpty()).isFalse();
+        assertThat(loaded.locate("key", () -> "select 2")).isEqualTo("select 1");
+
+        // a new parser with an empty cache takes the parsed statements from the snapshot
+        CountingParser otherParser = new CountingParser();
+        handle.getConfig(SqlStatements.class)
+            .setSqlParser(otherParser)
+            .setStartupSnapshot(loaded);
+        assertThat(queries()).containsExactly("eric", "eric");
+        assertThat(otherParser.parsed).hasValue(0);
+    }
+
+    @Test
+    public void testInvalidFile() throws IOException {
+        Path file = directory.resolve("invalid.snapshot");
+        Files.write(file, "not a snapshot".getBytes(StandardCharsets.UTF_8));
+
+        StartupSnapshot snapshot = StartupSnapshot.load(file);
+        assertThat(snapshot.isLoaded()).isFalse();
+        assertThat(snapshot.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testChangedResourceInClassDirectory() throws IOException {
+        Path classes = Files.createDirectories(directory.resolve("classes").resolve("sql"));
+        Path resource = classes.resolve("find.sql");
+        Files.write(resource, "select 1".getBytes(StandardCharsets.UTF_8));
+        String classpath = directory.resolve("classes").toString();
+
+        String hash = StartupSnapshot.classpathHash(classpath);
+        assertThat(StartupSnapshot.classpathHash(classpath)).isEqualTo(hash);
+
+        Files.write(resource, "select 22".getBytes(StandardCharsets.UTF_8));
+        assertThat(StartupSnapshot.classpathHash(classpath)).isNotEqualTo(hash);
+    }
+
+    private String[] queries() {
+        return new String[] {
+            handle.createQuery("select name from something where id = :id")
+                .bind("id", 1)
+                .mapTo(String.class)
+                .one(),
+            handle.createQuery("select name from something where id = ?")
+                .bind(0, 1)
+                .mapTo(String.class)
+                .one()
+        };
+    }
+
+    static class CountingParser extends ColonPrefixSqlParser {
+        private final AtomicInteger parsed = new AtomicInteger();
+
+        @Override
+        ParsedSql internalParse(String sql) {
+            parsed.incrementAndGet();
+            return super.internalParse(sql);
+        }
+    }
+}
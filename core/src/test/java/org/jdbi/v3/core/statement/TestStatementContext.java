@@ -13,6 +13,9 @@
  */
 package org.jdbi.v3.core.statement;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.junit5.H2DatabaseExtension;
 import org.junit.jupiter.api.Test;
@@ -35,4 +38,46 @@ public class TestStatementContext {
                 .execute();
         assertThat(inserted).isOne();
     }
+
+    @Test
+    public void testTimingWithoutSqlLogger() {
+        Handle h = h2Extension.getSharedHandle();
+        assertThat(h.getConfig(SqlStatements.class).getSqlLogger()).isSameAs(SqlLogger.NOP_SQL_LOGGER);
+
+        try (Update update = h.createUpdate("insert into something (id, name) values (:id, :name)")) {
+            Instant before = Instant.now();
+            update.bind("id", 8)
+                .bind("name", "Steven")
+                .execute();
+            Instant after = Instant.now();
+
+            StatementContext ctx = update.getContext();
+            assertThat(ctx.getElapsedNanos()).isNotNegative();
+            assertThat(ctx.getElapsedTime(ChronoUnit.NANOS)).isEqualTo(ctx.getElapsedNanos());
+            // derived moments follow the wall clock
+            assertThat(ctx.getExecutionMoment()).isBetween(before.minusMillis(50), after.plusMillis(50));
+            assertThat(ctx.getCompletionMoment()).isAfterOrEqualTo(ctx.getExecutionMoment()).isBefore(after.plusMillis(50));
+            assertThat(ctx.getExceptionMoment()).isNull();
+        }
+    }
+
+    @Test
+    public void testElapsedTimeFromSetMoments() {
+        Handle h = h2Extension.getSharedHandle();
+
+        try (Update update = h.createUpdate("insert into something (id, name) values (:id, :name)")) {
+            update.bind("id", 9)
+                .bind("name", "Brian")
+                .execute();
+
+            StatementContext ctx = update.getContext();
+            Instant start = Instant.parse("2024-01-01T00:00:00Z");
+            ctx.setExecutionMoment(start);
+            ctx.setCompletionMoment(start.plusSeconds(3));
+
+            assertThat(ctx.getElapsedTime(ChronoUnit.SECONDS)).isEqualTo(3);
+            assertThat(ctx.getElapsedTime(ChronoUnit.MILLIS)).isEqualTo(3000);
+            assertThat(ctx.getElapsedNanos()).isEqualTo(3_000_000_000L);
+        }
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.jdbi.v3.core.internal.lexer.ColonStatementLexer;
+import org.jdbi.v3.core.internal.lexer.DefineStatementLexer;
+import org.jdbi.v3.core.internal.lexer.HashStatementLexer;
+import org.junit.jupiter.api.Test;
+
+import static org.antlr.v4.runtime.Recognizer.EOF;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the scanner with the ANTLR lexers it replaces.
+ */
+public class TestSqlScanner {
+    private static final String[] CORPUS = {
+        "",
+        "select * from something where id = :id",
+        "select * from something where id = #id",
+        "insert into something (id, name) values (:id, :name)",
+        "select :a::int, :b::varchar(10), x::text from t",
+        "select :::a, ::b, :",
+        "select ? from t where x = ? and y ?? z and w ??? v",
+        "select * from t where name = ':notAParam' and other = \"#notAParam\"",
+        "select 'it\\'s', 'a\\\\', ':x', '\\'' from dual where a = :a",
+        "select '' || \"\" || '''' from dual -- :comment\nwhere a = :a",
+        "select 1 /* :comment */ from t // :comment\r\n where b = #b",
+        "select 1 /* unterminated :a",
+        "select 'unterminated :a",
+        "select \"unterminated :a",
+        "select \\:escaped, \\#escaped, \\<escaped>, \\? from t\\",
+        "select :user.name, :user?.address?.city, :a?b, #user?.name from t",
+        "select * from <table> where <column> in (<values>) and a < b and c > d",
+        "select * from <a.b> where x <> y and <> and <a",
+        "select :ünïcödé, :名前, :😀emoji, :\uD83Dlone, :\uDE00low from t",
+        "select $1, :$dollar, :_under, :0digit, :a-b from t",
+        "update t set a = :a where b in (:b0, :b1, :b2) -- trailing",
+        "select '/* not a comment */', \"-- not a comment\" from t where c = :c",
+        "select ':a\\':b' from t where :c = '\\'",
+    };
+
+    private static final String[] FRAGMENTS = {
+        ":", "::", "#", "##", "?", "??", "?.", "'", "\\'", "\\", "\"", "/*", "*/", "/", "*", "--", "-", "//",
+        "\n", "\r", " ", "<", ">", "a", "b1", "_", "$", ".", "é", "😀", "\uD83D", "\uDE00", "\0",
+    };
+
+    @Test
+    public void testCorpus() {
+        for (String sql : CORPUS) {
+            assertSame(sql);
+        }
+    }
+
+    @Test
+    public void testRandomStatements() {
+        Random random = new Random(4711);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder sql = new StringBuilder();
+            int fragments = random.nextInt(20);
+            for (int j = 0; j < fragments; j++) {
+                sql.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            assertSame(sql.toString());
+        }
+    }
+
+    private static void assertSame(String sql) {
+        assertThat(scan(sql, SqlScanner.Syntax.COLON_PARAMETERS))
+            .describedAs("colon parameters in [%s]", sql)
+            .isEqualTo(lex(new ColonStatementLexer(CharStreams.fromString(sql)), ColonStatementLexer.NAMED_PARAM,
+                ColonStatementLexer.POSITIONAL_PARAM, ColonStatementLexer.ESCAPED_TEXT, 1));
+        assertThat(scan(sql, SqlScanner.Syntax.HASH_PARAMETERS))
+            .describedAs("hash parameters in [%s]", sql)
+            .isEqualTo(lex(new HashStatementLexer(CharStreams.fromString(sql)), HashStatementLexer.NAMED_PARAM,
+                HashStatementLexer.POSITIONAL_PARAM, HashStatementLexer.ESCAPED_TEXT, 1));
+        assertThat(scan(sql, SqlScanner.Syntax.DEFINED_ATTRIBUTES))
+            .describedAs("defined attributes in [%s]", sql)
+            .isEqualTo(lex(new DefineStatementLexer(CharStreams.fromString(sql)), DefineStatementLexer.DEFINE,
+                -1, DefineStatementLexer.ESCAPED_TEXT, 2));
+    }
+
+    private static List<String> scan(String sql, SqlScanner.Syntax syntax) {
+        Tokens tokens = new Tokens();
+        SqlScanner.scan(sql, syntax, new SqlScanner.Handler() {
+            @Override
+            public void text(int start, int end) {
+                tokens.text(sql.substring(start, end));
+            }
+
+            @Override
+            public void name(int start, int end) {
+                tokens.add("name " + sql.substring(start, end));
+            }
+
+            @Override
+            public void positionalParameter() {
+                tokens.add("?");
+            }
+        });
+        return tokens.list();
+    }
+
+    private static List<String> lex(Lexer lexer, int name, int positional, int escaped, int nameDelimiters) {
+        Tokens tokens = new Tokens();
+        for (Token t = lexer.nextToken(); t.getType() != EOF; t = lexer.nextToken()) {
+            String text = t.getText();
+            if (t.getType() == name) {
+                tokens.add("name " + text.substring(1, text.length() - nameDelimiters + 1));
+            } else if (t.getType() == positional) {
+                tokens.add("?");
+            } else if (t.getType() == escaped) {
+                tokens.text(text.substring(1));
+            } else {
+                tokens.text(text);
+            }
+        }
+        return tokens.list();
+    }
+
+    // merges adjacent text, which the scanner reports in larger ranges than the lexers
+    private static final class Tokens {
+        private final List<String> list = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+
+        void text(String s) {
+            text.append(s);
+        }
+
+        void add(String token) {
+            flush();
+            list.add(token);
+        }
+
+        List<String> list() {
+            flush();
+            return list;
+        }
+
+        private void flush() {
+            if (text.length() > 0) {
+                list.add("text " + text);
+                text.setLength(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.time;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.statement.Query;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestJavaTimes {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance()
+        .withInitializer(h -> h.execute("create table stuff (ts timestamp, d date, t time)"));
+
+    // Don't use nanoseconds - they'll get truncated off
+    Clock fixed = Clock.fixed(Instant.ofEpochSecond(123456789), ZoneOffset.UTC);
+
+    @ParameterizedTest
+    @EnumSource(value = JavaTimeStrategy.class, names = {"JDBC42", "AUTO"})
+    public void roundTrip(JavaTimeStrategy strategy) {
+        Handle h = h2Extension.getSharedHandle();
+        h.getConfig(JavaTimes.class).setStrategy(strategy);
+
+        Instant i = Instant.now(fixed);
+        h.execute("insert into stuff(ts) values (?)", i);
+        assertThat(h.createQuery("select ts from stuff").mapTo(Instant.class).one()).isEqualTo(i);
+        h.execute("delete from stuff");
+
+        LocalDateTime ldt = LocalDateTime.now(fixed);
+        h.execute("insert into stuff(ts) values (?)", ldt);
+        assertThat(h.createQuery("select ts from stuff").mapTo(LocalDateTime.class).one()).isEqualTo(ldt);
+        h.execute("delete from stuff");
+
+        OffsetDateTime odt = OffsetDateTime.now(fixed).withOffsetSameInstant(ZoneOffset.ofHours(-7));
+        h.execute("insert into stuff(ts) values (?)", odt);
+        assertThat(h.createQuery("select ts from stuff").mapTo(OffsetDateTime.class).one().isEqual(odt)).isTrue();
+        h.execute("delete from stuff");
+
+        ZonedDateTime zdt = ZonedDateTime.now(fixed).withZoneSameInstant(ZoneId.of("America/Denver"));
+        h.execute("insert into stuff(ts) values (?)", zdt);
+        assertThat(h.createQuery("select ts from stuff").mapTo(ZonedDateTime.class).one().isEqual(zdt)).isTrue();
+        h.execute("delete from stuff");
+
+        LocalDate d = LocalDate.now(fixed);
+        LocalTime t = LocalTime.of(8, 30, 15);
+        h.execute("insert into stuff(d, t) values (?, ?)", d, t);
+        assertThat(h.createQuery("select d from stuff").mapTo(LocalDate.class).one()).isEqualTo(d);
+        assertThat(h.createQuery("select t from stuff").mapTo(LocalTime.class).one()).isEqualTo(t);
+    }
+
+    @Test
+    public void nulls() {
+        Handle h = h2Extension.getSharedHandle();
+        h.getConfig(JavaTimes.class).setStrategy(JavaTimeStrategy.JDBC42);
+
+        h.execute("insert into stuff(ts) values (?)", (Instant) null);
+        assertThat(h.createQuery("select ts from stuff").mapTo(Instant.class).one()).isNull();
+        assertThat(h.createQuery("select ts from stuff").mapTo(ZonedDateTime.class).one()).isNull();
+        assertThat(h.createQuery("select d from stuff").mapTo(LocalDate.class).one()).isNull();
+    }
+
+    @Test
+    public void readsValuesWrittenWithTimestamps() {
+        Instant i = Instant.now(fixed);
+        h2Extension.getSharedHandle().execute("insert into stuff(ts) values (?)", i);
+
+        try (Handle h = h2Extension.getJdbi().open()) {
+            h.getConfig(JavaTimes.class).setStrategy(JavaTimeStrategy.JDBC42);
+            assertThat(h.createQuery("select ts from stuff").mapTo(Instant.class).one()).isEqualTo(i);
+            assertThat(h.createQuery("select ts from stuff").mapTo(ZonedDateTime.class).one().toInstant()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void autoDetectsDriverSupport() {
+        Handle h = h2Extension.getSharedHandle();
+        h.getConfig(JavaTimes.class).setStrategy(JavaTimeStrategy.AUTO);
+
+        try (Query query = h.createQuery("select ts from stuff")) {
+            assertThat(query.getConfig(JavaTimes.class).isJdbc42(query.getContext())).isTrue();
+        }
+    }
+
+    @Test
+    public void timestampStrategyNeverUsesJdbc42() {
+        Handle h = h2Extension.getSharedHandle();
+
+        try (Query query = h.createQuery("select ts from stuff")) {
+            assertThat(query.getConfig(JavaTimes.class).isJdbc42(query.getContext())).isFalse();
+        }
+    }
+}
@@ -60,4 +60,29 @@ public class TestLocalTransactionHandler {
             }))
             .isSameAs(error);
     }
+
+    @Test
+    public void testOpenReadsAutoCommitOnce() throws Exception {
+        Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.getAutoCommit()).thenReturn(true);
+
+        try (Handle handle = Jdbi.create(() -> connection).open()) {
+            Mockito.verify(connection, Mockito.times(1)).getAutoCommit();
+
+            assertThat(handle.isInTransaction()).isFalse();
+            Mockito.verify(connection, Mockito.times(2)).getAutoCommit();
+        }
+    }
+
+    @Test
+    public void testOpenWithTransactionInProgress() throws Exception {
+        Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.getAutoCommit()).thenReturn(false);
+
+        try (Handle handle = Jdbi.create(() -> connection).open()) {
+            Mockito.verify(connection, Mockito.times(1)).getAutoCommit();
+            assertThat(handle.isInTransaction()).isTrue();
+        }
+        Mockito.verify(connection, Mockito.never()).rollback();
+    }
 }
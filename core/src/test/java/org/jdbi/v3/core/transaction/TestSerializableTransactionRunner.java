@@ -15,13 +15,23 @@ package org.jdbi.v3.core.transaction;
 
 import java.sql.BatchUpdateException;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.metrics.JdbiMetrics;
+import org.jdbi.v3.core.metrics.JdbiMetricsRegistry;
+import org.jdbi.v3.core.metrics.TransactionStatistics;
 import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -174,4 +184,130 @@ public class TestSerializableTransactionRunner {
         verifyNoMoreInteractions(onSuccess);
         assertThat(expectedExceptions.get()).isEqualTo(MAX_RETRIES);
     }
+
+    @Test
+    public void testBackoffDelays() {
+        SerializableTransactionRunner.Configuration config = new SerializableTransactionRunner.Configuration();
+        assertThat(config.backoffNanos(1, 0.0)).isZero();
+
+        config.setBackoff(Duration.ofMillis(10), Duration.ofMillis(50)).setJitter(0.0);
+        assertThat(List.of(1, 2, 3, 4, 5))
+            .extracting(retry -> config.backoffNanos(retry, 0.7))
+            .containsExactly(10_000_000L, 20_000_000L, 40_000_000L, 50_000_000L, 50_000_000L);
+
+        config.setJitter(1.0);
+        assertThat(config.backoffNanos(2, 0.0)).isEqualTo(20_000_000L);
+        assertThat(config.backoffNanos(2, 0.25)).isEqualTo(15_000_000L);
+
+        assertThatThrownBy(() -> config.setBackoff(Duration.ofMillis(2), Duration.ofMillis(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.setJitter(1.5))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.setBackoffMultiplier(0.5))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testBackoffWaitsBetweenRetries() throws Exception {
+        h2Extension.getJdbi().getConfig(SerializableTransactionRunner.Configuration.class)
+            .setBackoff(Duration.ofMillis(20), Duration.ofMillis(20))
+            .setJitter(0.0);
+
+        final AtomicInteger remaining = new AtomicInteger(3);
+        final long start = System.nanoTime();
+        try (Handle handle = h2Extension.openHandle()) {
+            handle.inTransaction(TransactionIsolationLevel.SERIALIZABLE, conn -> {
+                if (remaining.decrementAndGet() == 0) {
+                    return null;
+                }
+                throw new SQLException("serialization", "40001");
+            });
+        }
+
+        assertThat(remaining.get()).isZero();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+    }
+
+    @Test
+    public void testInterruptStopsRetrying() {
+        h2Extension.getJdbi().getConfig(SerializableTransactionRunner.Configuration.class)
+            .setBackoff(Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+        final AtomicInteger attempts = new AtomicInteger(0);
+        try (Handle handle = h2Extension.openHandle()) {
+            assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> handle.inTransaction(TransactionIsolationLevel.SERIALIZABLE, conn -> {
+                    attempts.incrementAndGet();
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("serialization", "40001");
+                }));
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+        assertThat(attempts.get()).isOne();
+    }
+
+    @Test
+    public void testConcurrencyLimit() throws Exception {
+        h2Extension.getJdbi().getConfig(SerializableTransactionRunner.Configuration.class)
+            .setMaxConcurrentTransactions(1);
+
+        final int threads = 4;
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch ready = new CountDownLatch(threads);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    return h2Extension.getJdbi().inTransaction(TransactionIsolationLevel.SERIALIZABLE, handle -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        Thread.sleep(10);
+                        // nested transactions must not wait for a second permit
+                        int value = handle.inTransaction(nested -> nested.createQuery("select 1").mapTo(int.class).one());
+                        running.decrementAndGet();
+                        return value;
+                    });
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isOne();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(maxRunning.get()).isOne();
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        final JdbiMetricsRegistry registry = new JdbiMetricsRegistry();
+        h2Extension.getJdbi().getConfig(JdbiMetrics.class).addCollector(registry);
+
+        final AtomicInteger remaining = new AtomicInteger(3);
+        try (Handle handle = h2Extension.openHandle()) {
+            handle.inTransaction(TransactionIsolationLevel.SERIALIZABLE, conn -> {
+                if (remaining.decrementAndGet() == 0) {
+                    return null;
+                }
+                throw new SQLException("serialization", "40001");
+            });
+            handle.inTransaction(TransactionIsolationLevel.SERIALIZABLE, conn -> null);
+            assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> handle.inTransaction(TransactionIsolationLevel.SERIALIZABLE, conn -> {
+                    throw new SQLException("serialization", "40001");
+                }));
+        }
+
+        TransactionStatistics statistics = registry.getSerializableTransactions();
+        assertThat(statistics.getTransactions()).isEqualTo(3);
+        assertThat(statistics.getAttempts()).isEqualTo(3 + 1 + 1 + MAX_RETRIES);
+        assertThat(statistics.getSerializationFailures()).isEqualTo(2 + 1 + MAX_RETRIES);
+        assertThat(statistics.getAborted()).isOne();
+        assertThat(statistics.getRetriedTransactionTime().getCount()).isEqualTo(2);
+        assertThat(statistics.getConflictRate()).isEqualTo((double) (2 + 1 + MAX_RETRIES) / (3 + 1 + 1 + MAX_RETRIES));
+    }
 }
@@ -0,0 +1,572 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.generator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.annotation.JdbiProperty;
+import org.jdbi.v3.core.generic.GenericType;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.Nested;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.core.mapper.reflect.JdbiConstructor;
+import org.jdbi.v3.core.mapper.reflect.internal.GeneratedMappers;
+import org.jdbi.v3.core.mapper.reflect.internal.GeneratedProperties;
+import org.jdbi.v3.core.mapper.reflect.internal.PojoTypes;
+import org.jdbi.v3.core.qualifier.Qualifier;
+import org.jdbi.v3.core.spi.JdbiPlugin;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import static java.lang.String.format;
+
+/**
+ * Creates a row mapper and bean properties for binding for each type annotated with
+ * {@link org.jdbi.v3.core.mapper.reflect.GenerateMapper}. Both are registered by a generated plugin,
+ * which is listed as a {@link JdbiPlugin} service.
+ */
+@SupportedAnnotationTypes(GenerateMapperProcessor.GENERATE_MAPPER_ANNOTATION_NAME)
+public class GenerateMapperProcessor extends AbstractProcessor {
+
+    public static final String GENERATE_MAPPER_ANNOTATION_NAME = "org.jdbi.v3.core.mapper.reflect.GenerateMapper";
+
+    private static final String PLUGIN_SERVICE_FILE = "META-INF/services/" + JdbiPlugin.class.getName();
+
+    private final Set<String> plugins = new TreeSet<>();
+
+    private Elements elementUtils;
+    private Types typeUtils;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidSynchronizedAtMethodLevel")
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elementUtils = processingEnv.getElementUtils();
+        this.typeUtils = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        TypeElement generateMapperAnnotation = elementUtils.getTypeElement(GENERATE_MAPPER_ANNOTATION_NAME);
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(generateMapperAnnotation)) {
+            generateSourceFile((TypeElement) element);
+        }
+
+        return false;
+    }
+
+    private void generateSourceFile(TypeElement typeElement) {
+        messager.printMessage(Kind.NOTE, format("[jdbi] generating mapper for %s", typeElement));
+
+        try {
+            final MapperFile mapperFile = new MapperFile(typeElement);
+            mapperFile.writeFile();
+            plugins.add(mapperFile.pluginClassName.reflectionName());
+        } catch (RuntimeException e) {
+            messager.printMessage(Kind.ERROR, format("@GenerateMapper processor threw an exception for '%s': %s", typeElement, e), typeElement);
+            throw e;
+        }
+    }
+
+    private void writeServiceFile() {
+        if (plugins.isEmpty()) {
+            return;
+        }
+
+        // keep the plugins of an earlier, incremental compilation
+        plugins.addAll(readServiceFile());
+
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", PLUGIN_SERVICE_FILE);
+            try (Writer out = file.openWriter()) {
+                for (String plugin : plugins) {
+                    out.write(plugin);
+                    out.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Kind.WARNING, format("Could not write %s: %s", PLUGIN_SERVICE_FILE, e));
+        }
+    }
+
+    private List<String> readServiceFile() {
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", PLUGIN_SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                return reader.lines().map(String::trim).filter(line -> !line.isEmpty()).collect(Collectors.toList());
+            }
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    private static String getPluginClassName(TypeElement typeElement) {
+        return typeElement.getSimpleName() + "MapperPlugin";
+    }
+
+    private static String decapitalize(String name) {
+        // same rules as java.beans.Introspector#decapitalize
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return name.substring(0, 1).toLowerCase(Locale.ROOT) + name.substring(1);
+    }
+
+    private static final class MappedProperty {
+        private final String name;
+        private final String column;
+        private final TypeMirror type;
+        private final boolean required;
+        private final ExecutableElement setter;
+
+        MappedProperty(String name, String column, TypeMirror type, boolean required, ExecutableElement setter) {
+            this.name = name;
+            this.column = column;
+            this.type = type;
+            this.required = required;
+            this.setter = setter;
+        }
+    }
+
+    private final class MapperFile {
+
+        private final TypeElement typeElement;
+        private final PackageElement typePackage;
+        private final TypeName typeName;
+        private final ClassName pluginClassName;
+
+        private MapperFile(TypeElement typeElement) {
+            this.typeElement = typeElement;
+            this.typePackage = elementUtils.getPackageOf(typeElement);
+            this.typeName = TypeName.get(typeElement.asType());
+            this.pluginClassName = ClassName.get(typePackage.getQualifiedName().toString(), getPluginClassName(typeElement));
+
+            validateType();
+        }
+
+        private void validateType() {
+            if (typeElement.getKind() != ElementKind.CLASS && !isRecord()) {
+                throw new IllegalStateException("@GenerateMapper annotation on unsupported element: " + typeElement);
+            }
+            if (typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+                throw new IllegalStateException("@GenerateMapper on an abstract class: " + typeElement);
+            }
+            if (!typeElement.getTypeParameters().isEmpty()) {
+                throw new IllegalStateException("@GenerateMapper on a generic class: " + typeElement);
+            }
+            for (Element element = typeElement; element instanceof TypeElement; element = element.getEnclosingElement()) {
+                if (element.getModifiers().contains(Modifier.PRIVATE)
+                        || (((TypeElement) element).getNestingKind() == NestingKind.MEMBER && !element.getModifiers().contains(Modifier.STATIC))) {
+                    throw new IllegalStateException("@GenerateMapper on a private or inner class: " + typeElement);
+                }
+            }
+        }
+
+        private boolean isRecord() {
+            // ElementKind.RECORD does not exist in all supported releases
+            return "RECORD".equals(typeElement.getKind().name());
+        }
+
+        private void writeFile() {
+            final Optional<ExecutableElement> constructor = findConstructor();
+            final List<MappedProperty> properties = constructor
+                .map(this::constructorProperties)
+                .orElseGet(this::setterProperties);
+
+            if (properties.isEmpty()) {
+                throw new IllegalStateException("@GenerateMapper found no properties to map on " + typeElement);
+            }
+
+            final TypeSpec plugin = TypeSpec.classBuilder(pluginClassName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .superclass(JdbiPlugin.Singleton.class)
+                .addOriginatingElement(typeElement)
+                .addField(propertiesField())
+                .addMethod(MethodSpec.methodBuilder("customizeJdbi")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .addParameter(Jdbi.class, "jdbi")
+                    .addStatement("jdbi.registerRowMapper($T.class, new Mapper())", typeName)
+                    .addStatement("jdbi.getConfig($T.class).registerBean($T.class, (type, config) -> PROPERTIES)", PojoTypes.class, typeName)
+                    .build())
+                .addType(mapperType(properties, constructor.isPresent()))
+                .build();
+
+            try {
+                final JavaFileObject file = filer.createSourceFile(pluginClassName.reflectionName(), typeElement);
+                try (Writer out = file.openWriter()) {
+                    JavaFile.builder(typePackage.getQualifiedName().toString(), plugin)
+                        .build()
+                        .writeTo(out);
+                }
+            } catch (IOException e) {
+                // see GenerateSqlObjectProcessor, the file may have been written in an earlier round
+                messager.printMessage(Kind.WARNING, format("Could not write generated class %s: %s", pluginClassName, e));
+            }
+        }
+
+        private Optional<ExecutableElement> findConstructor() {
+            final List<ExecutableElement> constructors = ElementFilter.constructorsIn(typeElement.getEnclosedElements()).stream()
+                .filter(this::isAccessible)
+                .collect(Collectors.toList());
+
+            final List<ExecutableElement> annotated = constructors.stream()
+                .filter(c -> c.getAnnotation(JdbiConstructor.class) != null)
+                .collect(Collectors.toList());
+            if (annotated.size() > 1) {
+                throw new IllegalStateException("multiple constructors annotated with @JdbiConstructor on " + typeElement);
+            }
+            if (!annotated.isEmpty()) {
+                return Optional.of(annotated.get(0));
+            }
+
+            if (isRecord()) {
+                final List<TypeMirror> components = ElementFilter.fieldsIn(typeElement.getEnclosedElements()).stream()
+                    .filter(f -> !f.getModifiers().contains(Modifier.STATIC))
+                    .map(VariableElement::asType)
+                    .collect(Collectors.toList());
+                return constructors.stream()
+                    .filter(c -> c.getParameters().size() == components.size())
+                    .filter(c -> {
+                        for (int i = 0; i < components.size(); i++) {
+                            if (!typeUtils.isSameType(c.getParameters().get(i).asType(), components.get(i))) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    })
+                    .findFirst();
+            }
+
+            if (constructors.stream().anyMatch(c -> c.getParameters().isEmpty())) {
+                return Optional.empty();
+            }
+
+            if (constructors.size() == 1) {
+                return Optional.of(constructors.get(0));
+            }
+
+            throw new IllegalStateException("@GenerateMapper could not find a constructor for " + typeElement
+                + ", add a no-argument constructor or annotate one with @JdbiConstructor");
+        }
+
+        private List<MappedProperty> constructorProperties(ExecutableElement constructor) {
+            checkThrownTypes(constructor);
+            final List<MappedProperty> properties = new ArrayList<>();
+            for (VariableElement parameter : constructor.getParameters()) {
+                checkSupported(parameter);
+                final String name = parameter.getSimpleName().toString();
+                final ColumnName columnName = parameter.getAnnotation(ColumnName.class);
+                properties.add(new MappedProperty(name,
+                    columnName == null ? name : columnName.value(),
+                    parameter.asType(),
+                    !hasAnnotationNamed(parameter, "Nullable"),
+                    null));
+            }
+            return properties;
+        }
+
+        private List<MappedProperty> setterProperties() {
+            final Map<String, ExecutableElement> getters = getters();
+            final List<MappedProperty> properties = new ArrayList<>();
+            for (ExecutableElement method : methods()) {
+                final String methodName = method.getSimpleName().toString();
+                if (methodName.length() <= 3 || !methodName.startsWith("set")
+                        || method.getParameters().size() != 1 || method.getReturnType().getKind() != TypeKind.VOID) {
+                    continue;
+                }
+
+                final String name = decapitalize(methodName.substring(3));
+                final Optional<ExecutableElement> getter = Optional.ofNullable(getters.get(name));
+                if (!isMapped(method) || !getter.map(this::isMapped).orElse(true)) {
+                    continue;
+                }
+                checkSupported(method);
+                checkSupported(method.getParameters().get(0));
+                checkThrownTypes(method);
+
+                final String column = Optional.ofNullable(method.getAnnotation(ColumnName.class))
+                    .or(() -> getter.map(g -> g.getAnnotation(ColumnName.class)))
+                    .map(ColumnName::value)
+                    .orElse(name);
+                properties.add(new MappedProperty(name, column, method.getParameters().get(0).asType(), false, method));
+            }
+            return properties;
+        }
+
+        private Map<String, ExecutableElement> getters() {
+            final Set<String> recordComponents = isRecord()
+                ? ElementFilter.fieldsIn(typeElement.getEnclosedElements()).stream()
+                    .filter(f -> !f.getModifiers().contains(Modifier.STATIC))
+                    .map(f -> f.getSimpleName().toString())
+                    .collect(Collectors.toSet())
+                : Set.of();
+
+            final Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+            for (ExecutableElement method : methods()) {
+                final String methodName = method.getSimpleName().toString();
+                final TypeKind returnKind = method.getReturnType().getKind();
+                if (!method.getParameters().isEmpty() || returnKind == TypeKind.VOID) {
+                    continue;
+                }
+
+                if (recordComponents.contains(methodName)) {
+                    getters.put(methodName, method);
+                } else if (methodName.length() > 3 && methodName.startsWith("get") && !"getClass".equals(methodName)) {
+                    getters.putIfAbsent(decapitalize(methodName.substring(3)), method);
+                } else if (methodName.length() > 2 && methodName.startsWith("is") && isBoolean(method.getReturnType())) {
+                    getters.putIfAbsent(decapitalize(methodName.substring(2)), method);
+                }
+            }
+            return getters;
+        }
+
+        private List<ExecutableElement> methods() {
+            return ElementFilter.methodsIn(elementUtils.getAllMembers(typeElement)).stream()
+                .filter(m -> !m.getModifiers().contains(Modifier.STATIC))
+                .filter(m -> !"java.lang.Object".equals(((TypeElement) m.getEnclosingElement()).getQualifiedName().toString()))
+                .filter(this::isAccessible)
+                .collect(Collectors.toList());
+        }
+
+        private FieldSpec propertiesField() {
+            final CodeBlock.Builder initializer = CodeBlock.builder()
+                .add("$T.<$T>builder($T.class)", GeneratedProperties.class, typeName, typeName)
+                .indent();
+            getters().forEach((name, getter) -> {
+                if (!isBound(getter)) {
+                    return;
+                }
+                checkSupported(getter);
+                checkThrownTypes(getter);
+                initializer.add("\n.property($S, $L, $S, row -> row.$L())",
+                    name, typeLiteral(getter.getReturnType()), getter.getSimpleName(), getter.getSimpleName());
+            });
+            initializer.add("\n.build()").unindent();
+
+            return FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(GeneratedProperties.class), typeName),
+                    "PROPERTIES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer(initializer.build())
+                .build();
+        }
+
+        private TypeSpec mapperType(List<MappedProperty> properties, boolean useConstructor) {
+            final CodeBlock columns = properties.stream()
+                .map(p -> CodeBlock.of("$S", p.column))
+                .collect(CodeBlock.joining(", "));
+            final CodeBlock required = properties.stream()
+                .map(p -> CodeBlock.of("$L", p.required))
+                .collect(CodeBlock.joining(", "));
+
+            final MethodSpec.Builder specialize = MethodSpec.methodBuilder("specialize")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get(RowMapper.class), typeName))
+                .addParameter(ResultSet.class, "rs")
+                .addParameter(StatementContext.class, "ctx")
+                .addException(SQLException.class)
+                .addStatement("final int[] columns = $T.findColumns(rs, ctx, $T.class, COLUMNS, REQUIRED)", GeneratedMappers.class, typeName);
+
+            for (int i = 0; i < properties.size(); i++) {
+                final MappedProperty property = properties.get(i);
+                specialize.addStatement("final $T mapper$L = columns[$L] == 0 ? null : $T.findColumnMapper(ctx, $L, $S)",
+                    ParameterizedTypeName.get(ClassName.get(ColumnMapper.class), TypeName.get(property.type).box()),
+                    i, i, GeneratedMappers.class, typeLiteral(property.type), property.name);
+            }
+
+            if (useConstructor) {
+                final CodeBlock arguments = CodeBlock.join(
+                    IntStream.range(0, properties.size())
+                        .mapToObj(i -> properties.get(i).required
+                            ? CodeBlock.of("mapper$L.map(r, columns[$L], c)", i, i)
+                            : CodeBlock.of("columns[$L] == 0 ? $L : mapper$L.map(r, columns[$L], c)", i, defaultValue(properties.get(i).type), i, i))
+                        .collect(Collectors.toList()),
+                    ",\n");
+                specialize.addCode("return (r, c) -> new $T(\n$>$>$L$<$<);\n", typeName, arguments);
+            } else {
+                specialize.addCode("return (r, c) -> {\n$>")
+                    .addStatement("final $T row = new $T()", typeName, typeName);
+                for (int i = 0; i < properties.size(); i++) {
+                    specialize.beginControlFlow("if (columns[$L] != 0)", i)
+                        .addStatement("row.$L(mapper$L.map(r, columns[$L], c))", properties.get(i).setter.getSimpleName(), i, i)
+                        .endControlFlow();
+                }
+                specialize.addStatement("return row")
+                    .addCode("$<};\n");
+            }
+
+            return TypeSpec.classBuilder("Mapper")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(RowMapper.class), typeName))
+                .addField(FieldSpec.builder(String[].class, "COLUMNS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("{$L}", columns)
+                    .build())
+                .addField(FieldSpec.builder(boolean[].class, "REQUIRED", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("{$L}", required)
+                    .build())
+                .addMethod(MethodSpec.methodBuilder("map")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(typeName)
+                    .addParameter(ResultSet.class, "rs")
+                    .addParameter(StatementContext.class, "ctx")
+                    .addException(SQLException.class)
+                    .addStatement("return specialize(rs, ctx).map(rs, ctx)")
+                    .build())
+                .addMethod(specialize.build())
+                .build();
+        }
+
+        private CodeBlock typeLiteral(TypeMirror type) {
+            if (type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()) {
+                return CodeBlock.of("new $T<$T>() {}.getType()", GenericType.class, TypeName.get(type));
+            }
+            return CodeBlock.of("$T.class", TypeName.get(typeUtils.erasure(type)));
+        }
+
+        private String defaultValue(TypeMirror type) {
+            switch (type.getKind()) {
+                case BOOLEAN:
+                    return "false";
+                case CHAR:
+                    return "'\\0'";
+                case BYTE:
+                case SHORT:
+                case INT:
+                case LONG:
+                case FLOAT:
+                case DOUBLE:
+                    return "(" + type + ") 0";
+                default:
+                    return "null";
+            }
+        }
+
+        private boolean isBoolean(TypeMirror type) {
+            return type.getKind() == TypeKind.BOOLEAN || "java.lang.Boolean".equals(type.toString());
+        }
+
+        private boolean isAccessible(Element element) {
+            return element.getModifiers().contains(Modifier.PUBLIC)
+                || (!element.getModifiers().contains(Modifier.PRIVATE) && elementUtils.getPackageOf(element).equals(typePackage));
+        }
+
+        private boolean isMapped(Element element) {
+            JdbiProperty property = element.getAnnotation(JdbiProperty.class);
+            return property == null || property.map();
+        }
+
+        private boolean isBound(Element element) {
+            JdbiProperty property = element.getAnnotation(JdbiProperty.class);
+            return property == null || property.bind();
+        }
+
+        private void checkSupported(Element element) {
+            if (element.getAnnotation(Nested.class) != null) {
+                throw new IllegalStateException("@GenerateMapper does not support @Nested properties: " + element);
+            }
+            for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+                if (annotation.getAnnotationType().asElement().getAnnotation(Qualifier.class) != null) {
+                    throw new IllegalStateException("@GenerateMapper does not support qualified properties: " + element);
+                }
+            }
+            if (element.asType().getKind() == TypeKind.TYPEVAR) {
+                throw new IllegalStateException("@GenerateMapper does not support type variables: " + element);
+            }
+        }
+
+        private void checkThrownTypes(ExecutableElement method) {
+            final TypeMirror runtimeException = elementUtils.getTypeElement(RuntimeException.class.getName()).asType();
+            final TypeMirror sqlException = elementUtils.getTypeElement(SQLException.class.getName()).asType();
+            for (TypeMirror thrown : method.getThrownTypes()) {
+                if (!typeUtils.isAssignable(thrown, runtimeException) && !typeUtils.isAssignable(thrown, sqlException)) {
+                    throw new IllegalStateException("@GenerateMapper does not support methods throwing checked exceptions: " + method);
+                }
+            }
+        }
+
+        private boolean hasAnnotationNamed(Element element, String simpleName) {
+            // any annotation named @Nullable is honored, see ConstructorMapper
+            return element.getAnnotationMirrors().stream()
+                .anyMatch(a -> a.getAnnotationType().asElement().getSimpleName().contentEquals(simpleName));
+        }
+    }
+}
@@ -28,6 +28,7 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
@@ -48,13 +49,20 @@ import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.ExtensionMetadata;
 import org.jdbi.v3.core.extension.ExtensionMetadata.ExtensionHandlerInvoker;
 import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.core.internal.JdbiClassUtils;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.SqlStatement;
+import org.jdbi.v3.core.statement.Update;
 import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.statement.internal.PrecompiledStatement;
 
 import static java.lang.String.format;
 
@@ -147,6 +155,7 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
         private final TypeSpec.Builder onDemandBuilder;
         private final CodeBlock.Builder implementationCtorBuilder = CodeBlock.builder();
         private long counter = 0;
+        private boolean needsHandleSupplier = false;
 
 
         private SqlObjectFile(TypeElement typeElement) {
@@ -208,8 +217,9 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
                     .collect(Collectors.joining(","));
 
             final Name methodName = method.getSimpleName();
-            final String methodField = "m_" + methodName + "_" + counter;
-            final String invokerField = "i_" + methodName + "_" + counter++;
+            final long index = counter++;
+            final String methodField = "m_" + methodName + "_" + index;
+            final String invokerField = "i_" + methodName + "_" + index;
 
             // the method field is initialized with a call to JdbiClassUtils.methodLookup
             implementationBuilder.addField(FieldSpec.builder(Method.class, methodField, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
@@ -234,7 +244,37 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
                             : format("return (%s)", method.getReturnType());
             final String paramList = paramList(method);
 
-            if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+            final Class<? extends SqlStatement<?>> statementType = precompiledStatementType(method);
+
+            if (statementType != null) {
+                // create, bind and execute the statement directly, unless the method needs its extension handler
+                final String statementField = "s_" + methodName + "_" + index;
+                final String argumentArray = "new Object[] {" + paramList + "}";
+                needsHandleSupplier = true;
+
+                implementationBuilder.addField(PrecompiledStatement.class, statementField, Modifier.PRIVATE, Modifier.FINAL);
+                implementationCtorBuilder.add("$L = $T.forMethod(extensionMetadata, $L);\n",
+                        statementField,
+                        PrecompiledStatement.class,
+                        methodField);
+
+                body.add("$L $L.call(() -> {\n", castReturn, invokerField)
+                        .indent()
+                        .addStatement("final $T handle$$ = handleSupplier.getHandle()", Handle.class)
+                        .beginControlFlow("if (!$L.isPrecompiled(handle$$))", statementField)
+                        .addStatement("return $L.invoke(handleSupplier, this, $L)", statementField, argumentArray)
+                        .endControlFlow()
+                        .addStatement("final $T statement$$ = $L.create$L(handle$$)",
+                                statementType, statementField, statementType.getSimpleName());
+
+                for (int i = 0; i < method.getParameters().size(); i++) {
+                    body.addStatement("$L.bind(statement$$, $L, $L)", statementField, i, method.getParameters().get(i).getSimpleName());
+                }
+
+                body.addStatement("return $L.result(statement$$)", statementField)
+                        .unindent()
+                        .add("});\n");
+            } else if (method.getModifiers().contains(Modifier.ABSTRACT)) {
                 body.add("$L $L.invoke($L);\n", castReturn, invokerField, paramList);
             } else {
                 body.add("$L $L.call(() -> ", castReturn, invokerField);
@@ -250,6 +290,21 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
                     .build());
         }
 
+        private Class<? extends SqlStatement<?>> precompiledStatementType(ExecutableElement method) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                return null;
+            }
+            for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+                final String annotationName = annotation.getAnnotationType().toString();
+                if (annotationName.equals(SqlQuery.class.getName()) && method.getReturnType().getKind() != TypeKind.VOID) {
+                    return Query.class;
+                } else if (annotationName.equals(SqlUpdate.class.getName())) {
+                    return Update.class;
+                }
+            }
+            return null;
+        }
+
         private void addOnDemandMethod(ExecutableElement method) {
             final String castReturn;
             final String jdbiMethod;
@@ -285,6 +340,12 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
         private void writeFile() {
             implementationBuilder.addType(onDemandBuilder.build());
 
+            // precompiled statements retrieve the handle when they are called
+            if (needsHandleSupplier) {
+                implementationBuilder.addField(HandleSupplier.class, "handleSupplier", Modifier.PRIVATE, Modifier.FINAL);
+                implementationCtorBuilder.add("this.handleSupplier = handleSupplier;\n");
+            }
+
             // add constructor at the end, every method added code to it.
             implementationBuilder.addMethod(MethodSpec.constructorBuilder()
                     .addModifiers(Modifier.PUBLIC)
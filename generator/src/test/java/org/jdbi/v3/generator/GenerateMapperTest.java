@@ -0,0 +1,208 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.generator;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.assertj.core.groups.Tuple;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.mapper.RowMappers;
+import org.jdbi.v3.core.mapper.reflect.ColumnName;
+import org.jdbi.v3.core.mapper.reflect.GenerateMapper;
+import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
+import org.jdbi.v3.core.mapper.reflect.internal.PojoProperties;
+import org.jdbi.v3.core.mapper.reflect.internal.PojoTypes;
+import org.jdbi.v3.core.spi.JdbiPlugin;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.jdbi.v3.testing.junit5.internal.TestingInitializers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GenerateMapperTest {
+
+    @RegisterExtension
+    public JdbiExtension h2Extension = JdbiExtension.h2()
+        .withInitializer(TestingInitializers.something())
+        .withPlugins(new GeneratedBeanMapperPlugin(), new GeneratedValueMapperPlugin());
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        handle.execute("insert into something (id, name, integerValue) values (1, 'Alice', 10), (2, 'Bob', null)");
+    }
+
+    @Test
+    public void beanMapper() {
+        assertThat(handle.getConfig(RowMappers.class).findFor(GeneratedBean.class))
+            .containsInstanceOf(GeneratedBeanMapperPlugin.Mapper.class);
+
+        List<GeneratedBean> beans = handle.createQuery("select id, name, integerValue from something order by id")
+            .mapTo(GeneratedBean.class)
+            .list();
+
+        assertThat(beans).extracting(GeneratedBean::getId, GeneratedBean::getName, GeneratedBean::getValue)
+            .containsExactly(
+                Tuple.tuple(1, "Alice", 10),
+                Tuple.tuple(2, "Bob", null));
+    }
+
+    @Test
+    public void beanMapperSkipsMissingColumns() {
+        assertThat(handle.createQuery("select name from something where id = 1")
+            .mapTo(GeneratedBean.class)
+            .one())
+            .extracting(GeneratedBean::getId, GeneratedBean::getName)
+            .containsExactly(0, "Alice");
+    }
+
+    @Test
+    public void strictMatching() {
+        handle.getConfig(ReflectionMappers.class).setStrictMatching(true);
+
+        try (Query query = handle.createQuery("select id, name, intValue from something")) {
+            assertThatThrownBy(() -> query.mapTo(GeneratedBean.class).list())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("could not match properties for columns: [intvalue]");
+        }
+    }
+
+    @Test
+    public void constructorMapper() {
+        assertThat(handle.createQuery("select id, name as full_name from something order by id")
+            .mapTo(GeneratedValue.class)
+            .list())
+            .extracting(GeneratedValue::getId, GeneratedValue::getName, GeneratedValue::getValue)
+            .containsExactly(
+                Tuple.tuple(1L, "Alice", null),
+                Tuple.tuple(2L, "Bob", null));
+    }
+
+    @Test
+    public void constructorMapperMissingColumn() {
+        try (Query query = handle.createQuery("select id from something")) {
+            assertThatThrownBy(() -> query.mapTo(GeneratedValue.class).list())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("[full_name]");
+        }
+    }
+
+    @Test
+    public void bindBean() {
+        assertThat(handle.getConfig(PojoTypes.class).findBeanFor(GeneratedBean.class)).isPresent();
+
+        GeneratedBean bean = new GeneratedBean();
+        bean.setId(3);
+        bean.setName("Carol");
+        bean.setValue(30);
+        handle.createUpdate("insert into something (id, name, integerValue) values (:id, :name, :value)")
+            .bindBean(bean)
+            .execute();
+
+        assertThat(handle.createQuery("select name, integerValue from something where id = 3")
+            .mapToMap()
+            .one())
+            .containsEntry("name", "Carol")
+            .containsEntry("integervalue", 30);
+    }
+
+    @Test
+    public void propertyAnnotations() {
+        PojoProperties<?> properties = handle.getConfig(PojoTypes.class).findBeanFor(GeneratedBean.class).orElseThrow();
+
+        assertThat(properties.getProperties().get("value").getAnnotation(ColumnName.class))
+            .hasValueSatisfying(columnName -> assertThat(columnName.value()).isEqualTo("integerValue"));
+        assertThat(properties.getProperties().get("name").getAnnotation(ColumnName.class)).isEmpty();
+        assertThatThrownBy(properties::create).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void pluginIsAService() {
+        assertThat(StreamSupport.stream(ServiceLoader.load(JdbiPlugin.class).spliterator(), false)
+            .map(Object::getClass)
+            .collect(Collectors.toList()))
+            .contains(GeneratedBeanMapperPlugin.class, GeneratedValueMapperPlugin.class);
+    }
+
+    @GenerateMapper
+    public static class GeneratedBean {
+        private int id;
+        private String name;
+        private Integer value;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Integer getValue() {
+            return value;
+        }
+
+        @ColumnName("integerValue")
+        public void setValue(Integer value) {
+            this.value = value;
+        }
+    }
+
+    @GenerateMapper
+    public static class GeneratedValue {
+        private final long id;
+        private final String name;
+        private final Integer value;
+
+        public GeneratedValue(long id, @ColumnName("full_name") String name, @Nullable Integer value) {
+            this.id = id;
+            this.name = name;
+            this.value = value;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Integer getValue() {
+            return value;
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Nullable {}
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.generator;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.extension.Extensions;
+import org.jdbi.v3.core.h2.H2DatabasePlugin;
+import org.jdbi.v3.core.mapper.SomethingMapper;
+import org.jdbi.v3.sqlobject.GenerateSqlObject;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.SqlObjects;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.locator.AnnotationSqlLocator;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.statement.internal.PrecompiledStatement;
+import org.jdbi.v3.sqlobject.transaction.Transaction;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.jdbi.v3.testing.junit5.internal.TestingInitializers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrecompiledStatementTest {
+
+    @RegisterExtension
+    public JdbiExtension h2Extension = JdbiExtension.h2()
+        .withPlugins(new H2DatabasePlugin(), new SqlObjectPlugin())
+        .withInitializer(TestingInitializers.something())
+        .withConfig(Extensions.class, c -> c.setAllowProxy(false));
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        handle.registerRowMapper(new SomethingMapper());
+    }
+
+    @Test
+    public void generatesPrecompiledStatements() throws Exception {
+        assertThat(PrecompiledDaoImpl.class.getDeclaredField("s_insert_0").getType()).isEqualTo(PrecompiledStatement.class);
+        assertThat(PrecompiledDaoImpl.class.getDeclaredField("s_find_2").getType()).isEqualTo(PrecompiledStatement.class);
+    }
+
+    @Test
+    public void precompiledStatements() {
+        PrecompiledDao dao = handle.attach(PrecompiledDao.class);
+
+        assertThat(dao.insert(1, "Bella")).isEqualTo(1);
+        dao.insertVoid(2, "Alex");
+        assertThat(dao.rename(2, "Alice")).isTrue();
+        assertThat(dao.rename(3, "Nobody")).isFalse();
+
+        assertThat(dao.find(1)).contains(new Something(1, "Bella"));
+        assertThat(dao.find(3)).isEmpty();
+        assertThat(dao.count()).isEqualTo(2);
+        assertThat(dao.names()).containsExactly("Bella", "Alice");
+    }
+
+    @Test
+    public void customizedStatements() {
+        PrecompiledDao dao = handle.attach(PrecompiledDao.class);
+        dao.insert(1, "Bella");
+        dao.insert(2, "Alex");
+
+        assertThat(dao.findBound(2)).isEqualTo("Alex");
+        assertThat(dao.countDefined("something")).isEqualTo(2);
+        assertThat(dao.findInTransaction(1)).isEqualTo("Bella");
+    }
+
+    @Test
+    public void customDefaultParameterCustomizerFactory() {
+        handle.getConfig(SqlObjects.class).setDefaultParameterCustomizerFactory(
+            (sqlObjectType, method, param, index, type) -> (stmt, arg) -> stmt.bindByType(param.getName(), arg instanceof String ? "bound " + arg : arg, type));
+
+        PrecompiledDao dao = handle.attach(PrecompiledDao.class);
+        dao.insert(1, "Bella");
+
+        assertThat(dao.names()).containsExactly("bound Bella");
+    }
+
+    @Test
+    public void changedSqlLocator() {
+        PrecompiledDao dao = handle.attach(PrecompiledDao.class);
+        dao.insert(1, "Bella");
+        assertThat(dao.count()).isOne();
+
+        AnnotationSqlLocator annotationLocator = new AnnotationSqlLocator();
+        handle.getConfig(SqlObjects.class).setSqlLocator(
+            (sqlObjectType, method, config) -> "count".equals(method.getName()) ? "select 42" : annotationLocator.locate(sqlObjectType, method, config));
+
+        assertThat(handle.attach(PrecompiledDao.class).count()).isEqualTo(42);
+    }
+
+    @GenerateSqlObject
+    public interface PrecompiledDao {
+        @SqlUpdate("insert into something (id, name) values (:id, :name)")
+        int insert(int id, String name);
+
+        @SqlUpdate("insert into something (id, name) values (:id, :name)")
+        void insertVoid(int id, String name);
+
+        @SqlQuery("select * from something where id = :id")
+        Optional<Something> find(int id);
+
+        @SqlUpdate("update something set name = :name where id = :id")
+        boolean rename(int id, String name);
+
+        @SqlQuery("select count(*) from something")
+        int count();
+
+        @SqlQuery("select name from something order by id")
+        List<String> names();
+
+        @SqlQuery("select name from something where id = :key")
+        String findBound(@Bind("key") int id);
+
+        @SqlQuery("select count(*) from <table>")
+        int countDefined(@Define String table);
+
+        @Transaction
+        @SqlQuery("select name from something where id = :id")
+        String findInTransaction(int id);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.java21.telemetry;
+
+import java.util.List;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.opentelemetry.JdbiOpenTelemetryPlugin;
+import org.jdbi.v3.opentelemetry.OpenTelemetryMetricsCollector;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class TestOpenTelemetryPlugin {
+    @RegisterExtension
+    JdbiExtension ext = JdbiExtension.h2();
+
+    InMemorySpanExporter traces = new InMemorySpanExporter();
+    InMemoryMetricReader metrics = InMemoryMetricReader.create();
+
+    private OpenTelemetrySdk openTelemetry(Sampler sampler) {
+        return OpenTelemetrySdk.builder()
+            .setTracerProvider(SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(traces))
+                .setSampler(sampler)
+                .build())
+            .setMeterProvider(SdkMeterProvider.builder()
+                .registerMetricReader(metrics)
+                .build())
+            .build();
+    }
+
+    @Test
+    public void testExcludedStatementTypes() {
+        ext.getJdbi().installPlugin(new JdbiOpenTelemetryPlugin(openTelemetry(Sampler.alwaysOn()))
+            .excludeStatementTypes("Script", "Batch"));
+
+        try (Handle h = ext.openHandle()) {
+            h.createScript("create table something(id int primary key, name varchar(50))").execute();
+            h.createBatch()
+                .add("insert into something (id, name) values (1, 'Brian')")
+                .add("insert into something (id, name) values (2, 'Keith')")
+                .execute();
+            assertThat(h.createQuery("select count(*) from something").mapTo(int.class).one()).isEqualTo(2);
+        }
+
+        assertThat(traces.getExported())
+            .extracting(SpanData::getName)
+            .containsExactly("jdbi.Query");
+    }
+
+    @Test
+    public void testUnsampledSpansHaveNoAttributes() {
+        ext.getJdbi().installPlugin(new JdbiOpenTelemetryPlugin(openTelemetry(Sampler.alwaysOff())));
+
+        try (Handle h = ext.openHandle()) {
+            h.execute("create table something(id int primary key, name varchar(50))");
+            h.createUpdate("insert into something (id, name) values (:id, :name)")
+                .bind("id", 1)
+                .bind("name", "Brian")
+                .execute();
+        }
+
+        assertThat(traces.getExported()).isEmpty();
+    }
+
+    @Test
+    public void testPhaseEvents() {
+        ext.getJdbi().installPlugin(new JdbiOpenTelemetryPlugin(openTelemetry(Sampler.alwaysOn()))
+            .setPhaseEvents(true)
+            .setCaptureBinding(false));
+
+        try (Handle h = ext.openHandle()) {
+            h.execute("create table something(id int primary key, name varchar(50))");
+            h.createUpdate("insert into something (id, name) values (:id, :name)")
+                .bind("id", 1)
+                .bind("name", "Brian")
+                .execute();
+            assertThat(h.createQuery("select name from something").mapTo(String.class).list()).containsExactly("Brian");
+        }
+
+        List<SpanData> spans = traces.getExported();
+        assertThat(spans).hasSize(3);
+        SpanData query = spans.get(2);
+        assertThat(query.getName()).isEqualTo("jdbi.Query");
+        assertThat(query.getAttributes().get(JdbiOpenTelemetryPlugin.BINDING)).isNull();
+        assertThat(query.getAttributes().get(JdbiOpenTelemetryPlugin.NUM_ROWS)).isOne();
+        assertThat(query.getEvents())
+            .extracting(EventData::getName)
+            .containsExactly(JdbiOpenTelemetryPlugin.BIND_EVENT, JdbiOpenTelemetryPlugin.EXECUTE_EVENT, JdbiOpenTelemetryPlugin.MAP_EVENT);
+        assertThat(query.getEvents())
+            .allSatisfy(event -> assertThat(event.getAttributes().get(JdbiOpenTelemetryPlugin.DURATION_NANOS)).isNotNegative());
+        // events carry the start of their phase, not the end of the span
+        List<EventData> events = query.getEvents();
+        assertThat(events.get(0).getEpochNanos()).isLessThanOrEqualTo(events.get(1).getEpochNanos());
+        assertThat(events.get(1).getEpochNanos() + events.get(1).getAttributes().get(JdbiOpenTelemetryPlugin.DURATION_NANOS))
+            .isCloseTo(events.get(2).getEpochNanos(), within(1_000_000L));
+    }
+
+    @Test
+    public void testMetricsWithoutTracing() {
+        ext.getJdbi().installPlugin(new JdbiOpenTelemetryPlugin(openTelemetry(Sampler.alwaysOn()))
+            .setTracingEnabled(false)
+            .setMetricsEnabled(true));
+
+        try (Handle h = ext.openHandle()) {
+            h.execute("create table something(id int primary key, name varchar(50))");
+            h.execute("insert into something (id, name) values (1, 'Brian')");
+            assertThat(h.createQuery("select name from something").mapTo(String.class).list()).containsExactly("Brian");
+        }
+
+        assertThat(traces.getExported()).isEmpty();
+        assertThat(metrics.collectAllMetrics())
+            .extracting(MetricData::getName)
+            .contains("jdbi.handle.open.duration", "jdbi.connection.open.duration", "jdbi.statement.duration", "jdbi.statement.rows");
+        assertThat(metrics.collectAllMetrics())
+            .filteredOn(metric -> metric.getName().equals("jdbi.statement.duration"))
+            .singleElement()
+            .satisfies(metric -> assertThat(metric.getHistogramData().getPoints())
+                .anySatisfy(point -> assertThat(point.getAttributes().get(OpenTelemetryMetricsCollector.STATEMENT))
+                    .isEqualTo("sql#" + Integer.toHexString("select name from something".hashCode()))));
+    }
+
+    @Test
+    public void testMetricsRecordSql() {
+        ext.getJdbi().installPlugin(new JdbiOpenTelemetryPlugin(openTelemetry(Sampler.alwaysOn()))
+            .setTracingEnabled(false)
+            .setMetricsEnabled(true)
+            .setMetricsRecordSql(true));
+
+        try (Handle h = ext.openHandle()) {
+            h.execute("create table something(id int primary key, name varchar(50))");
+            assertThat(h.createQuery("select name from something").mapTo(String.class).list()).isEmpty();
+        }
+
+        assertThat(metrics.collectAllMetrics())
+            .filteredOn(metric -> metric.getName().equals("jdbi.statement.duration"))
+            .singleElement()
+            .satisfies(metric -> assertThat(metric.getHistogramData().getPoints())
+                .anySatisfy(point -> assertThat(point.getAttributes().get(OpenTelemetryMetricsCollector.STATEMENT))
+                    .isEqualTo("select name from something")));
+    }
+}
@@ -13,11 +13,14 @@
  */
 package org.jdbi.v3.json;
 
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.mapper.ColumnMappers;
 import org.jdbi.v3.json.internal.UnimplementedJsonMapper;
 
 public class JsonConfig implements JdbiConfig<JsonConfig> {
     private JsonMapper mapper;
+    private ConfigRegistry registry;
 
     public JsonConfig() {
         mapper = new UnimplementedJsonMapper();
@@ -27,7 +30,16 @@ public class JsonConfig implements JdbiConfig<JsonConfig> {
         this.mapper = other.mapper;
     }
 
+    @Override
+    public void setRegistry(ConfigRegistry registry) {
+        this.registry = registry;
+    }
+
     public JsonConfig setJsonMapper(JsonMapper jsonMapper) {
+        if (registry != null) {
+            // json column mappers are built for a json mapper
+            registry.get(ColumnMappers.class).clearCache();
+        }
         this.mapper = jsonMapper;
         return this;
     }
@@ -0,0 +1,179 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.micrometer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.jdbi.v3.core.metrics.JdbiMetrics;
+import org.jdbi.v3.core.metrics.MetricsCollector;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * A {@link MetricsCollector} that emits Micrometer timers and counters.
+ * <pre>
+ * jdbi.getConfig(JdbiMetrics.class).addCollector(new MicrometerMetricsCollector(meterRegistry));
+ * </pre>
+ * The {@link #STATEMENT_TAG} tag holds the SQL object method (<code>Dao.findById</code>) for statements executed through
+ * an extension. Other statements are identified by a hash of their normalized SQL (<code>sql#1a2b3c4d</code>), unless the
+ * collector was created to record the SQL itself. At most {@value #MAX_STATEMENTS} distinct statement values are
+ * reported; statements seen after that are reported as {@link #OTHER_STATEMENT}, so that dynamic SQL can not create an
+ * unbounded number of meters.
+ *
+ * @see JdbiMetrics
+ */
+@Alpha
+public final class MicrometerMetricsCollector implements MetricsCollector {
+    public static final String STATEMENT_TAG = "jdbi.statement";
+    public static final String STATEMENT_TYPE_TAG = "jdbi.statement.type";
+    public static final String FAILED_TAG = "jdbi.statement.failed";
+    public static final String COMMITTED_TAG = "jdbi.transaction.committed";
+    public static final String RETRIED_TAG = "jdbi.transaction.retried";
+
+    /** The maximum number of distinct {@link #STATEMENT_TAG} values. */
+    public static final int MAX_STATEMENTS = 1_000;
+    /** The {@link #STATEMENT_TAG} value of statements seen after {@link #MAX_STATEMENTS} distinct ones. */
+    public static final String OTHER_STATEMENT = "other";
+
+    private final MeterRegistry registry;
+    private final boolean recordSql;
+    private final Timer connectionTimer;
+    private final Timer handleTimer;
+    private final Counter serializationFailures;
+    private final Map<String, StatementMeters> statementMeters = new ConcurrentHashMap<>();
+
+    /**
+     * Emit metrics to the supplied registry.
+     * @param registry the registry to emit metrics to
+     */
+    public MicrometerMetricsCollector(final MeterRegistry registry) {
+        this(registry, false);
+    }
+
+    /**
+     * Emit metrics to the supplied registry.
+     * @param registry the registry to emit metrics to
+     * @param recordSql true to identify statements that were not executed through an extension by their normalized SQL
+     *                  instead of a hash of it
+     */
+    public MicrometerMetricsCollector(final MeterRegistry registry, final boolean recordSql) {
+        this.registry = registry;
+        this.recordSql = recordSql;
+        this.connectionTimer = Timer.builder("jdbi.connection.open")
+            .description("Time spent opening a database connection")
+            .register(registry);
+        this.handleTimer = Timer.builder("jdbi.handle.open")
+            .description("Time spent opening a Jdbi handle")
+            .register(registry);
+        this.serializationFailures = Counter.builder("jdbi.transaction.serialization_failures")
+            .description("Number of transaction attempts that failed with a serialization failure")
+            .register(registry);
+    }
+
+    @Override
+    public void connectionOpened(final long connectionNanos) {
+        connectionTimer.record(connectionNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void handleOpened(final long handleNanos) {
+        handleTimer.record(handleNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void statementCompleted(final String statementKey, final StatementContext ctx) {
+        final StatementMeters meters = statementMeters(statementKey, ctx);
+
+        // statements that never completed or failed have no execution time
+        final long elapsedNanos = ctx.getElapsedNanos();
+        if (elapsedNanos >= 0) {
+            (ctx.isExecutionFailed() ? meters.failed : meters.execution).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        meters.binding.record(ctx.getBindingNanos(), TimeUnit.NANOSECONDS);
+        meters.mapping.record(ctx.getMappingNanos(), TimeUnit.NANOSECONDS);
+        meters.rows.increment(ctx.getMappedRows());
+    }
+
+    @Override
+    public void serializationFailure(final int attempt) {
+        serializationFailures.increment();
+    }
+
+    @Override
+    public void serializableTransactionCompleted(final int attempts, final long elapsedNanos, final boolean committed) {
+        Timer.builder("jdbi.transaction")
+            .description("Time spent on serializable transactions, including retries")
+            .tags(COMMITTED_TAG, Boolean.toString(committed), RETRIED_TAG, Boolean.toString(attempts > 1))
+            .register(registry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private StatementMeters statementMeters(final String statementKey, final StatementContext ctx) {
+        final String statement = ctx.getExtensionMethod() != null || recordSql
+            ? statementKey
+            : "sql#" + Integer.toHexString(statementKey.hashCode());
+        final String statementType = ctx.describeJdbiStatementType();
+        final String cacheKey = statementType + ':' + statement;
+
+        final StatementMeters meters = statementMeters.get(cacheKey);
+        if (meters != null) {
+            return meters;
+        }
+        if (statementMeters.size() >= MAX_STATEMENTS) {
+            return statementMeters.computeIfAbsent(statementType + ':' + OTHER_STATEMENT,
+                key -> new StatementMeters(registry, Tags.of(STATEMENT_TAG, OTHER_STATEMENT, STATEMENT_TYPE_TAG, statementType)));
+        }
+        return statementMeters.computeIfAbsent(cacheKey,
+            key -> new StatementMeters(registry, Tags.of(STATEMENT_TAG, statement, STATEMENT_TYPE_TAG, statementType)));
+    }
+
+    private static final class StatementMeters {
+        private final Timer execution;
+        private final Timer failed;
+        private final Timer binding;
+        private final Timer mapping;
+        private final Counter rows;
+
+        StatementMeters(final MeterRegistry registry, final Tags tags) {
+            this.execution = statementTimer(registry, tags.and(FAILED_TAG, "false"));
+            this.failed = statementTimer(registry, tags.and(FAILED_TAG, "true"));
+            this.binding = Timer.builder("jdbi.statement.binding")
+                .description("Time spent binding statement arguments")
+                .tags(tags)
+                .register(registry);
+            this.mapping = Timer.builder("jdbi.statement.mapping")
+                .description("Time spent mapping result rows")
+                .tags(tags)
+                .register(registry);
+            this.rows = Counter.builder("jdbi.statement.rows")
+                .description("Number of mapped result rows")
+                .baseUnit("rows")
+                .tags(tags)
+                .register(registry);
+        }
+
+        private static Timer statementTimer(final MeterRegistry registry, final Tags tags) {
+            return Timer.builder("jdbi.statement")
+                .description("Time spent executing a statement")
+                .tags(tags)
+                .register(registry);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.micrometer;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.metrics.JdbiMetrics;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.jdbi.v3.testing.junit5.internal.TestingInitializers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestMicrometerMetricsCollector {
+
+    private static final String SELECT_NAMES = "select name from something order by id";
+
+    @RegisterExtension
+    public JdbiExtension h2Extension = JdbiExtension.h2().withInitializer(TestingInitializers.something());
+
+    private MeterRegistry registry;
+    private Jdbi jdbi;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        jdbi = h2Extension.getJdbi();
+    }
+
+    @Test
+    public void testStatementMetrics() {
+        jdbi.getConfig(JdbiMetrics.class).addCollector(new MicrometerMetricsCollector(registry));
+
+        runStatements();
+
+        assertThat(registry.get("jdbi.connection.open").timer().count()).isOne();
+        assertThat(registry.get("jdbi.handle.open").timer().count()).isOne();
+
+        final String statement = "sql#" + Integer.toHexString(SELECT_NAMES.hashCode());
+        assertThat(registry.get("jdbi.statement")
+            .tag(MicrometerMetricsCollector.STATEMENT_TAG, statement)
+            .tag(MicrometerMetricsCollector.FAILED_TAG, "false")
+            .timer().count()).isEqualTo(3);
+        assertThat(registry.get("jdbi.statement.rows")
+            .tag(MicrometerMetricsCollector.STATEMENT_TAG, statement)
+            .counter().count()).isEqualTo(6);
+        assertThat(registry.find("jdbi.statement").tag(MicrometerMetricsCollector.STATEMENT_TAG, SELECT_NAMES).timer()).isNull();
+    }
+
+    @Test
+    public void testRecordSql() {
+        jdbi.getConfig(JdbiMetrics.class).addCollector(new MicrometerMetricsCollector(registry, true));
+
+        runStatements();
+
+        assertThat(registry.get("jdbi.statement")
+            .tag(MicrometerMetricsCollector.STATEMENT_TAG, SELECT_NAMES)
+            .tag(MicrometerMetricsCollector.FAILED_TAG, "false")
+            .timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    public void testBoundedStatements() {
+        jdbi.getConfig(JdbiMetrics.class).addCollector(new MicrometerMetricsCollector(registry, true));
+
+        try (Handle h = jdbi.open()) {
+            for (int i = 0; i < MicrometerMetricsCollector.MAX_STATEMENTS + 10; i++) {
+                h.createQuery("select " + i).mapTo(Integer.class).one();
+            }
+        }
+
+        assertThat(registry.find("jdbi.statement").tag(MicrometerMetricsCollector.FAILED_TAG, "false").timers()).hasSize(MicrometerMetricsCollector.MAX_STATEMENTS + 1);
+        assertThat(registry.get("jdbi.statement")
+            .tag(MicrometerMetricsCollector.STATEMENT_TAG, MicrometerMetricsCollector.OTHER_STATEMENT)
+            .tag(MicrometerMetricsCollector.FAILED_TAG, "false")
+            .timer().count()).isEqualTo(10);
+    }
+
+    private void runStatements() {
+        try (Handle h = jdbi.open()) {
+            h.execute("insert into something (id, name) values (1, 'Brian')");
+            h.execute("insert into something (id, name) values (2, 'Keith')");
+
+            for (int i = 0; i < 3; i++) {
+                List<String> names = h.createQuery(SELECT_NAMES).mapTo(String.class).list();
+                assertThat(names).containsExactly("Brian", "Keith");
+            }
+        }
+    }
+}
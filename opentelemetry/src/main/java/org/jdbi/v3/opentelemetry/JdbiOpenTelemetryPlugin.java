@@ -13,13 +13,22 @@
  */
 package org.jdbi.v3.opentelemetry;
 
+import java.lang.reflect.Type;
 import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.Tracer;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.metrics.JdbiMetrics;
 import org.jdbi.v3.core.spi.JdbiPlugin;
 import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.core.statement.StatementContext;
@@ -28,13 +37,33 @@ import org.jdbi.v3.core.statement.StatementContextListener;
 /**
  * Enable OpenTelemetry support.
  * Emits a trace span for every statement executed by Jdbi.
+ * <p>
+ * Statement attributes (SQL, binding, mapped rows) are only computed for spans that are recording, so statements
+ * that are not sampled cost no more than starting and ending a non-recording span. Statement types can be excluded
+ * from tracing, e.g. {@code Script} and {@code Batch} statements. The plugin can optionally add span events for the
+ * bind, execute and map phases and emit metrics through the {@link OpenTelemetryMetricsCollector}, alongside or
+ * instead of spans.
  */
 public class JdbiOpenTelemetryPlugin extends JdbiPlugin.Singleton {
     public static final AttributeKey<String> SQL = AttributeKey.stringKey("sql");
     public static final AttributeKey<String> BINDING = AttributeKey.stringKey("binding");
     public static final AttributeKey<Long> NUM_ROWS = AttributeKey.longKey("rows");
+    public static final AttributeKey<Long> DURATION_NANOS = AttributeKey.longKey("jdbi.duration_ns");
 
+    public static final String BIND_EVENT = "jdbi.bind";
+    public static final String EXECUTE_EVENT = "jdbi.execute";
+    public static final String MAP_EVENT = "jdbi.map";
+
+    private final OpenTelemetry telemetry;
     private final Tracer tracer;
+    private final Set<String> excludedStatementTypes = new CopyOnWriteArraySet<>();
+    private final Map<Type, String> spanNames = new ConcurrentHashMap<>();
+
+    private boolean tracingEnabled = true;
+    private boolean captureBinding = true;
+    private boolean phaseEvents = false;
+    private boolean metricsEnabled = false;
+    private boolean metricsRecordSql = false;
 
     /**
      * Enable OpenTelemetry support with the global OpenTelemetry instance.
@@ -48,33 +77,149 @@ public class JdbiOpenTelemetryPlugin extends JdbiPlugin.Singleton {
      * @param telemetry the OpenTelemetry to emit spans to
      */
     public JdbiOpenTelemetryPlugin(final OpenTelemetry telemetry) {
-        tracer = telemetry.getTracer("jdbi");
+        this.telemetry = telemetry;
+        this.tracer = telemetry.getTracer("jdbi");
+    }
+
+    /**
+     * Do not emit spans for the given statement types, e.g. {@code excludeStatementTypes("Script", "Batch")}.
+     * @param statementTypes the simple names of statement types as returned by {@link StatementContext#describeJdbiStatementType()}
+     * @return this
+     */
+    public JdbiOpenTelemetryPlugin excludeStatementTypes(final String... statementTypes) {
+        excludedStatementTypes.addAll(Set.of(statementTypes));
+        return this;
+    }
+
+    /**
+     * Emit trace spans for statements. Enabled by default.
+     * @param tracingEnabled true to emit spans
+     * @return this
+     */
+    public JdbiOpenTelemetryPlugin setTracingEnabled(final boolean tracingEnabled) {
+        this.tracingEnabled = tracingEnabled;
+        return this;
+    }
+
+    /**
+     * Add the description of the bound parameters as {@link #BINDING} attribute to recording spans. Enabled by default.
+     * @param captureBinding true to describe the binding
+     * @return this
+     */
+    public JdbiOpenTelemetryPlugin setCaptureBinding(final boolean captureBinding) {
+        this.captureBinding = captureBinding;
+        return this;
+    }
+
+    /**
+     * Add {@link #BIND_EVENT}, {@link #EXECUTE_EVENT} and {@link #MAP_EVENT} span events with the time spent
+     * in each phase as {@link #DURATION_NANOS} attribute to recording spans. Each event is timestamped with the
+     * start of its phase. Disabled by default.
+     * @param phaseEvents true to add phase events
+     * @return this
+     */
+    public JdbiOpenTelemetryPlugin setPhaseEvents(final boolean phaseEvents) {
+        this.phaseEvents = phaseEvents;
+        return this;
+    }
+
+    /**
+     * Emit connection, handle and statement metrics with an {@link OpenTelemetryMetricsCollector}. Disabled by default.
+     * @param metricsEnabled true to emit metrics
+     * @return this
+     */
+    public JdbiOpenTelemetryPlugin setMetricsEnabled(final boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+        return this;
+    }
+
+    /**
+     * Identify statements that were not executed through an extension by their normalized SQL instead of a hash of it
+     * in the emitted metrics. Disabled by default, as dynamic SQL can create a large number of distinct values.
+     * @param metricsRecordSql true to record the SQL of statements
+     * @return this
+     * @see OpenTelemetryMetricsCollector#OpenTelemetryMetricsCollector(OpenTelemetry, boolean)
+     */
+    public JdbiOpenTelemetryPlugin setMetricsRecordSql(final boolean metricsRecordSql) {
+        this.metricsRecordSql = metricsRecordSql;
+        return this;
     }
 
     @Override
     public void customizeJdbi(final Jdbi jdbi) throws SQLException {
-        jdbi.getConfig(SqlStatements.class).addContextListener(new TracingListener());
+        if (tracingEnabled) {
+            jdbi.getConfig(SqlStatements.class).addContextListener(new TracingListener());
+        }
+
+        final JdbiMetrics metrics = jdbi.getConfig(JdbiMetrics.class);
+        if (tracingEnabled && phaseEvents) {
+            metrics.setPhaseTimingEnabled(true);
+        }
+        if (metricsEnabled) {
+            metrics.addCollector(new OpenTelemetryMetricsCollector(telemetry, metricsRecordSql));
+        }
+    }
+
+    private String spanName(final StatementContext ctx) {
+        return spanNames.computeIfAbsent(ctx.getJdbiStatementType(), type -> "jdbi." + ctx.describeJdbiStatementType());
     }
 
     class TracingListener implements StatementContextListener {
         @Override
         public void contextCreated(final StatementContext ctx) {
-            final var span = tracer.spanBuilder("jdbi." + ctx.describeJdbiStatementType())
+            if (!excludedStatementTypes.isEmpty() && excludedStatementTypes.contains(ctx.describeJdbiStatementType())) {
+                return;
+            }
+
+            final var span = tracer.spanBuilder(spanName(ctx))
                     .startSpan();
             final var spanContext = span.getSpanContext();
             if (spanContext.isValid()) {
                 ctx.setTraceId(spanContext.getTraceId());
-                ctx.addCleanable(() -> {
-                    final var stmtConfig = ctx.getConfig(SqlStatements.class);
-                    final String renderedSql = ctx.getRenderedSql();
-                    if (renderedSql != null) {
-                        span.setAttribute(SQL, renderedSql.substring(0,
-                                Math.min(renderedSql.length(), stmtConfig.getJfrSqlMaxLength())));
-                    }
+                ctx.addCleanable(() -> endSpan(span, ctx));
+            }
+        }
+
+        private void endSpan(final Span span, final StatementContext ctx) {
+            // the statement attributes are only computed for spans that will be exported.
+            if (span.isRecording()) {
+                final var stmtConfig = ctx.getConfig(SqlStatements.class);
+                final String renderedSql = ctx.getRenderedSql();
+                if (renderedSql != null) {
+                    span.setAttribute(SQL, renderedSql.substring(0,
+                            Math.min(renderedSql.length(), stmtConfig.getJfrSqlMaxLength())));
+                }
+                if (captureBinding) {
                     span.setAttribute(BINDING, ctx.getBinding().describe(stmtConfig.getJfrParamMaxLength()));
-                    span.setAttribute(NUM_ROWS, ctx.getMappedRows());
-                    span.end();
-                });
+                }
+                span.setAttribute(NUM_ROWS, ctx.getMappedRows());
+
+                if (phaseEvents) {
+                    addPhaseEvents(span, ctx);
+                }
+            }
+            span.end();
+        }
+
+        // each event is timestamped with the start of its phase: arguments are bound right before the statement executes,
+        // rows are mapped after it completed.
+        private void addPhaseEvents(final Span span, final StatementContext ctx) {
+            final Instant execution = ctx.getExecutionMoment();
+            final long bindingNanos = ctx.getBindingNanos();
+            addPhaseEvent(span, BIND_EVENT, bindingNanos, execution == null ? null : execution.minusNanos(bindingNanos));
+            addPhaseEvent(span, EXECUTE_EVENT, ctx.getElapsedNanos(), execution);
+            addPhaseEvent(span, MAP_EVENT, ctx.getMappingNanos(), ctx.getCompletionMoment());
+        }
+
+        private void addPhaseEvent(final Span span, final String name, final long nanos, final Instant start) {
+            if (nanos < 0) {
+                return;
+            }
+            final Attributes attributes = Attributes.of(DURATION_NANOS, nanos);
+            if (start == null) {
+                span.addEvent(name, attributes);
+            } else {
+                span.addEvent(name, attributes, start);
             }
         }
     }
@@ -0,0 +1,180 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.opentelemetry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import org.jdbi.v3.core.metrics.JdbiMetrics;
+import org.jdbi.v3.core.metrics.MetricsCollector;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * A {@link MetricsCollector} that emits OpenTelemetry metrics. All durations are reported in seconds.
+ * <pre>
+ * jdbi.getConfig(JdbiMetrics.class).addCollector(new OpenTelemetryMetricsCollector(openTelemetry));
+ * </pre>
+ * The {@link #STATEMENT} attribute holds the SQL object method (<code>Dao.findById</code>) for statements executed through
+ * an extension. Other statements are identified by a hash of their normalized SQL (<code>sql#1a2b3c4d</code>), unless the
+ * collector was created to record the SQL itself. At most {@value #MAX_STATEMENTS} distinct statement values are
+ * reported; statements seen after that are reported as {@link #OTHER_STATEMENT}, so that dynamic SQL can not create an
+ * unbounded number of time series.
+ *
+ * @see JdbiMetrics
+ */
+@Alpha
+public final class OpenTelemetryMetricsCollector implements MetricsCollector {
+    public static final AttributeKey<String> STATEMENT = AttributeKey.stringKey("jdbi.statement");
+    public static final AttributeKey<String> STATEMENT_TYPE = AttributeKey.stringKey("jdbi.statement.type");
+    public static final AttributeKey<Boolean> FAILED = AttributeKey.booleanKey("jdbi.statement.failed");
+    public static final AttributeKey<Boolean> COMMITTED = AttributeKey.booleanKey("jdbi.transaction.committed");
+    public static final AttributeKey<Boolean> RETRIED = AttributeKey.booleanKey("jdbi.transaction.retried");
+
+    /** The maximum number of distinct {@link #STATEMENT} values. */
+    public static final int MAX_STATEMENTS = 1_000;
+    /** The {@link #STATEMENT} value of statements seen after {@link #MAX_STATEMENTS} distinct ones. */
+    public static final String OTHER_STATEMENT = "other";
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final DoubleHistogram connectionDuration;
+    private final DoubleHistogram handleDuration;
+    private final DoubleHistogram statementDuration;
+    private final DoubleHistogram bindingDuration;
+    private final DoubleHistogram mappingDuration;
+    private final LongCounter mappedRows;
+    private final LongCounter serializationFailures;
+    private final DoubleHistogram transactionDuration;
+
+    private final boolean recordSql;
+    private final Map<String, Attributes> statementAttributes = new ConcurrentHashMap<>();
+
+    /**
+     * Emit metrics to the supplied OpenTelemetry instance.
+     * @param telemetry the OpenTelemetry to emit metrics to
+     */
+    public OpenTelemetryMetricsCollector(final OpenTelemetry telemetry) {
+        this(telemetry, false);
+    }
+
+    /**
+     * Emit metrics to the supplied OpenTelemetry instance.
+     * @param telemetry the OpenTelemetry to emit metrics to
+     * @param recordSql true to identify statements that were not executed through an extension by their normalized SQL
+     *                  instead of a hash of it
+     */
+    public OpenTelemetryMetricsCollector(final OpenTelemetry telemetry, final boolean recordSql) {
+        this(telemetry.getMeter("jdbi"), recordSql);
+    }
+
+    /**
+     * Emit metrics to the supplied meter.
+     * @param meter the meter to emit metrics to
+     */
+    public OpenTelemetryMetricsCollector(final Meter meter) {
+        this(meter, false);
+    }
+
+    /**
+     * Emit metrics to the supplied meter.
+     * @param meter the meter to emit metrics to
+     * @param recordSql true to identify statements that were not executed through an extension by their normalized SQL
+     *                  instead of a hash of it
+     */
+    public OpenTelemetryMetricsCollector(final Meter meter, final boolean recordSql) {
+        this.recordSql = recordSql;
+        this.connectionDuration = durationHistogram(meter, "jdbi.connection.open.duration", "Time spent opening a database connection");
+        this.handleDuration = durationHistogram(meter, "jdbi.handle.open.duration", "Time spent opening a Jdbi handle");
+        this.statementDuration = durationHistogram(meter, "jdbi.statement.duration", "Time spent executing a statement");
+        this.bindingDuration = durationHistogram(meter, "jdbi.statement.binding.duration", "Time spent binding statement arguments");
+        this.mappingDuration = durationHistogram(meter, "jdbi.statement.mapping.duration", "Time spent mapping result rows");
+        this.mappedRows = meter.counterBuilder("jdbi.statement.rows")
+            .setDescription("Number of mapped result rows")
+            .setUnit("{row}")
+            .build();
+        this.serializationFailures = meter.counterBuilder("jdbi.transaction.serialization_failures")
+            .setDescription("Number of transaction attempts that failed with a serialization failure")
+            .setUnit("{failure}")
+            .build();
+        this.transactionDuration = durationHistogram(meter, "jdbi.transaction.duration", "Time spent on serializable transactions, including retries");
+    }
+
+    private static DoubleHistogram durationHistogram(final Meter meter, final String name, final String description) {
+        return meter.histogramBuilder(name)
+            .setDescription(description)
+            .setUnit("s")
+            .build();
+    }
+
+    @Override
+    public void connectionOpened(final long connectionNanos) {
+        connectionDuration.record(connectionNanos / NANOS_PER_SECOND);
+    }
+
+    @Override
+    public void handleOpened(final long handleNanos) {
+        handleDuration.record(handleNanos / NANOS_PER_SECOND);
+    }
+
+    @Override
+    public void statementCompleted(final String statementKey, final StatementContext ctx) {
+        final Attributes attributes = statementAttributes(statementKey, ctx);
+
+        // statements that never completed or failed have no execution time
+        final long elapsedNanos = ctx.getElapsedNanos();
+        if (elapsedNanos >= 0) {
+            statementDuration.record(elapsedNanos / NANOS_PER_SECOND,
+                ctx.isExecutionFailed() ? attributes.toBuilder().put(FAILED, true).build() : attributes);
+        }
+        bindingDuration.record(ctx.getBindingNanos() / NANOS_PER_SECOND, attributes);
+        mappingDuration.record(ctx.getMappingNanos() / NANOS_PER_SECOND, attributes);
+        mappedRows.add(ctx.getMappedRows(), attributes);
+    }
+
+    @Override
+    public void serializationFailure(final int attempt) {
+        serializationFailures.add(1);
+    }
+
+    @Override
+    public void serializableTransactionCompleted(final int attempts, final long elapsedNanos, final boolean committed) {
+        transactionDuration.record(elapsedNanos / NANOS_PER_SECOND, Attributes.of(COMMITTED, committed, RETRIED, attempts > 1));
+    }
+
+    private Attributes statementAttributes(final String statementKey, final StatementContext ctx) {
+        final String statement = ctx.getExtensionMethod() != null || recordSql
+            ? statementKey
+            : "sql#" + Integer.toHexString(statementKey.hashCode());
+        final String statementType = ctx.describeJdbiStatementType();
+        final String cacheKey = statementType + ':' + statement;
+
+        final Attributes attributes = statementAttributes.get(cacheKey);
+        if (attributes != null) {
+            return attributes;
+        }
+        if (statementAttributes.size() >= MAX_STATEMENTS) {
+            return Attributes.of(STATEMENT, OTHER_STATEMENT, STATEMENT_TYPE, statementType);
+        }
+        final Attributes newAttributes = Attributes.of(STATEMENT, statement, STATEMENT_TYPE, statementType);
+        final Attributes existing = statementAttributes.putIfAbsent(cacheKey, newAttributes);
+        return existing == null ? newAttributes : existing;
+    }
+}
@@ -26,6 +26,7 @@ import org.jdbi.v3.core.spi.JdbiPlugin;
 import org.jdbi.v3.postgres.internal.BitStringEnumSetArgumentFactory;
 import org.jdbi.v3.postgres.internal.BitStringEnumSetMapperFactory;
 import org.jdbi.v3.postgres.internal.ByteaArrayType;
+import org.jdbi.v3.postgres.internal.StreamingCursorCustomizer;
 import org.postgresql.PGConnection;
 import org.postgresql.geometric.PGbox;
 import org.postgresql.geometric.PGcircle;
@@ -90,6 +91,9 @@ import org.postgresql.util.PGmoney;
  * In addition, some potentially unexpected implicit conversions can occur by virtue of the Postgres <em>server</em>
  * logic. For example, at the time of writing, storing a Period of -3 years, 2 months, and -1 days results in an
  * interval (and consequently, a column-mapped Period) of <em>-2 years, -10 months</em>, and -1 days.
+ *
+ * <p>
+ * Large query results can be streamed through server side cursors, see {@link PostgresStreaming}.
  */
 public class PostgresPlugin extends JdbiPlugin.Singleton {
 
@@ -155,6 +159,9 @@ public class PostgresPlugin extends JdbiPlugin.Singleton {
             jdbi.registerColumnMapper(new GenericType<>() {}, new HStoreColumnMapper());
         }
 
+        // streaming config is shared by all handles and statements, the customizer of each handle only acts if it is enabled
+        jdbi.getConfig(PostgresStreaming.class);
+
         // optional integration
         if (JdbiClassUtils.isPresent("org.jdbi.v3.json.JsonConfig")) {
             jdbi.registerArgument(new JsonArgumentFactory());
@@ -169,6 +176,6 @@ public class PostgresPlugin extends JdbiPlugin.Singleton {
         return handle.configure(PostgresTypes.class, pt -> {
             pt.addTypesToConnection(pgConnection);
             pt.setLobApi(new PgLobApiImpl(conn));
-        });
+        }).addCustomizer(new StreamingCursorCustomizer(handle));
     }
 }
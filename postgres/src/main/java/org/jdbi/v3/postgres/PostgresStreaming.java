@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Configures streaming of large query results through server side cursors.
+ * <p>
+ * The Postgres JDBC driver only fetches rows in batches when the statement has a fetch size
+ * <em>and</em> the connection is not in autocommit mode. Otherwise every row is read into memory
+ * before the first one is returned. When streaming is enabled, queries executed outside of a transaction
+ * turn off autocommit on the connection until the results are closed, and the fetch size is
+ * chosen from the width of the result rows so that each fetched batch holds about
+ * {@link #getTargetBatchBytes()} bytes. Queries inside a transaction only get the fetch size.
+ * A fetch size set explicitly on the statement is kept as the initial fetch size.
+ * <p>
+ * Streaming can be enabled for all queries or for a single query:
+ * <pre>
+ * handle.createQuery("SELECT * FROM events")
+ *     .configure(PostgresStreaming.class, s -&gt; s.setEnabled(true))
+ *     .mapTo(Event.class)
+ *     .useStream(events -&gt; ...);
+ * </pre>
+ * Results must be closed (e.g. by consuming or closing the stream or iterator) to restore autocommit.
+ * The transaction API of the handle is not used: while the results are open, the handle reports that it is in a
+ * transaction, and other statements run on the handle become part of the streaming transaction. Closing the results
+ * commits them, unless the streaming query failed, which aborts the transaction. Run the query in an explicit
+ * transaction to control when other work is committed.
+ */
+@Alpha
+public class PostgresStreaming implements JdbiConfig<PostgresStreaming> {
+    /** Default amount of row data fetched per round trip. */
+    public static final long DEFAULT_TARGET_BATCH_BYTES = 4L * 1024 * 1024;
+    /** Default fetch size used for the first batch, before the row width is known. */
+    public static final int DEFAULT_INITIAL_FETCH_SIZE = 100;
+    /** Default upper limit for the adaptive fetch size. */
+    public static final int DEFAULT_MAX_FETCH_SIZE = 50_000;
+
+    private boolean enabled;
+    private long targetBatchBytes;
+    private int initialFetchSize;
+    private int maxFetchSize;
+
+    public PostgresStreaming() {
+        this.enabled = false;
+        this.targetBatchBytes = DEFAULT_TARGET_BATCH_BYTES;
+        this.initialFetchSize = DEFAULT_INITIAL_FETCH_SIZE;
+        this.maxFetchSize = DEFAULT_MAX_FETCH_SIZE;
+    }
+
+    private PostgresStreaming(PostgresStreaming that) {
+        this.enabled = that.enabled;
+        this.targetBatchBytes = that.targetBatchBytes;
+        this.initialFetchSize = that.initialFetchSize;
+        this.maxFetchSize = that.maxFetchSize;
+    }
+
+    /**
+     * Returns true if queries stream their results through a server side cursor.
+     *
+     * @return true if streaming is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables streaming of query results. Disabled by default.
+     *
+     * @param enabled true to stream query results
+     * @return this
+     */
+    public PostgresStreaming setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Returns the estimated amount of row data fetched per round trip.
+     *
+     * @return the target batch size in bytes
+     */
+    public long getTargetBatchBytes() {
+        return targetBatchBytes;
+    }
+
+    /**
+     * Sets the estimated amount of row data fetched per round trip. The fetch size is derived from this
+     * value and the estimated width of a result row.
+     *
+     * @param targetBatchBytes the target batch size in bytes
+     * @return this
+     */
+    public PostgresStreaming setTargetBatchBytes(long targetBatchBytes) {
+        if (targetBatchBytes < 1) {
+            throw new IllegalArgumentException("targetBatchBytes must be positive");
+        }
+        this.targetBatchBytes = targetBatchBytes;
+        return this;
+    }
+
+    /**
+     * Returns the fetch size of the first batch, which is fetched before the row width is known.
+     *
+     * @return the initial fetch size
+     */
+    public int getInitialFetchSize() {
+        return initialFetchSize;
+    }
+
+    /**
+     * Sets the fetch size of the first batch, which is fetched before the row width is known.
+     *
+     * @param initialFetchSize the initial fetch size
+     * @return this
+     */
+    public PostgresStreaming setInitialFetchSize(int initialFetchSize) {
+        if (initialFetchSize < 1) {
+            throw new IllegalArgumentException("initialFetchSize must be positive");
+        }
+        this.initialFetchSize = initialFetchSize;
+        return this;
+    }
+
+    /**
+     * Returns the upper limit for the adaptive fetch size.
+     *
+     * @return the maximum fetch size
+     */
+    public int getMaxFetchSize() {
+        return maxFetchSize;
+    }
+
+    /**
+     * Sets the upper limit for the adaptive fetch size.
+     *
+     * @param maxFetchSize the maximum fetch size
+     * @return this
+     */
+    public PostgresStreaming setMaxFetchSize(int maxFetchSize) {
+        if (maxFetchSize < 1) {
+            throw new IllegalArgumentException("maxFetchSize must be positive");
+        }
+        this.maxFetchSize = maxFetchSize;
+        return this;
+    }
+
+    @Override
+    public PostgresStreaming createCopy() {
+        return new PostgresStreaming(this);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres.internal;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementCustomizer;
+import org.jdbi.v3.postgres.PostgresStreaming;
+
+/**
+ * Runs queries in cursor mode if {@link PostgresStreaming} is enabled: turns off autocommit on the connection for queries
+ * outside of a transaction until the statement context is cleaned, and adapts the fetch size to the
+ * width of the result rows. The transaction API of the handle is not used, so the streaming query never commits or rolls
+ * back a transaction begun through the handle.
+ */
+public final class StreamingCursorCustomizer implements StatementCustomizer {
+    // pgjdbc keeps every row as a byte[][], one array per column
+    private static final int ROW_OVERHEAD = 32;
+    private static final int COLUMN_OVERHEAD = 24;
+    // assumed size of unbounded values such as text, bytea or json
+    private static final int VARIABLE_WIDTH = 256;
+
+    private final Handle handle;
+
+    public StreamingCursorCustomizer(Handle handle) {
+        this.handle = handle;
+    }
+
+    @Override
+    public void beforeExecution(PreparedStatement stmt, StatementContext ctx) throws SQLException {
+        final PostgresStreaming streaming = ctx.getConfig(PostgresStreaming.class);
+        if (!isStreamingQuery(streaming, ctx)) {
+            return;
+        }
+
+        if (stmt.getFetchSize() == 0) {
+            stmt.setFetchSize(streaming.getInitialFetchSize());
+        }
+
+        if (!handle.isInTransaction()) {
+            final Connection conn = handle.getConnection();
+            // registered before autocommit is turned off, so that it is restored however the statement fails later on.
+            // runs after the result set is closed, cleanables are processed in reverse order
+            final AtomicBoolean autoCommitOff = new AtomicBoolean();
+            ctx.addCleanable(() -> {
+                if (autoCommitOff.getAndSet(false)) {
+                    restoreAutoCommit(conn, ctx);
+                }
+            });
+            conn.setAutoCommit(false);
+            autoCommitOff.set(true);
+        }
+    }
+
+    @Override
+    public void afterExecution(PreparedStatement stmt, StatementContext ctx) throws SQLException {
+        final PostgresStreaming streaming = ctx.getConfig(PostgresStreaming.class);
+        if (!isStreamingQuery(streaming, ctx)) {
+            return;
+        }
+
+        final ResultSet rs = stmt.getResultSet();
+        if (rs != null) {
+            // only affects the batches after the first one, which was fetched by executing the statement
+            rs.setFetchSize(fetchSize(rs.getMetaData(), streaming));
+        }
+    }
+
+    private static void restoreAutoCommit(Connection conn, StatementContext ctx) throws SQLException {
+        try {
+            // postgres aborts the transaction of a failed statement, which only a rollback ends
+            if (ctx.isExecutionFailed()) {
+                conn.rollback();
+            }
+        } finally {
+            // commits the statements run since autocommit was turned off
+            conn.setAutoCommit(true);
+        }
+    }
+
+    private static boolean isStreamingQuery(PostgresStreaming streaming, StatementContext ctx) {
+        return streaming.isEnabled()
+            && ctx.getJdbiStatementType() instanceof Class
+            && Query.class.isAssignableFrom((Class<?>) ctx.getJdbiStatementType());
+    }
+
+    static int fetchSize(ResultSetMetaData metaData, PostgresStreaming streaming) throws SQLException {
+        long rowWidth = ROW_OVERHEAD;
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            rowWidth += COLUMN_OVERHEAD + columnWidth(metaData, i);
+        }
+        final long fetchSize = streaming.getTargetBatchBytes() / rowWidth;
+        return (int) Math.max(1, Math.min(streaming.getMaxFetchSize(), fetchSize));
+    }
+
+    private static int columnWidth(ResultSetMetaData metaData, int column) throws SQLException {
+        switch (metaData.getColumnType(column)) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+            case Types.TINYINT:
+                return 1;
+            case Types.SMALLINT:
+                return 2;
+            case Types.INTEGER:
+            case Types.REAL:
+            case Types.DATE:
+                return 4;
+            case Types.BIGINT:
+            case Types.DOUBLE:
+            case Types.FLOAT:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+            case Types.TIME_WITH_TIMEZONE:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return 8;
+            default:
+                // text columns carry a length limit for varchar(n) and char(n), text reports Integer.MAX_VALUE
+                final int size = metaData.getColumnDisplaySize(column);
+                return size > 0 && size < VARIABLE_WIDTH ? size : VARIABLE_WIDTH;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import de.softwareforge.testing.postgres.junit5.EmbeddedPgExtension;
+import de.softwareforge.testing.postgres.junit5.MultiDatabaseBuilder;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestPostgresStreaming {
+
+    @RegisterExtension
+    public static EmbeddedPgExtension pg = MultiDatabaseBuilder.instanceWithDefaults().build();
+
+    @RegisterExtension
+    public JdbiExtension pgExtension = JdbiExtension.postgres(pg).withPlugin(new PostgresPlugin());
+
+    public Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        handle = pgExtension.openHandle();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        handle.close();
+    }
+
+    @Test
+    public void streamsInOwnTransaction() throws Exception {
+        // a single int4 column is estimated at 60 bytes per row
+        handle.getConfig(PostgresStreaming.class).setEnabled(true).setTargetBatchBytes(60_000);
+
+        List<Integer> fetchSizes = handle.createQuery("SELECT i FROM generate_series(1, 5000) i")
+            .map((rs, ctx) -> {
+                assertThat(ctx.getConnection().getAutoCommit()).isFalse();
+                assertThat(handle.isInTransaction()).isTrue();
+                return rs.getFetchSize();
+            })
+            .stream()
+            .distinct()
+            .collect(Collectors.toList());
+
+        assertThat(fetchSizes).containsExactly(1000);
+        assertThat(handle.getConnection().getAutoCommit()).isTrue();
+        assertThat(handle.isInTransaction()).isFalse();
+    }
+
+    @Test
+    public void endsTransactionWhenMappingFails() throws Exception {
+        handle.getConfig(PostgresStreaming.class).setEnabled(true);
+
+        assertThatThrownBy(() -> handle.createQuery("SELECT i FROM generate_series(1, 10) i")
+            .map((rs, ctx) -> {
+                throw new IllegalStateException("mapping failed");
+            })
+            .list())
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(handle.isInTransaction()).isFalse();
+        assertThat(handle.getConnection().getAutoCommit()).isTrue();
+    }
+
+    @Test
+    public void keepsCallerTransaction() {
+        handle.getConfig(PostgresStreaming.class).setEnabled(true);
+
+        handle.useTransaction(h -> {
+            h.execute("CREATE TEMPORARY TABLE streaming_test (id int) ON COMMIT DROP");
+            h.execute("INSERT INTO streaming_test SELECT generate_series(1, 100)");
+
+            assertThat(h.createQuery("SELECT id FROM streaming_test").mapTo(int.class).list()).hasSize(100);
+            assertThat(h.isInTransaction()).isTrue();
+        });
+    }
+
+    @Test
+    public void commitsStatementsRunWhileStreaming() throws Exception {
+        handle.execute("CREATE TABLE streaming_log (id int)");
+        handle.getConfig(PostgresStreaming.class).setEnabled(true);
+
+        try (Stream<Integer> ids = handle.createQuery("SELECT i FROM generate_series(1, 10) i").mapTo(int.class).stream()) {
+            ids.forEach(id -> handle.execute("INSERT INTO streaming_log (id) VALUES (?)", id));
+        }
+
+        assertThat(handle.getConnection().getAutoCommit()).isTrue();
+        try (Handle other = pgExtension.openHandle()) {
+            assertThat(other.createQuery("SELECT count(*) FROM streaming_log").mapTo(int.class).one()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    public void disabledByDefault() throws Exception {
+        List<Integer> fetchSizes = handle.createQuery("SELECT i FROM generate_series(1, 10) i")
+            .map((rs, ctx) -> rs.getFetchSize())
+            .list();
+
+        assertThat(fetchSizes).containsOnly(0);
+        assertThat(handle.getConnection().getAutoCommit()).isTrue();
+    }
+}
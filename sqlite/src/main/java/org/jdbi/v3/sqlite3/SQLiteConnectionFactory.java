@@ -0,0 +1,397 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlite3;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import org.jdbi.v3.core.ConnectionFactory;
+import org.jdbi.v3.core.statement.Cleanable;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * A {@link ConnectionFactory} for embedded SQLite databases that avoids <code>SQLITE_BUSY</code> errors under concurrency.
+ * <br>
+ * SQLite allows only one writer at a time. This factory owns a single writer connection; handles opened from it are handed the
+ * writer one at a time, in the order they asked for it, so concurrent writers wait in a queue instead of failing and retrying.
+ * Reads should go through {@link #readers()}, a bounded pool of read-only connections that, in WAL mode, run in parallel with
+ * each other and with the writer.
+ * <pre>
+ * SQLiteConnectionFactory factory = SQLiteConnectionFactory.builder("jdbc:sqlite:/var/lib/app/app.db")
+ *     .readerPoolSize(4)
+ *     .build();
+ * Jdbi writer = Jdbi.create(factory).installPlugin(new SQLitePlugin());
+ * Jdbi reader = Jdbi.create(factory.readers()).installPlugin(new SQLitePlugin());
+ * </pre>
+ * All pragmas are applied once, when a connection is created. The database must be a file (or a shared cache URI); a plain
+ * <code>:memory:</code> database is private to each connection.
+ * <br>
+ * A thread that holds a writer handle must not open a second one; this is reported as an error instead of a deadlock.
+ *
+ * @see SQLiteWriteQueue
+ */
+@Alpha
+public final class SQLiteConnectionFactory implements ConnectionFactory, AutoCloseable {
+
+    private static final Pattern PRAGMA_NAME = Pattern.compile("[A-Za-z_]+");
+    private static final Pattern PRAGMA_VALUE = Pattern.compile("-?[A-Za-z0-9_]+");
+
+    private final String url;
+    private final Properties properties;
+    private final Map<String, String> pragmas;
+
+    private final Semaphore writerPermit = new Semaphore(1, true);
+    private final Object writerLock = new Object();
+    private Connection writer;
+    // the thread that opened the handle holding the writer connection, cleared when the connection is returned on any thread
+    private volatile Thread writerOwner;
+
+    private final Semaphore readerPermits;
+    private final Queue<Connection> idleReaders = new ConcurrentLinkedQueue<>();
+    private final ConnectionFactory readers = new ReaderConnectionFactory();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private SQLiteConnectionFactory(Builder builder) {
+        this.url = builder.url;
+        this.properties = builder.properties;
+        this.pragmas = Collections.unmodifiableMap(new LinkedHashMap<>(builder.pragmas));
+        this.readerPermits = new Semaphore(builder.readerPoolSize, true);
+    }
+
+    /**
+     * Creates a builder for a database.
+     *
+     * @param url the JDBC url of the database, e.g. <code>jdbc:sqlite:/path/to/file.db</code>
+     * @return a builder
+     */
+    public static Builder builder(String url) {
+        return new Builder(url);
+    }
+
+    /**
+     * Opens the writer connection. Waits until no other handle holds the writer.
+     */
+    @Override
+    public Connection openConnection() throws SQLException {
+        if (Thread.currentThread().equals(writerOwner)) {
+            throw new SQLException("This thread already holds the SQLite writer connection; nested writer handles would deadlock");
+        }
+        try {
+            writerPermit.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the SQLite writer connection", e);
+        }
+        try {
+            final Connection connection = writer();
+            writerOwner = Thread.currentThread();
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            writerPermit.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void closeConnection(Connection conn) throws SQLException {
+        try {
+            resetTransaction(conn);
+        } finally {
+            writerOwner = null;
+            writerPermit.release();
+        }
+    }
+
+    @Override
+    public Cleanable getCleanableFor(Connection conn) {
+        final AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                closeConnection(conn);
+            }
+        };
+    }
+
+    /**
+     * Returns a connection factory for the pool of read-only connections. Waits for a free connection if all are in use.
+     *
+     * @return the reader connection factory
+     */
+    public ConnectionFactory readers() {
+        return readers;
+    }
+
+    /**
+     * Closes the writer connection and all idle reader connections. Reader connections that are in use are closed when they are
+     * returned.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        SQLException failure = null;
+        for (Connection connection = idleReaders.poll(); connection != null; connection = idleReaders.poll()) {
+            failure = closeQuietly(connection, failure);
+        }
+        synchronized (writerLock) {
+            if (writer != null) {
+                failure = closeQuietly(writer, failure);
+                writer = null;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private Connection writer() throws SQLException {
+        synchronized (writerLock) {
+            checkOpen();
+            if (writer == null) {
+                writer = createConnection(false);
+            }
+            return writer;
+        }
+    }
+
+    private Connection createConnection(boolean readOnly) throws SQLException {
+        final Connection connection = DriverManager.getConnection(url, properties);
+        try (Statement stmt = connection.createStatement()) {
+            for (Map.Entry<String, String> pragma : pragmas.entrySet()) {
+                // the journal mode is persistent and set by the writer
+                if (!readOnly || !"journal_mode".equals(pragma.getKey())) {
+                    stmt.execute("PRAGMA " + pragma.getKey() + " = " + pragma.getValue());
+                }
+            }
+            if (readOnly) {
+                stmt.execute("PRAGMA query_only = 1");
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    private void checkOpen() throws SQLException {
+        if (closed.get()) {
+            throw new SQLException("SQLite connection factory is closed");
+        }
+    }
+
+    private static void resetTransaction(Connection conn) throws SQLException {
+        if (!conn.isClosed() && !conn.getAutoCommit()) {
+            conn.rollback();
+            conn.setAutoCommit(true);
+        }
+    }
+
+    private static SQLException closeQuietly(Connection connection, SQLException failure) {
+        try {
+            connection.close();
+            return failure;
+        } catch (SQLException e) {
+            if (failure == null) {
+                return e;
+            }
+            failure.addSuppressed(e);
+            return failure;
+        }
+    }
+
+    private final class ReaderConnectionFactory implements ConnectionFactory {
+        @Override
+        public Connection openConnection() throws SQLException {
+            // make sure the writer has set up the database (e.g. switched to WAL) before any reader connects
+            writer();
+            try {
+                readerPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a SQLite reader connection", e);
+            }
+            try {
+                checkOpen();
+                final Connection idle = idleReaders.poll();
+                return idle == null ? createConnection(true) : idle;
+            } catch (SQLException | RuntimeException e) {
+                readerPermits.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public void closeConnection(Connection conn) throws SQLException {
+            try {
+                if (closed.get() || conn.isClosed()) {
+                    conn.close();
+                } else {
+                    resetTransaction(conn);
+                    idleReaders.offer(conn);
+                }
+            } catch (SQLException e) {
+                conn.close();
+                throw e;
+            } finally {
+                readerPermits.release();
+            }
+        }
+
+        @Override
+        public Cleanable getCleanableFor(Connection conn) {
+            final AtomicBoolean released = new AtomicBoolean();
+            return () -> {
+                if (released.compareAndSet(false, true)) {
+                    closeConnection(conn);
+                }
+            };
+        }
+    }
+
+    /**
+     * Builds a {@link SQLiteConnectionFactory}. By default, the database uses WAL journaling with <code>synchronous = NORMAL</code>,
+     * waits up to five seconds for locks held by other processes and pools up to four reader connections.
+     */
+    public static final class Builder {
+        private static final int DEFAULT_READER_POOL_SIZE = 4;
+        private static final int DEFAULT_BUSY_TIMEOUT_MILLIS = 5_000;
+
+        private final String url;
+        private final Properties properties = new Properties();
+        private final Map<String, String> pragmas = new LinkedHashMap<>();
+        private int readerPoolSize = DEFAULT_READER_POOL_SIZE;
+
+        private Builder(String url) {
+            this.url = url;
+            journalMode("WAL");
+            synchronous("NORMAL");
+            busyTimeout(DEFAULT_BUSY_TIMEOUT_MILLIS);
+        }
+
+        /**
+         * Sets the maximum number of reader connections.
+         *
+         * @param readerPoolSize the maximum number of reader connections
+         * @return this
+         */
+        public Builder readerPoolSize(int readerPoolSize) {
+            if (readerPoolSize < 1) {
+                throw new IllegalArgumentException("readerPoolSize must be positive, got " + readerPoolSize);
+            }
+            this.readerPoolSize = readerPoolSize;
+            return this;
+        }
+
+        /**
+         * Sets a JDBC driver property.
+         *
+         * @param name the property name
+         * @param value the property value
+         * @return this
+         */
+        public Builder property(String name, String value) {
+            properties.setProperty(name, value);
+            return this;
+        }
+
+        /**
+         * Sets the <code>journal_mode</code> pragma. Defaults to <code>WAL</code>, which lets readers run concurrently with the writer.
+         *
+         * @param journalMode the journal mode
+         * @return this
+         */
+        public Builder journalMode(String journalMode) {
+            return pragma("journal_mode", journalMode);
+        }
+
+        /**
+         * Sets the <code>synchronous</code> pragma. Defaults to <code>NORMAL</code>, which is durable in WAL mode except on power loss.
+         *
+         * @param synchronous the synchronous mode
+         * @return this
+         */
+        public Builder synchronous(String synchronous) {
+            return pragma("synchronous", synchronous);
+        }
+
+        /**
+         * Sets the <code>mmap_size</code> pragma, the number of bytes of the database file that are memory mapped.
+         *
+         * @param mmapSize the maximum number of memory mapped bytes
+         * @return this
+         */
+        public Builder mmapSize(long mmapSize) {
+            return pragma("mmap_size", mmapSize);
+        }
+
+        /**
+         * Sets the <code>cache_size</code> pragma. Positive values are pages, negative values are kibibytes.
+         *
+         * @param cacheSize the page cache size
+         * @return this
+         */
+        public Builder cacheSize(int cacheSize) {
+            return pragma("cache_size", cacheSize);
+        }
+
+        /**
+         * Sets the <code>busy_timeout</code> pragma, the time to wait for locks held by other processes.
+         *
+         * @param busyTimeoutMillis the timeout in milliseconds
+         * @return this
+         */
+        public Builder busyTimeout(int busyTimeoutMillis) {
+            return pragma("busy_timeout", busyTimeoutMillis);
+        }
+
+        /**
+         * Sets a pragma that is applied to every new connection.
+         *
+         * @param name the pragma name
+         * @param value the pragma value
+         * @return this
+         */
+        public Builder pragma(String name, Object value) {
+            final String stringValue = String.valueOf(value);
+            if (!PRAGMA_NAME.matcher(name).matches() || !PRAGMA_VALUE.matcher(stringValue).matches()) {
+                throw new IllegalArgumentException("Invalid pragma " + name + " = " + stringValue);
+            }
+            pragmas.put(name.toLowerCase(Locale.ROOT), stringValue);
+            return this;
+        }
+
+        /**
+         * Creates the connection factory. Connections are opened lazily.
+         *
+         * @return the connection factory
+         */
+        public SQLiteConnectionFactory build() {
+            return new SQLiteConnectionFactory(this);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlite3;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.HandleCallback;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Runs write transactions on a single dedicated thread. Callbacks submitted from any thread are queued and executed in
+ * submission order. Callbacks that are queued at the same time are coalesced into one transaction (a group commit), up to
+ * the configured group size; each callback runs in its own savepoint, so a failing callback only rolls back its own changes.
+ * A callback's future completes after the transaction that contains it has committed.
+ * <pre>
+ * try (SQLiteWriteQueue queue = new SQLiteWriteQueue(writerJdbi, 64)) {
+ *     CompletableFuture&lt;Integer&gt; rows = queue.submit(h -&gt; h.execute("insert into events (name) values (?)", name));
+ * }
+ * </pre>
+ * Group commits trade a little latency for a lot of throughput, because SQLite syncs the database file once per commit.
+ *
+ * @see SQLiteConnectionFactory
+ */
+@Alpha
+public final class SQLiteWriteQueue implements AutoCloseable {
+
+    private static final String SAVEPOINT = "jdbi_write_queue";
+    private static final Task<Object> STOP = new Task<>(h -> null);
+
+    private final Jdbi jdbi;
+    private final int maxGroupSize;
+    private final BlockingQueue<Task<?>> queue = new LinkedBlockingQueue<>();
+    private final Thread writerThread;
+    // guards closed and the queue order of the stop marker, so that no task is queued after the writer stops
+    private final Object lock = new Object();
+    private boolean closed;
+
+    /**
+     * Creates a queue that runs every callback in its own transaction.
+     *
+     * @param jdbi the Jdbi to open writer handles from
+     */
+    public SQLiteWriteQueue(Jdbi jdbi) {
+        this(jdbi, 1);
+    }
+
+    /**
+     * Creates a queue that coalesces up to <code>maxGroupSize</code> callbacks into one transaction.
+     *
+     * @param jdbi the Jdbi to open writer handles from
+     * @param maxGroupSize the maximum number of callbacks per transaction
+     */
+    public SQLiteWriteQueue(Jdbi jdbi, int maxGroupSize) {
+        if (maxGroupSize < 1) {
+            throw new IllegalArgumentException("maxGroupSize must be positive, got " + maxGroupSize);
+        }
+        this.jdbi = jdbi;
+        this.maxGroupSize = maxGroupSize;
+        this.writerThread = new Thread(this::run, "jdbi-sqlite-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queues a write callback.
+     *
+     * @param callback the callback, invoked on the writer thread inside a transaction
+     * @param <R> the result type
+     * @param <X> the exception type of the callback
+     * @return a future that completes with the result of the callback once its transaction has committed
+     */
+    public <R, X extends Exception> CompletableFuture<R> submit(HandleCallback<R, X> callback) {
+        final Task<R> task = new Task<>(callback);
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("SQLite write queue is closed");
+            }
+            queue.add(task);
+        }
+        return task.future;
+    }
+
+    /**
+     * Stops accepting callbacks, runs all queued callbacks and stops the writer thread.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        synchronized (lock) {
+            if (!closed) {
+                closed = true;
+                queue.add(STOP);
+            }
+        }
+        writerThread.join();
+    }
+
+    private void run() {
+        final List<Task<?>> group = new ArrayList<>(maxGroupSize);
+        boolean stopping = false;
+        while (!stopping || !queue.isEmpty()) {
+            final Task<?> first;
+            try {
+                first = stopping ? queue.poll() : queue.take();
+            } catch (InterruptedException e) {
+                stopping = true;
+                continue;
+            }
+            if (first == STOP) {
+                stopping = true;
+            } else if (first != null) {
+                group.add(first);
+                queue.drainTo(group, maxGroupSize - 1);
+                stopping |= group.remove(STOP);
+                runGroup(group);
+                group.clear();
+            }
+        }
+        stopped();
+    }
+
+    // the writer also stops when it is interrupted, so fail the tasks that can no longer run
+    private void stopped() {
+        synchronized (lock) {
+            closed = true;
+        }
+        final List<Task<?>> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        final IllegalStateException stoppedException = new IllegalStateException("SQLite write queue is closed");
+        for (Task<?> task : remaining) {
+            task.future.completeExceptionally(stoppedException);
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private void runGroup(List<Task<?>> group) {
+        final List<Task<?>> succeeded = new ArrayList<>(group.size());
+        try (Handle handle = jdbi.open()) {
+            handle.useTransaction(h -> {
+                for (Task<?> task : group) {
+                    if (group.size() == 1) {
+                        task.run(h);
+                        succeeded.add(task);
+                        continue;
+                    }
+                    h.savepoint(SAVEPOINT);
+                    try {
+                        task.run(h);
+                        h.releaseSavepoint(SAVEPOINT);
+                        succeeded.add(task);
+                    } catch (Throwable t) {
+                        h.rollbackToSavepoint(SAVEPOINT);
+                        task.future.completeExceptionally(t);
+                    }
+                }
+            });
+            succeeded.forEach(Task::complete);
+        } catch (Throwable t) {
+            // the transaction did not commit; fail everything that has not failed on its own
+            for (Task<?> task : group) {
+                task.future.completeExceptionally(t);
+            }
+        }
+    }
+
+    private static final class Task<R> {
+        private final HandleCallback<R, ? extends Exception> callback;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+        private R result;
+
+        Task(HandleCallback<R, ? extends Exception> callback) {
+            this.callback = callback;
+        }
+
+        void run(Handle handle) throws Exception {
+            result = callback.withHandle(handle);
+        }
+
+        void complete() {
+            future.complete(result);
+        }
+    }
+}
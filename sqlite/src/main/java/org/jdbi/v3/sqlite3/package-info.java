@@ -16,5 +16,10 @@
  * The <code>sqlite</code> plugin provides improved support for
  * <code>java.net.URL</code>.
  * </p>
+ * <p>
+ * The {@link org.jdbi.v3.sqlite3.SQLiteConnectionFactory} serializes writers on a single
+ * connection and pools reader connections; the {@link org.jdbi.v3.sqlite3.SQLiteWriteQueue}
+ * coalesces writes from many threads into group commits.
+ * </p>
  */
 package org.jdbi.v3.sqlite3;
@@ -0,0 +1,152 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlite3;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.ConnectionException;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestSQLiteConnectionFactory {
+
+    @TempDir
+    Path tempDir;
+
+    SQLiteConnectionFactory factory;
+    Jdbi writer;
+    Jdbi reader;
+
+    @BeforeEach
+    public void setUp() {
+        factory = SQLiteConnectionFactory.builder("jdbc:sqlite:" + tempDir.resolve("test.db"))
+            .readerPoolSize(2)
+            .cacheSize(-2000)
+            .mmapSize(1 << 20)
+            .build();
+        writer = Jdbi.create(factory).installPlugin(new SQLitePlugin());
+        reader = Jdbi.create(factory.readers()).installPlugin(new SQLitePlugin());
+        writer.useHandle(h -> h.execute("create table items (id integer primary key, name text)"));
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        factory.close();
+    }
+
+    @Test
+    public void testPragmas() {
+        assertThat(selectOne(writer, "pragma journal_mode", String.class)).isEqualToIgnoringCase("wal");
+        assertThat(selectOne(reader, "pragma journal_mode", String.class)).isEqualToIgnoringCase("wal");
+        assertThat(selectOne(reader, "pragma cache_size", Integer.class)).isEqualTo(-2000);
+        assertThat(selectOne(writer, "pragma synchronous", Integer.class)).isOne();
+
+        assertThatThrownBy(() -> SQLiteConnectionFactory.builder("jdbc:sqlite:x").pragma("cache_size; drop table items", 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testReadersAreReadOnlyAndReused() {
+        writer.useHandle(h -> h.execute("insert into items (name) values ('a')"));
+
+        assertThat(selectList(reader, "select name from items", String.class)).containsExactly("a");
+        assertThatThrownBy(() -> reader.useHandle(h -> h.execute("insert into items (name) values ('b')")))
+            .isInstanceOf(UnableToExecuteStatementException.class);
+
+        Object first = reader.withHandle(Handle::getConnection);
+        Object second = reader.withHandle(Handle::getConnection);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void testConcurrentWritesAreQueued() throws Exception {
+        final int threads = 8;
+        final int inserts = 50;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < inserts; i++) {
+                        writer.useTransaction(h -> h.execute("insert into items (name) values ('x')"));
+                        reader.withHandle(h -> h.select("select count(*) from items").mapTo(int.class).one());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(selectOne(reader, "select count(*) from items", Integer.class)).isEqualTo(threads * inserts);
+    }
+
+    @Test
+    public void testNestedWriterHandleFails() {
+        try (Handle outer = writer.open()) {
+            assertThatThrownBy(writer::open)
+                .isInstanceOf(ConnectionException.class)
+                .hasMessageContaining("already holds the SQLite writer connection");
+            outer.execute("insert into items (name) values ('still usable')");
+        }
+        assertThat(selectOne(writer, "select count(*) from items", Integer.class)).isOne();
+    }
+
+    @Test
+    public void testWriterHandleClosedOnOtherThread() throws Exception {
+        final Handle handle = writer.open();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(handle::close).get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        writer.useHandle(h -> h.execute("insert into items (name) values ('reopened')"));
+        assertThat(selectOne(writer, "select count(*) from items", Integer.class)).isOne();
+    }
+
+    @Test
+    public void testClosedFactory() throws SQLException {
+        factory.close();
+        assertThatThrownBy(writer::open).isInstanceOf(ConnectionException.class);
+        assertThatThrownBy(reader::open).isInstanceOf(ConnectionException.class);
+    }
+
+    private static <T> T selectOne(Jdbi jdbi, String sql, Class<T> type) {
+        return jdbi.withHandle(h -> h.select(sql).mapTo(type).one());
+    }
+
+    private static <T> List<T> selectList(Jdbi jdbi, String sql, Class<T> type) {
+        return jdbi.withHandle(h -> h.select(sql).mapTo(type).list());
+    }
+}
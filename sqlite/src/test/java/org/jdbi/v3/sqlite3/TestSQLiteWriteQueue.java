@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlite3;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestSQLiteWriteQueue {
+
+    @TempDir
+    Path tempDir;
+
+    SQLiteConnectionFactory factory;
+    Jdbi writer;
+
+    @BeforeEach
+    public void setUp() {
+        factory = SQLiteConnectionFactory.builder("jdbc:sqlite:" + tempDir.resolve("queue.db")).build();
+        writer = Jdbi.create(factory);
+        writer.useHandle(h -> h.execute("create table items (id integer primary key, name text not null)"));
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        factory.close();
+    }
+
+    @Test
+    public void testGroupCommit() throws Exception {
+        final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        final CountDownLatch blocked = new CountDownLatch(1);
+        try (SQLiteWriteQueue queue = new SQLiteWriteQueue(writer, 16)) {
+            // hold the writer thread until all other tasks are queued, so they are coalesced
+            queue.submit(h -> {
+                blocked.await(10, TimeUnit.SECONDS);
+                return 0;
+            });
+            for (int i = 0; i < 40; i++) {
+                final String name = i == 7 ? null : "item " + i;
+                futures.add(queue.submit(h -> h.execute("insert into items (name) values (?)", name)));
+            }
+            blocked.countDown();
+
+            for (int i = 0; i < futures.size(); i++) {
+                if (i == 7) {
+                    final CompletableFuture<Integer> failed = futures.get(i);
+                    assertThatThrownBy(() -> failed.get(10, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+                } else {
+                    assertThat(futures.get(i).get(10, TimeUnit.SECONDS)).isOne();
+                }
+            }
+        }
+
+        assertThat(selectOne(writer, "select count(*) from items", Integer.class)).isEqualTo(39);
+    }
+
+    @Test
+    public void testCloseRunsQueuedTasks() throws Exception {
+        final SQLiteWriteQueue queue = new SQLiteWriteQueue(writer);
+        final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(queue.submit(h -> h.execute("insert into items (name) values ('x')")));
+        }
+        queue.close();
+
+        assertThat(futures).allMatch(f -> f.isDone() && !f.isCompletedExceptionally());
+        assertThatThrownBy(() -> queue.submit(h -> null)).isInstanceOf(IllegalStateException.class);
+        assertThat(selectOne(writer, "select count(*) from items", Integer.class)).isEqualTo(10);
+    }
+
+    @Test
+    public void testConcurrentSubmitAndClose() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            final SQLiteWriteQueue queue = new SQLiteWriteQueue(writer, 8);
+            final List<CompletableFuture<Integer>> futures = Collections.synchronizedList(new ArrayList<>());
+            final CountDownLatch started = new CountDownLatch(4);
+            final List<Thread> submitters = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final Thread submitter = new Thread(() -> {
+                    started.countDown();
+                    boolean open = true;
+                    while (open) {
+                        try {
+                            futures.add(queue.submit(h -> 1));
+                        } catch (IllegalStateException e) {
+                            open = false;
+                        }
+                    }
+                });
+                submitter.start();
+                submitters.add(submitter);
+            }
+            started.await();
+            queue.close();
+            for (Thread submitter : submitters) {
+                submitter.join();
+            }
+
+            // every accepted callback runs, none is left behind in the queue
+            for (CompletableFuture<Integer> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS)).isOne();
+            }
+        }
+    }
+
+    private static <T> T selectOne(Jdbi jdbi, String sql, Class<T> type) {
+        return jdbi.withHandle(h -> h.select(sql).mapTo(type).one());
+    }
+}
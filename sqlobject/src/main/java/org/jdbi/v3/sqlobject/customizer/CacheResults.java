@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject.customizer;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.jdbi.v3.meta.Alpha;
+import org.jdbi.v3.sqlobject.customizer.internal.CacheResultsFactory;
+
+/**
+ * Cache the mapped results of a query method in the {@link org.jdbi.v3.core.statement.CachedResults} of the Jdbi instance.
+ * Results mapped with {@link org.jdbi.v3.sqlobject.statement.UseRowMapper} or reduced with
+ * {@link org.jdbi.v3.sqlobject.statement.UseRowReducer} are not cached.
+ *
+ * @see org.jdbi.v3.core.statement.Query#cacheResults(String...)
+ * @see InvalidatesCachedResults
+ */
+@Alpha
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@SqlStatementCustomizingAnnotation(CacheResultsFactory.class)
+public @interface CacheResults {
+    /**
+     * The tags of the cached results, usually the names of the tables the query reads.
+     *
+     * @return the tags
+     */
+    String[] value();
+}
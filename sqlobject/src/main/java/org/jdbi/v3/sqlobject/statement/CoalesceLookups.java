@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject.statement;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Coalesces concurrent calls of a single key lookup method into one query.
+ * <p>
+ * The annotated {@link SqlQuery} method must take exactly one parameter, the lookup key.
+ * The first call of a batch executes immediately if no other call of the method is in progress. Otherwise
+ * it collects the calls that arrive for up to {@link #maxWaitMillis()}, until {@link #maxBatchSize()} keys
+ * are waiting or until no other call is in progress, and executes them as one statement. The collected
+ * keys are bound as a list named {@link #keys()}: as a {@code <keys>} list for SQL such as
+ * {@code where id in (<keys>)}, or as an array for SQL such as {@code where id = any(:keys)}.
+ * The rows are split back to the callers by the value of the {@link #keyColumn()} column, and each
+ * caller receives its result exactly as if the method had been called on its own.
+ * <p>
+ * The statement runs on the handle of the first call and maps the rows for all calls of its batch. Calls of the same key
+ * in one batch receive the same mapped objects, which therefore should not be modified.
+ * <p>
+ * Coalescing only happens between calls sharing the same SQL object method handler and within the {@link #scope()}.
+ * By default only calls on the same handle are coalesced. With {@link Scope#JDBI}, calls on different handles, e.g.
+ * through {@link org.jdbi.v3.core.Jdbi#onDemand(Class)}, share a batch if they use the mappers of the
+ * {@link org.jdbi.v3.core.Jdbi} instance and the same defined attributes, template engine, SQL parser, SQL logger,
+ * query timeout, argument factories and array argument strategy. Other handle configuration, such as statement
+ * customizers registered on a handle, is taken from the handle of the first call. Calls on a handle inside a
+ * transaction are never coalesced and run immediately on their own handle.
+ */
+@Alpha
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CoalesceLookups {
+    /**
+     * The column holding the lookup key in each result row.
+     *
+     * @return the key column name
+     */
+    String keyColumn();
+
+    /**
+     * The name under which the collected keys are bound.
+     *
+     * @return the key binding name
+     */
+    String keys() default "keys";
+
+    /**
+     * The maximum number of distinct keys fetched by a single statement.
+     *
+     * @return the maximum batch size
+     */
+    int maxBatchSize() default 100;
+
+    /**
+     * How long the first caller of a batch waits for more keys before executing the statement.
+     *
+     * @return the wait time in milliseconds
+     */
+    long maxWaitMillis() default 2;
+
+    /**
+     * Which calls are coalesced with each other.
+     *
+     * @return the coalescing scope
+     */
+    Scope scope() default Scope.HANDLE;
+
+    /**
+     * The calls that may be executed together.
+     */
+    enum Scope {
+        /**
+         * Calls on the same {@link org.jdbi.v3.core.Handle}, e.g. from concurrent tasks sharing a handle.
+         */
+        HANDLE,
+
+        /**
+         * Calls on any handle of the same {@link org.jdbi.v3.core.Jdbi} instance whose statement configuration matches.
+         */
+        JDBI
+    }
+}
@@ -35,12 +35,15 @@ import org.jdbi.v3.core.generic.GenericTypes;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.result.RowReducer;
 import org.jdbi.v3.core.statement.SqlStatement;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StartupSnapshot;
 import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
 import org.jdbi.v3.sqlobject.SqlObjects;
 import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizer;
 import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizerFactory;
 import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizingAnnotation;
 import org.jdbi.v3.sqlobject.customizer.SqlStatementParameterCustomizer;
+import org.jdbi.v3.sqlobject.locator.SqlLocator;
 import org.jdbi.v3.sqlobject.statement.ParameterCustomizerFactory;
 import org.jdbi.v3.sqlobject.statement.UseRowMapper;
 import org.jdbi.v3.sqlobject.statement.UseRowReducer;
@@ -57,6 +60,8 @@ import static org.jdbi.v3.core.internal.JdbiClassUtils.superTypes;
 abstract class CustomizingStatementHandler<StatementType extends SqlStatement<StatementType>> implements ExtensionHandler {
 
     private final List<BoundCustomizer> statementCustomizers;
+    private final int nonParameterCustomizerCount;
+    private final boolean defaultBindingOnly;
     private final Class<?> sqlObjectType;
     private final Method method;
 
@@ -78,6 +83,15 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
                 .map(BoundCustomizer::of)
                 .forEach(statementCustomizers::add);
 
+        this.nonParameterCustomizerCount = statementCustomizers.size();
+
+        // no customizing annotations anywhere and every parameter is bound by the default customizer
+        this.defaultBindingOnly = nonParameterCustomizerCount == 0
+                && Stream.of(method.getParameters())
+                        .allMatch(p -> annotationsFor(p).findAny().isEmpty()
+                                && p.getType() != Consumer.class
+                                && p.getType() != Function.class);
+
         // parameter customizers
         parameterCustomizers().forEach(statementCustomizers::add);
     }
@@ -87,6 +101,12 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
         statementCustomizers.forEach(s -> s.warm(config));
     }
 
+    @Override
+    public void prepare(ConfigRegistry config) {
+        warm(config);
+        config.get(SqlStatements.class).prepare(locateSql(config));
+    }
+
     private static Stream<Annotation> annotationsFor(AnnotatedElement... elements) {
         return Stream.of(elements)
                 .map(AnnotatedElement::getAnnotations)
@@ -197,7 +217,18 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
     }
 
     void applyCustomizers(final StatementType stmt, Object[] args) {
-        statementCustomizers.forEach(b -> {
+        applyCustomizers(stmt, args, statementCustomizers);
+    }
+
+    /**
+     * Applies only the type and method customizers, skipping everything bound to the method parameters.
+     */
+    void applyNonParameterCustomizers(final StatementType stmt) {
+        applyCustomizers(stmt, new Object[0], statementCustomizers.subList(0, nonParameterCustomizerCount));
+    }
+
+    private static void applyCustomizers(final SqlStatement<?> stmt, Object[] args, List<BoundCustomizer> customizers) {
+        customizers.forEach(b -> {
             try {
                 b.apply(stmt, args);
             } catch (SQLException e) {
@@ -211,13 +242,31 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
     abstract StatementType createStatement(Handle handle, String locatedSql);
 
     String locateSql(final Handle h) {
-        return h.getConfig(SqlObjects.class).getSqlLocator().locate(sqlObjectType, method, h.getConfig());
+        return locateSql(h.getConfig());
+    }
+
+    String locateSql(final ConfigRegistry config) {
+        final SqlLocator locator = config.get(SqlObjects.class).getSqlLocator();
+        final StartupSnapshot snapshot = config.get(SqlStatements.class).getStartupSnapshot();
+        if (snapshot == null) {
+            return locator.locate(sqlObjectType, method, config);
+        }
+        return snapshot.locate(locator.getClass().getName() + '#' + sqlObjectType.getName() + '#' + method.toGenericString(),
+                () -> locator.locate(sqlObjectType, method, config));
     }
 
     Method getMethod() {
         return method;
     }
 
+    Class<?> getSqlObjectType() {
+        return sqlObjectType;
+    }
+
+    boolean isDefaultBindingOnly() {
+        return defaultBindingOnly;
+    }
+
     static RowMapper<?> rowMapperFor(UseRowMapper useRowMapper) {
         return checkedCreateInstance(useRowMapper.value());
     }
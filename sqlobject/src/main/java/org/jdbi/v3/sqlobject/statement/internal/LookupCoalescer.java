@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject.statement.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+
+/**
+ * Collects concurrent single key lookups into batches. Lookups are only collected with other lookups of the same scope.
+ * The first caller of a batch becomes its leader: while other callers of its scope are busy, it waits for more keys to arrive,
+ * then loads all keys at once and hands every waiting caller its rows. Callers of the same key share the loaded rows.
+ */
+final class LookupCoalescer {
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    // scopes with at least one caller, removed when their last caller leaves
+    private final Map<Object, Scope> scopes = new HashMap<>();
+
+    LookupCoalescer(int maxBatchSize, long maxWaitMillis) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxWaitMillis));
+    }
+
+    /**
+     * Returns the rows for a key, loading it together with all keys requested concurrently in the same scope.
+     *
+     * @param scopeKey lookups are only collected with lookups of an equal scope key
+     * @param key the key to look up
+     * @param loader loads the rows for a set of keys, grouped by key
+     * @return the rows for the key, never null
+     */
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    List<Object> lookup(Object scopeKey, Object key, Function<Collection<Object>, Map<Object, List<Object>>> loader) {
+        final Scope scope;
+        final Batch batch;
+        final CompletableFuture<List<Object>> result;
+        final boolean leader;
+
+        lock.lock();
+        try {
+            scope = scopes.computeIfAbsent(scopeKey, k -> new Scope());
+            scope.active++;
+            leader = scope.open == null;
+            if (leader) {
+                scope.open = new Batch();
+            }
+            batch = scope.open;
+            batch.callers++;
+            result = batch.pending.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (batch.pending.size() >= maxBatchSize) {
+                // no more keys fit, the next caller starts a new batch
+                close(scope, batch);
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            if (leader) {
+                execute(awaitKeys(scope, batch), loader);
+            }
+
+            return result.join();
+        } catch (CompletionException e) {
+            // rethrow the loader's exception to every caller of the batch
+            throw Sneaky.throwAnyway(e.getCause());
+        } finally {
+            leave(scopeKey, scope);
+        }
+    }
+
+    private Map<Object, CompletableFuture<List<Object>>> awaitKeys(Scope scope, Batch batch) {
+        lock.lock();
+        try {
+            long remaining = maxWaitNanos;
+            // a caller that is alone in its scope does not wait, nobody else is going to join its batch soon
+            while (!batch.closed && scope.active > batch.callers && remaining > 0) {
+                remaining = changed.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                close(scope, batch);
+            } finally {
+                lock.unlock();
+            }
+        }
+        // the batch is closed now, no other thread touches its keys any more
+        return batch.pending;
+    }
+
+    private void leave(Object scopeKey, Scope scope) {
+        lock.lock();
+        try {
+            scope.active--;
+            if (scope.active == 0) {
+                scopes.remove(scopeKey);
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void close(Scope scope, Batch batch) {
+        if (!batch.closed) {
+            batch.closed = true;
+            scope.open = null;
+        }
+    }
+
+    private static void execute(Map<Object, CompletableFuture<List<Object>>> pending,
+                                Function<Collection<Object>, Map<Object, List<Object>>> loader) {
+        try {
+            Map<Object, List<Object>> rows = loader.apply(new ArrayList<>(pending.keySet()));
+            pending.forEach((key, future) -> future.complete(rows.getOrDefault(key, Collections.emptyList())));
+        } catch (Throwable t) {
+            pending.values().forEach(future -> future.completeExceptionally(t));
+        }
+    }
+
+    private static final class Scope {
+        // callers inside lookup, including those waiting for or loading an earlier batch
+        private int active;
+        private Batch open;
+    }
+
+    private static final class Batch {
+        private final Map<Object, CompletableFuture<List<Object>>> pending = new LinkedHashMap<>();
+        private int callers;
+        private boolean closed;
+    }
+}
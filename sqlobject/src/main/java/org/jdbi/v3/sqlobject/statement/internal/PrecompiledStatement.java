@@ -0,0 +1,208 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject.statement.internal;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.extension.ExtensionHandler;
+import org.jdbi.v3.core.extension.ExtensionMetadata;
+import org.jdbi.v3.core.extension.HandleSupplier;
+import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.qualifier.Qualifiers;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.SqlStatement;
+import org.jdbi.v3.core.statement.Update;
+import org.jdbi.v3.sqlobject.SqlObjects;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.internal.ParameterUtil;
+import org.jdbi.v3.sqlobject.locator.SqlLocator;
+import org.jdbi.v3.sqlobject.statement.BindParameterCustomizerFactory;
+import org.jdbi.v3.sqlobject.statement.CoalesceLookups;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.statement.UseRowMapper;
+import org.jdbi.v3.sqlobject.statement.UseRowReducer;
+
+/**
+ * Runs a {@link SqlQuery} or {@link SqlUpdate} method from code generated by the <code>jdbi3-generator</code>
+ * annotation processor. The generated code creates the statement, binds each argument and collects the
+ * result directly instead of dispatching through the statement customizers of the method handler.
+ * <br>
+ * Only methods that would not run any customizer besides the default parameter binding are precompiled:
+ * methods with statement customizing annotations, {@link UseRowMapper}, {@link UseRowReducer},
+ * {@link CoalesceLookups}, {@link Consumer} or {@link Function} arguments or extension handler customizers
+ * are always invoked through their {@link ExtensionHandler}.
+ */
+public final class PrecompiledStatement {
+
+    private final ExtensionHandler handler;
+    private final SqlQueryHandler queryHandler;
+    private final SqlUpdateHandler updateHandler;
+    private final QualifiedType<?>[] parameterTypes;
+    private final String[] parameterNames;
+
+    private volatile LocatedSql sql;
+
+    private PrecompiledStatement(ExtensionHandler handler, SqlQueryHandler queryHandler, SqlUpdateHandler updateHandler) {
+        this.handler = handler;
+        this.queryHandler = queryHandler;
+        this.updateHandler = updateHandler;
+
+        CustomizingStatementHandler<?> statementHandler = queryHandler != null ? queryHandler : updateHandler;
+        if (statementHandler == null) {
+            this.parameterTypes = new QualifiedType<?>[0];
+            this.parameterNames = new String[0];
+        } else {
+            Parameter[] parameters = statementHandler.getMethod().getParameters();
+            Qualifiers qualifiers = new Qualifiers();
+            this.parameterTypes = new QualifiedType<?>[parameters.length];
+            this.parameterNames = new String[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                parameterTypes[i] = QualifiedType.of(statementHandler.getParameterType(parameters[i]))
+                        .withAnnotations(qualifiers.findFor(parameters[i]));
+                parameterNames[i] = ParameterUtil.findParameterName(Bind.NO_VALUE, parameters[i]).orElse(null);
+            }
+        }
+    }
+
+    /**
+     * Creates the precompiled statement for an extension method.
+     *
+     * @param extensionMetadata The metadata of the extension type
+     * @param method            The extension method
+     * @return A {@link PrecompiledStatement}. If the method can not be precompiled, {@link #isPrecompiled(Handle)} always returns false.
+     */
+    public static PrecompiledStatement forMethod(ExtensionMetadata extensionMetadata, Method method) {
+        ExtensionHandler handler = extensionMetadata.findExtensionHandler(method)
+                .orElseGet(() -> ExtensionHandler.missingExtensionHandler(method));
+
+        // extension handler customizers wrap the handler, so only an undecorated handler is precompiled
+        if (handler.getClass() == SqlQueryHandler.class && ((SqlQueryHandler) handler).isPrecompilable()) {
+            return new PrecompiledStatement(handler, (SqlQueryHandler) handler, null);
+        } else if (handler.getClass() == SqlUpdateHandler.class && ((SqlUpdateHandler) handler).isPrecompilable()) {
+            return new PrecompiledStatement(handler, null, (SqlUpdateHandler) handler);
+        }
+        return new PrecompiledStatement(handler, null, null);
+    }
+
+    /**
+     * Returns true if the statement can be created, bound and executed directly on the given handle. This is the case
+     * unless the method needs its extension handler or a custom default parameter customizer factory is configured.
+     *
+     * @param handle The handle that will execute the statement
+     * @return True if the statement is precompiled, false if {@link #invoke(HandleSupplier, Object, Object...)} must be used
+     */
+    public boolean isPrecompiled(Handle handle) {
+        return (queryHandler != null || updateHandler != null)
+                && handle.getConfig(SqlObjects.class).getDefaultParameterCustomizerFactory().getClass() == BindParameterCustomizerFactory.class;
+    }
+
+    /**
+     * Invokes the extension handler of the method.
+     *
+     * @param handleSupplier The handle supplier of the extension
+     * @param target         The extension object
+     * @param args           The method arguments
+     * @return The method result
+     * @throws Exception If the extension handler throws an exception
+     */
+    public Object invoke(HandleSupplier handleSupplier, Object target, Object... args) throws Exception {
+        return handler.invoke(handleSupplier, target, args);
+    }
+
+    /**
+     * Creates the query for a {@link SqlQuery} method. The query is cleaned up when the handle is closed.
+     *
+     * @param handle The handle
+     * @return A {@link Query}
+     */
+    public Query createQuery(Handle handle) {
+        Query query = handle.createQuery(locateSql(handle, queryHandler));
+        query.attachToHandleForCleanup();
+        return query;
+    }
+
+    /**
+     * Creates the update for a {@link SqlUpdate} method. The update is cleaned up when the handle is closed.
+     *
+     * @param handle The handle
+     * @return An {@link Update}
+     */
+    public Update createUpdate(Handle handle) {
+        Update update = handle.createUpdate(locateSql(handle, updateHandler));
+        update.attachToHandleForCleanup();
+        return update;
+    }
+
+    /**
+     * Binds a method argument by position and, if the parameter name is known, by name.
+     *
+     * @param statement The statement
+     * @param index     The parameter index
+     * @param value     The argument
+     */
+    public void bind(SqlStatement<?> statement, int index, Object value) {
+        QualifiedType<?> type = parameterTypes[index];
+        statement.bindByType(index, value, type);
+        String name = parameterNames[index];
+        if (name != null) {
+            statement.bindByType(name, value, type);
+        }
+    }
+
+    /**
+     * Executes the query and returns the method result.
+     *
+     * @param query The query
+     * @return The method result
+     */
+    public Object result(Query query) {
+        return queryHandler.result(query);
+    }
+
+    /**
+     * Executes the update and returns the method result.
+     *
+     * @param update The update
+     * @return The method result
+     */
+    public Object result(Update update) {
+        return updateHandler.result(update);
+    }
+
+    // the method configuration never changes, so the located sql is kept until a different locator is configured
+    private String locateSql(Handle handle, CustomizingStatementHandler<?> statementHandler) {
+        SqlLocator locator = handle.getConfig(SqlObjects.class).getSqlLocator();
+        LocatedSql located = sql;
+        if (located == null || !locator.equals(located.locator)) {
+            located = new LocatedSql(locator, statementHandler.locateSql(handle));
+            sql = located;
+        }
+        return located.sql;
+    }
+
+    private static final class LocatedSql {
+        private final SqlLocator locator;
+        private final String sql;
+
+        LocatedSql(SqlLocator locator, String sql) {
+            this.locator = locator;
+            this.sql = sql;
+        }
+    }
+}
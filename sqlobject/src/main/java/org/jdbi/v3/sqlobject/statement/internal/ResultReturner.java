@@ -290,7 +290,10 @@ abstract class ResultReturner {
 
         @Override
         protected Object reducedResult(Stream<?> stream, StatementContext ctx) {
-            return checkResult(stream.findFirst().orElse(null), returnType);
+            // close the stream, ordered row reducers may not have read all rows
+            try (Stream<?> reducedStream = stream) {
+                return checkResult(reducedStream.findFirst().orElse(null), returnType);
+            }
         }
 
         @Override
@@ -321,10 +324,12 @@ abstract class ResultReturner {
         @SuppressWarnings({"unchecked", "rawtypes"})
         protected Object reducedResult(Stream<?> stream, StatementContext ctx) {
             Collector collector = ctx.findCollectorFor(returnType.getType()).orElse(null);
-            if (collector != null) {
-                return stream.collect(collector);
+            try (Stream<?> reducedStream = stream) {
+                if (collector != null) {
+                    return reducedStream.collect(collector);
+                }
+                return checkResult(reducedStream.findFirst().orElse(null), returnType);
             }
-            return checkResult(stream.findFirst().orElse(null), returnType);
         }
 
         @Override
@@ -14,13 +14,37 @@
 package org.jdbi.v3.sqlobject.statement.internal;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.argument.Arguments;
 import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.extension.HandleSupplier;
+import org.jdbi.v3.core.generic.GenericTypes;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.ColumnMappers;
+import org.jdbi.v3.core.mapper.Mappers;
+import org.jdbi.v3.core.mapper.NoSuchMapperException;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.RowMappers;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.result.ResultIterable;
+import org.jdbi.v3.core.result.ResultIterator;
 import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.sqlobject.statement.CoalesceLookups;
 import org.jdbi.v3.sqlobject.statement.UseRowMapper;
 import org.jdbi.v3.sqlobject.statement.UseRowReducer;
 
@@ -28,7 +52,9 @@ public class SqlQueryHandler extends CustomizingStatementHandler<Query> {
     private final ResultReturner resultReturner;
     private final UseRowMapper useRowMapper;
     private final UseRowReducer useRowReducer;
-
+    private final CoalesceLookups coalesceLookups;
+    private final LookupCoalescer coalescer;
+    private final Type keyType;
 
     public SqlQueryHandler(Class<?> sqlObjectType, Method method) {
         super(sqlObjectType, method);
@@ -40,6 +66,19 @@ public class SqlQueryHandler extends CustomizingStatementHandler<Query> {
         if (this.useRowReducer != null && this.useRowMapper != null) {
             throw new IllegalStateException("Cannot declare @UseRowMapper and @UseRowReducer on the same method.");
         }
+
+        this.coalesceLookups = method.getAnnotation(CoalesceLookups.class);
+        if (coalesceLookups == null) {
+            this.coalescer = null;
+            this.keyType = null;
+        } else {
+            if (method.getParameterCount() != 1 || method.getReturnType() == void.class || useRowReducer != null) {
+                throw new IllegalStateException(String.format(
+                        "@CoalesceLookups method %s must take exactly one key parameter, return a value and not use @UseRowReducer.", method));
+            }
+            this.coalescer = new LookupCoalescer(coalesceLookups.maxBatchSize(), coalesceLookups.maxWaitMillis());
+            this.keyType = GenericTypes.box(getParameterType(method.getParameters()[0]));
+        }
     }
 
     @Override
@@ -50,24 +89,185 @@ public class SqlQueryHandler extends CustomizingStatementHandler<Query> {
 
     @Override
     void configureReturner(Query query, SqlObjectStatementConfiguration cfg) {
+        cfg.setReturner(() -> result(query));
+    }
+
+    Object result(Query query) {
+        StatementContext ctx = query.getContext();
+        QualifiedType<?> elementType = resultReturner.elementType(ctx.getConfig());
+
+        if (useRowReducer != null) {
+            return resultReturner.reducedResult(query.reduceRows(rowReducerFor(useRowReducer)), ctx);
+        }
+
+        ResultIterable<?> iterable = useRowMapper == null
+                ? query.mapTo(elementType)
+                : query.map(rowMapperFor(useRowMapper));
+        return resultReturner.mappedResult(iterable, ctx);
+    }
+
+    boolean isPrecompilable() {
+        return isDefaultBindingOnly() && useRowMapper == null && useRowReducer == null && coalescer == null;
+    }
+
+    @Override
+    public Object invoke(HandleSupplier handleSupplier, Object target, Object... args) {
+        if (coalescer == null) {
+            return super.invoke(handleSupplier, target, args);
+        }
+
+        final Handle h = handleSupplier.getHandle();
+        final String locatedSql = locateSql(h);
+        final Object key = args[0];
 
-        cfg.setReturner(() -> {
-            StatementContext ctx = query.getContext();
-            QualifiedType<?> elementType = resultReturner.elementType(ctx.getConfig());
+        try (Query query = createStatement(h, locatedSql)) {
+            applyNonParameterCustomizers(query);
+            final StatementContext ctx = query.getContext();
 
-            if (useRowReducer != null) {
-                return resultReturner.reducedResult(query.reduceRows(rowReducerFor(useRowReducer)), ctx);
+            final List<Object> rows;
+            if (h.isInTransaction()) {
+                // a transaction may see rows other handles can not, so never share its lookups
+                rows = fetchKeys(query, locatedSql, Collections.singletonList(key)).getOrDefault(key, Collections.emptyList());
+            } else {
+                rows = coalescer.lookup(scopeKey(h, ctx, locatedSql), key, keys -> fetchKeys(query, locatedSql, keys));
             }
 
-            ResultIterable<?> iterable = useRowMapper == null
-                    ? query.mapTo(elementType)
-                    : query.map(rowMapperFor(useRowMapper));
-            return resultReturner.mappedResult(iterable, ctx);
-        });
+            return resultReturner.mappedResult(ResultIterable.of(new RowListIterator(rows, ctx)), ctx);
+        }
+    }
+
+    // the leader of a batch renders, executes and maps the statement for all of its callers, so calls on
+    // different handles only share batches if their statement config matches in everything the leader uses
+    private Object scopeKey(Handle h, StatementContext ctx, String locatedSql) {
+        final ConfigRegistry config = ctx.getConfig();
+        if (coalesceLookups.scope() == CoalesceLookups.Scope.HANDLE || !mapsLikeJdbi(h.getJdbi().getConfig(), config)) {
+            return h;
+        }
+        final SqlStatements statements = config.get(SqlStatements.class);
+        return Arrays.asList(
+                h.getJdbi(),
+                locatedSql,
+                new HashMap<>(ctx.getAttributes()),
+                statements.getTemplateEngine(),
+                statements.getSqlParser(),
+                statements.getSqlLogger(),
+                statements.getQueryTimeout(),
+                new ArrayList<>(config.get(Arguments.class).getFactories()),
+                ctx.getSqlArrayArgumentStrategy());
+    }
+
+    private boolean mapsLikeJdbi(ConfigRegistry jdbiConfig, ConfigRegistry config) {
+        if (!sameColumnMapper(jdbiConfig, config, QualifiedType.of(keyType))) {
+            return false;
+        }
+        if (useRowMapper != null) {
+            return true;
+        }
+        final QualifiedType<?> elementType = resultReturner.elementType(config);
+        if (elementType.getQualifiers().isEmpty()
+                && !jdbiConfig.get(RowMappers.class).findFor(elementType.getType()).equals(config.get(RowMappers.class).findFor(elementType.getType()))) {
+            return false;
+        }
+        return sameColumnMapper(jdbiConfig, config, elementType);
+    }
+
+    private static boolean sameColumnMapper(ConfigRegistry jdbiConfig, ConfigRegistry config, QualifiedType<?> type) {
+        return jdbiConfig.get(ColumnMappers.class).findFor(type).equals(config.get(ColumnMappers.class).findFor(type));
+    }
+
+    private Map<Object, List<Object>> fetchKeys(Query query, String locatedSql, Collection<Object> keys) {
+        final String name = coalesceLookups.keys();
+        if (locatedSql.contains("<" + name + ">")) {
+            query.bindList(name, keys);
+        } else {
+            query.bindArray(name, keyType, keys);
+        }
+
+        final StatementContext ctx = query.getContext();
+        final ColumnMapper<?> keyMapper = ctx.findColumnMapperFor(keyType)
+                .orElseThrow(() -> new NoSuchMapperException("No column mapper registered for lookup key " + keyType));
+        final RowMapper<?> valueMapper = useRowMapper == null
+                ? ctx.getConfig(Mappers.class).findFor(resultReturner.elementType(ctx.getConfig()))
+                        .orElseThrow(() -> new NoSuchMapperException("No mapper registered for " + resultReturner.elementType(ctx.getConfig())))
+                : rowMapperFor(useRowMapper);
+
+        final Map<Object, List<Object>> rows = new HashMap<>();
+        query.map(new KeyedRowMapper(keyMapper, valueMapper, coalesceLookups.keyColumn()))
+                .forEach(e -> rows.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).add(e.getValue()));
+        return rows;
     }
 
     @Override
     Query createStatement(Handle handle, String locatedSql) {
         return handle.createQuery(locatedSql);
     }
+
+    /**
+     * Maps each row to its lookup key and its mapped value.
+     */
+    private static final class KeyedRowMapper implements RowMapper<Map.Entry<Object, Object>> {
+        private final ColumnMapper<?> keyMapper;
+        private final RowMapper<?> valueMapper;
+        private final String keyColumn;
+        private final int keyIndex;
+
+        KeyedRowMapper(ColumnMapper<?> keyMapper, RowMapper<?> valueMapper, String keyColumn) {
+            this(keyMapper, valueMapper, keyColumn, -1);
+        }
+
+        private KeyedRowMapper(ColumnMapper<?> keyMapper, RowMapper<?> valueMapper, String keyColumn, int keyIndex) {
+            this.keyMapper = keyMapper;
+            this.valueMapper = valueMapper;
+            this.keyColumn = keyColumn;
+            this.keyIndex = keyIndex;
+        }
+
+        @Override
+        public Map.Entry<Object, Object> map(ResultSet rs, StatementContext ctx) throws SQLException {
+            final Object key = keyIndex > 0 ? keyMapper.map(rs, keyIndex, ctx) : keyMapper.map(rs, keyColumn, ctx);
+            return new SimpleImmutableEntry<>(key, valueMapper.map(rs, ctx));
+        }
+
+        @Override
+        public RowMapper<Map.Entry<Object, Object>> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
+            return new KeyedRowMapper(keyMapper, valueMapper.specialize(rs, ctx), keyColumn, rs.findColumn(keyColumn));
+        }
+    }
+
+    /**
+     * Iterates over the rows a coalesced lookup fetched for a single key.
+     */
+    private static final class RowListIterator implements ResultIterator<Object> {
+        private final List<Object> rows;
+        private final StatementContext ctx;
+        private int next;
+
+        RowListIterator(List<Object> rows, StatementContext ctx) {
+            this.rows = rows;
+            this.ctx = ctx;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < rows.size();
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return rows.get(next++);
+        }
+
+        @Override
+        public void close() {
+            next = rows.size();
+        }
+
+        @Override
+        public StatementContext getContext() {
+            return ctx;
+        }
+    }
 }
@@ -95,7 +95,15 @@ public class SqlUpdateHandler extends CustomizingStatementHandler<Update> {
 
     @Override
     void configureReturner(Update u, SqlObjectStatementConfiguration cfg) {
-        cfg.setReturner(() -> resultTransformer.apply(u));
+        cfg.setReturner(() -> result(u));
+    }
+
+    Object result(Update update) {
+        return resultTransformer.apply(update);
+    }
+
+    boolean isPrecompilable() {
+        return isDefaultBindingOnly();
     }
 
     private boolean isNumeric(Class<?> type) {
@@ -20,11 +20,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.ValueType;
 import org.jdbi.v3.core.mapper.ValueTypeMapper;
 import org.jdbi.v3.core.result.LinkedHashMapRowReducer;
+import org.jdbi.v3.core.result.OrderedRowReducer;
 import org.jdbi.v3.core.result.RowView;
 import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
 import org.jdbi.v3.sqlobject.config.RegisterColumnMapper;
@@ -254,6 +256,17 @@ public class TestBeanMapper {
         @UseRowReducer(FolderDocReducer.class)
         List<Folder> listFolders();
 
+        @SqlQuery("select "
+            + "f.id f_id, f.name f_name, "
+            + "d.id d_id, d.name d_name, d.contents d_contents "
+            + "from folders f left join documents d "
+            + "on f.id = d.folder_id "
+            + "order by f.id, d.name")
+        @RegisterBeanMapper(value = Folder.class, prefix = "f")
+        @RegisterBeanMapper(value = Document.class, prefix = "d")
+        @UseRowReducer(OrderedFolderDocReducer.class)
+        Stream<Folder> streamFolders();
+
         class FolderDocReducer implements LinkedHashMapRowReducer<Integer, Folder> {
             @Override
             public void accumulate(Map<Integer, Folder> map, RowView rv) {
@@ -265,6 +278,8 @@ public class TestBeanMapper {
                 }
             }
         }
+
+        class OrderedFolderDocReducer extends FolderDocReducer implements OrderedRowReducer<Integer, Folder> {}
     }
 
     @Test
@@ -293,5 +308,12 @@ public class TestBeanMapper {
                 new Folder(1, "folder1"),
                 new Folder(2, "folder2", doc1),
                 new Folder(3, "folder3", doc2, doc3));
+
+        try (Stream<Folder> folders = dao.streamFolders()) {
+            assertThat(folders).containsExactly(
+                new Folder(1, "folder1"),
+                new Folder(2, "folder2", doc1),
+                new Folder(3, "folder3", doc2, doc3));
+        }
     }
 }
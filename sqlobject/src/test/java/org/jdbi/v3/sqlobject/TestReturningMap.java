@@ -72,6 +72,23 @@ public class TestReturningMap {
         @ValueColumn("value")
         Map<String, String> getAll();
         // end::keyValue[]
+
+        @SqlQuery("select \"key\", \"value\" from config")
+        @KeyColumn("value")
+        @ValueColumn("key")
+        Map<String, String> getAllInverted();
+    }
+
+    @Test
+    public void keyValueColumnsPerMethod() {
+        KeyValueDao dao = h.attach(KeyValueDao.class);
+
+        dao.createTable();
+        dao.insert("foo", "123");
+
+        assertThat(dao.getAll()).containsOnly(entry("foo", "123"));
+        assertThat(dao.getAllInverted()).containsOnly(entry("123", "foo"));
+        assertThat(dao.getAll()).containsOnly(entry("foo", "123"));
     }
 
     @Test
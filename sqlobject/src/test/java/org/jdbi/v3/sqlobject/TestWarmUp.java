@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.extension.Extensions;
+import org.jdbi.v3.core.extension.NoSuchExtensionException;
+import org.jdbi.v3.core.extension.UnableToCreateExtensionException;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.TemplateEngine;
+import org.jdbi.v3.sqlobject.locator.UseClasspathSqlLocator;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.jdbi.v3.testing.junit5.internal.TestingInitializers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestWarmUp {
+
+    @RegisterExtension
+    public JdbiExtension h2Extension = JdbiExtension.h2().withInitializer(TestingInitializers.something()).withPlugin(new SqlObjectPlugin());
+
+    private final CountingTemplateEngine templateEngine = new CountingTemplateEngine();
+
+    private Jdbi jdbi;
+
+    @BeforeEach
+    public void setUp() {
+        jdbi = h2Extension.getJdbi();
+        jdbi.getConfig(SqlStatements.class).setTemplateEngine(templateEngine);
+    }
+
+    @Test
+    public void testWarmUp() {
+        Map<Class<?>, Duration> durations = jdbi.warmUp(SomethingDao.class, OtherDao.class);
+
+        assertThat(durations).containsOnlyKeys(SomethingDao.class, OtherDao.class);
+        assertThat(durations.keySet()).containsExactly(SomethingDao.class, OtherDao.class);
+        assertThat(templateEngine.parsed).hasValue(3);
+
+        jdbi.useExtension(SomethingDao.class, dao -> {
+            dao.insert(1, "Alice");
+            assertThat(dao.names()).containsExactly("Alice");
+        });
+        assertThat(jdbi.withExtension(OtherDao.class, OtherDao::count)).isOne();
+
+        // all templates were parsed during warm up
+        assertThat(templateEngine.parsed).hasValue(3);
+    }
+
+    @Test
+    public void testWarmUpOnExecutor() {
+        AtomicInteger tasks = new AtomicInteger();
+        Map<Class<?>, Duration> durations = jdbi.warmUp(List.of(SomethingDao.class, OtherDao.class), task -> {
+            tasks.incrementAndGet();
+            task.run();
+        });
+
+        assertThat(durations.keySet()).containsExactly(SomethingDao.class, OtherDao.class);
+        assertThat(tasks).hasValue(2);
+        assertThat(templateEngine.parsed).hasValue(3);
+    }
+
+    @Test
+    public void testPrepareRequiresRegistry() {
+        assertThatThrownBy(() -> new SqlStatements().prepare("select 1"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> jdbi.getConfig(SqlStatements.class).prepare(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void testMissingSql() {
+        assertThat(jdbi.warmUp(MissingSqlDao.class)).containsOnlyKeys(MissingSqlDao.class);
+
+        jdbi.configure(Extensions.class, Extensions::failFast);
+        assertThatThrownBy(() -> jdbi.warmUp(MissingSqlDao.class))
+                .isInstanceOf(UnableToCreateExtensionException.class)
+                .hasMessageContaining("missing");
+    }
+
+    @Test
+    public void testNoExtension() {
+        assertThatThrownBy(() -> jdbi.warmUp(String.class))
+                .isInstanceOf(NoSuchExtensionException.class);
+    }
+
+    public interface SomethingDao {
+        @SqlUpdate("insert into something (id, name) values (:id, :name)")
+        void insert(int id, String name);
+
+        @SqlQuery("select name from something order by id")
+        List<String> names();
+    }
+
+    public interface OtherDao {
+        @SqlQuery("select count(*) from something")
+        int count();
+    }
+
+    @UseClasspathSqlLocator
+    public interface MissingSqlDao {
+        @SqlQuery
+        int missing();
+    }
+
+    public static class CountingTemplateEngine implements TemplateEngine {
+        private final AtomicInteger parsed = new AtomicInteger();
+
+        @Override
+        public String render(String template, StatementContext ctx) {
+            return template;
+        }
+
+        @Override
+        public Optional<Function<StatementContext, String>> parse(String template, ConfigRegistry config) {
+            parsed.incrementAndGet();
+            return Optional.of(ctx -> template);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject.customizer;
+
+import java.util.List;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.jdbi.v3.testing.junit5.internal.TestingInitializers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestCacheResults {
+
+    @RegisterExtension
+    public JdbiExtension h2Extension = JdbiExtension.h2().withInitializer(TestingInitializers.something()).withPlugin(new SqlObjectPlugin());
+
+    @Test
+    public void cachesAndInvalidates() {
+        Handle handle = h2Extension.getSharedHandle();
+        Dao dao = handle.attach(Dao.class);
+
+        dao.insert(1, "eric");
+        assertThat(dao.names()).containsExactly("eric");
+        assertThat(dao.name(1)).isEqualTo("eric");
+
+        handle.execute("insert into something (id, name) values (2, 'brian')");
+        assertThat(dao.names()).containsExactly("eric");
+
+        dao.rename(1, "keith");
+        assertThat(dao.names()).containsExactly("keith", "brian");
+        assertThat(dao.name(1)).isEqualTo("keith");
+    }
+
+    @Test
+    public void onlyOnQueries() {
+        Dao dao = h2Extension.getSharedHandle().attach(Dao.class);
+
+        assertThatThrownBy(() -> dao.wrong(1, "eric"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("only supported on query methods");
+    }
+
+    public interface Dao {
+        @SqlUpdate("insert into something (id, name) values (?, ?)")
+        @InvalidatesCachedResults("something")
+        void insert(int id, String name);
+
+        @SqlUpdate("update something set name = :name where id = :id")
+        @InvalidatesCachedResults("something")
+        void rename(int id, String name);
+
+        @SqlQuery("select name from something order by id")
+        @CacheResults("something")
+        List<String> names();
+
+        @SqlQuery("select name from something where id = ?")
+        @CacheResults("something")
+        String name(int id);
+
+        @SqlUpdate("insert into something (id, name) values (?, ?)")
+        @CacheResults("something")
+        void wrong(int id, String name);
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject.statement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestCoalesceLookups {
+
+    @RegisterExtension
+    public JdbiExtension h2Extension = JdbiExtension.h2().withPlugin(new SqlObjectPlugin());
+
+    private final AtomicInteger statements = new AtomicInteger();
+
+    private Jdbi jdbi;
+
+    @BeforeEach
+    public void setUp() {
+        jdbi = h2Extension.getJdbi();
+        jdbi.useHandle(h -> {
+            h.execute("create table lookup (id integer, name varchar(50))");
+            for (int i = 1; i <= 4; i++) {
+                h.execute("insert into lookup (id, name) values (?, ?)", i, "name" + i);
+            }
+            h.execute("insert into lookup (id, name) values (?, ?)", 4, "other4");
+        });
+        jdbi.setSqlLogger(new SqlLogger() {
+            @Override
+            public void logAfterExecution(StatementContext context) {
+                statements.incrementAndGet();
+            }
+        });
+    }
+
+    @Test
+    public void coalescesConcurrentLookups() throws Exception {
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean first = new AtomicBoolean(true);
+        jdbi.setSqlLogger(new SqlLogger() {
+            @Override
+            public void logBeforeExecution(StatementContext context) {
+                if (first.compareAndSet(true, false)) {
+                    executing.countDown();
+                    awaitUninterruptibly(release);
+                }
+            }
+
+            @Override
+            public void logAfterExecution(StatementContext context) {
+                statements.incrementAndGet();
+            }
+        });
+
+        Dao dao = jdbi.onDemand(Dao.class);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            // a lone call executes immediately, the calls arriving while it runs are collected into one batch
+            Future<String> lone = executor.submit(() -> dao.findName(1));
+            executing.await();
+
+            List<Future<String>> names = new ArrayList<>();
+            for (int i = 1; i <= 4; i++) {
+                int id = i;
+                names.add(executor.submit(() -> dao.findName(id)));
+            }
+
+            assertThat(names.get(0).get()).isEqualTo("name1");
+            assertThat(names.get(1).get()).isEqualTo("name2");
+            assertThat(names.get(2).get()).isEqualTo("name3");
+            assertThat(names.get(3).get()).isEqualTo("name4");
+            assertThat(statements).hasValue(1);
+
+            release.countDown();
+            assertThat(lone.get()).isEqualTo("name1");
+            assertThat(statements).hasValue(2);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void loneCallDoesNotWait() {
+        long start = System.nanoTime();
+
+        assertThat(jdbi.onDemand(Dao.class).findName(2)).isEqualTo("name2");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void mapsWithTheConfigOfEachHandle() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (Handle handle = jdbi.open()) {
+            handle.registerColumnMapper(String.class, (rs, col, ctx) -> rs.getString(col).toUpperCase(Locale.ROOT));
+            Dao onHandle = handle.attach(Dao.class);
+            Dao onDemand = jdbi.onDemand(Dao.class);
+
+            for (int i = 0; i < 20; i++) {
+                Future<Optional<String>> upper = executor.submit(() -> onHandle.findOptional(1));
+                Future<Optional<String>> lower = executor.submit(() -> onDemand.findOptional(2));
+
+                assertThat(upper.get()).contains("NAME1");
+                assertThat(lower.get()).contains("name2");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void rendersWithTheDefinesOfEachHandle() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (Handle names = jdbi.open(); Handle ids = jdbi.open()) {
+            names.define("column", "name");
+            ids.define("column", "cast(id as varchar(50))");
+            Dao onNames = names.attach(Dao.class);
+            Dao onIds = ids.attach(Dao.class);
+
+            for (int i = 0; i < 20; i++) {
+                Future<Optional<String>> name = executor.submit(() -> onNames.findDefined(1));
+                Future<Optional<String>> id = executor.submit(() -> onIds.findDefined(2));
+
+                assertThat(name.get()).contains("name1");
+                assertThat(id.get()).contains("2");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void coalescesOnlyOnTheSameHandleByDefault() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (Handle first = jdbi.open(); Handle second = jdbi.open()) {
+            HandleDao onFirst = first.attach(HandleDao.class);
+            HandleDao onSecond = second.attach(HandleDao.class);
+
+            for (int i = 0; i < 20; i++) {
+                Future<Optional<String>> one = executor.submit(() -> onFirst.findOptional(1));
+                Future<Optional<String>> two = executor.submit(() -> onSecond.findOptional(2));
+
+                assertThat(one.get()).contains("name1");
+                assertThat(two.get()).contains("name2");
+            }
+            // every call ran its own statement
+            assertThat(statements).hasValue(40);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void returnsEachCallerItsOwnResult() {
+        Dao dao = jdbi.onDemand(Dao.class);
+
+        assertThat(dao.findAll(4)).containsExactly("name4", "other4");
+        assertThat(dao.findAll(5)).isEmpty();
+        assertThat(dao.findOptional(2)).contains("name2");
+        assertThat(dao.findOptional(5)).isEmpty();
+    }
+
+    @Test
+    public void runsImmediatelyInTransaction() {
+        String name = jdbi.inTransaction(h -> {
+            h.execute("update lookup set name = 'renamed' where id = 1");
+            return h.attach(Dao.class).findName(1);
+        });
+
+        assertThat(name).isEqualTo("renamed");
+    }
+
+    @Test
+    public void rejectsMethodsWithoutSingleKey() {
+        assertThatThrownBy(() -> jdbi.onDemand(BadDao.class).find(1, 2))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("exactly one key parameter");
+    }
+
+    public interface Dao {
+        @SqlQuery("select name, id from lookup where id in (<keys>)")
+        @CoalesceLookups(keyColumn = "id", maxBatchSize = 4, maxWaitMillis = 10_000, scope = CoalesceLookups.Scope.JDBI)
+        String findName(int id);
+
+        @SqlQuery("select name, id from lookup where id in (<keys>) order by name")
+        @CoalesceLookups(keyColumn = "id", maxWaitMillis = 0)
+        List<String> findAll(int id);
+
+        @SqlQuery("select name, id from lookup where id in (<keys>)")
+        @CoalesceLookups(keyColumn = "id", maxWaitMillis = 0, scope = CoalesceLookups.Scope.JDBI)
+        Optional<String> findOptional(int id);
+
+        @SqlQuery("select <column>, id from lookup where id in (<keys>)")
+        @CoalesceLookups(keyColumn = "id", maxWaitMillis = 0, scope = CoalesceLookups.Scope.JDBI)
+        Optional<String> findDefined(int id);
+    }
+
+    public interface HandleDao {
+        @SqlQuery("select name, id from lookup where id in (<keys>)")
+        @CoalesceLookups(keyColumn = "id", maxWaitMillis = 0)
+        Optional<String> findOptional(int id);
+    }
+
+    public interface BadDao {
+        @SqlQuery("select name, id from lookup where id in (<keys>)")
+        @CoalesceLookups(keyColumn = "id")
+        String find(int id, int other);
+    }
+}
@@ -18,6 +18,7 @@ import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.mapper.MapEntryConfig;
 import org.jdbi.v3.core.mapper.MapEntryMappers;
+import org.jdbi.v3.core.mapper.RowMappers;
 
 /**
  * Mappers similar to {@link org.jdbi.v3.core.mapper.MapEntryMappers} but map entries in vavr are in fact
@@ -77,6 +78,10 @@ public class TupleMappers implements JdbiConfig<TupleMappers>, MapEntryConfig<Tu
      */
     public TupleMappers setColumn(int tupleIndex, String name) {
         columns[tupleIndex - 1] = name;
+        if (registry != null) {
+            // tuple mappers are built for the configured columns
+            registry.get(RowMappers.class).clearCache();
+        }
         return this;
     }
 